@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.benchmark;
+
+import j4cups.protocol.IppResponse;
+import j4cups.protocol.attr.Attribute;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the lookup of attributes by name in the large recorded
+ * Get-Printer-Attributes response. The attribute is looked up at the
+ * beginning, in the middle and at the end of the response and as missing
+ * attribute.
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttributeLookupBenchmark {
+
+    @Param({"first", "middle", "last", "missing"})
+    private String position;
+
+    private IppResponse decoded;
+    private IppResponse lazy;
+    private String attributeName;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] bytes = Recorded.readBytes("response", "Get-Printer-Attributes.bin");
+        decoded = new IppResponse(bytes);
+        lazy = new IppResponse(new ByteArrayInputStream(bytes));
+        List<Attribute> attributes = decoded.getAttributes();
+        switch (position) {
+            case "first":
+                attributeName = attributes.get(0).getName();
+                break;
+            case "middle":
+                attributeName = attributes.get(attributes.size() / 2).getName();
+                break;
+            case "last":
+                attributeName = attributes.get(attributes.size() - 1).getName();
+                break;
+            default:
+                attributeName = "no-such-attribute";
+                break;
+        }
+    }
+
+    @Benchmark
+    public Attribute getAttribute() {
+        return decoded.hasAttribute(attributeName) ? decoded.getAttribute(attributeName) : null;
+    }
+
+    @Benchmark
+    public Attribute getAttributeLazy() {
+        return lazy.hasAttribute(attributeName) ? lazy.getAttribute(attributeName) : null;
+    }
+
+}
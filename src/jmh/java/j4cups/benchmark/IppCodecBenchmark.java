@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.benchmark;
+
+import j4cups.protocol.AbstractIpp;
+import j4cups.protocol.IppRequest;
+import j4cups.protocol.IppResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for decoding and encoding the recorded requests and responses.
+ * Decoding is measured for the byte array (all attributes are decoded) and
+ * for the stream (the attributes are decoded on demand).
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IppCodecBenchmark {
+
+    @Param({"request", "response"})
+    private String dir;
+
+    @Param({"Create-Job.ipp", "Send-Document.ipp", "Get-Printers.ipp", "Get-Printer-Attributes.bin"})
+    private String name;
+
+    private byte[] bytes;
+    private AbstractIpp decoded;
+
+    @Setup
+    public void setUp() {
+        bytes = Recorded.readBytes(dir, name);
+        decoded = decode();
+    }
+
+    @Benchmark
+    public AbstractIpp decode() {
+        return "request".equals(dir) ? new IppRequest(bytes) : new IppResponse(bytes);
+    }
+
+    @Benchmark
+    public AbstractIpp decodeStream() throws IOException {
+        ByteArrayInputStream istream = new ByteArrayInputStream(bytes);
+        return "request".equals(dir) ? new IppRequest(istream) : new IppResponse(istream);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return decoded.toByteArray();
+    }
+
+    @Benchmark
+    public long getLength() {
+        return decoded.getLength();
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.benchmark;
+
+import j4cups.protocol.IppRequest;
+import j4cups.protocol.IppResponse;
+import j4cups.server.HttpHandler;
+import j4cups.server.IppHandler;
+import j4cups.server.http.IppServerRequestHandler;
+import org.apache.http.HttpException;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.message.BasicHttpEntityEnclosingRequest;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.util.EntityUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmark for {@link IppServerRequestHandler#handle(
+ * org.apache.http.HttpRequest, HttpResponse, org.apache.http.protocol.HttpContext)}:
+ * the recorded request is decoded, validated and handled, and the response
+ * is encoded. The benchmarked requests are forwarded and answered by an
+ * in-process stand-in for CUPS with the recorded response, so no network
+ * is involved. Get-Printers and Get-Default are not part of it because
+ * they are answered from the printer registry and never reach the
+ * stand-in.
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IppServerRequestHandlerBenchmark {
+
+    private static final ContentType APPLICATION_IPP = ContentType.create("application/ipp");
+
+    @Param({"Cancel-Job.ipp", "Get-Printer-Attributes.bin"})
+    private String name;
+
+    private byte[] request;
+    private IppServerRequestHandler requestHandler;
+
+    @Setup
+    public void setUp() {
+        request = Recorded.readBytes("request", name);
+        byte[] response = Recorded.readBytes("response", name);
+        requestHandler = new IppServerRequestHandler(new RecordedIppHandler(response), new HttpHandler());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public byte[] handle() throws HttpException, IOException {
+        BasicHttpEntityEnclosingRequest httpRequest =
+                new BasicHttpEntityEnclosingRequest("POST", "/printers/test-printer", HttpVersion.HTTP_1_1);
+        httpRequest.setHeader("Host", "localhost:631");
+        httpRequest.setEntity(new ByteArrayEntity(request, APPLICATION_IPP));
+        HttpResponse httpResponse = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        requestHandler.handle(httpRequest, httpResponse, new BasicHttpContext());
+        return EntityUtils.toByteArray(httpResponse.getEntity());
+    }
+
+    /**
+     * The stand-in for CUPS answers each request with the recorded response
+     * (with the request-id of the request).
+     */
+    private static final class RecordedIppHandler extends IppHandler {
+
+        private final byte[] response;
+
+        RecordedIppHandler(byte[] response) {
+            super(Paths.get("target"));
+            this.response = response;
+        }
+
+        @Override
+        public IppResponse send(IppRequest ippRequest) {
+            IppResponse ippResponse = new IppResponse(response);
+            ippResponse.setRequestId(ippRequest.getRequestId());
+            return ippResponse;
+        }
+
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.benchmark;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The class Recorded gives access to the recorded requests and responses
+ * under "src/test/resources/j4cups" which are used as input for the
+ * benchmarks.
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+final class Recorded {
+
+    private Recorded() {
+    }
+
+    /**
+     * Reads the recorded request or response from the classpath.
+     *
+     * @param dir  "request" or "response"
+     * @param name e.g. "Create-Job.ipp"
+     * @return the recorded bytes
+     */
+    static byte[] readBytes(String dir, String name) {
+        String resource = "/j4cups/" + dir + "/" + name;
+        try (InputStream istream = Recorded.class.getResourceAsStream(resource)) {
+            if (istream == null) {
+                throw new IllegalArgumentException("resource " + resource + " not found");
+            }
+            return IOUtils.toByteArray(istream);
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException("cannot read " + resource, ioe);
+        }
+    }
+
+}
@@ -25,7 +25,11 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Properties;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 /**
  * Configuration stuff for J4Cups
@@ -36,6 +40,7 @@ import java.util.Properties;
 public final class Config {
     
     private static final Logger LOG = LoggerFactory.getLogger(Config.class);
+    private static final String PRINTER_PREFIX = "j4cups.printer.";
 
     private final Properties properties;
 
@@ -130,7 +135,180 @@ public final class Config {
     public String getServerInfo() {
         return this.properties.getProperty("j4cups.server.info");
     }
+
+    /**
+     * Gets the I/O model of the server: "blocking" for the classic model
+     * with one thread per connection or "nio" for the non-blocking model.
+     *
+     * @return "blocking" or "nio"
+     * @since 0.6.2
+     */
+    public String getServerIO() {
+        return this.properties.getProperty("j4cups.server.io", "blocking").trim();
+    }
+
+    /**
+     * Gets the executor which handles the connections or requests of the
+     * server: "platform" for the default pool of platform threads,
+     * "fixed:N" for a pool with N platform threads or "virtual" for a
+     * virtual thread per connection or request (Java 21 or newer).
+     *
+     * @return e.g. "platform", "virtual" or "fixed:20"
+     * @since 0.6.2
+     */
+    public String getServerExecutor() {
+        return this.properties.getProperty("j4cups.server.executor", "platform").trim();
+    }
+
+    /**
+     * Gets the directory of the persistent job store of the server with
+     * the write-ahead log and the snapshot of the jobs (see
+     * {@link j4cups.server.PersistentJobStore}).
+     *
+     * @return the directory or null if the jobs are only kept in memory
+     * @since 0.6.2
+     */
+    public Path getServerJobsDIR() {
+        String dir = this.properties.getProperty("j4cups.server.jobsDIR", "").trim();
+        return dir.isEmpty() ? null : Paths.get(dir);
+    }
+
+    /**
+     * Gets the number of job changes after which the persistent job store
+     * writes a new snapshot.
+     *
+     * @return number of changes
+     * @since 0.6.2
+     */
+    public int getServerSnapshotInterval() {
+        return getIntProperty("j4cups.server.snapshotInterval", 100000);
+    }
+
+    /**
+     * Looks if each job change should be forced to the disk. Without it a
+     * job change survives a crash of the server but not a power failure.
+     *
+     * @return true or false
+     * @since 0.6.2
+     */
+    public boolean isServerJobsSync() {
+        return Boolean.parseBoolean(this.properties.getProperty("j4cups.server.jobsSync", "false").trim());
+    }
+
+    /**
+     * Gets the names of the virtual printers. A printer is defined by
+     * properties like "j4cups.printer.test-printer.info" where
+     * "test-printer" is the name of the printer.
+     *
+     * @return the names of the printers in sorted order
+     * @since 0.6.2
+     */
+    public SortedSet<String> getPrinterNames() {
+        SortedSet<String> names = new TreeSet<>();
+        for (String key : this.properties.stringPropertyNames()) {
+            int dot = key.lastIndexOf('.');
+            if (key.startsWith(PRINTER_PREFIX) && (dot > PRINTER_PREFIX.length())) {
+                names.add(key.substring(PRINTER_PREFIX.length(), dot));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Gets a property of the given printer, e.g. the property "location"
+     * of "test-printer" is the value of
+     * "j4cups.printer.test-printer.location".
+     *
+     * @param printerName  the name of the printer, e.g. "test-printer"
+     * @param key          e.g. "location"
+     * @param defaultValue the value if the property is not set
+     * @return the property
+     * @since 0.6.2
+     */
+    public String getPrinterProperty(String printerName, String key, String defaultValue) {
+        String value = this.properties.getProperty(PRINTER_PREFIX + printerName + "." + key);
+        return (value == null) ? defaultValue : value.trim();
+    }
+
+    /**
+     * Gets the name of the default printer of the server.
+     *
+     * @return the default printer or an empty string if not set
+     * @since 0.6.2
+     */
+    public String getServerDefaultPrinter() {
+        return this.properties.getProperty("j4cups.server.defaultPrinter", "").trim();
+    }
+
+    /**
+     * Gets the maximal number of (pooled) connections of the client.
+     *
+     * @return max total connections
+     * @since 0.6.2
+     */
+    public int getClientMaxTotal() {
+        return getIntProperty("j4cups.client.maxTotal", 200);
+    }
+
+    /**
+     * Gets the maximal number of (pooled) connections of the client to the
+     * same host. As proxy the CupsServer forwards nearly all requests to
+     * the same CUPS host. So this is also the number of requests which can
+     * be forwarded at the same time - more requests wait for a free
+     * connection (see {@link #getClientTimeout()}).
+     *
+     * @return max connections per route
+     * @since 0.6.2
+     */
+    public int getClientMaxPerRoute() {
+        return getIntProperty("j4cups.client.maxPerRoute", 100);
+    }
+
+    /**
+     * Gets the time in milliseconds how long a connection of the client is
+     * kept alive if the server does not tell it.
+     *
+     * @return keep-alive time in milliseconds
+     * @since 0.6.2
+     */
+    public int getClientKeepAlive() {
+        return getIntProperty("j4cups.client.keepAlive", 30000);
+    }
+
+    /**
+     * Gets the time in milliseconds after which idle connections of the
+     * client are closed.
+     *
+     * @return idle timeout in milliseconds
+     * @since 0.6.2
+     */
+    public int getClientIdleTimeout() {
+        return getIntProperty("j4cups.client.idleTimeout", 10000);
+    }
+
+    /**
+     * Gets the connect and socket timeout of the client in milliseconds.
+     * It is also the time a request waits for a free connection of the
+     * pool.
+     *
+     * @return timeout in milliseconds
+     * @since 0.6.2
+     */
+    public int getClientTimeout() {
+        return getIntProperty("j4cups.client.timeout", 10000);
+    }
     
+    /**
+     * Gets the maximal number of requests in flight of the asynchronous
+     * client. More requests are queued.
+     *
+     * @return max requests in flight
+     * @since 0.6.2
+     */
+    public int getClientMaxInFlight() {
+        return getIntProperty("j4cups.client.maxInFlight", 64);
+    }
+
     private void setIntProperty(String key, int value) {
         this.properties.setProperty(key, Integer.toString(value));
     }
@@ -138,5 +316,10 @@ public final class Config {
     private int getIntProperty(String key) {
         return Integer.parseInt(this.properties.getProperty(key));
     }
+
+    private int getIntProperty(String key, int defaultValue) {
+        String value = this.properties.getProperty(key);
+        return (value == null) ? defaultValue : Integer.parseInt(value.trim());
+    }
     
 }
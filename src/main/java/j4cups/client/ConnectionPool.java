@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.client;
+
+import j4cups.Config;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.IdleConnectionEvictor;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class ConnectionPool holds the pooled HTTP connections which are
+ * shared by all {@link CupsClient}s with the same settings. So several
+ * requests to CUPS (e.g. Create-Job, Send-Document, Get-Job-Attributes)
+ * can reuse the open connections and need no new TCP setup.
+ * <p>
+ * The settings are taken from the {@link Config} ("j4cups.client.*"
+ * properties). Idle connections are closed by a background thread.
+ * </p>
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+final class ConnectionPool implements ConnectionKeepAliveStrategy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionPool.class);
+    private static final Map<String, ConnectionPool> POOLS = new ConcurrentHashMap<>();
+    private static ConnectionPool defaultPool;
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final RequestConfig requestConfig;
+    private final long keepAlive;
+
+    private ConnectionPool(Config config) {
+        this.connectionManager = new PoolingHttpClientConnectionManager();
+        this.connectionManager.setMaxTotal(config.getClientMaxTotal());
+        this.connectionManager.setDefaultMaxPerRoute(config.getClientMaxPerRoute());
+        this.keepAlive = config.getClientKeepAlive();
+        int timeout = config.getClientTimeout();
+        this.requestConfig = RequestConfig.custom().setSocketTimeout(timeout).setConnectTimeout(timeout)
+                .setConnectionRequestTimeout(timeout).build();
+        long idleTimeout = config.getClientIdleTimeout();
+        IdleConnectionEvictor evictor = new IdleConnectionEvictor(connectionManager,
+                Math.max(idleTimeout / 2, 1000), TimeUnit.MILLISECONDS, idleTimeout, TimeUnit.MILLISECONDS);
+        evictor.start();
+        LOG.debug("Connection pool with {} connections ({} per route) is created.",
+                config.getClientMaxTotal(), config.getClientMaxPerRoute());
+    }
+
+    /**
+     * Gets the pool for the standard configuration.
+     *
+     * @return the default pool
+     */
+    static synchronized ConnectionPool getDefault() {
+        if (defaultPool == null) {
+            defaultPool = of(new Config());
+        }
+        return defaultPool;
+    }
+
+    /**
+     * Gets the pool for the given configuration. Configurations with the
+     * same client settings share the same pool.
+     *
+     * @param config the configuration with the "j4cups.client.*" settings
+     * @return the pool
+     */
+    static ConnectionPool of(Config config) {
+        String key = config.getClientMaxTotal() + "/" + config.getClientMaxPerRoute() + "/"
+                + config.getClientKeepAlive() + "/" + config.getClientIdleTimeout() + "/"
+                + config.getClientTimeout();
+        return POOLS.computeIfAbsent(key, k -> new ConnectionPool(config));
+    }
+
+    /**
+     * Gets the shared connection manager.
+     *
+     * @return the connection manager
+     */
+    PoolingHttpClientConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
+    /**
+     * Gets the request config with the configured timeouts.
+     *
+     * @return the request config
+     */
+    RequestConfig getRequestConfig() {
+        return requestConfig;
+    }
+
+    /**
+     * Sets up the given builder for the use of the shared connection
+     * manager. The builder is not used as fluent API here because the
+     * returned builder is ignored.
+     *
+     * @param builder the builder
+     */
+    void setUp(HttpClientBuilder builder) {
+        builder.setConnectionManager(connectionManager);
+        builder.setConnectionManagerShared(true);
+        builder.setKeepAliveStrategy(this);
+        builder.setDefaultRequestConfig(requestConfig);
+    }
+
+    /**
+     * The keep-alive time is taken from the "Keep-Alive" header of the
+     * response. If it is missing or too long the configured keep-alive
+     * time is used.
+     *
+     * @param response the HTTP response
+     * @param context  the HTTP context
+     * @return keep-alive time in milliseconds
+     */
+    @Override
+    public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+        long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+        return (duration > 0) ? Math.min(duration, keepAlive) : keepAlive;
+    }
+
+}
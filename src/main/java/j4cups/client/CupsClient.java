@@ -17,6 +17,7 @@
  */
 package j4cups.client;
 
+import j4cups.Config;
 import j4cups.op.*;
 import j4cups.protocol.IppRequest;
 import j4cups.protocol.IppRequestException;
@@ -24,34 +25,41 @@ import j4cups.protocol.IppResponse;
 import j4cups.protocol.StatusCode;
 import j4cups.server.IppHandler;
 import j4cups.server.http.IppEntity;
-import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
-import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 /**
  * This is a very basic client to access CUPS. It was introduced to simplify
  * the internal tests with a CUPS server.
+ * <p>
+ * A client should be closed if it is no longer needed. The connections
+ * are not closed with it but remain in the shared {@link ConnectionPool}.
+ * </p>
  * 
  * @since 0.5
  */
-public class CupsClient {
+public class CupsClient implements Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(IppHandler.class);
     private final URI cupsURI;
-    private int requestId = 0;
+    private final ConnectionPool connectionPool;
+    private CloseableHttpClient httpClient;
+    private final AtomicInteger requestId = new AtomicInteger();
 
     /**
      * Generates a client for the access to a local CUPS on port 631.
@@ -66,7 +74,26 @@ public class CupsClient {
      * @param cupsURI normally "http://localhost:631" on Linux and Mac
      */
     public CupsClient(URI cupsURI) {
+        this(cupsURI, ConnectionPool.getDefault());
+    }
+
+    /**
+     * Generates a client for the access to the given URI to CUPS. The
+     * settings for the connection pool are taken from the given config
+     * ("j4cups.client.*" properties). All clients with the same settings
+     * share the same connection pool.
+     *
+     * @param cupsURI normally "http://localhost:631" on Linux and Mac
+     * @param config  config with the settings of the connection pool
+     * @since 0.6.2
+     */
+    public CupsClient(URI cupsURI, Config config) {
+        this(cupsURI, ConnectionPool.of(config));
+    }
+
+    private CupsClient(URI cupsURI, ConnectionPool connectionPool) {
         this.cupsURI = cupsURI;
+        this.connectionPool = connectionPool;
     }
 
     /**
@@ -126,14 +153,12 @@ public class CupsClient {
     }
 
     private void setPrintJob(PrintJob op, Path path) {
-        try {
-            byte[] data = Files.readAllBytes(path);
-            op.setData(data);
-            op.setJobName(path.getFileName() + "-" + requestId);
-            op.setDocumentName(path.toString());
-        } catch (IOException ex) {
-            throw new IllegalArgumentException("cannot read " + path, ex);
+        if (!Files.isReadable(path)) {
+            throw new IllegalArgumentException("cannot read " + path);
         }
+        op.setData(path);
+        op.setJobName(path.getFileName() + "-" + requestId.get());
+        op.setDocumentName(path.toString());
     }
 
     /**
@@ -177,8 +202,7 @@ public class CupsClient {
     }
 
     private void setRequestId(Operation op) {
-        requestId++;
-        op.setIppRequestId(requestId);
+        op.setIppRequestId(requestId.incrementAndGet());
     }
 
     /**
@@ -190,11 +214,11 @@ public class CupsClient {
     public IppResponse send(IppRequest ippRequest) {
         LOG.info("Sending to {}: {}", cupsURI, ippRequest);
         HttpPost httpPost = new HttpPost(cupsURI);
-        httpPost.setConfig(RequestConfig.custom().setSocketTimeout(10000).setConnectTimeout(10000).build());
+        httpPost.setConfig(connectionPool.getRequestConfig());
         IppEntity entity = new IppEntity(ippRequest);
         httpPost.setEntity(entity);
-        try (CloseableHttpClient client = HttpClients.custom().build()) {
-            return send(httpPost, client);
+        try {
+            return send(httpPost, getHttpClient());
         } catch (IOException ex) {
             LOG.warn("Cannot sent {}:", ippRequest, ex);
             IppResponse ippResponse = new IppResponse(ippRequest);
@@ -204,11 +228,27 @@ public class CupsClient {
         }
     }
 
+    /**
+     * The HTTP client is not closed after a request because the connection
+     * should be reused. The connections are managed by the shared
+     * {@link ConnectionPool}.
+     */
+    private synchronized CloseableHttpClient getHttpClient() {
+        if (httpClient == null) {
+            HttpClientBuilder builder = HttpClients.custom();
+            connectionPool.setUp(builder);
+            httpClient = builder.build();
+        }
+        return httpClient;
+    }
+
     private static IppResponse send(HttpPost httpPost, HttpClient client) throws IOException {
         HttpResponse httpResponse = client.execute(httpPost);
         LOG.info("Received from {}: {}", httpPost, httpResponse);
         try (InputStream istream = httpResponse.getEntity().getContent()) {
-            IppResponse ippResponse = new IppResponse(IOUtils.toByteArray(istream));
+            IppResponse ippResponse = new IppResponse(istream);
+            // the (normally empty) data part must be read before the stream is closed
+            ippResponse.getData();
             if (!ippResponse.getStatusCode().isSuccessful())  {
                 throw new IppRequestException(ippResponse);
             }
@@ -250,6 +290,24 @@ public class CupsClient {
         }
     }
 
+    /**
+     * Closes the underlying HTTP client. The connections are kept by the
+     * shared connection pool and can be reused by other clients.
+     *
+     * @since 0.6.2
+     */
+    @Override
+    public synchronized void close() {
+        if (httpClient != null) {
+            try {
+                httpClient.close();
+            } catch (IOException ioe) {
+                LOG.warn("Cannot close HTTP client of {}:", this, ioe);
+            }
+            httpClient = null;
+        }
+    }
+
     @Override
     public String toString() {
         return this.getClass().getSimpleName() + "-" + requestId + " to " + cupsURI;
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.client;
+
+import j4cups.Config;
+import j4cups.op.*;
+import j4cups.protocol.IppRequest;
+import j4cups.protocol.IppRequestException;
+import j4cups.protocol.IppResponse;
+import j4cups.protocol.StatusCode;
+import j4cups.server.http.IppEntity;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This is the asynchronous variant of the {@link CupsClient}. All methods
+ * return immediately with a {@link CompletableFuture} which is completed
+ * when the response from CUPS is received. The requests are sent by a
+ * non-blocking HTTP client so no thread is needed for a request in flight.
+ * <p>
+ * The number of requests in flight is limited ("j4cups.client.maxInFlight").
+ * Further requests are queued until a running request is finished. If a
+ * returned future is cancelled the request is aborted (and the connection
+ * is closed).
+ * </p>
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public class CupsClientAsync implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CupsClientAsync.class);
+    private final URI cupsURI;
+    private final ConnectionPool connectionPool;
+    private final CloseableHttpAsyncClient httpClient;
+    private final ScheduledExecutorService timer;
+    private final long timeout;
+    private final Semaphore permits;
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger requestId = new AtomicInteger();
+
+    /**
+     * Generates a client for the access to a local CUPS on port 631.
+     */
+    public CupsClientAsync() {
+        this(URI.create("http://localhost:631"));
+    }
+
+    /**
+     * Generates a client for the access to the given URI to CUPS.
+     *
+     * @param cupsURI normally "http://localhost:631" on Linux and Mac
+     */
+    public CupsClientAsync(URI cupsURI) {
+        this(cupsURI, new Config());
+    }
+
+    /**
+     * Generates a client for the access to the given URI to CUPS. The
+     * settings for the connections, the timeout and the maximal number of
+     * requests in flight are taken from the given config.
+     *
+     * @param cupsURI normally "http://localhost:631" on Linux and Mac
+     * @param config  config with the "j4cups.client.*" settings
+     */
+    public CupsClientAsync(URI cupsURI, Config config) {
+        this.cupsURI = cupsURI;
+        this.connectionPool = ConnectionPool.of(config);
+        this.timeout = config.getClientTimeout();
+        this.permits = new Semaphore(config.getClientMaxInFlight());
+        this.httpClient = HttpAsyncClients.custom()
+                                          .setMaxConnTotal(config.getClientMaxTotal())
+                                          .setMaxConnPerRoute(config.getClientMaxPerRoute())
+                                          .setKeepAliveStrategy(connectionPool)
+                                          .setDefaultRequestConfig(connectionPool.getRequestConfig())
+                                          .build();
+        this.timer = Executors.newSingleThreadScheduledExecutor(
+                new BasicThreadFactory.Builder().namingPattern("j4cups-timer-%d").daemon(true).build());
+        this.httpClient.start();
+    }
+
+    /**
+     * Gets the URI of the CUPS server.
+     *
+     * @return the CUPS URI
+     */
+    public URI getCupsURI() {
+        return this.cupsURI;
+    }
+
+    /**
+     * Sends a print job to the printer.
+     *
+     * @param printerURI printer URI
+     * @param path       file to be printed
+     * @return answer from CUPS
+     */
+    public CompletableFuture<IppResponse> print(URI printerURI, Path path) {
+        PrintJob op = new PrintJob();
+        op.setPrinterURI(printerURI);
+        setPrintJob(op, path);
+        return send(op);
+    }
+
+    /**
+     * Sends a list of files as one job to the given printer. The
+     * Send-Document requests are chained to the response of the previous
+     * request so that the caller is not blocked.
+     *
+     * @param printerURI where to send the files
+     * @param files      the files to be printed
+     * @return the response of the last Send-Document request
+     */
+    public CompletableFuture<IppResponse> print(URI printerURI, Path... files) {
+        return createJob(printerURI).thenCompose(createJobResponse -> {
+            int jobId = createJobResponse.getJobId();
+            CompletableFuture<IppResponse> future = sendDocument(printerURI, files[0], jobId, files.length == 1);
+            for (int i = 1; i < files.length; i++) {
+                Path file = files[i];
+                boolean last = i == files.length - 1;
+                future = future.thenCompose(response -> sendDocument(printerURI, file, jobId, last));
+            }
+            return future;
+        });
+    }
+
+    /**
+     * Sends a document of a job created before.
+     *
+     * @param printerURI   the printer URI
+     * @param path         file to be printed
+     * @param jobId        the job id
+     * @param lastDocument true if it is the last document of the job
+     * @return answer from CUPS
+     */
+    public CompletableFuture<IppResponse> sendDocument(URI printerURI, Path path, int jobId,
+                                                       boolean lastDocument) {
+        SendDocument op = new SendDocument();
+        op.setPrinterURI(printerURI);
+        op.setJobId(jobId);
+        op.setLastDocument(lastDocument);
+        setPrintJob(op, path);
+        return send(op);
+    }
+
+    private void setPrintJob(PrintJob op, Path path) {
+        if (!Files.isReadable(path)) {
+            throw new IllegalArgumentException("cannot read " + path);
+        }
+        op.setData(path);
+        op.setJobName(path.getFileName() + "-" + requestId.get());
+        op.setDocumentName(path.toString());
+    }
+
+    /**
+     * Creates a Job. This is needed if you want to print several documents
+     * as one job.
+     *
+     * @param printerURI where to send the files after creation
+     * @return response from CUPS
+     */
+    public CompletableFuture<IppResponse> createJob(URI printerURI) {
+        CreateJob op = new CreateJob();
+        op.setPrinterURI(printerURI);
+        return send(op);
+    }
+
+    /**
+     * Cancels a job.
+     *
+     * @param jobId      the job id which should be cancelled
+     * @param printerURI the printer uri
+     * @return response from CUPS
+     */
+    public CompletableFuture<IppResponse> cancelJob(int jobId, URI printerURI) {
+        CancelJob op = new CancelJob();
+        op.setJobId(jobId);
+        op.setPrinterURI(printerURI);
+        return send(op);
+    }
+
+    /**
+     * Sends an IPP operation to CUPS.
+     *
+     * @param op IPP oeration
+     * @return response from CUPS
+     */
+    public CompletableFuture<IppResponse> send(Operation op) {
+        op.setIppRequestId(requestId.incrementAndGet());
+        op.setCupsURI(cupsURI);
+        return send(op.getIppRequest());
+    }
+
+    /**
+     * Sends the IPP request to CUPS with the configured timeout.
+     *
+     * @param ippRequest IPP request
+     * @return response from CUPS
+     */
+    public CompletableFuture<IppResponse> send(IppRequest ippRequest) {
+        return send(ippRequest, timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sends the IPP request to CUPS. If the response is not received within
+     * the given time (which includes the time in the waiting queue) the
+     * request is aborted and the future is completed with a
+     * {@link TimeoutException}.
+     *
+     * @param ippRequest IPP request
+     * @param time       the timeout
+     * @param unit       the unit of the timeout
+     * @return response from CUPS
+     */
+    public CompletableFuture<IppResponse> send(IppRequest ippRequest, long time, TimeUnit unit) {
+        LOG.info("Sending to {}: {}", cupsURI, ippRequest);
+        CompletableFuture<IppResponse> result = new CompletableFuture<>();
+        ScheduledFuture<?> timeoutTask = timer.schedule(() -> result.completeExceptionally(
+                new TimeoutException("no response from " + cupsURI + " after " + time + " " + unit)), time, unit);
+        result.whenComplete((response, ex) -> timeoutTask.cancel(false));
+        waiting.add(() -> execute(ippRequest, result));
+        drain();
+        return result;
+    }
+
+    private void execute(IppRequest ippRequest, CompletableFuture<IppResponse> result) {
+        if (result.isDone()) {
+            release();
+            return;
+        }
+        HttpPost httpPost = new HttpPost(cupsURI);
+        httpPost.setEntity(new IppEntity(ippRequest));
+        Future<HttpResponse> httpFuture = httpClient.execute(httpPost, new FutureCallback<HttpResponse>() {
+            @Override
+            public void completed(HttpResponse httpResponse) {
+                release();
+                LOG.info("Received from {}: {}", httpPost, httpResponse);
+                try (InputStream istream = httpResponse.getEntity().getContent()) {
+                    IppResponse ippResponse = new IppResponse(istream);
+                    // the (normally empty) data part must be read before the stream is closed
+                    ippResponse.getData();
+                    if (ippResponse.getStatusCode().isSuccessful()) {
+                        result.complete(ippResponse);
+                    } else {
+                        result.completeExceptionally(new IppRequestException(ippResponse));
+                    }
+                } catch (IOException | RuntimeException ex) {
+                    fail(ippRequest, result, ex);
+                }
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                release();
+                fail(ippRequest, result, ex);
+            }
+
+            @Override
+            public void cancelled() {
+                release();
+                result.cancel(false);
+            }
+        });
+        // a cancelled or timed out request is aborted
+        result.whenComplete((response, ex) -> {
+            if (ex != null) {
+                httpFuture.cancel(true);
+            }
+        });
+    }
+
+    private static void fail(IppRequest ippRequest, CompletableFuture<IppResponse> result, Exception ex) {
+        LOG.warn("Cannot sent {}:", ippRequest, ex);
+        IppResponse ippResponse = new IppResponse(ippRequest);
+        ippResponse.setStatusCode(StatusCode.SERVER_ERROR_INTERNAL_ERROR);
+        ippResponse.setStatusMessage(ex.getMessage());
+        result.completeExceptionally(new IppRequestException(ippResponse, ex));
+    }
+
+    private void drain() {
+        while (!waiting.isEmpty() && permits.tryAcquire()) {
+            Runnable task = waiting.poll();
+            if (task == null) {
+                permits.release();
+            } else {
+                task.run();
+            }
+        }
+    }
+
+    private void release() {
+        permits.release();
+        drain();
+    }
+
+    /**
+     * Closes the underlying HTTP client. Requests in flight are aborted.
+     *
+     * @throws IOException if the client cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        timer.shutdownNow();
+        httpClient.close();
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + "-" + requestId + " to " + cupsURI;
+    }
+
+}
@@ -78,15 +78,25 @@ public class GetDefault extends Operation {
      */
     public void setPrinterName(String printername) {
         AttributeGroup printerGroup = new AttributeGroup(DelimiterTags.PRINTER_ATTRIBUTES_TAG);
-        initPrinterAttributes(printerGroup);
         URI supported = URI.create(getPrinterURI() + "/" + printername);
         printerGroup.addAttribute(Attribute.of("printer-uri-supported", supported));
         printerGroup.addAttribute(Attribute.of(ValueTags.NAME_WITHOUT_LANGUAGE, "printer-name", printername));
         printerGroup.addAttribute(Attribute.of(ValueTags.TEXT_WITHOUT_LANGUAGE, "printer-location",
                 "internal (/tmp/IPP/printer/" + printername + ")"));
         printerGroup.addAttribute(Attribute.of(ValueTags.TEXT_WITHOUT_LANGUAGE, "printer-info", "virtual printer"));
-        getIppResponse().addAttributeGroup(printerGroup);
+        initPrinterAttributes(printerGroup);
+        setPrinter(printerGroup);
         LOG.debug("Printer {} with URI {} is set as default.", printername, supported);
     }
 
+    /**
+     * Sets the default printer with the given printer-attributes.
+     *
+     * @param printerGroup the printer-attributes of the default printer
+     * @since 0.6.2
+     */
+    public void setPrinter(AttributeGroup printerGroup) {
+        getIppResponse().setAttributeGroup(printerGroup);
+    }
+
 }
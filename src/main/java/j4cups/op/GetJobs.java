@@ -21,6 +21,7 @@ package j4cups.op;
 import j4cups.protocol.IppOperations;
 import j4cups.protocol.IppRequest;
 import j4cups.protocol.attr.Attribute;
+import j4cups.protocol.attr.AttributeGroup;
 import j4cups.protocol.tags.ValueTags;
 
 /**
@@ -38,6 +39,26 @@ public class GetJobs extends Operation {
         super(IppOperations.GET_JOBS, createIppGetJobsRequest());
     }
 
+    /**
+     * Instantiates an operation for the given 'get-jobs' request.
+     *
+     * @param ippRequest the IPP request
+     * @since 0.6.2
+     */
+    public GetJobs(IppRequest ippRequest) {
+        super(IppOperations.GET_JOBS, ippRequest);
+    }
+
+    /**
+     * Adds a job into the response.
+     *
+     * @param jobGroup the job-attributes group of the job
+     * @since 0.6.2
+     */
+    public void addJob(AttributeGroup jobGroup) {
+        getIppResponse().addAttributeGroup(jobGroup);
+    }
+
     private static IppRequest createIppGetJobsRequest() {
         IppRequest request = createIppRequest(IppOperations.GET_JOBS);
         Attribute requestedAttributes = Attribute.of(ValueTags.KEYWORD, "requested-attributes", "job-id",
@@ -20,11 +20,14 @@ import j4cups.protocol.IppOperations;
 import j4cups.protocol.IppRequest;
 import j4cups.protocol.IppResponse;
 import j4cups.protocol.attr.Attribute;
+import j4cups.protocol.attr.AttributeGroup;
 import j4cups.protocol.tags.DelimiterTags;
 import j4cups.protocol.tags.ValueTags;
 
 public class GetPrinterAttributes extends Operation {
-    
+
+    private boolean printerSet;
+
     /**
      * Instantiates an operation with the get-printer-attributes id.
      */
@@ -62,18 +65,38 @@ public class GetPrinterAttributes extends Operation {
     }
 
     /**
-     * Gets the IPP response for the stored IPP request.
+     * Gets the IPP response for the stored IPP request. If no printer is
+     * set (see {@link #setPrinter(AttributeGroup)}) the response describes
+     * a virtual printer with the name of the printer-uri.
      *
      * @return IPP response
      */
     public IppResponse getIppResponse() {
         IppResponse response = super.getIppResponse();
-        response.setJobAttribute(Attribute.of("printer-uri-supported", toIPP(getPrinterURI())));
-        response.setJobAttribute(Attribute.of(ValueTags.TEXT_WITHOUT_LANGUAGE, "printer-name", getPrinterName()));
-        response.setJobAttribute(Attribute.of(ValueTags.TEXT_WITHOUT_LANGUAGE, "printer-location", "unknown"));
-        response.setJobAttribute(Attribute.of(ValueTags.TEXT_WITHOUT_LANGUAGE, "printer-info", "provided by " + getClass()));
-        initPrinterAttributes(response.getAttributeGroup(DelimiterTags.JOB_ATTRIBUTES_TAG));
+        if (!printerSet) {
+            AttributeGroup printerGroup = new AttributeGroup(DelimiterTags.PRINTER_ATTRIBUTES_TAG);
+            printerGroup.addAttribute(Attribute.of("printer-uri-supported", toIPP(getPrinterURI())));
+            printerGroup.addAttribute(Attribute.of(ValueTags.NAME_WITHOUT_LANGUAGE, "printer-name", getPrinterName()));
+            printerGroup.addAttribute(Attribute.of(ValueTags.TEXT_WITHOUT_LANGUAGE, "printer-location", "unknown"));
+            printerGroup.addAttribute(
+                    Attribute.of(ValueTags.TEXT_WITHOUT_LANGUAGE, "printer-info", "provided by " + getClass()));
+            initPrinterAttributes(printerGroup);
+            setPrinter(printerGroup);
+        }
         return response;
     }
+
+    /**
+     * Sets the printer-attributes of the printer which is described by
+     * the response. They replace the (empty) printer-attributes group of
+     * the response.
+     *
+     * @param printerGroup the printer-attributes of the printer
+     * @since 0.6.2
+     */
+    public void setPrinter(AttributeGroup printerGroup) {
+        super.getIppResponse().setAttributeGroup(printerGroup);
+        printerSet = true;
+    }
     
 }
@@ -53,15 +53,25 @@ public class GetPrinters extends Operation {
      */
     public void addPrinter(URI supported) {
         AttributeGroup printerGroup = new AttributeGroup(DelimiterTags.PRINTER_ATTRIBUTES_TAG);
-        initPrinterAttributes(printerGroup);
         printerGroup.addAttribute(Attribute.of("printer-uri-supported", supported));
         String printername = FilenameUtils.getBaseName(supported.getPath());
         printerGroup.addAttribute(Attribute.of(ValueTags.NAME_WITHOUT_LANGUAGE, "printer-name", printername));
         printerGroup.addAttribute(Attribute.of(ValueTags.TEXT_WITHOUT_LANGUAGE, "printer-location",
                 "internal (/tmp/IPP/printer/" + printername + ")"));
         printerGroup.addAttribute(Attribute.of(ValueTags.TEXT_WITHOUT_LANGUAGE, "printer-info", "virtual printer"));
-        getIppResponse().addAttributeGroup(printerGroup);
+        initPrinterAttributes(printerGroup);
+        addPrinter(printerGroup);
         LOG.debug("Printer {} is added.", supported);
     }
 
+    /**
+     * Adds a printer with the given printer-attributes into the response.
+     *
+     * @param printerGroup the printer-attributes of the printer
+     * @since 0.6.2
+     */
+    public void addPrinter(AttributeGroup printerGroup) {
+        getIppResponse().addAttributeGroup(printerGroup);
+    }
+
 }
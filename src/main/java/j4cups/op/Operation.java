@@ -21,11 +21,13 @@ import j4cups.protocol.IppOperations;
 import j4cups.protocol.IppRequest;
 import j4cups.protocol.IppResponse;
 import j4cups.protocol.attr.Attribute;
+import j4cups.protocol.attr.AttributeBlock;
 import j4cups.protocol.attr.AttributeGroup;
 import j4cups.protocol.attr.PrinterResolution;
 import j4cups.protocol.enums.JobState;
 import j4cups.protocol.enums.JobStateReasons;
 import j4cups.protocol.enums.PrintQuality;
+import j4cups.protocol.tags.DelimiterTags;
 import j4cups.protocol.tags.ValueTags;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.SystemUtils;
@@ -48,6 +50,7 @@ import java.util.Locale;
 public class Operation {
 
     private static final Logger LOG = LoggerFactory.getLogger(Operation.class);
+    private static final AttributeBlock PRINTER_CAPABILITIES = createPrinterCapabilities();
     private final IppOperations id;
     private final IppRequest ippRequest;
     private final IppResponse ippResponse;
@@ -93,7 +96,8 @@ public class Operation {
     }
 
     /**
-     * Gets the IPP response for the stored IPP request.
+     * Gets the IPP response for the stored IPP request. The response is
+     * derived from the request as it was when the operation was created.
      * 
      * @return IPP response
      */
@@ -102,12 +106,15 @@ public class Operation {
     }
 
     /**
-     * Sets the ID of the IPP request.
+     * Sets the ID of the IPP request. The response gets the same ID
+     * because a response must always contain the request-id of its
+     * request.
      *
      * @param id the new ID
      */
     public void setIppRequestId(int id) {
         ippRequest.setRequestId(id);
+        ippResponse.setRequestId(id);
     }
 
     /**
@@ -213,11 +220,29 @@ public class Operation {
 
     /**
      * Initialiazes printer-attributes with default values. This method can be
-     * used by sub classes to do it.
+     * used by sub classes to do it. The attributes are not built again
+     * but added as pre-encoded block of the printer capabilities.
      * 
      * @param group attribute group where the printer attributes belong to
      */
     protected void initPrinterAttributes(AttributeGroup group) {
+        group.addAttributes(PRINTER_CAPABILITIES);
+    }
+
+    /**
+     * Gets the capabilities of the (virtual) printers, e.g. the supported
+     * document formats or media. They are the same for all printers and
+     * are built and encoded only once.
+     *
+     * @return the pre-encoded printer capabilities
+     * @since 0.6.2
+     */
+    public static AttributeBlock getPrinterCapabilities() {
+        return PRINTER_CAPABILITIES;
+    }
+
+    private static AttributeBlock createPrinterCapabilities() {
+        AttributeGroup group = new AttributeGroup(DelimiterTags.PRINTER_ATTRIBUTES_TAG);
         group.addAttribute(Attribute
                 .of(ValueTags.MIME_MEDIA_TYPE, "document-format-supported", "application/octet-stream",
                         "application/pdf", "application/postscript", "application/vnd.cups-pdf",
@@ -255,6 +280,7 @@ public class Operation {
                 .of(ValueTags.ENUM, "orientation-requested-supported", toByteArray(3), toByteArray(4), toByteArray(5),
                         toByteArray(6)));
         group.addAttribute(Attribute.of("page-ranges-supported", true));
+        return AttributeBlock.of(group.getAttributes());
     }
 
     private static byte[] toByteArray(int x) {
@@ -25,7 +25,7 @@ import j4cups.protocol.attr.Attribute;
 import j4cups.protocol.enums.JobState;
 import j4cups.protocol.tags.ValueTags;
 
-import javax.validation.ValidationException;
+import java.nio.file.Path;
 
 /**
  * Class PrintJob represents the print-job operation.
@@ -69,6 +69,17 @@ public class PrintJob extends Operation {
         getIppRequest().setData(data);
     }
 
+    /**
+     * Sets the file to be printed. The file is not read into memory but
+     * streamed when the request is sent.
+     *
+     * @param path file with the print data
+     * @since 0.6.2
+     */
+    public void setData(Path path) {
+        getIppRequest().setData(path);
+    }
+
     /**
      * Sets the job-name.
      *
@@ -89,26 +100,6 @@ public class PrintJob extends Operation {
         setOperationAttribute(attr);
     }
 
-    /**
-     * Looks if the given request is valid. If not an
-     * {@link ValidationException} will be thrown
-     *
-     * @param request IPP reqeust
-     */
-    @Override
-    public void validateRequest(IppRequest request) {
-        super.validateRequest(request);
-        if (!hasTarget(request)) {
-            throw new ValidationException(
-                    "neither 'printer-uri' & 'job-id' nor 'job-uri' is given in " + request.toShortString());
-        }
-    }
-
-    private static boolean hasTarget(IppRequest request) {
-        return (request.hasAttribute("printer-uri") && request.hasAttribute("job-id"))
-                || request.hasAttribute("job-uri");
-    }
-
     /**
      * Gets the IPP response for the stored IPP request.
      *
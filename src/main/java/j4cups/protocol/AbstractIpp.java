@@ -19,10 +19,13 @@ package j4cups.protocol;
 
 import j4cups.protocol.attr.Attribute;
 import j4cups.protocol.attr.AttributeGroup;
+import j4cups.protocol.attr.AttributeKey;
 import j4cups.protocol.enums.JobState;
 import j4cups.protocol.enums.JobStateReasons;
 import j4cups.protocol.tags.DelimiterTags;
 import j4cups.protocol.tags.ValueTags;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CountingInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.SystemUtils;
 import org.slf4j.Logger;
@@ -33,10 +36,14 @@ import javax.xml.bind.DatatypeConverter;
 import java.io.*;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 
 /**
@@ -76,6 +83,11 @@ public abstract class AbstractIpp implements Externalizable {
     private transient List<AttributeGroup> attributeGroups;
     private int requestId;
     private byte[] data;
+    private transient InputStream dataStream;
+    private transient Path dataPath;
+    private transient long dataLength = -1;
+    private transient Map<String, AttributeGroup> attributeIndex;
+    private transient LazyAttributeGroups lazyGroups;
 
     /**
      * This constructor is needed for the {@link Externalizable} interface.
@@ -105,6 +117,74 @@ public abstract class AbstractIpp implements Externalizable {
         trace(bytes.array());
     }
 
+    /**
+     * Instantiates a new IPP request or response from the given stream.
+     * Only the header and the attribute-groups are read from the stream.
+     * The data part (e.g. the document of a print-job) remains in the
+     * stream and is consumed not before it is needed (see
+     * {@link #getDataStream()}). So the document is never buffered
+     * completely in the heap.
+     * <p>
+     * The attributes are decoded not before they are needed (see
+     * {@link LazyAttributeGroups}). As long as the request or response is
+     * not modified it is written byte by byte as it was received.
+     * </p>
+     *
+     * @param istream the stream with the IPP request or response
+     * @throws IOException e.g. if the stream ends before the
+     *                     end-of-attributes-tag was read
+     * @since 0.6.2
+     */
+    protected AbstractIpp(InputStream istream) throws IOException {
+        this(istream, -1);
+    }
+
+    /**
+     * Instantiates a new IPP request or response from the given stream
+     * with the given (total) length. With this length the length of the
+     * data part can be calculated (see {@link #getDataLength()}) without
+     * reading it.
+     *
+     * @param istream the stream with the IPP request or response
+     * @param length  length of the whole request or response (or -1 if
+     *                it is unknown)
+     * @throws IOException e.g. if the stream ends before the
+     *                     end-of-attributes-tag was read
+     * @since 0.6.2
+     */
+    protected AbstractIpp(InputStream istream, long length) throws IOException {
+        this(new CountingInputStream(istream), length);
+    }
+
+    private AbstractIpp(CountingInputStream istream, long length) throws IOException {
+        this(new DataInputStream(istream));
+        if ((dataStream != null) && (length >= 0)) {
+            // the first data byte was already read (and pushed back)
+            this.dataLength = length - istream.getByteCount() + 1;
+        }
+    }
+
+    private AbstractIpp(DataInputStream istream) throws IOException {
+        this(new Version(istream.readByte(), istream.readByte()), istream.readShort(), istream.readInt(),
+                new LazyAttributeGroups(istream));
+        PushbackInputStream pin = new PushbackInputStream(istream);
+        int b = pin.read();
+        if (b >= 0) {
+            pin.unread(b);
+            this.dataStream = pin;
+        }
+        LOG.debug("{}-{} {} received (data is streamed).", getClass().getSimpleName(), requestId,
+                getOpCodeAsString());
+    }
+
+    private AbstractIpp(Version version, short opCode, int requestId, LazyAttributeGroups lazyGroups) {
+        this.version = version;
+        this.opCode = opCode;
+        this.requestId = requestId;
+        this.lazyGroups = lazyGroups;
+        this.data = new byte[0];
+    }
+
     /**
      * Instantiates a new IPP request or response with no data.
      *
@@ -162,17 +242,55 @@ public abstract class AbstractIpp implements Externalizable {
     /**
      * This method allows you to record a IPP package into a file. Watcht the
      * log to see where the file is stored.
+     * <p>
+     * A streamed data part (see {@link #AbstractIpp(InputStream)}) can be
+     * read only once. So it is read afterwards from the recorded file. This
+     * way the request can still be forwarded with its document.
+     * </p>
      * 
      * @param logDir the directory where the file is stored
      * @since 0.5
      */
     public void recordTo(Path logDir) {
-        recordTo(logDir, toByteArray());
+        String name = getRecordName();
+        try {
+            Files.createDirectories(logDir);
+            Path logFile = createLogFile(logDir, name);
+            boolean streamed = dataStream != null;
+            try (OutputStream ostream = new FileOutputStream(logFile.toFile())) {
+                writeTo(ostream);
+            }
+            if (streamed) {
+                rereadDataFrom(logFile);
+            }
+            LOG.info("IPP package is recorded to '{}'.", logFile);
+        } catch (IOException ioe) {
+            LOG.info("Cannot record {} to temporary log file {}.", name, ioe);
+        }
+    }
+
+    /**
+     * The data part is behind the encoded attributes of the recorded file.
+     */
+    private void rereadDataFrom(Path logFile) throws IOException {
+        FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ);
+        try {
+            int offset = encodedLength();
+            channel.position(offset);
+            dataLength = channel.size() - offset;
+            dataStream = Channels.newInputStream(channel);
+        } catch (IOException ioe) {
+            channel.close();
+            throw ioe;
+        }
     }
 
     private void recordTo(Path logDir, byte[] bytes) {
-        recordTo(logDir, bytes,
-                this.getClass().getSimpleName() + this.getRequestId() + "-" + this.getOpCodeAsString() + ".ipp");
+        recordTo(logDir, bytes, getRecordName());
+    }
+
+    private String getRecordName() {
+        return this.getClass().getSimpleName() + this.getRequestId() + "-" + this.getOpCodeAsString() + ".ipp";
     }
 
     /**
@@ -185,8 +303,7 @@ public abstract class AbstractIpp implements Externalizable {
     public static void recordTo(Path logDir, byte[] bytes, String name) {
         try {
             Files.createDirectories(logDir);
-            Path logFile = Paths.get(logDir.toString(),
-                    Long.toString(System.currentTimeMillis(), Character.MAX_RADIX) + "-" + name);
+            Path logFile = createLogFile(logDir, name);
             Files.write(logFile, bytes);
             LOG.info("IPP package with {} bytes is recorded to '{}'.", bytes.length, logFile);
         } catch (IOException ioe) {
@@ -195,6 +312,31 @@ public abstract class AbstractIpp implements Externalizable {
         }
     }
 
+    /**
+     * Records the given data stream to a file in the given directory. In
+     * contrast to {@link #recordTo(Path, byte[], String)} the data is
+     * copied without reading it completely into memory.
+     *
+     * @param logDir logging directory
+     * @param data   data to be recorded
+     * @param name   suffix, which is used as filename
+     * @return the file where the data is recorded
+     * @throws IOException if the data cannot be recorded
+     * @since 0.6.2
+     */
+    public static Path recordTo(Path logDir, InputStream data, String name) throws IOException {
+        Files.createDirectories(logDir);
+        Path logFile = createLogFile(logDir, name);
+        long n = Files.copy(data, logFile);
+        LOG.info("Data with {} bytes is recorded to '{}'.", n, logFile);
+        return logFile;
+    }
+
+    private static Path createLogFile(Path logDir, String name) {
+        return Paths.get(logDir.toString(),
+                Long.toString(System.currentTimeMillis(), Character.MAX_RADIX) + "-" + name);
+    }
+
     private static List<AttributeGroup> readAttributeGroups(ByteBuffer buffer) {
         List<AttributeGroup> values = new ArrayList<>();
         while (buffer.remaining() > 4) {
@@ -300,8 +442,7 @@ public abstract class AbstractIpp implements Externalizable {
      * @since 0.5
      */
     public JobState getJobState() {
-        Attribute attr = getAttribute("job-state");
-        return JobState.of(attr.getIntValue());
+        return JobState.of(getValue(AttributeKey.JOB_STATE));
     }
 
     /**
@@ -311,8 +452,7 @@ public abstract class AbstractIpp implements Externalizable {
      * @since 0.5
      */
     public void setJobState(JobState state) {
-        Attribute attr = Attribute.of(ValueTags.ENUM, "job-state", state.getValue());
-        setJobAttribute(attr);
+        setJobAttribute(Attribute.of(AttributeKey.JOB_STATE, state.getValue()));
     }
 
     /**
@@ -322,8 +462,7 @@ public abstract class AbstractIpp implements Externalizable {
      * @since 0.5
      */
     public JobStateReasons getJobStateReasons() {
-        Attribute attr = getAttribute("job-state-reasons");
-        return JobStateReasons.of(attr.getStringValue());
+        return JobStateReasons.of(getValue(AttributeKey.JOB_STATE_REASONS));
     }
 
     /**
@@ -333,8 +472,7 @@ public abstract class AbstractIpp implements Externalizable {
      * @since 0.5
      */
     public void setJobStateReasons(JobStateReasons reason) {
-        Attribute attr = Attribute.of(ValueTags.KEYWORD, "job-state-reasons", reason.toString());
-        setJobAttribute(attr);
+        setJobAttribute(Attribute.of(AttributeKey.JOB_STATE_REASONS, reason.toString()));
     }
 
     /**
@@ -344,8 +482,7 @@ public abstract class AbstractIpp implements Externalizable {
      * @since 0.5
      */
     public String getJobStateMessage() {
-        Attribute attr = getAttribute("job-state-message");
-        return attr.getStringValue();
+        return getValue(AttributeKey.JOB_STATE_MESSAGE);
     }
 
     /**
@@ -355,8 +492,7 @@ public abstract class AbstractIpp implements Externalizable {
      * @since 0.5
      */
     public void setJobStateMessage(String msg) {
-        Attribute attr = Attribute.of(ValueTags.TEXT_WITHOUT_LANGUAGE, "job-state-message", msg);
-        setJobAttribute(attr);
+        setJobAttribute(Attribute.of(AttributeKey.JOB_STATE_MESSAGE, msg));
     }
 
     /**
@@ -383,11 +519,26 @@ public abstract class AbstractIpp implements Externalizable {
     
     /**
      * The fourth field is the "attribute-group" field, and it occurs 0 or
-     * more times.
+     * more times. Use {@link #addAttributeGroup(AttributeGroup)} to add a
+     * group.
      *
-     * @return a list of attribute-groups
+     * @return an unmodifiable list of attribute-groups
      */
     public List<AttributeGroup> getAttributeGroups() {
+        return Collections.unmodifiableList(getGroups());
+    }
+
+    /**
+     * The attribute-groups of a received request or response are decoded
+     * completely not before they are needed.
+     */
+    private List<AttributeGroup> getGroups() {
+        if (lazyGroups != null) {
+            List<AttributeGroup> groups = lazyGroups.toAttributeGroups();
+            fillAttributeGroups(groups);
+            attributeGroups = groups;
+            lazyGroups = null;
+        }
         return attributeGroups;
     }
 
@@ -399,9 +550,32 @@ public abstract class AbstractIpp implements Externalizable {
      * @since 0.5
      */
     public void addAttributeGroup(AttributeGroup group) {
-        attributeGroups.add(group);
+        getGroups().add(group);
+        if (attributeIndex != null) {
+            indexAttributesOf(group);
+        }
     }
     
+    /**
+     * Sets the given group. The first group with the same
+     * begin-attribute-group-tag is replaced by it. If there is no such
+     * group the given group is added.
+     *
+     * @param group the group
+     * @since 0.6.2
+     */
+    public void setAttributeGroup(AttributeGroup group) {
+        List<AttributeGroup> groups = getGroups();
+        for (int i = 0; i < groups.size(); i++) {
+            if (groups.get(i).getBeginTag() == group.getBeginTag()) {
+                groups.set(i, group);
+                attributeIndex = null;
+                return;
+            }
+        }
+        addAttributeGroup(group);
+    }
+
     /**
      * Returns all attributes of the given delimiter-tag.
      * 
@@ -424,7 +598,7 @@ public abstract class AbstractIpp implements Externalizable {
      */
     public List<Attribute> getAttributes() {
         List<Attribute> attributes = new ArrayList<>();
-        for (AttributeGroup group : attributeGroups) {
+        for (AttributeGroup group : getGroups()) {
             attributes.addAll(group.getAttributes());
         }
         return attributes;
@@ -442,7 +616,11 @@ public abstract class AbstractIpp implements Externalizable {
     public void setAttribute(String name, byte[] value) {
         try {
             Attribute attr = getAttribute(name);
-            attr.setValue(value);
+            if (lazyGroups == null) {
+                getAttributeGroupOf(name).addAttribute(Attribute.of(attr.getValueTag(), name, value));
+            } else {
+                attr.setValue(value);
+            }
         } catch (IllegalArgumentException iae) {
             LOG.debug("Attribute '{}' will be inserted as 'unsupported/unknown', because not found in existing attributes.", name);
             LOG.trace("Details:", iae);
@@ -450,6 +628,14 @@ public abstract class AbstractIpp implements Externalizable {
         }
     }
 
+    private AttributeGroup getAttributeGroupOf(String name) {
+        AttributeGroup group = findAttributeGroupOf(name);
+        if (group == null) {
+            throw new IllegalArgumentException("no attribute '" + name + "' found");
+        }
+        return group;
+    }
+
     /**
      * Sets the attribute into the group defined by the groupTag.
      *
@@ -459,22 +645,71 @@ public abstract class AbstractIpp implements Externalizable {
     public void setAttribute(Attribute attr, DelimiterTags groupTag) {
         AttributeGroup group = getAttributeGroup(groupTag);
         group.addAttribute(attr);
+        if (attributeIndex != null) {
+            attributeIndex.putIfAbsent(attr.getName(), group);
+        }
     }
 
     /**
      * Gets the attribute with the given name. If not attribute with the given
      * name is not found an {@link IllegalArgumentException} will be thrown.
+     * An attribute which is shared with another request or response (e.g.
+     * a response which is derived from the request) is read-only (see
+     * {@link AttributeGroup#getMutableAttribute(String)}).
      *
      * @param name name of the attribute
      * @return attribute with given name
      */
     public Attribute getAttribute(String name) {
-        for (Attribute attr : getAttributes()) {
-            if (name.equals(attr.getName())) {
-                return attr;
-            }
+        if (lazyGroups == null) {
+            return getAttributeGroupOf(name).getAttribute(name);
         }
-        throw new IllegalArgumentException("no attribute '" + name + "' found");
+        Attribute attr = lazyGroups.getAttribute(name);
+        if (attr == null) {
+            throw new IllegalArgumentException("no attribute '" + name + "' found");
+        }
+        return attr;
+    }
+
+    /**
+     * Gets the attribute of the given key. If the attribute is not found an
+     * {@link IllegalArgumentException} will be thrown.
+     *
+     * @param key e.g. {@link AttributeKey#JOB_STATE}
+     * @return attribute of the given key
+     * @since 0.6.2
+     */
+    public Attribute getAttribute(AttributeKey<?> key) {
+        return getAttribute(key.getName());
+    }
+
+    /**
+     * Gets the (first) value of the attribute of the given key. If the
+     * attribute is not found an {@link IllegalArgumentException} will be
+     * thrown.
+     *
+     * @param <T> the type of the value
+     * @param key e.g. {@link AttributeKey#JOB_STATE}
+     * @return the decoded value
+     * @since 0.6.2
+     */
+    public <T> T getValue(AttributeKey<T> key) {
+        return getAttribute(key.getName()).getValue(key);
+    }
+
+    /**
+     * Sets the attribute of the given key into its default attribute-group
+     * of the registry. If it is already set it will be overwritten.
+     *
+     * @param <T>    the type of the values
+     * @param key    e.g. {@link AttributeKey#REQUESTING_USER_NAME}
+     * @param values the values
+     * @since 0.6.2
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // values are only read by Attribute.of(..) and do not escape
+    public final <T> void setAttribute(AttributeKey<T> key, T... values) {
+        setAttribute(Attribute.of(key, values), key.getSyntax().getGroup());
     }
 
     /**
@@ -485,12 +720,44 @@ public abstract class AbstractIpp implements Externalizable {
      * @since 0.5
      */
     public boolean hasAttribute(String name) {
-        for (Attribute attr : getAttributes()) {
-            if (name.equals(attr.getName())) {
-                return true;
+        if (lazyGroups == null) {
+            return findAttributeGroupOf(name) != null;
+        } else {
+            return lazyGroups.indexOf(name) >= 0;
+        }
+    }
+
+    /**
+     * The index maps the name of an attribute to its attribute-group. It is
+     * built once and updated by {@link #addAttributeGroup(AttributeGroup)}
+     * and {@link #setAttribute(Attribute, DelimiterTags)}. An attribute
+     * which was added directly to a group is not in the index. It is
+     * looked up in the groups and put into the index afterwards. If an
+     * attribute occurs in several groups the first one is indexed.
+     */
+    private AttributeGroup findAttributeGroupOf(String name) {
+        if (attributeIndex == null) {
+            attributeIndex = new HashMap<>();
+            for (AttributeGroup group : attributeGroups) {
+                indexAttributesOf(group);
+            }
+        }
+        AttributeGroup group = attributeIndex.get(name);
+        if (group == null) {
+            for (AttributeGroup g : attributeGroups) {
+                if (g.hasAttribute(name)) {
+                    attributeIndex.put(name, g);
+                    return g;
+                }
             }
         }
-        return false;
+        return group;
+    }
+
+    private void indexAttributesOf(AttributeGroup group) {
+        for (Attribute attr : group.getAttributes()) {
+            attributeIndex.putIfAbsent(attr.getName(), group);
+        }
     }
 
     /**
@@ -574,8 +841,7 @@ public abstract class AbstractIpp implements Externalizable {
      * @since 0.5
      */
     public void setRequestingUserName(String username) {
-        Attribute attr = Attribute.of(ValueTags.NAME_WITHOUT_LANGUAGE, "requesting-user-name", username);
-        setOperationAttribute(attr);
+        setAttribute(AttributeKey.REQUESTING_USER_NAME, username);
     }
 
     /**
@@ -586,16 +852,104 @@ public abstract class AbstractIpp implements Externalizable {
      */
     public void setData(byte[] data) {
         this.data = data;
+        this.dataStream = null;
+        this.dataPath = null;
+        this.dataLength = -1;
+    }
+
+    /**
+     * Sets the data part of the request or response. In contrast to
+     * {@link #setData(byte[])} the content of the given file is not read
+     * into memory but streamed when the request or response is written.
+     *
+     * @param path file with the data
+     * @since 0.6.2
+     */
+    public void setData(Path path) {
+        setData(new byte[0]);
+        this.dataPath = path;
     }
 
     /**
      * Returns the data part of the request. If no data part is present a
-     * 0-length byte array is returned.
+     * 0-length byte array is returned. If the data part was not yet read
+     * (see {@link #AbstractIpp(InputStream)}) it is read now into memory.
+     * So better use {@link #getDataStream()} for big documents.
      *
      * @return data part
      */
     public byte[] getData() {
-        return data;
+        try {
+            if (dataStream != null) {
+                try (InputStream istream = dataStream) {
+                    data = IOUtils.toByteArray(istream);
+                }
+                dataStream = null;
+            } else if (dataPath != null) {
+                data = Files.readAllBytes(dataPath);
+                dataPath = null;
+            }
+            return data;
+        } catch (IOException ioe) {
+            throw new IllegalStateException("cannot read data of " + toShortString(), ioe);
+        }
+    }
+
+    /**
+     * Returns the data part as stream. If the data part was not yet read
+     * (see {@link #AbstractIpp(InputStream)}) the returned stream can be
+     * read only once.
+     *
+     * @return data part as stream
+     * @since 0.6.2
+     */
+    public InputStream getDataStream() {
+        if (dataStream != null) {
+            InputStream istream = dataStream;
+            dataStream = null;
+            return istream;
+        } else if (dataPath != null) {
+            try {
+                return Files.newInputStream(dataPath);
+            } catch (IOException ioe) {
+                throw new IllegalStateException("cannot read data from " + dataPath, ioe);
+            }
+        } else {
+            return new ByteArrayInputStream(data);
+        }
+    }
+
+    /**
+     * Returns the length of the data part without reading it. If the data
+     * part is streamed and its length is unknown -1 is returned.
+     *
+     * @return length in bytes or -1 if it is unknown
+     * @since 0.6.2
+     */
+    public long getDataLength() {
+        if (dataStream != null) {
+            return dataLength;
+        } else if (dataPath != null) {
+            try {
+                return Files.size(dataPath);
+            } catch (IOException ioe) {
+                throw new IllegalStateException("cannot get size of " + dataPath, ioe);
+            }
+        } else {
+            return data.length;
+        }
+    }
+
+    /**
+     * If the data part is streamed directly from the received request or
+     * response it can be read only once. In this case the request or
+     * response can be written only once.
+     *
+     * @return true if request or response can be written several times
+     * @since 0.6.2
+     */
+    public boolean isRepeatable() {
+        return dataStream == null;
     }
 
     /**
@@ -604,7 +958,7 @@ public abstract class AbstractIpp implements Externalizable {
      * @return false if data part is empty, true otherwise
      */
     public boolean hasData() {
-        return data.length > 0;
+        return (data.length > 0) || (dataStream != null) || (dataPath != null);
     }
 
     /**
@@ -617,9 +971,13 @@ public abstract class AbstractIpp implements Externalizable {
     public String toString() {
         StringBuilder buffer = new StringBuilder("-");
         buffer.append(getRequestId());
-        for (Attribute attr : getAttributes()) {
-            buffer.append("|");
-            buffer.append(attr);
+        if (lazyGroups == null) {
+            for (Attribute attr : getAttributes()) {
+                buffer.append("|");
+                buffer.append(attr);
+            }
+        } else {
+            lazyGroups.appendTo(buffer);
         }
         buffer.append("|");
         return buildString(buffer.toString());
@@ -656,7 +1014,7 @@ public abstract class AbstractIpp implements Externalizable {
      */
     public String toLongString() {
         StringBuilder attrs = new StringBuilder();
-        for (AttributeGroup group : attributeGroups) {
+        for (AttributeGroup group : getGroups()) {
             if (!group.getAttributes().isEmpty()) {
                 attrs.append('|').append(group.toLongString());
             }
@@ -666,7 +1024,11 @@ public abstract class AbstractIpp implements Externalizable {
 
     private String buildString(String attrs) {
         String hex = "";
-        if (hasData()) {
+        if (dataStream != null) {
+            hex = "(streamed)|";
+        } else if (dataPath != null) {
+            hex = dataPath + "|";
+        } else if (hasData()) {
             hex = StringUtils.abbreviateMiddle(DatatypeConverter.printHexBinary(this.getData()), "...", 100) + "|";
         }
         return "|" + getVersion() + "|" + getOpCodeAsString() + attrs + hex;
@@ -693,37 +1055,149 @@ public abstract class AbstractIpp implements Externalizable {
      * @return at least 9 bytes
      */
     public byte[] toByteArray() {
-        try (ByteArrayOutputStream byteStream = new ByteArrayOutputStream()) {
-            writeTo(byteStream);
-            byteStream.flush();
-            return byteStream.toByteArray();
-        } catch (IOException ioe) {
-            throw new IllegalStateException("cannot dump package", ioe);
-        }
+        byte[] bytes = getData();
+        ByteBuffer buffer = ByteBuffer.allocate(encodedLength() + bytes.length);
+        encodeTo(buffer);
+        buffer.put(bytes);
+        return buffer.array();
     }
 
     /**
-     * Calculates the size of the request or response.
+     * Gets the exact length of the encoded request or response without
+     * the data part, i.e. from the version-number up to (and including)
+     * the end-of-attributes-tag. It is calculated without encoding the
+     * request or response.
      *
      * @return length in bytes
+     * @since 0.6.2
+     */
+    public int encodedLength() {
+        if ((lazyGroups != null) && !lazyGroups.isModified()) {
+            return 8 + lazyGroups.getLength();
+        }
+        int n = 9;
+        for (AttributeGroup group : getGroups()) {
+            if (!group.getAttributes().isEmpty()) {
+                n += group.encodedLength();
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Writes the request or response without the data part directly into
+     * the given buffer. The buffer may be a heap or a direct buffer. The
+     * data part is written by {@link #writeTo(OutputStream)}.
+     *
+     * @param buffer buffer with at least {@link #encodedLength()} bytes
+     *               remaining
+     * @since 0.6.2
+     */
+    public void encodeTo(ByteBuffer buffer) {
+        buffer.put(version.toByteArray());
+        buffer.putShort(getOpCode());
+        buffer.putInt(getRequestId());
+        if ((lazyGroups != null) && !lazyGroups.isModified()) {
+            lazyGroups.encodeTo(buffer);
+            return;
+        }
+        for (AttributeGroup group : getGroups()) {
+            if (!group.getAttributes().isEmpty()) {
+                group.encodeTo(buffer);
+            }
+        }
+        buffer.put(DelimiterTags.END_OF_ATTRIBUTES_TAG.getValue());
+    }
+
+    /**
+     * Calculates the size of the request or response. The data part is
+     * not read for it. If the data part is streamed and its length is
+     * unknown -1 is returned.
+     *
+     * @return length in bytes or -1 if it is unknown
      */
     public long getLength() {
-        return toByteArray().length;
+        long n = getDataLength();
+        return (n < 0) ? -1 : encodedLength() + n;
     }
-    
-    private void writeTo(OutputStream ostream) throws IOException {
-        try (DataOutputStream dos = new DataOutputStream(ostream)) {
-            dos.write(version.toByteArray());
-            dos.writeShort(getOpCode());
-            dos.writeInt(getRequestId());
-            for (AttributeGroup group : getAttributeGroups()) {
-                if (!group.getAttributes().isEmpty()) {
-                    dos.write(group.toByteArray());
+
+    /**
+     * Provides the request or response as stream. The data part is not
+     * read into memory but appended as stream.
+     *
+     * @return the request or response as stream
+     * @since 0.6.2
+     */
+    public InputStream toInputStream() {
+        return new SequenceInputStream(new ByteArrayInputStream(toHeaderByteArray()), getDataStream());
+    }
+
+    /**
+     * Writes the request or response to the given stream. The data part is
+     * not buffered but copied directly to the given stream. If the data
+     * comes from a file it is transferred by the file channel (which may
+     * avoid the copy into the heap). The given stream is not closed.
+     * <p>
+     * The header is encoded into a buffer of the {@link BufferPool}. For
+     * a file stream a direct buffer is used which is written by the file
+     * channel.
+     * </p>
+     *
+     * @param ostream the stream to write to
+     * @throws IOException if the request or response cannot be written
+     * @since 0.6.2
+     */
+    public void writeTo(OutputStream ostream) throws IOException {
+        writeHeaderTo(ostream);
+        if (dataPath != null) {
+            transferTo(dataPath, ostream);
+        } else {
+            try (InputStream istream = getDataStream()) {
+                IOUtils.copy(istream, ostream);
+            }
+        }
+        ostream.flush();
+    }
+
+    private void writeHeaderTo(OutputStream ostream) throws IOException {
+        BufferPool pool = BufferPool.getDefault();
+        boolean direct = ostream instanceof FileOutputStream;
+        ByteBuffer buffer = direct ? pool.acquireDirect(encodedLength()) : pool.acquire(encodedLength());
+        try {
+            encodeTo(buffer);
+            if (direct) {
+                buffer.flip();
+                FileChannel channel = ((FileOutputStream) ostream).getChannel();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } else {
+                ostream.write(buffer.array(), 0, buffer.position());
+            }
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    private byte[] toHeaderByteArray() {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedLength());
+        encodeTo(buffer);
+        return buffer.array();
+    }
+
+    private static void transferTo(Path path, OutputStream ostream) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = (ostream instanceof FileOutputStream)
+                    ? ((FileOutputStream) ostream).getChannel() : Channels.newChannel(ostream);
+            long size = channel.size();
+            long pos = 0;
+            while (pos < size) {
+                long n = channel.transferTo(pos, size - pos, target);
+                if (n <= 0) {
+                    throw new EOFException(path + " ends after " + pos + " of " + size + " bytes");
                 }
+                pos += n;
             }
-            dos.writeByte(DelimiterTags.END_OF_ATTRIBUTES_TAG.getValue());
-            dos.write(getData());
-            dos.flush();
         }
     }
 
@@ -763,6 +1237,7 @@ public abstract class AbstractIpp implements Externalizable {
             ostream.flush();
             ByteBuffer buffer = ByteBuffer.wrap(ostream.toByteArray());
             this.attributeGroups.addAll(readAttributeGroups(buffer));
+            this.attributeIndex = null;
             this.data = readData(buffer);
         }
     }
@@ -770,34 +1245,43 @@ public abstract class AbstractIpp implements Externalizable {
     /**
      * Validates an request. If it is not valid (e.g. if it has several
      * attribute-groups of the same type) a {@link ValidationException}
-     * will be thrown.
+     * will be thrown. The request is checked in one pass against the
+     * {@link ValidationSchema} of {@link #getValidationSchema()}.
      *
      * @since 0.5.1
      */
     public void validate() {
-        validateAttributeGroups();
-        if (getOpCode() < 0x0400) {
-            validateAttributes();
-        }
+        getValidationSchema().validate(this);
     }
 
-    private void validateAttributeGroups() {
-        Set<DelimiterTags> tags = new HashSet<>();
-        for (AttributeGroup group : attributeGroups) {
-            DelimiterTags beginTag = group.getBeginTag();
-            if (tags.contains(beginTag)) {
-                throw new ValidationException("duplicate '" + beginTag + "' in " + toShortString());
-            }
-            tags.add(beginTag);
-        }
+    /**
+     * Gets the schema which is used by {@link #validate()}. A message
+     * without operation has no required attributes, so only the
+     * attribute-groups and the length of the values are checked.
+     *
+     * @return the validation schema
+     * @since 0.6.2
+     */
+    protected ValidationSchema getValidationSchema() {
+        return (getOpCode() < 0x0400) ? ValidationSchema.DEFAULT : ValidationSchema.LENIENT;
     }
 
-    private void validateAttributes() {
-        for (Attribute attr : getAttributes()) {
-            byte[] value = attr.getValue();
-            if (value.length == 0) {
-                throw new ValidationException("empty value: " + attr);
+    /**
+     * Passes all attribute-groups and attributes to the given check. The
+     * attributes of a received message are not decoded for it.
+     *
+     * @param check the state of the validation
+     */
+    void validateWith(ValidationSchema.Check check) {
+        if (lazyGroups == null) {
+            for (AttributeGroup group : attributeGroups) {
+                check.beginGroup(group.getBeginTag());
+                for (Attribute attr : group.getAttributes()) {
+                    check.attribute(attr);
+                }
             }
+        } else {
+            lazyGroups.validateWith(check);
         }
     }
     
@@ -20,6 +20,7 @@ package j4cups.protocol;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * The Interface Binary describes objects which supports a binary presentation
@@ -53,5 +54,31 @@ public interface Binary {
      * @throws IOException in case of I/O problems
      */
     void writeBinaryTo(OutputStream ostream) throws IOException;
-    
+
+    /**
+     * Gets the exact length of the binary presentation. So a buffer for
+     * {@link #encodeTo(ByteBuffer)} can be allocated with the right size.
+     * Implementations should override it to calculate the length without
+     * encoding the object.
+     *
+     * @return length in bytes
+     * @since 0.6.2
+     */
+    default int encodedLength() {
+        return toByteArray().length;
+    }
+
+    /**
+     * Writes the binary presentation directly into the given buffer (which
+     * may be a heap or direct buffer). Implementations should override it
+     * to avoid temporary buffers.
+     *
+     * @param buffer buffer with at least {@link #encodedLength()} bytes
+     *               remaining
+     * @since 0.6.2
+     */
+    default void encodeTo(ByteBuffer buffer) {
+        buffer.put(toByteArray());
+    }
+
 }
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The class BufferPool provides reusable {@link ByteBuffer}s for decoding
+ * and encoding IPP requests and responses. The buffers are pooled in size
+ * classes (powers of two from 512 bytes up to 1 MB) separately for heap
+ * and direct buffers. Bigger buffers are allocated but not pooled.
+ * <p>
+ * A borrowed buffer must be given back with {@link #release(ByteBuffer)}
+ * and must not be used afterwards. The pool is thread-safe. It can be
+ * configured by system properties:
+ * </p>
+ * <ul>
+ *     <li>"j4cups.buffer.maxPooledBytes": the maximal number of bytes
+ *         which are pooled per size class (default is 1 MB)</li>
+ *     <li>"j4cups.buffer.leakDetection": if "true" the pool remembers
+ *         where each outstanding buffer was borrowed so that forgotten
+ *         buffers can be found (see {@link #checkLeaks(Thread)})</li>
+ * </ul>
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public final class BufferPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BufferPool.class);
+    private static final int MIN_SHIFT = 9;
+    private static final int MAX_SHIFT = 20;
+    private static final BufferPool DEFAULT = new BufferPool(
+            Integer.getInteger("j4cups.buffer.maxPooledBytes", 1 << MAX_SHIFT),
+            Boolean.getBoolean("j4cups.buffer.leakDetection"));
+
+    private final BlockingQueue<ByteBuffer>[] heapBuffers;
+    private final BlockingQueue<ByteBuffer>[] directBuffers;
+    private final Map<ByteBuffer, Acquisition> outstanding;
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder releaseCount = new LongAdder();
+    private final LongAdder allocationCount = new LongAdder();
+
+    /**
+     * Instantiates a new buffer pool.
+     *
+     * @param maxPooledBytes max. number of pooled bytes per size class
+     * @param leakDetection  true if outstanding buffers should be tracked
+     */
+    public BufferPool(int maxPooledBytes, boolean leakDetection) {
+        this.heapBuffers = createQueues(maxPooledBytes);
+        this.directBuffers = createQueues(maxPooledBytes);
+        this.outstanding = leakDetection ? new IdentityHashMap<>() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BlockingQueue<ByteBuffer>[] createQueues(int maxPooledBytes) {
+        BlockingQueue<ByteBuffer>[] queues =
+                (BlockingQueue<ByteBuffer>[]) new BlockingQueue<?>[MAX_SHIFT - MIN_SHIFT + 1];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ArrayBlockingQueue<>(Math.max(1, maxPooledBytes >> (MIN_SHIFT + i)));
+        }
+        return queues;
+    }
+
+    /**
+     * Gets the pool which is used by the protocol classes and the server.
+     *
+     * @return the default pool
+     */
+    public static BufferPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Borrows a heap buffer with at least the given capacity. The buffer
+     * is backed by an array which starts at offset 0.
+     *
+     * @param capacity the minimal capacity
+     * @return a cleared buffer
+     */
+    public ByteBuffer acquire(int capacity) {
+        return acquire(capacity, false);
+    }
+
+    /**
+     * Borrows a direct buffer with at least the given capacity. Direct
+     * buffers are useful if the content is written to a channel.
+     *
+     * @param capacity the minimal capacity
+     * @return a cleared buffer
+     */
+    public ByteBuffer acquireDirect(int capacity) {
+        return acquire(capacity, true);
+    }
+
+    private ByteBuffer acquire(int capacity, boolean direct) {
+        acquireCount.increment();
+        int sizeClass = sizeClassOf(capacity);
+        ByteBuffer buffer = null;
+        if (sizeClass >= 0) {
+            buffer = (direct ? directBuffers : heapBuffers)[sizeClass].poll();
+            capacity = 1 << (MIN_SHIFT + sizeClass);
+        }
+        if (buffer == null) {
+            allocationCount.increment();
+            buffer = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        }
+        if (outstanding != null) {
+            synchronized (outstanding) {
+                outstanding.put(buffer, new Acquisition(buffer));
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Gives the buffer back to the pool. If the pool for its size class is
+     * full (or the buffer is too big) the buffer is dropped.
+     *
+     * @param buffer a buffer borrowed from this pool
+     */
+    public void release(ByteBuffer buffer) {
+        if (outstanding != null) {
+            synchronized (outstanding) {
+                if (outstanding.remove(buffer) == null) {
+                    throw new IllegalStateException("buffer was not borrowed or is already released: " + buffer);
+                }
+            }
+        }
+        releaseCount.increment();
+        int capacity = buffer.capacity();
+        int sizeClass = sizeClassOf(capacity);
+        if ((sizeClass >= 0) && (capacity == 1 << (MIN_SHIFT + sizeClass))) {
+            buffer.clear();
+            (buffer.isDirect() ? directBuffers : heapBuffers)[sizeClass].offer(buffer);
+        }
+    }
+
+    private static int sizeClassOf(int capacity) {
+        int shift = 32 - Integer.numberOfLeadingZeros(Math.max(capacity, 1) - 1);
+        return (shift > MAX_SHIFT) ? -1 : Math.max(shift, MIN_SHIFT) - MIN_SHIFT;
+    }
+
+    /**
+     * Gets the number of borrowed buffers.
+     *
+     * @return number of calls of acquire
+     */
+    public long getAcquireCount() {
+        return acquireCount.sum();
+    }
+
+    /**
+     * Gets the number of released buffers.
+     *
+     * @return number of calls of release
+     */
+    public long getReleaseCount() {
+        return releaseCount.sum();
+    }
+
+    /**
+     * Gets the number of allocated buffers, i.e. the number of requests
+     * which could not be served from the pool.
+     *
+     * @return number of allocations
+     */
+    public long getAllocationCount() {
+        return allocationCount.sum();
+    }
+
+    /**
+     * Gets the number of buffers which are borrowed but not yet released.
+     *
+     * @return number of outstanding buffers
+     */
+    public long getOutstandingCount() {
+        return getAcquireCount() - getReleaseCount();
+    }
+
+    /**
+     * Gets the number of buffers which are kept in the pool.
+     *
+     * @return number of pooled buffers
+     */
+    public int getPooledCount() {
+        int n = 0;
+        for (int i = 0; i < heapBuffers.length; i++) {
+            n += heapBuffers[i].size() + directBuffers[i].size();
+        }
+        return n;
+    }
+
+    /**
+     * Looks if the given thread has borrowed buffers which are not yet
+     * released. This works only if leak detection is enabled.
+     *
+     * @param owner the thread which has borrowed the buffers
+     * @throws IllegalStateException with the place where the (first)
+     *                               leaked buffer was borrowed
+     */
+    public void checkLeaks(Thread owner) {
+        if (outstanding == null) {
+            return;
+        }
+        List<Acquisition> leaks = new ArrayList<>();
+        synchronized (outstanding) {
+            for (Acquisition acquisition : outstanding.values()) {
+                if (acquisition.owner == owner) {
+                    leaks.add(acquisition);
+                }
+            }
+            for (Acquisition leak : leaks) {
+                outstanding.remove(leak.buffer);
+            }
+        }
+        if (!leaks.isEmpty()) {
+            LOG.warn("{} buffer(s) of {} are not released.", leaks.size(), owner);
+            throw new IllegalStateException(leaks.size() + " buffer(s) not released", leaks.get(0));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " (" + getAcquireCount() + " acquired, " + getReleaseCount()
+                + " released, " + getAllocationCount() + " allocated, " + getPooledCount() + " pooled)";
+    }
+
+    /**
+     * Remembers the thread and the stack trace where a buffer was borrowed.
+     */
+    private static final class Acquisition extends Throwable {
+
+        private static final long serialVersionUID = 1L;
+        private final transient ByteBuffer buffer;
+        private final transient Thread owner = Thread.currentThread();
+
+        Acquisition(ByteBuffer buffer) {
+            super("buffer with " + buffer.capacity() + " bytes borrowed by " + Thread.currentThread().getName());
+            this.buffer = buffer;
+        }
+
+    }
+
+}
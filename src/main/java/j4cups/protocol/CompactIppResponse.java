@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol;
+
+import j4cups.protocol.attr.Attribute;
+import j4cups.protocol.attr.AttributeTable;
+import j4cups.protocol.tags.DelimiterTags;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * The class CompactIppResponse is a read-only alternative to
+ * {@link IppResponse} for large responses like 'Get-Jobs' or
+ * 'Get-Printers'. The response is parsed in one pass into an
+ * {@link AttributeTable} over the original bytes instead of a tree of
+ * attribute-groups, attributes and values.
+ * <p>
+ * If the response must be modified it can be converted with
+ * {@link #toIppResponse()}.
+ * </p>
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public final class CompactIppResponse {
+
+    private final byte[] bytes;
+    private final AttributeTable table;
+
+    /**
+     * Parses the given bytes of an IPP response. The bytes are not copied,
+     * so they must not be changed afterwards.
+     *
+     * @param bytes the bytes of the IPP response
+     */
+    public CompactIppResponse(byte[] bytes) {
+        if (bytes.length < 9) {
+            throw new IllegalArgumentException("IPP response too short (" + bytes.length + " bytes)");
+        }
+        this.bytes = bytes;
+        this.table = new AttributeTable(bytes, 8);
+    }
+
+    /**
+     * Reads the whole IPP response from the given stream.
+     *
+     * @param istream the stream with the IPP response
+     * @throws IOException if the response cannot be read
+     */
+    public CompactIppResponse(InputStream istream) throws IOException {
+        this(IOUtils.toByteArray(istream));
+    }
+
+    /**
+     * Gets the first part (byte 0-1) with the IPP version.
+     *
+     * @return e.g. "2.0"
+     */
+    public AbstractIpp.Version getVersion() {
+        return new AbstractIpp.Version(bytes[0], bytes[1]);
+    }
+
+    /**
+     * Returns the 2nd part (byte 2-3) with the status-code.
+     *
+     * @return e.g. {@link StatusCode#SUCCESSFUL_OK}
+     */
+    public StatusCode getStatusCode() {
+        return StatusCode.of(((bytes[2] & 0xff) << 8) | (bytes[3] & 0xff));
+    }
+
+    /**
+     * Returns the 3rd part (byte 4-7) with the request-id.
+     *
+     * @return the request-id
+     */
+    public int getRequestId() {
+        return ((bytes[4] & 0xff) << 24) | ((bytes[5] & 0xff) << 16) | ((bytes[6] & 0xff) << 8) | (bytes[7] & 0xff);
+    }
+
+    /**
+     * Gets the columnar representation of the attribute-groups.
+     *
+     * @return the attribute table
+     */
+    public AttributeTable getAttributeTable() {
+        return table;
+    }
+
+    /**
+     * Decodes the first attribute with the given name. If no attribute
+     * with the given name is found an {@link IllegalArgumentException} will
+     * be thrown.
+     *
+     * @param name e.g. "status-message"
+     * @return the decoded attribute
+     */
+    public Attribute getAttribute(String name) {
+        return table.getAttribute(name);
+    }
+
+    /**
+     * Counts the attribute-groups with the given tag, e.g. the number of
+     * jobs in a 'Get-Jobs' response.
+     *
+     * @param tag e.g. {@link DelimiterTags#JOB_ATTRIBUTES_TAG}
+     * @return number of attribute-groups
+     */
+    public int countAttributeGroups(DelimiterTags tag) {
+        int n = 0;
+        for (int g = 0; g < table.getGroupCount(); g++) {
+            if (table.getGroupTag(g) == tag) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Gets the data part behind the attribute-groups.
+     *
+     * @return a copy of the data (normally empty)
+     */
+    public byte[] getData() {
+        return Arrays.copyOfRange(bytes, table.getEnd(), bytes.length);
+    }
+
+    /**
+     * Decodes the whole response into a (modifiable) {@link IppResponse}.
+     *
+     * @return the decoded response
+     */
+    public IppResponse toIppResponse() {
+        return new IppResponse(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " (" + getStatusCode() + ", " + table + ")";
+    }
+
+}
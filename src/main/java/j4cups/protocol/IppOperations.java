@@ -20,6 +20,8 @@ package j4cups.protocol;
 
 import org.apache.commons.text.WordUtils;
 
+import java.util.Locale;
+
 /**
  * The enum IppOperations represents the IPP operations which are described
  * in RFC-8011.
@@ -118,7 +120,7 @@ public enum IppOperations {
     HOLD_JOB(0x000c),
     
     /* Release a job for printing. */
-    RELEASE_JOB(0x000b),
+    RELEASE_JOB(0x000d),
     
     /* Restarts a print job. */
     RESTART_JOB(0x000e),
@@ -172,12 +174,38 @@ public enum IppOperations {
     GET_PRINTERS(0x4002),
     
     /* Reserved for vendor extensions (0x4000-0x7fff, see Section 7.8 of RFC-8011).  */
-    RESERVED_FOR_VENDOR_EXTENSIONS(0x7fff);
+    RESERVED_FOR_VENDOR_EXTENSIONS(0x7fff),
+
+    /* Reserved for a future operation (0x000f), also used for ids outside 0x0000-0x7fff. */
+    RESERVED_FOR_FUTURE(0x000f);
 
+    private static final IppOperations[] STANDARD_OPERATIONS = new IppOperations[0x40];
+    private static final IppOperations[] VENDOR_OPERATIONS = new IppOperations[0x40];
     private final short code;
+    private final String representation;
+
+    static {
+        for (IppOperations op : values()) {
+            if ((op.code < STANDARD_OPERATIONS.length) && (STANDARD_OPERATIONS[op.code] == null)) {
+                STANDARD_OPERATIONS[op.code] = op;
+            } else if ((op.code >= 0x4000) && (op.code < 0x4000 + VENDOR_OPERATIONS.length)) {
+                VENDOR_OPERATIONS[op.code - 0x4000] = op;
+            }
+        }
+        for (int i = 0; i < STANDARD_OPERATIONS.length; i++) {
+            if (STANDARD_OPERATIONS[i] == null) {
+                STANDARD_OPERATIONS[i] = (i < 0x0013) ? RESERVED_FOR_FUTURE : ADDITIONAL_REGISTERED_OPERATIONS;
+            }
+            if (VENDOR_OPERATIONS[i] == null) {
+                VENDOR_OPERATIONS[i] = RESERVED_FOR_VENDOR_EXTENSIONS;
+            }
+        }
+    }
 
     IppOperations(int value) {
         this.code = (short) value;
+        String s = name().toLowerCase(Locale.ROOT).replace('_', ' ');
+        this.representation = WordUtils.capitalize(s).replace(' ', '-');
     }
 
     /**
@@ -197,21 +225,23 @@ public enum IppOperations {
      */
     @Override
     public String toString() {
-        String s = super.toString().toLowerCase().replaceAll("_", " ");
-        return WordUtils.capitalize(s).replaceAll(" ", "-");
+        return representation;
     }
     
     /**
      * Allows you to map an id (or op-code) to the corresponding operation.
+     * Unknown ids are mapped to {@link #ADDITIONAL_REGISTERED_OPERATIONS},
+     * {@link #RESERVED_FOR_VENDOR_EXTENSIONS} or {@link #RESERVED_FOR_FUTURE}.
      * 
      * @param id e.g. 0x0002
      * @return operation, e.g. PRINT_JOB
      */
     public static IppOperations of(int id) {
-        for (IppOperations op : IppOperations.values()) {
-            if (id == op.getCode()) {
-                return op;
-            }
+        if ((0 <= id) && (id < STANDARD_OPERATIONS.length)) {
+            return STANDARD_OPERATIONS[id];
+        }
+        if ((0x4000 <= id) && (id < 0x4000 + VENDOR_OPERATIONS.length)) {
+            return VENDOR_OPERATIONS[id - 0x4000];
         }
         if ((0x0013 <= id) && (id <= 0x3fff)) {
             return ADDITIONAL_REGISTERED_OPERATIONS;
@@ -219,7 +249,7 @@ public enum IppOperations {
         if ((0x4000 <= id) && (id <= 0x7fff)) {
             return RESERVED_FOR_VENDOR_EXTENSIONS;
         }
-        throw new IllegalArgumentException("invalid id: 0x" + Integer.toHexString(id));
+        return RESERVED_FOR_FUTURE;
     }
 
 }
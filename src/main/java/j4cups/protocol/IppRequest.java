@@ -17,6 +17,8 @@
  */
 package j4cups.protocol;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 
 /**
@@ -67,6 +69,33 @@ public class IppRequest extends AbstractIpp {
     public IppRequest(ByteBuffer bytes) {
         super(bytes);
     }
+
+    /**
+     * Instantiates a new IPP request from the given stream. The data part
+     * of the request is not read but can be consumed later by
+     * {@link #getDataStream()}.
+     *
+     * @param istream the stream with the IPP request
+     * @throws IOException if the header of the request cannot be read
+     * @since 0.6.2
+     */
+    public IppRequest(InputStream istream) throws IOException {
+        super(istream);
+    }
+
+    /**
+     * Instantiates a new IPP request from the given stream. With the given
+     * length of the whole request the length of the data part is known
+     * without reading it (see {@link #getDataLength()}).
+     *
+     * @param istream the stream with the IPP request
+     * @param length  length of the whole request (or -1 if unknown)
+     * @throws IOException if the header of the request cannot be read
+     * @since 0.6.2
+     */
+    public IppRequest(InputStream istream, long length) throws IOException {
+        super(istream, length);
+    }
     
     /**
      * Returns the 2nd part (byte 2-3) with the operation-id.
@@ -77,6 +106,17 @@ public class IppRequest extends AbstractIpp {
         return IppOperations.of(super.getOpCode());
     }
 
+    /**
+     * Gets the schema of the operation, e.g. the schema of a Print-Job
+     * request requires a 'printer-uri'.
+     *
+     * @return the schema of the operation
+     */
+    @Override
+    protected ValidationSchema getValidationSchema() {
+        return ValidationSchema.of(getOperation());
+    }
+
     /**
      * Returns the 2nd part (byte 2-3) with the operation-id as string.
      *
@@ -87,6 +127,7 @@ public class IppRequest extends AbstractIpp {
         switch (getOperation()) {
             case ADDITIONAL_REGISTERED_OPERATIONS:
             case RESERVED_FOR_VENDOR_EXTENSIONS:
+            case RESERVED_FOR_FUTURE:
                 return String.format("0x%04x", getOpCode());
             default:
                 return getOperation().toString();
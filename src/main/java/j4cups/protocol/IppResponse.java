@@ -23,6 +23,8 @@ import j4cups.protocol.tags.ValueTags;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -70,9 +72,27 @@ public class IppResponse extends AbstractIpp {
         super(bytes);
     }
 
+    /**
+     * Instantiates a new IPP response from the given stream. The data part
+     * of the response is not read but can be consumed later by
+     * {@link #getDataStream()}.
+     *
+     * @param istream the stream with the IPP response
+     * @throws IOException if the header of the response cannot be read
+     * @since 0.6.2
+     */
+    public IppResponse(InputStream istream) throws IOException {
+        super(istream);
+    }
+
     /**
      * The IppResponse is the response to a IppRequest. So you need the id
      * of the IppRequest to create a response.
+     * <p>
+     * The attribute-groups of the request are frozen (see
+     * {@link AttributeGroup#freeze()}) and shared with the response until
+     * one of both is modified (copy-on-write).
+     * </p>
      * 
      * @param request the request for this response
      */
@@ -83,6 +103,7 @@ public class IppResponse extends AbstractIpp {
     private static List<AttributeGroup> fillAttributesGroupsFor(IppRequest request) {
         List<AttributeGroup> groups = new ArrayList<>();
         for (AttributeGroup g : request.getAttributeGroups()) {
+            g.freeze();
             groups.add(new AttributeGroup(g));
         }
         return groups;
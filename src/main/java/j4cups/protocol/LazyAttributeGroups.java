@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol;
+
+import j4cups.protocol.attr.Attribute;
+import j4cups.protocol.attr.AttributeGroup;
+import j4cups.protocol.tags.DelimiterTags;
+import j4cups.protocol.tags.ValueTags;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The class LazyAttributeGroups is a view on the encoded attribute-groups
+ * of a received request or response. When the attribute-groups are read
+ * only the offsets of the attributes in the original buffer are recorded.
+ * An attribute is decoded not before it is accessed by its name (e.g.
+ * "printer-uri"). As long as no decoded attribute is modified the
+ * attribute-groups are written byte by byte from the original buffer.
+ * <p>
+ * This is useful if the {@link j4cups.server.CupsServer} acts as proxy
+ * where most of the requests and responses are only passed through.
+ * </p>
+ * <p>
+ * While the attribute-groups are read they are collected in a buffer of
+ * the {@link BufferPool}. At the end they are copied into an array of the
+ * exact length so that the pooled buffer can be released at once.
+ * </p>
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+final class LazyAttributeGroups {
+
+    private final BufferPool pool;
+    private ByteBuffer buffer;
+    private byte[] bytes;
+    private int length;
+    private DelimiterTags[] groupTags = new DelimiterTags[4];
+    private int groupCount;
+    private int[] starts = new int[32];
+    private int[] ends = new int[32];
+    private int[] groups = new int[32];
+    private int count;
+    private Attribute[] decoded;
+
+    /**
+     * Reads the attribute-groups up to (and including) the
+     * end-of-attributes-tag from the given stream. The data part behind it
+     * is not touched.
+     *
+     * @param istream the stream positioned behind the request-id
+     * @throws IOException e.g. if the stream ends before the
+     *                     end-of-attributes-tag was read
+     */
+    LazyAttributeGroups(DataInputStream istream) throws IOException {
+        this(istream, BufferPool.getDefault());
+    }
+
+    /**
+     * Reads the attribute-groups with the help of a buffer from the given
+     * pool.
+     *
+     * @param istream the stream positioned behind the request-id
+     * @param pool    the pool for the read buffer
+     * @throws IOException e.g. if the stream ends before the
+     *                     end-of-attributes-tag was read
+     */
+    LazyAttributeGroups(DataInputStream istream, BufferPool pool) throws IOException {
+        this.pool = pool;
+        this.buffer = pool.acquire(512);
+        try {
+            bytes = buffer.array();
+            readGroups(istream);
+            bytes = Arrays.copyOf(bytes, length);
+        } finally {
+            pool.release(buffer);
+            buffer = null;
+        }
+    }
+
+    private void readGroups(DataInputStream istream) throws IOException {
+        while (true) {
+            int tag = istream.readUnsignedByte();
+            int pos = length;
+            ensureCapacity(1);
+            bytes[length++] = (byte) tag;
+            if (tag == DelimiterTags.END_OF_ATTRIBUTES_TAG.getValue()) {
+                return;
+            }
+            if (DelimiterTags.isValid(tag)) {
+                addGroup(DelimiterTags.of(tag));
+                continue;
+            }
+            int nameLength = readField(istream);
+            readField(istream);
+            if ((nameLength > 0) || (count == 0) || (groups[count - 1] != groupCount - 1)) {
+                addAttribute(pos, tag);
+            }
+            // an additional-value (without name) belongs to the previous attribute
+            ends[count - 1] = length;
+        }
+    }
+
+    private void addGroup(DelimiterTags tag) {
+        if (groupCount == groupTags.length) {
+            groupTags = Arrays.copyOf(groupTags, groupCount * 2);
+        }
+        groupTags[groupCount++] = tag;
+    }
+
+    private void addAttribute(int pos, int tag) {
+        if (groupCount == 0) {
+            throw new IllegalArgumentException("invalid id: " + tag);
+        }
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+            groups = Arrays.copyOf(groups, count * 2);
+        }
+        starts[count] = pos;
+        groups[count] = groupCount - 1;
+        count++;
+    }
+
+    private int readField(DataInputStream istream) throws IOException {
+        int n = istream.readUnsignedShort();
+        ensureCapacity(2 + n);
+        bytes[length++] = (byte) (n >> 8);
+        bytes[length++] = (byte) n;
+        istream.readFully(bytes, length, n);
+        length += n;
+        return n;
+    }
+
+    private void ensureCapacity(int n) {
+        if (length + n > bytes.length) {
+            ByteBuffer bigger = pool.acquire(Math.max(bytes.length * 2, length + n));
+            System.arraycopy(bytes, 0, bigger.array(), 0, length);
+            pool.release(buffer);
+            buffer = bigger;
+            bytes = bigger.array();
+        }
+    }
+
+    /**
+     * Gets the length of the encoded attribute-groups including the
+     * end-of-attributes-tag.
+     *
+     * @return length in bytes
+     */
+    int getLength() {
+        return length;
+    }
+
+    /**
+     * Gets the number of attribute-groups.
+     *
+     * @return number of attribute-groups
+     */
+    int getGroupCount() {
+        return groupCount;
+    }
+
+    /**
+     * Gets the begin-attribute-group-tag of the given attribute-group.
+     *
+     * @param group the index of the attribute-group
+     * @return e.g. {@link DelimiterTags#OPERATION_ATTRIBUTES_TAG}
+     */
+    DelimiterTags getGroupTag(int group) {
+        return groupTags[group];
+    }
+
+    /**
+     * Gets the number of attributes in all attribute-groups.
+     *
+     * @return number of attributes
+     */
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * Looks for the first attribute with the given name. The name is
+     * compared with the encoded name so no attribute must be decoded for
+     * it.
+     *
+     * @param name the name of the attribute
+     * @return the index of the attribute or -1 if it is not found
+     */
+    int indexOf(String name) {
+        for (int i = 0; i < count; i++) {
+            int pos = starts[i] + 1;
+            int n = ((bytes[pos] & 0xff) << 8) | (bytes[pos + 1] & 0xff);
+            if ((n == name.length()) && equalsName(pos + 2, name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean equalsName(int pos, String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (bytes[pos + i] != (byte) name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the attribute with the given name. The attribute is decoded
+     * with the first access.
+     *
+     * @param name the name of the attribute
+     * @return the attribute or null if it is not found
+     */
+    Attribute getAttribute(String name) {
+        int i = indexOf(name);
+        return (i < 0) ? null : getAttribute(i);
+    }
+
+    /**
+     * Gets the attribute with the given index. The attribute is decoded
+     * with the first access.
+     *
+     * @param i the index of the attribute
+     * @return the attribute
+     */
+    Attribute getAttribute(int i) {
+        if (decoded == null) {
+            decoded = new Attribute[count];
+        }
+        if (decoded[i] == null) {
+            decoded[i] = decode(i);
+        }
+        return decoded[i];
+    }
+
+    private Attribute decode(int i) {
+        return new Attribute(ByteBuffer.wrap(bytes, starts[i], ends[i] - starts[i]));
+    }
+
+    /**
+     * Looks if the first value of the given attribute is empty. The
+     * attribute is not decoded for it. The value of a collection is not
+     * empty because its members follow the (empty) 'begCollection' value.
+     *
+     * @param i the index of the attribute
+     * @return true if the value has a length of 0
+     */
+    boolean hasEmptyValue(int i) {
+        if (bytes[starts[i]] == ValueTags.BEG_COLLECTION.getValue()) {
+            return false;
+        }
+        int pos = starts[i] + 1;
+        pos += 2 + (((bytes[pos] & 0xff) << 8) | (bytes[pos + 1] & 0xff));
+        return (bytes[pos] == 0) && (bytes[pos + 1] == 0);
+    }
+
+    /**
+     * Passes the attribute-groups and the encoded attributes with all
+     * their values to the given check. No attribute is decoded for it.
+     * The members of a collection are not passed as values.
+     *
+     * @param check the state of the validation
+     */
+    void validateWith(ValidationSchema.Check check) {
+        int i = 0;
+        for (int g = 0; g < groupCount; g++) {
+            check.beginGroup(groupTags[g]);
+            for (; (i < count) && (groups[i] == g); i++) {
+                validateWith(check, i);
+            }
+        }
+    }
+
+    private void validateWith(ValidationSchema.Check check, int i) {
+        int n = 0;
+        int depth = 0;
+        for (int pos = starts[i]; pos < ends[i]; ) {
+            int tag = bytes[pos] & 0xff;
+            int nameLength = readShort(pos + 1);
+            if (pos == starts[i]) {
+                check.attribute(bytes, pos + 3, nameLength);
+            }
+            pos += 3 + nameLength;
+            int valueLength = readShort(pos);
+            if (depth == 0) {
+                check.value(n++, tag, valueLength);
+            }
+            if (tag == ValueTags.BEG_COLLECTION.getValue()) {
+                depth++;
+            } else if (tag == ValueTags.END_COLLECTION.getValue()) {
+                depth--;
+            }
+            pos += 2 + valueLength;
+        }
+    }
+
+    private int readShort(int pos) {
+        return ((bytes[pos] & 0xff) << 8) | (bytes[pos + 1] & 0xff);
+    }
+
+    /**
+     * Looks if one of the decoded attributes was modified. For it the
+     * modification count of the decoded attributes is checked so that
+     * no attribute must be encoded again.
+     *
+     * @return true if a value of a decoded attribute was set or added
+     */
+    boolean isModified() {
+        if (decoded == null) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            if ((decoded[i] != null) && (decoded[i].getModificationCount() != 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the original bytes of the attribute-groups (including the
+     * end-of-attributes-tag) to the given stream.
+     *
+     * @param ostream the stream to write to
+     * @throws IOException if the bytes cannot be written
+     */
+    void writeTo(OutputStream ostream) throws IOException {
+        ostream.write(bytes, 0, length);
+    }
+
+    /**
+     * Puts the original bytes of the attribute-groups (including the
+     * end-of-attributes-tag) into the given buffer.
+     *
+     * @param buffer buffer with at least {@link #getLength()} bytes
+     *               remaining
+     */
+    void encodeTo(ByteBuffer buffer) {
+        buffer.put(bytes, 0, length);
+    }
+
+    /**
+     * Decodes all attributes and builds up the attribute-groups. Attributes
+     * which were already decoded are reused so that modifications of them
+     * are not lost.
+     *
+     * @return the decoded attribute-groups
+     */
+    List<AttributeGroup> toAttributeGroups() {
+        List<AttributeGroup> values = new ArrayList<>(groupCount);
+        int i = 0;
+        for (int g = 0; g < groupCount; g++) {
+            List<Attribute> attributes = new ArrayList<>();
+            for (; (i < count) && (groups[i] == g); i++) {
+                attributes.add(getAttribute(i));
+            }
+            values.add(new AttributeGroup(groupTags[g], attributes));
+        }
+        return values;
+    }
+
+    /**
+     * Appends all attributes to the given buffer. Attributes which are not
+     * yet decoded are decoded only temporarily.
+     *
+     * @param buffer the buffer for the attributes
+     */
+    void appendTo(StringBuilder buffer) {
+        for (int i = 0; i < count; i++) {
+            Attribute attr = ((decoded == null) || (decoded[i] == null)) ? decode(i) : decoded[i];
+            buffer.append("|");
+            buffer.append(attr);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " with " + count + " attributes in " + groupCount + " groups";
+    }
+
+}
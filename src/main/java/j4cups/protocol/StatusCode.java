@@ -17,6 +17,8 @@
  */
 package j4cups.protocol;
 
+import java.util.Locale;
+
 /**
  * The status-code values range from 0x0000 to 0x7fff. The value ranges
  * for each status-code class are as follows (see RFC-8011
@@ -462,12 +464,52 @@ public enum StatusCode {
      * Client attempted to supply Document data with a second Send-Document
      * or Send-URI operation.
      */
-    SERVER_ERROR_MULTIPLE_DOCUMENT_JOBS_NOT_SUPPORTED (0x0509);
+    SERVER_ERROR_MULTIPLE_DOCUMENT_JOBS_NOT_SUPPORTED (0x0509),
+
+    // Placeholders for status-codes which are not listed here
+
+    /** Unknown (or vendor specific) "successful" status-code. */
+    SUCCESSFUL_UNKNOWN (0x00ff),
+
+    /** Unknown (or vendor specific) "informational" status-code. */
+    INFORMATIONAL_UNKNOWN (0x01ff),
+
+    /** Unknown (or vendor specific) "redirection" status-code. */
+    REDIRECTION_UNKNOWN (0x03ff),
+
+    /** Unknown (or vendor specific) "client-error" status-code. */
+    CLIENT_ERROR_UNKNOWN (0x04ff),
+
+    /** Unknown (or vendor specific) "server-error" status-code. */
+    SERVER_ERROR_UNKNOWN (0x05ff),
 
+    /** Status-codes 0x0200 to 0x02ff and 0x0600 to 0x7fff are reserved. */
+    RESERVED_FOR_FUTURE (0x7fff);
+
+    private static final StatusCode[] CODES = new StatusCode[0x0600];
     private final short code;
+    private final boolean successful;
+    private final String representation;
+
+    static {
+        for (StatusCode statusCode : values()) {
+            if ((statusCode.code < CODES.length) && (CODES[statusCode.code] == null)) {
+                CODES[statusCode.code] = statusCode;
+            }
+        }
+        StatusCode[] unknown = { SUCCESSFUL_UNKNOWN, INFORMATIONAL_UNKNOWN, RESERVED_FOR_FUTURE,
+                REDIRECTION_UNKNOWN, CLIENT_ERROR_UNKNOWN, SERVER_ERROR_UNKNOWN };
+        for (int i = 0; i < CODES.length; i++) {
+            if (CODES[i] == null) {
+                CODES[i] = unknown[i >> 8];
+            }
+        }
+    }
 
     StatusCode(int value) {
         this.code = (short) value;
+        this.successful = (0x0000 <= value) && (value <= 0x00ff);
+        this.representation = name().toLowerCase(Locale.ROOT).replace('_', '-');
     }
 
     /**
@@ -487,7 +529,29 @@ public enum StatusCode {
      * @since 0.5
      */
     public boolean isSuccessful() {
-        return toString().startsWith("successful");
+        return successful;
+    }
+
+    /**
+     * Returns true for the status-codes of the class "client-error"
+     * (0x0400 to 0x04ff).
+     *
+     * @return true for the CLIENT_ERROR_xxx constants, otherwise false
+     * @since 0.6.2
+     */
+    public boolean isClientError() {
+        return (code & 0xff00) == 0x0400;
+    }
+
+    /**
+     * Returns true for the status-codes of the class "server-error"
+     * (0x0500 to 0x05ff).
+     *
+     * @return true for the SERVER_ERROR_xxx constants, otherwise false
+     * @since 0.6.2
+     */
+    public boolean isServerError() {
+        return (code & 0xff00) == 0x0500;
     }
 
     /**
@@ -498,22 +562,23 @@ public enum StatusCode {
      */
     @Override
     public String toString() {
-        return super.toString().toLowerCase().replaceAll("_", "-");
+        return representation;
     }
 
     /**
-     * Allows you to map a value to the corresponding statuscode
+     * Allows you to map a value to the corresponding statuscode. Unknown
+     * status-codes are mapped to the placeholder of its class (e.g.
+     * {@link #CLIENT_ERROR_UNKNOWN} for 0x04ff) or to
+     * {@link #RESERVED_FOR_FUTURE}.
      *
      * @param id e.g. 0x0000
      * @return status code, e.g. SUCCESSFUL_OK
      */
     public static StatusCode of(int id) {
-        for (StatusCode op : StatusCode.values()) {
-            if (id == op.getCode()) {
-                return op;
-            }
+        if ((0 <= id) && (id < CODES.length)) {
+            return CODES[id];
         }
-        throw new IllegalArgumentException("invalid id: " + id);
+        return RESERVED_FOR_FUTURE;
     }
 
 }
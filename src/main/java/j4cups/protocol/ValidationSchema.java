@@ -0,0 +1,507 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol;
+
+import j4cups.protocol.attr.Attribute;
+import j4cups.protocol.tags.DelimiterTags;
+import j4cups.protocol.tags.ValueTags;
+
+import javax.validation.ValidationException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static j4cups.protocol.tags.DelimiterTags.OPERATION_ATTRIBUTES_TAG;
+
+/**
+ * The class ValidationSchema describes which attributes a request of an
+ * {@link IppOperations} must have (or must not have) and which value-tags
+ * are allowed for them (see RFC-8011, section 4). The schema is compiled
+ * into bitsets: each attribute name of the schema gets a bit so that a
+ * request is checked in one pass over its attributes.
+ * <p>
+ * Independent of the operation the values are checked against the length
+ * limits of their syntax (RFC-8011, section 5.1), e.g. 63 octets for a
+ * 'charset' or exactly 4 octets for an 'integer'. Also an attribute-group
+ * must not occur twice.
+ * </p>
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public final class ValidationSchema {
+
+    /** Schema for a message without special requirements. */
+    public static final ValidationSchema DEFAULT = new Builder("default").build();
+
+    /** Schema which allows also empty values (e.g. for CUPS operations). */
+    public static final ValidationSchema LENIENT = new Builder("lenient").allowEmptyValues().build();
+
+    private static final int[] MAX_LENGTHS = new int[0x100];
+    private static final int[] EXACT_LENGTHS = new int[0x100];
+    private static final Map<IppOperations, ValidationSchema> SCHEMAS = new EnumMap<>(IppOperations.class);
+
+    static {
+        Arrays.fill(MAX_LENGTHS, 0xffff);
+        setMaxLength(ValueTags.TEXT_WITHOUT_LANGUAGE, 1023);
+        setMaxLength(ValueTags.TEXT_WITH_LANGUAGE, 4 + 63 + 1023);
+        setMaxLength(ValueTags.NAME_WITHOUT_LANGUAGE, 255);
+        setMaxLength(ValueTags.NAME_WITH_LANGUAGE, 4 + 63 + 255);
+        setMaxLength(ValueTags.KEYWORD, 255);
+        setMaxLength(ValueTags.URI, 1023);
+        setMaxLength(ValueTags.URI_SCHEME, 63);
+        setMaxLength(ValueTags.CHARSET, 63);
+        setMaxLength(ValueTags.NATURAL_LANGUAGE, 63);
+        setMaxLength(ValueTags.MIME_MEDIA_TYPE, 255);
+        setMaxLength(ValueTags.UNSPECIFIED_OCTET_STRING, 1023);
+        EXACT_LENGTHS[ValueTags.INTEGER.getValue()] = 4;
+        EXACT_LENGTHS[ValueTags.ENUM.getValue()] = 4;
+        EXACT_LENGTHS[ValueTags.BOOLEAN.getValue()] = 1;
+        EXACT_LENGTHS[ValueTags.DATE_TIME.getValue()] = 11;
+        EXACT_LENGTHS[ValueTags.RESOLUTION.getValue()] = 9;
+        EXACT_LENGTHS[ValueTags.RANGE_OF_INTEGER.getValue()] = 8;
+        for (IppOperations op : new IppOperations[] { IppOperations.PRINT_JOB, IppOperations.PRINT_URI,
+                IppOperations.VALIDATE_JOB, IppOperations.CREATE_JOB }) {
+            define(op, printerOperation(op).forbid(OPERATION_ATTRIBUTES_TAG, "job-id", "job-uri"));
+        }
+        for (IppOperations op : new IppOperations[] { IppOperations.GET_JOBS, IppOperations.GET_PRINTER_ATTRIBUTES,
+                IppOperations.PAUSE_PRINTER, IppOperations.RESUME_PRINTER, IppOperations.PURGE_JOBS }) {
+            define(op, printerOperation(op));
+        }
+        for (IppOperations op : new IppOperations[] { IppOperations.SEND_DOCUMENT, IppOperations.SEND_URI,
+                IppOperations.CANCEL_JOB, IppOperations.GET_JOB_ATTRIBUTES, IppOperations.HOLD_JOB,
+                IppOperations.RELEASE_JOB, IppOperations.RESTART_JOB, IppOperations.SET_JOB_ATTRIBUTES }) {
+            define(op, jobOperation(op));
+        }
+    }
+
+    private final String name;
+    private final boolean emptyValuesAllowed;
+    private final Map<String, Integer> bits;
+    private final byte[][] encodedNames;
+    private final long[] required;
+    private final long[] forbidden;
+    private final long[] alternatives;
+    private final long[][] allowedTags;
+
+    private ValidationSchema(Builder builder) {
+        this.name = builder.name;
+        this.emptyValuesAllowed = builder.emptyValuesAllowed;
+        this.bits = new HashMap<>(builder.bits);
+        this.encodedNames = new byte[builder.names.size()][];
+        for (int i = 0; i < encodedNames.length; i++) {
+            encodedNames[i] = builder.names.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+        this.required = builder.required.clone();
+        this.forbidden = builder.forbidden.clone();
+        this.alternatives = toArray(builder.alternatives);
+        this.allowedTags = builder.allowedTags.clone();
+    }
+
+    private static long[] toArray(List<Long> values) {
+        long[] array = new long[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    private static void setMaxLength(ValueTags tag, int max) {
+        MAX_LENGTHS[tag.getValue()] = max;
+    }
+
+    private static Builder operation(IppOperations op) {
+        return new Builder(op.toString())
+                .require(OPERATION_ATTRIBUTES_TAG, "attributes-charset", "attributes-natural-language")
+                .allow("attributes-charset", ValueTags.CHARSET)
+                .allow("attributes-natural-language", ValueTags.NATURAL_LANGUAGE)
+                .allow("printer-uri", ValueTags.URI)
+                .allow("job-uri", ValueTags.URI)
+                .allow("job-id", ValueTags.INTEGER)
+                .allow("requesting-user-name", ValueTags.NAME_WITHOUT_LANGUAGE, ValueTags.NAME_WITH_LANGUAGE)
+                .allow("job-name", ValueTags.NAME_WITHOUT_LANGUAGE, ValueTags.NAME_WITH_LANGUAGE)
+                .allow("document-name", ValueTags.NAME_WITHOUT_LANGUAGE, ValueTags.NAME_WITH_LANGUAGE)
+                .allow("document-format", ValueTags.MIME_MEDIA_TYPE)
+                .allow("ipp-attribute-fidelity", ValueTags.BOOLEAN)
+                .allow("last-document", ValueTags.BOOLEAN)
+                .allow("limit", ValueTags.INTEGER)
+                .allow("which-jobs", ValueTags.KEYWORD)
+                .allow("my-jobs", ValueTags.BOOLEAN)
+                .allow("requested-attributes", ValueTags.KEYWORD);
+    }
+
+    /**
+     * The target of a printer operation is given by the 'printer-uri'
+     * (RFC-8011, section 4.1.5).
+     */
+    private static Builder printerOperation(IppOperations op) {
+        return operation(op).require(OPERATION_ATTRIBUTES_TAG, "printer-uri");
+    }
+
+    /**
+     * The target of a job operation is given by the 'printer-uri' together
+     * with the 'job-id' or by the 'job-uri' (RFC-8011, section 4.1.5).
+     * Because CUPS sends the 'job-id' sometimes in the job-attributes-tag
+     * it is accepted in any attribute-group.
+     */
+    private static Builder jobOperation(IppOperations op) {
+        return operation(op).requireAnyOf(new String[] { "printer-uri", "job-id" }, new String[] { "job-uri" });
+    }
+
+    private static void define(IppOperations op, Builder builder) {
+        SCHEMAS.put(op, builder.build());
+    }
+
+    /**
+     * Gets the schema for the given operation. For an operation without
+     * special requirements {@link #DEFAULT} is returned, for a vendor
+     * operation (like CUPS-Get-Default) {@link #LENIENT}.
+     *
+     * @param op e.g. {@link IppOperations#PRINT_JOB}
+     * @return the compiled schema
+     */
+    public static ValidationSchema of(IppOperations op) {
+        ValidationSchema schema = SCHEMAS.get(op);
+        if (schema == null) {
+            schema = (op.getCode() < 0x0400) ? DEFAULT : LENIENT;
+        }
+        return schema;
+    }
+
+    /**
+     * Validates the given request or response. If it is not valid a
+     * {@link ValidationException} will be thrown.
+     *
+     * @param ipp the request or response
+     */
+    public void validate(AbstractIpp ipp) {
+        Check check = new Check(ipp);
+        ipp.validateWith(check);
+        check.finish();
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " for " + name;
+    }
+
+
+
+    /**
+     * A Check is the state of one pass over the attributes of a request.
+     * For each attribute-group the bits of the attributes seen so far are
+     * recorded.
+     */
+    final class Check {
+
+        private final AbstractIpp ipp;
+        private final long[] seen = new long[0x10];
+        private int groupsSeen;
+        private int group;
+        private long seenAll;
+        private int bit;
+        private String attrName;
+        private byte[] nameBytes;
+        private int namePos;
+        private int nameLength;
+
+        private Check(AbstractIpp ipp) {
+            this.ipp = ipp;
+        }
+
+        /**
+         * Starts a new attribute-group.
+         *
+         * @param tag the begin-attribute-group-tag
+         */
+        void beginGroup(DelimiterTags tag) {
+            group = tag.getValue();
+            if ((groupsSeen & (1 << group)) != 0) {
+                throw new ValidationException("duplicate '" + tag + "' in " + ipp.toShortString());
+            }
+            groupsSeen |= 1 << group;
+        }
+
+        /**
+         * Checks the given attribute with all its values.
+         *
+         * @param attr the attribute
+         */
+        void attribute(Attribute attr) {
+            Integer n = bits.get(attr.getName());
+            beginAttribute((n == null) ? -1 : n);
+            attrName = attr.getName();
+            for (int i = 0; i < attr.getValueCount(); i++) {
+                value(i, attr.getValueTag(i).getValue(), attr.getValueLength(i));
+            }
+        }
+
+        /**
+         * Starts an encoded attribute. The name is compared with the
+         * encoded names of the schema so that no string is created for it.
+         *
+         * @param bytes  the array with the encoded name
+         * @param pos    the position of the name
+         * @param length the length of the name
+         */
+        void attribute(byte[] bytes, int pos, int length) {
+            beginAttribute(indexOf(bytes, pos, length));
+            attrName = null;
+            nameBytes = bytes;
+            namePos = pos;
+            nameLength = length;
+        }
+
+        private void beginAttribute(int n) {
+            bit = n;
+            if (n >= 0) {
+                long mask = 1L << n;
+                if ((forbidden[group] & mask) != 0) {
+                    throw new ValidationException(
+                            "'" + nameOf(n) + "' not allowed in " + ipp.toShortString());
+                }
+                seen[group] |= mask;
+                seenAll |= mask;
+            }
+        }
+
+        /**
+         * Checks the i-th value of the current attribute.
+         *
+         * @param i      the index of the value
+         * @param tag    the value-tag
+         * @param length the length of the value
+         */
+        void value(int i, int tag, int length) {
+            tag &= 0xff;
+            if (length == 0) {
+                if (!emptyValuesAllowed && (i == 0) && (tag != ValueTags.BEG_COLLECTION.getValue())) {
+                    throw new ValidationException("empty value: " + getAttrName() + " in " + ipp.toShortString());
+                }
+            } else if ((length > MAX_LENGTHS[tag])
+                    || ((EXACT_LENGTHS[tag] > 0) && (length != EXACT_LENGTHS[tag]))) {
+                throw new ValidationException("invalid length " + length + " of " + ValueTags.of(tag) + " value: "
+                        + getAttrName() + " in " + ipp.toShortString());
+            }
+            if ((bit >= 0) && (allowedTags[bit] != null) && !isAllowed(allowedTags[bit], tag)) {
+                throw new ValidationException(
+                        ValueTags.of(tag) + " not allowed for " + getAttrName() + " in " + ipp.toShortString());
+            }
+        }
+
+        private String getAttrName() {
+            if (attrName == null) {
+                attrName = new String(nameBytes, namePos, nameLength, StandardCharsets.UTF_8);
+            }
+            return attrName;
+        }
+
+        private void finish() {
+            for (int g = 0; g < required.length; g++) {
+                long missing = required[g] & ~seen[g];
+                if (missing != 0) {
+                    throw new ValidationException("'" + nameOf(Long.numberOfTrailingZeros(missing)) + "' missing in "
+                            + ipp.toShortString());
+                }
+            }
+            if (alternatives.length > 0) {
+                for (long alternative : alternatives) {
+                    if ((alternative & ~seenAll) == 0) {
+                        return;
+                    }
+                }
+                throw new ValidationException("no target (" + toNames(alternatives) + ") given in "
+                        + ipp.toShortString());
+            }
+        }
+
+    }
+
+    private int indexOf(byte[] bytes, int pos, int length) {
+        for (int n = 0; n < encodedNames.length; n++) {
+            byte[] encoded = encodedNames[n];
+            if ((encoded.length == length) && equals(encoded, bytes, pos)) {
+                return n;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean equals(byte[] encoded, byte[] bytes, int pos) {
+        for (int i = 0; i < encoded.length; i++) {
+            if (encoded[i] != bytes[pos + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String nameOf(int n) {
+        return new String(encodedNames[n], StandardCharsets.UTF_8);
+    }
+
+    private static boolean isAllowed(long[] tags, int tag) {
+        return (tags[tag >> 6] & (1L << (tag & 0x3f))) != 0;
+    }
+
+    private String toNames(long[] masks) {
+        StringBuilder buffer = new StringBuilder();
+        for (long mask : masks) {
+            if (buffer.length() > 0) {
+                buffer.append(" or ");
+            }
+            for (long m = mask; m != 0; m &= m - 1) {
+                buffer.append('\'').append(nameOf(Long.numberOfTrailingZeros(m))).append('\'');
+                if ((m & (m - 1)) != 0) {
+                    buffer.append(" & ");
+                }
+            }
+        }
+        return buffer.toString();
+    }
+
+
+
+    /**
+     * The Builder collects the declarations of a schema. Each attribute
+     * name gets the next free bit. Because the bits are stored in a long
+     * a schema can describe up to 64 attributes.
+     */
+    static final class Builder {
+
+        private final String name;
+        private final Map<String, Integer> bits = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private final long[] required = new long[0x10];
+        private final long[] forbidden = new long[0x10];
+        private final List<Long> alternatives = new ArrayList<>();
+        private long[][] allowedTags = new long[0][];
+        private boolean emptyValuesAllowed;
+
+        Builder(String name) {
+            this.name = name;
+        }
+
+        private int bitOf(String attrName) {
+            Integer n = bits.get(attrName);
+            if (n == null) {
+                if (names.size() == Long.SIZE) {
+                    throw new IllegalStateException("more than " + Long.SIZE + " attributes in schema " + name);
+                }
+                n = names.size();
+                names.add(attrName);
+                bits.put(attrName, n);
+                allowedTags = Arrays.copyOf(allowedTags, names.size());
+            }
+            return n;
+        }
+
+        private long maskOf(String... attrNames) {
+            long mask = 0;
+            for (String attrName : attrNames) {
+                mask |= 1L << bitOf(attrName);
+            }
+            return mask;
+        }
+
+        /**
+         * The given attributes must be part of the given attribute-group.
+         *
+         * @param group     e.g. {@link DelimiterTags#OPERATION_ATTRIBUTES_TAG}
+         * @param attrNames e.g. "attributes-charset"
+         * @return this builder
+         */
+        Builder require(DelimiterTags group, String... attrNames) {
+            required[group.getValue()] |= maskOf(attrNames);
+            return this;
+        }
+
+        /**
+         * The given attributes must not be part of the given
+         * attribute-group.
+         *
+         * @param group     e.g. {@link DelimiterTags#JOB_ATTRIBUTES_TAG}
+         * @param attrNames e.g. "job-uri"
+         * @return this builder
+         */
+        Builder forbid(DelimiterTags group, String... attrNames) {
+            forbidden[group.getValue()] |= maskOf(attrNames);
+            return this;
+        }
+
+        /**
+         * All attributes of at least one of the given alternatives must be
+         * given (in any attribute-group).
+         *
+         * @param alternatives e.g. {"printer-uri", "job-id"} or {"job-uri"}
+         * @return this builder
+         */
+        Builder requireAnyOf(String[]... alternatives) {
+            for (String[] attrNames : alternatives) {
+                this.alternatives.add(maskOf(attrNames));
+            }
+            return this;
+        }
+
+        /**
+         * Restricts the values of the given attribute to the given
+         * value-tags.
+         *
+         * @param attrName e.g. "printer-uri"
+         * @param tags     e.g. {@link ValueTags#URI}
+         * @return this builder
+         */
+        Builder allow(String attrName, ValueTags... tags) {
+            int n = bitOf(attrName);
+            if (allowedTags[n] == null) {
+                allowedTags[n] = new long[4];
+            }
+            for (ValueTags tag : tags) {
+                int value = tag.getValue() & 0xff;
+                allowedTags[n][value >> 6] |= 1L << (value & 0x3f);
+            }
+            return this;
+        }
+
+        /**
+         * Empty values are allowed. This is the case for some CUPS
+         * operations (e.g. an empty 'requesting-user-name').
+         *
+         * @return this builder
+         */
+        Builder allowEmptyValues() {
+            this.emptyValuesAllowed = true;
+            return this;
+        }
+
+        /**
+         * Compiles the declarations into a schema.
+         *
+         * @return the compiled schema
+         */
+        ValidationSchema build() {
+            return new ValidationSchema(this);
+        }
+
+    }
+
+}
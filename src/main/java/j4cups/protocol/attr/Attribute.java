@@ -21,15 +21,13 @@ import j4cups.protocol.Binary;
 import j4cups.protocol.tags.ValueTags;
 
 import javax.xml.bind.DatatypeConverter;
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.math.BigInteger;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
 import java.util.*;
 
 /**
@@ -51,43 +49,154 @@ import java.util.*;
  * edge'), it is encoded with an "attribute-with-one-value" field
  * followed by n-1 "additional-value" fields.
  * </p>
+ * <p>
+ * Internally the name is stored only once. The values are stored in a
+ * value table: the value-tags in one array and the values one after
+ * another in one byte array with their offsets. So a multi-value attribute
+ * needs no object per value. An {@link AdditionalValue} is only a view
+ * on one entry of this table.
+ * </p>
+ * <p>
+ * An attribute of a frozen attribute-group (see
+ * {@link AttributeGroup#freeze()}) is read-only: a modification throws an
+ * {@link UnsupportedOperationException}. Use
+ * {@link AttributeGroup#getMutableAttribute(String)} to get a copy which
+ * can be modified (copy-on-write).
+ * </p>
  *
  * @author Oli B.
  * @since 0.0.2 (11.02.2018)
  */
 public final class Attribute implements Binary {
-    
-    private final List<AdditionalValue> additionalValues = new ArrayList<>();
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final String name;
+    private final byte[] nameBytes;
+    private byte[] tags;
+    private int[] offsets;
+    private byte[] data;
+    private CollectionValue[] collections;
+    private int count;
+    private int modificationCount;
+    private boolean frozen;
 
     /**
      * Instantiates a new (single valued or multi-valued) attribute from the
-     * given bytes. The given {@link ByteBuffer} must be positioned at the 
+     * given bytes. The given {@link ByteBuffer} must be positioned at the
      * beginning of the attribute.
      *
      * @param bytes ByteBuffer positioned at the beginning
      */
     public Attribute(ByteBuffer bytes) {
-        this(readAdditionalValues(bytes));
+        this(bytes, true);
+    }
+
+    private Attribute(ByteBuffer bytes, boolean withAdditionalValues) {
+        byte tag = bytes.get();
+        int nameLength = bytes.getShort() & 0xffff;
+        int index = NameDictionary.indexOf(bytes, bytes.position(), nameLength);
+        if (index < 0) {
+            this.nameBytes = new byte[nameLength];
+            bytes.get(nameBytes);
+            this.name = new String(nameBytes, StandardCharsets.UTF_8);
+        } else {
+            this.nameBytes = NameDictionary.getBytes(index);
+            this.name = NameDictionary.getName(index);
+            bytes.position(bytes.position() + nameLength);
+        }
+        this.tags = new byte[1];
+        this.offsets = new int[2];
+        this.data = EMPTY;
+        readValue(tag, bytes);
+        while (withAdditionalValues && hasAdditionalValue(bytes)) {
+            tag = bytes.get();
+            bytes.getShort();
+            readValue(tag, bytes);
+        }
+    }
+
+    private Attribute(String name, int capacity) {
+        this.name = name;
+        this.nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        this.tags = new byte[capacity];
+        this.offsets = new int[capacity + 1];
+        this.data = EMPTY;
     }
-    
-    private Attribute(AttributeWithOneValue value) {
-        this(Collections.singletonList(new AdditionalValue(value)));
+
+    private Attribute(Attribute other) {
+        this.name = other.name;
+        this.nameBytes = other.nameBytes;
+        this.tags = Arrays.copyOf(other.tags, other.count);
+        this.offsets = Arrays.copyOf(other.offsets, other.count + 1);
+        int size = other.offsets[other.count];
+        this.data = (other.data.length == size) ? other.data : Arrays.copyOf(other.data, size);
+        this.collections = (other.collections == null) ? null : Arrays.copyOf(other.collections, other.count);
+        this.count = other.count;
     }
 
-    private Attribute(List<AdditionalValue> additionalValues) {
-        this.additionalValues.addAll(additionalValues);
+    private static boolean hasAdditionalValue(ByteBuffer buffer) {
+        int pos = buffer.position();
+        return (buffer.remaining() > 4) && ValueTags.isValid(buffer.get(pos)) && (buffer.getShort(pos + 1) == 0);
     }
 
-    private static List<AdditionalValue> readAdditionalValues(ByteBuffer buffer) {
-        List<AdditionalValue> values = new ArrayList<>();
-        while (buffer.remaining() > 4) {
-            values.add(new AdditionalValue(buffer));
-            int pos = buffer.position();
-            if ((buffer.remaining() <= 4) || (!ValueTags.isValid(buffer.get(pos)) || (buffer.getShort(pos+1) != 0))) {
-                break;
-            }
+    private void readValue(byte tag, ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xffff;
+        int pos = reserve(tag, length);
+        buffer.get(data, pos, length);
+        if (tag == ValueTags.BEG_COLLECTION.getValue()) {
+            setCollection(count - 1, CollectionValue.read(buffer));
         }
-        return values;
+    }
+
+    /**
+     * Reserves a new value with the given length in the value table.
+     *
+     * @return the position of the new value in the data array
+     */
+    private int reserve(byte tag, int length) {
+        if (count == tags.length) {
+            tags = Arrays.copyOf(tags, count * 2 + 1);
+            offsets = Arrays.copyOf(offsets, count * 2 + 2);
+        }
+        int pos = offsets[count];
+        if (pos + length > data.length) {
+            data = Arrays.copyOf(data, Math.max(pos + length, data.length * 2));
+        }
+        tags[count] = tag;
+        count++;
+        offsets[count] = pos + length;
+        return pos;
+    }
+
+    /**
+     * Appends the given value. A single value is not copied but stored as
+     * it is. So the caller must not use the given array afterwards.
+     */
+    private void append(ValueTags tag, byte[] value) {
+        if ((count == 0) && (data == EMPTY)) {
+            data = value;
+            tags[0] = tag.getValue();
+            offsets[1] = value.length;
+            count = 1;
+        } else {
+            int pos = reserve(tag.getValue(), value.length);
+            System.arraycopy(value, 0, data, pos, value.length);
+        }
+    }
+
+    private void append(CollectionValue collection) {
+        reserve(ValueTags.BEG_COLLECTION.getValue(), 0);
+        setCollection(count - 1, collection);
+    }
+
+    private void setCollection(int i, CollectionValue collection) {
+        if (collections == null) {
+            collections = new CollectionValue[tags.length];
+        } else if (collections.length < tags.length) {
+            collections = Arrays.copyOf(collections, tags.length);
+        }
+        collections[i] = collection;
     }
 
     /**
@@ -110,11 +219,19 @@ public final class Attribute implements Binary {
      * @return the attribute
      */
     public static Attribute of(String name, int min, int max) {
-        byte[] data = new byte[8];
-        ByteBuffer buf = ByteBuffer.wrap(data);
-        buf.putInt(min);
-        buf.putInt(max);
-        return of(ValueTags.RANGE_OF_INTEGER, name, data);
+        return of(ValueTags.RANGE_OF_INTEGER, name, RangeOfInteger.of(min, max).toByteArray());
+    }
+
+    /**
+     * Creates a singe-value attribute for date-time values.
+     *
+     * @param name e.g. "printer-current-time"
+     * @param value the date and time
+     * @return the attribute
+     * @since 0.6.2
+     */
+    public static Attribute of(String name, OffsetDateTime value) {
+        return of(ValueTags.DATE_TIME, name, ValueCodecs.toByteArray(value));
     }
 
     /**
@@ -172,9 +289,7 @@ public final class Attribute implements Binary {
      * @return the attribute
      */
     public static Attribute of(ValueTags tag, String name, int value) {
-        byte[] bytes = new byte[4];
-        ByteBuffer.wrap(bytes).putInt(value);
-        return of(tag, name, bytes);
+        return of(tag, name, ValueCodecs.toByteArray(value));
     }
 
     /**
@@ -186,12 +301,14 @@ public final class Attribute implements Binary {
      * @return the attribute
      */
     public static Attribute of(ValueTags tag, String name, byte[] value) {
-        AttributeWithOneValue attr = new AttributeWithOneValue(tag, name, value);
-        return new Attribute(attr);
+        Attribute attr = new Attribute(name, 1);
+        attr.append(tag, value.clone());
+        return attr;
     }
 
     /**
-     * Creates a multi-value attribute for the given value-tag.
+     * Creates a multi-value attribute for the given value-tag. The values
+     * are stored directly in the value table of the attribute.
      *
      * @param tag              the value-tag
      * @param name             the name of the attribute
@@ -199,9 +316,12 @@ public final class Attribute implements Binary {
      * @return the attribute
      */
     public static Attribute of(ValueTags tag, String name, byte[]... additionalValues) {
-        Attribute attr = new Attribute(new AttributeWithOneValue(tag, name, new byte[0]));
+        Attribute attr = new Attribute(name, Math.max(1, additionalValues.length));
         for (byte[] bytes : additionalValues) {
-            attr.add(Attribute.of(tag, "", bytes));
+            attr.append(tag, bytes.clone());
+        }
+        if (attr.count == 0) {
+            attr.append(tag, EMPTY);
         }
         return attr;
     }
@@ -215,9 +335,12 @@ public final class Attribute implements Binary {
      * @return the attribute
      */
     public static Attribute of(ValueTags tag, String name, String... additionalValues) {
-        Attribute attr = new Attribute(new AttributeWithOneValue(tag, name, new byte[0]));
+        Attribute attr = new Attribute(name, Math.max(1, additionalValues.length));
         for (String s : additionalValues) {
-            attr.add(Attribute.of(tag, "", s.getBytes(StandardCharsets.UTF_8)));
+            attr.append(tag, s.getBytes(StandardCharsets.UTF_8));
+        }
+        if (attr.count == 0) {
+            attr.append(tag, EMPTY);
         }
         return attr;
     }
@@ -231,7 +354,7 @@ public final class Attribute implements Binary {
      * @return the attribute
      */
     public static Attribute of(ValueTags tag, String name, String value) {
-        return new Attribute(new AttributeWithOneValue(tag, name, value.getBytes(StandardCharsets.UTF_8)));
+        return of(tag, name, value.getBytes(StandardCharsets.UTF_8));
     }
 
     /**
@@ -242,13 +365,78 @@ public final class Attribute implements Binary {
      * @return the attribute
      */
     public static Attribute of(String name, PrinterResolution... resolutions) {
-        Attribute attr = new Attribute(new AttributeWithOneValue(ValueTags.RESOLUTION, name, new byte[0]));
+        Attribute attr = new Attribute(name, Math.max(1, resolutions.length));
         for (PrinterResolution pr : resolutions) {
-            attr.add(Attribute.of(ValueTags.RESOLUTION, "", pr.toByteArray()));
+            attr.append(ValueTags.RESOLUTION, pr.toByteArray());
+        }
+        if (attr.count == 0) {
+            attr.append(ValueTags.RESOLUTION, EMPTY);
+        }
+        return attr;
+    }
+
+    /**
+     * Creates a (multi-value) attribute with the given collections.
+     *
+     * @param name   e.g. "media-col"
+     * @param values one or more collections
+     * @return the attribute
+     * @since 0.6.2
+     */
+    public static Attribute of(String name, CollectionValue... values) {
+        Attribute attr = new Attribute(name, values.length);
+        for (CollectionValue value : values) {
+            attr.append(value);
+        }
+        return attr;
+    }
+
+    /**
+     * Creates an attribute for the given key. The value-tag is the default
+     * value-tag of the registered syntax of the attribute.
+     *
+     * @param <T>    the type of the values
+     * @param key    e.g. {@link AttributeKey#JOB_STATE}
+     * @param values the values
+     * @return the attribute
+     * @since 0.6.2
+     */
+    @SafeVarargs
+    public static <T> Attribute of(AttributeKey<T> key, T... values) {
+        Attribute attr = new Attribute(key.getName(), Math.max(1, values.length));
+        for (T value : values) {
+            attr.append(key.getValueTag(), key.getCodec().encode(value));
+        }
+        if (attr.count == 0) {
+            attr.append(key.getValueTag(), EMPTY);
         }
         return attr;
     }
 
+    /**
+     * Reads a member attribute of a collection. The values of a member
+     * attribute are encoded without a name and are followed by the next
+     * 'memberAttrName' or by the 'endCollection' value.
+     *
+     * @param name   the name of the member attribute
+     * @param buffer the buffer positioned at the first value
+     * @return the member attribute
+     */
+    static Attribute readMember(String name, ByteBuffer buffer) {
+        Attribute attr = new Attribute(name, 1);
+        do {
+            byte tag = buffer.get();
+            int nameLength = buffer.getShort() & 0xffff;
+            buffer.position(buffer.position() + nameLength);
+            attr.readValue(tag, buffer);
+        } while (!isEndOfMember(buffer.get(buffer.position())));
+        return attr;
+    }
+
+    private static boolean isEndOfMember(byte tag) {
+        return (tag == ValueTags.MEMBER_ATTR_NAME.getValue()) || (tag == ValueTags.END_COLLECTION.getValue());
+    }
+
     /**
      * The "value-tag" field specifies the attribute syntax, e.g. 0x44
      * for the attribute syntax 'keyword'.
@@ -256,7 +444,7 @@ public final class Attribute implements Binary {
      * @return e.g. {@link ValueTags#KEYWORD}
      */
     public ValueTags getValueTag() {
-        return additionalValues.get(0).getValueTag();
+        return ValueTags.of(tags[0]);
     }
 
     /**
@@ -265,36 +453,100 @@ public final class Attribute implements Binary {
      * @return e.g. "slides-supported"
      */
     public String getName() {
-        return additionalValues.get(0).getName();
+        return name;
     }
 
     /**
-     * Sets the value of the attribute.
-     * 
+     * Sets the value of the attribute. The given array is copied so that
+     * a later change of it does not change the attribute.
+     *
      * @param value value as byte array
      */
     public void setValue(byte[] value) {
-        this.additionalValues.get(0).setValue(value);
+        setValue(0, value);
+    }
+
+    private void setValue(int i, byte[] value) {
+        checkModifiable();
+        modificationCount++;
+        if (count == 1) {
+            data = value.clone();
+            offsets[1] = value.length;
+            return;
+        }
+        int start = offsets[i];
+        int end = offsets[i + 1];
+        int size = offsets[count];
+        int delta = value.length - (end - start);
+        byte[] bytes = new byte[size + delta];
+        System.arraycopy(data, 0, bytes, 0, start);
+        System.arraycopy(value, 0, bytes, start, value.length);
+        System.arraycopy(data, end, bytes, end + delta, size - end);
+        for (int j = i + 1; j <= count; j++) {
+            offsets[j] += delta;
+        }
+        data = bytes;
+    }
+
+    /**
+     * The modification count is incremented each time a value is set or
+     * added. It can be used to find out if the attribute has changed
+     * since it was decoded (e.g. to forward it byte by byte).
+     *
+     * @return number of modifications
+     * @since 0.6.2
+     */
+    public int getModificationCount() {
+        return modificationCount;
     }
 
     /**
      * The "value" field contains the value of the attribute.
      * If the attribute is a multi-value attribute this returns only the
-     * fist value.
+     * fist value. The returned array is a copy of the value.
      *
      * @return e.g. the textual value 'one-sided' as bytes
      */
     public byte[] getValue() {
-        return additionalValues.get(0).getValue();
+        return getValue(0);
+    }
+
+    private byte[] getValue(int i) {
+        return Arrays.copyOfRange(data, offsets[i], offsets[i + 1]);
+    }
+
+    private int getIntValue(int i) {
+        return ValueCodecs.toInt(data, offsets[i], offsets[i + 1] - offsets[i]);
+    }
+
+    private CollectionValue getCollectionValue(int i) {
+        if ((collections == null) || (collections[i] == null)) {
+            throw new IllegalStateException("no collection value stored in " + getName());
+        }
+        return collections[i];
     }
 
     /**
-     * Gets the different values for a multi-value attribute.
+     * Gets the different values for a multi-value attribute. The returned
+     * values are only views on the values of this attribute.
      *
      * @return the values
      */
     public List<AdditionalValue> getAdditionalValues() {
-        return additionalValues;
+        return new AbstractList<AdditionalValue>() {
+            @Override
+            public AdditionalValue get(int index) {
+                if ((index < 0) || (index >= count)) {
+                    throw new IndexOutOfBoundsException("index " + index + " not in [0, " + count + ")");
+                }
+                return new AdditionalValue(Attribute.this, index);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
     }
 
     /**
@@ -303,7 +555,7 @@ public final class Attribute implements Binary {
      * @return a 32-bit number
      */
     public int getIntValue() {
-        return new BigInteger(getValue()).intValue();
+        return getIntValue(0);
     }
 
     /**
@@ -313,12 +565,99 @@ public final class Attribute implements Binary {
      * @return true (0x01) or false (0x00)
      */
     public boolean getBooleanValue() {
-        byte booleanByte = getValue()[0];
-        switch (booleanByte) {
-            case 0x00:  return false;
-            case 0x01:  return true;
-            default:    throw new IllegalStateException("invalid boolean value stored: 0x" + Integer.toHexString(booleanByte));
+        return ValueCodecs.toBoolean(getValue());
+    }
+
+    /**
+     * The "value" field contains the value of a rangeOfInteger attribute.
+     *
+     * @return e.g. 1-9999
+     * @since 0.6.2
+     */
+    public RangeOfInteger getRangeOfIntegerValue() {
+        return RangeOfInteger.of(getValue());
+    }
+
+    /**
+     * The "value" field contains the value of a resolution attribute.
+     *
+     * @return e.g. 600x600 (DOTS_PER_INCH)
+     * @since 0.6.2
+     */
+    public PrinterResolution getResolutionValue() {
+        return PrinterResolution.of(getValue());
+    }
+
+    /**
+     * The "value" field contains the value of a dateTime attribute.
+     *
+     * @return the date and time
+     * @since 0.6.2
+     */
+    public OffsetDateTime getDateTimeValue() {
+        return ValueCodecs.toDateTime(getValue());
+    }
+
+    /**
+     * The "value" field contains the value of a textWithLanguage or
+     * nameWithLanguage attribute.
+     *
+     * @return the text together with its language
+     * @since 0.6.2
+     */
+    public TextWithLanguage getTextWithLanguageValue() {
+        return TextWithLanguage.of(getValue());
+    }
+
+    /**
+     * The "value" field contains the value of a collection attribute. The
+     * member attributes of the collection are decoded on demand.
+     *
+     * @return the collection
+     * @since 0.6.2
+     */
+    public CollectionValue getCollectionValue() {
+        return getCollectionValue(0);
+    }
+
+    /**
+     * Decodes the (first) value with the given codec.
+     *
+     * @param <T>   the type of the value
+     * @param codec e.g. {@link ValueCodecs#RANGE_OF_INTEGER}
+     * @return the decoded value
+     * @since 0.6.2
+     */
+    public <T> T getValue(ValueCodec<T> codec) {
+        return codec.decode(getValue());
+    }
+
+    /**
+     * Gets the (first) value decoded by the codec of the given key.
+     *
+     * @param <T> the type of the value
+     * @param key e.g. {@link AttributeKey#JOB_STATE}
+     * @return the decoded value
+     * @since 0.6.2
+     */
+    public <T> T getValue(AttributeKey<T> key) {
+        return getValue(key.getCodec());
+    }
+
+    /**
+     * Gets all values decoded by the codec of the given key.
+     *
+     * @param <T> the type of the values
+     * @param key e.g. {@link AttributeKey#JOB_STATE_REASONS}
+     * @return the decoded values
+     * @since 0.6.2
+     */
+    public <T> List<T> getValues(AttributeKey<T> key) {
+        List<T> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(key.getCodec().decode(getValue(i)));
         }
+        return values;
     }
 
     /**
@@ -327,7 +666,11 @@ public final class Attribute implements Binary {
      * @return e.g. "one-sided"
      */
     public String getStringValue() {
-        return new String(getValue(), StandardCharsets.UTF_8);
+        return getStringValue(0);
+    }
+
+    private String getStringValue(int i) {
+        return NameDictionary.toString(data, offsets[i], offsets[i + 1] - offsets[i]);
     }
 
     /**
@@ -341,18 +684,54 @@ public final class Attribute implements Binary {
 
     /**
      * When the attribte value is multi-valued this method returns true.
-     * 
+     *
      * @return true or false
      */
     public boolean isMultiValue() {
-        return this.additionalValues.size() > 1;
+        return count > 1;
+    }
+
+    /**
+     * Gets the number of values.
+     *
+     * @return 1 for a single-value attribute
+     */
+    public int getValueCount() {
+        return count;
+    }
+
+    /**
+     * Gets the value-tag of the given value without creating a view on it.
+     *
+     * @param i the index of the value
+     * @return e.g. {@link ValueTags#KEYWORD}
+     */
+    public ValueTags getValueTag(int i) {
+        return ValueTags.of(tags[checkValueIndex(i)]);
+    }
+
+    /**
+     * Gets the length of the given value without copying it.
+     *
+     * @param i the index of the value
+     * @return length in bytes
+     */
+    public int getValueLength(int i) {
+        return offsets[checkValueIndex(i) + 1] - offsets[i];
+    }
+
+    private int checkValueIndex(int i) {
+        if ((i < 0) || (i >= count)) {
+            throw new IndexOutOfBoundsException("index " + i + " not in [0, " + count + ")");
+        }
+        return i;
     }
 
     /**
      * This method shows a short representation of an attribute. The
      * difference to {@link #toLongString()} is, that in case of a multi-value
      * attribute only the first value is shown.
-     * 
+     *
      * @return e.g. "requested-attributes=copies-supported,..."
      */
     @Override
@@ -376,11 +755,13 @@ public final class Attribute implements Binary {
     public String toLongString() {
         StringBuilder buffer = new StringBuilder(getName());
         buffer.append("=");
-        for (AdditionalValue addValue : additionalValues) {
-            if (getValueTag().isCharacterStringValue()) {
-                buffer.append(addValue.getStringValue());
+        for (int i = 0; i < count; i++) {
+            if (tags[i] == ValueTags.BEG_COLLECTION.getValue()) {
+                buffer.append(getCollectionValue(i));
+            } else if (getValueTag().isCharacterStringValue()) {
+                buffer.append(getStringValue(i));
             } else {
-                buffer.append(DatatypeConverter.printHexBinary(addValue.getValue()));
+                buffer.append(DatatypeConverter.printHexBinary(getValue(i)));
             }
             buffer.append(',');
         }
@@ -390,10 +771,19 @@ public final class Attribute implements Binary {
 
     private void getSingleValueAsString(StringBuilder buffer) {
         ValueTags tag = getValueTag();
+        int length = offsets[1];
         if (tag.isIntegerValue()) {
             buffer.append(getIntValue());
         } else if (tag.isCharacterStringValue()) {
             buffer.append(getStringValue());
+        } else if (tag == ValueTags.RANGE_OF_INTEGER && length == 8) {
+            buffer.append(getRangeOfIntegerValue());
+        } else if (tag == ValueTags.RESOLUTION && length == 9) {
+            buffer.append(getResolutionValue());
+        } else if (tag == ValueTags.DATE_TIME && length == 11) {
+            buffer.append(getDateTimeValue());
+        } else if (tag == ValueTags.BEG_COLLECTION) {
+            buffer.append(getCollectionValue());
         } else {
             buffer.append(DatatypeConverter.printHexBinary(getValue()));
         }
@@ -408,24 +798,161 @@ public final class Attribute implements Binary {
      */
     @Override
     public void writeBinaryTo(OutputStream ostream) throws IOException {
-        DataOutputStream dos = new DataOutputStream(ostream);
-        for (AdditionalValue av : additionalValues) {
-            dos.write(av.toByteArray());
+        ostream.write(toByteArray());
+    }
+
+    /**
+     * Converts the attribute to a byte array as described in RFC-2910.
+     *
+     * @return byte array
+     */
+    @Override
+    public byte[] toByteArray() {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedLength());
+        encodeTo(buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Gets the length of the encoded attribute with all its values.
+     *
+     * @return length in bytes
+     * @since 0.6.2
+     */
+    @Override
+    public int encodedLength() {
+        int n = nameBytes.length;
+        for (int i = 0; i < count; i++) {
+            n += encodedValueLength(i);
+        }
+        return n;
+    }
+
+    private int encodedValueLength(int i) {
+        int n = 5 + offsets[i + 1] - offsets[i];
+        return (tags[i] == ValueTags.BEG_COLLECTION.getValue()) ? n + getCollectionValue(i).encodedLength() : n;
+    }
+
+    /**
+     * Writes the attribute with all its values directly into the given
+     * buffer.
+     *
+     * @param buffer buffer with at least {@link #encodedLength()} bytes
+     *               remaining
+     * @since 0.6.2
+     */
+    @Override
+    public void encodeTo(ByteBuffer buffer) {
+        for (int i = 0; i < count; i++) {
+            encodeValueTo(i, (i == 0) ? nameBytes : EMPTY, buffer);
+        }
+    }
+
+    private void encodeValueTo(int i, byte[] valueName, ByteBuffer buffer) {
+        buffer.put(tags[i]);
+        buffer.putShort((short) valueName.length);
+        buffer.put(valueName);
+        buffer.putShort((short) (offsets[i + 1] - offsets[i]));
+        buffer.put(data, offsets[i], offsets[i + 1] - offsets[i]);
+        if (tags[i] == ValueTags.BEG_COLLECTION.getValue()) {
+            getCollectionValue(i).encodeTo(buffer);
         }
     }
 
     /**
      * For multi-value attributes you can use this method to add the single
-     * values to the attribute.
+     * values to the attribute. The name of the given attribute is ignored.
      *
      * @param value the value
      */
     public void add(Attribute value) {
-        additionalValues.add(new AdditionalValue(value));
+        checkModifiable();
+        modificationCount++;
+        for (int i = 0; i < value.count; i++) {
+            int length = value.offsets[i + 1] - value.offsets[i];
+            int pos = reserve(value.tags[i], length);
+            System.arraycopy(value.data, value.offsets[i], data, pos, length);
+            if (value.tags[i] == ValueTags.BEG_COLLECTION.getValue()) {
+                setCollection(count - 1, value.getCollectionValue(i));
+            }
+        }
+    }
+
+    /**
+     * Creates a copy of the attribute. The value table is copied but the
+     * data of the values is shared because it is never changed in place
+     * and never handed out (values are copied when they are set or read).
+     * Only the used part of the data is shared so that a value added to
+     * one of both attributes is not seen by the other. The copy is not
+     * frozen and can be modified.
+     *
+     * @return a shallow copy
+     */
+    Attribute copy() {
+        return new Attribute(this);
+    }
+
+    /**
+     * Looks if the attribute may be modified. Only a frozen attribute
+     * cannot be modified.
+     *
+     * @return true if the attribute is not frozen
+     */
+    boolean isModifiable() {
+        return !frozen;
+    }
+
+    private void checkModifiable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("attribute '" + name
+                    + "' is frozen and cannot be modified (use AttributeGroup.getMutableAttribute(\"" + name
+                    + "\") to get a modifiable copy)");
+        }
+    }
+
+    /**
+     * Makes the attribute read-only, e.g. if it is part of an
+     * {@link AttributeBlock} or of a frozen {@link AttributeGroup}. A group
+     * which wants to modify it must work on a copy.
+     */
+    void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Gets the length of the attribute if it is encoded as member of a
+     * collection.
+     *
+     * @return length in bytes
+     */
+    int encodedMemberLength() {
+        int n = 5 + nameBytes.length;
+        for (int i = 0; i < count; i++) {
+            n += encodedValueLength(i);
+        }
+        return n;
+    }
+
+    /**
+     * Encodes the attribute as member of a collection. I.e. the name is
+     * encoded as 'memberAttrName' value which is followed by the values
+     * without name.
+     *
+     * @param buffer buffer with at least {@link #encodedMemberLength()}
+     *               bytes remaining
+     */
+    void encodeMemberTo(ByteBuffer buffer) {
+        buffer.put(ValueTags.MEMBER_ATTR_NAME.getValue());
+        buffer.putShort((short) 0);
+        buffer.putShort((short) nameBytes.length);
+        buffer.put(nameBytes);
+        for (int i = 0; i < count; i++) {
+            encodeValueTo(i, EMPTY, buffer);
+        }
     }
 
 
-    
+
     /**
      * An "attribute-with-one-value" field is encoded with five subfields.
      * <pre>
@@ -463,12 +990,15 @@ public final class Attribute implements Binary {
      * The "value" field contains the value of the attribute, e.g. the
      * textual value 'one-sided'.
      * </p>
+     * <p>
+     * Since 0.6.2 an attribute-with-one-value is only a view on one entry
+     * of the value table of an {@link Attribute}.
+     * </p>
      */
     public static class AttributeWithOneValue {
 
-        private final ValueTags valueTag;
-        private final String name;
-        private byte[] value;
+        private final Attribute attribute;
+        private final int index;
 
         /**
          * Instantiates a new attribute-with-one-value from the given bytes.
@@ -478,65 +1008,71 @@ public final class Attribute implements Binary {
          * @param bytes ByteBuffer positioned at the beginning
          */
         public AttributeWithOneValue(ByteBuffer bytes) {
-            this.valueTag = ValueTags.of(bytes.get());
-            short nameLength = bytes.getShort();
-            this.name = readString(bytes, nameLength);
-            short valueLength = bytes.getShort();
-            this.value = readBytes(bytes, valueLength);
+            this(new Attribute(bytes, false), 0);
         }
 
         /**
          * Instantiates a new attribute-with-one-value.
-         * 
+         *
          * @param valueTag the value-tag
          * @param name     name of the attribute
          * @param value    binary value of the attribute
          */
         public AttributeWithOneValue(ValueTags valueTag, String name, byte[] value) {
-            this.valueTag = valueTag;
-            this.name = name;
-            this.value = value;
+            this(Attribute.of(valueTag, name, value), 0);
         }
 
-        private static String readString(ByteBuffer buffer, short length) {
-            byte[] bytes = readBytes(buffer, length);
-            return new String(bytes, StandardCharsets.UTF_8);
+        /**
+         * Instantiates a new attribute-with-one-value for a collection.
+         *
+         * @param name       name of the attribute
+         * @param collection the collection
+         * @since 0.6.2
+         */
+        public AttributeWithOneValue(String name, CollectionValue collection) {
+            this(Attribute.of(name, collection), 0);
         }
 
-        private static byte[] readBytes(ByteBuffer buffer, short length) {
-            byte[] value = new byte[length];
-            for (int i = 0; i < length; i++) {
-                value[i] = buffer.get();
-            }
-            return value;
+        /**
+         * Instantiates a view on the given value of the attribute.
+         *
+         * @param attribute the attribute with the values
+         * @param index     the index of the value
+         */
+        AttributeWithOneValue(Attribute attribute, int index) {
+            this.attribute = attribute;
+            this.index = index;
         }
 
         /**
          * The "value-tag" field specifies the attribute syntax, e.g. 0x44
-         * for the attribute syntax 'keyword'.
+         * for the attribute syntax 'keyword'. An unknown value-tag is
+         * returned as the reserved tag of its range but the original
+         * value-tag is kept for encoding.
          *
          * @return e.g. {@link ValueTags#KEYWORD}
          */
         public ValueTags getValueTag() {
-            return valueTag;
+            return ValueTags.of(attribute.tags[index]);
         }
 
         /**
          * The "name" field contains the textual name of the attribute.
+         * Only the first value has a name.
          *
          * @return e.g. "slides-supported"
          */
         public String getName() {
-            return name;
+            return (index == 0) ? attribute.name : "";
         }
 
         /**
          * Sets the value of the attribute.
-         * 
+         *
          * @param value as byte array
          */
         public void setValue(byte[] value) {
-            this.value = value;
+            attribute.setValue(index, value);
         }
 
         /**
@@ -545,7 +1081,7 @@ public final class Attribute implements Binary {
          * @return e.g. the textual value 'one-sided' as bytes
          */
         public byte[] getValue() {
-            return value;
+            return attribute.getValue(index);
         }
 
         /**
@@ -554,7 +1090,51 @@ public final class Attribute implements Binary {
          * @return e.g. "one-sided"
          */
         public String getStringValue() {
-            return new String(getValue(), StandardCharsets.UTF_8);
+            return attribute.getStringValue(index);
+        }
+
+        /**
+         * The "value" field contains the value of an integer or enum
+         * attribute. It is read directly without any allocation.
+         *
+         * @return a 32-bit number
+         * @since 0.6.2
+         */
+        public int getIntValue() {
+            return attribute.getIntValue(index);
+        }
+
+        /**
+         * The "value" field contains the value of a boolean attribute.
+         *
+         * @return true (0x01) or false (0x00)
+         * @since 0.6.2
+         */
+        public boolean getBooleanValue() {
+            return ValueCodecs.toBoolean(getValue());
+        }
+
+        /**
+         * Decodes the value with the given codec.
+         *
+         * @param <T>   the type of the value
+         * @param codec e.g. {@link ValueCodecs#RESOLUTION}
+         * @return the decoded value
+         * @since 0.6.2
+         */
+        public <T> T getValue(ValueCodec<T> codec) {
+            return codec.decode(getValue());
+        }
+
+        /**
+         * The value of a collection attribute is stored behind the
+         * 'begCollection' value.
+         *
+         * @return the collection
+         * @since 0.6.2
+         */
+        public CollectionValue getCollectionValue() {
+            return attribute.getCollectionValue(index);
         }
 
         /**
@@ -572,26 +1152,35 @@ public final class Attribute implements Binary {
          * |                     value                   |   v bytes
          * -----------------------------------------------
          * </pre>
-         * 
+         *
          * @return byte array
          */
         public byte[] toByteArray() {
-            try (ByteArrayOutputStream byteStream = new ByteArrayOutputStream()) {
-                writeTo(byteStream);
-                byteStream.flush();
-                return byteStream.toByteArray();
-            } catch (IOException ioe) {
-                throw new IllegalStateException("cannot dump attribute", ioe);
-            }
+            ByteBuffer buffer = ByteBuffer.allocate(encodedLength());
+            encodeTo(buffer);
+            return buffer.array();
         }
 
-        private void writeTo(OutputStream ostream) throws IOException {
-            DataOutputStream dos = new DataOutputStream(ostream);
-            dos.writeByte(getValueTag().getValue());
-            dos.writeShort(getName().length());
-            dos.write(getName().getBytes(StandardCharsets.UTF_8));
-            dos.writeShort(getValue().length);
-            dos.write(getValue());
+        /**
+         * Gets the length of the encoded value.
+         *
+         * @return length in bytes
+         * @since 0.6.2
+         */
+        public int encodedLength() {
+            int n = attribute.encodedValueLength(index);
+            return (index == 0) ? n + attribute.nameBytes.length : n;
+        }
+
+        /**
+         * Writes the value directly into the given buffer.
+         *
+         * @param buffer buffer with at least {@link #encodedLength()}
+         *               bytes remaining
+         * @since 0.6.2
+         */
+        public void encodeTo(ByteBuffer buffer) {
+            attribute.encodeValueTo(index, (index == 0) ? attribute.nameBytes : EMPTY, buffer);
         }
 
     }
@@ -615,13 +1204,13 @@ public final class Attribute implements Binary {
     public static class AdditionalValue extends AttributeWithOneValue {
 
         public AdditionalValue(Attribute attr) {
-            this(attr.toByteArray());
+            this(attr, 0);
         }
 
         public AdditionalValue(AttributeWithOneValue attr) {
-            this(attr.toByteArray());
+            this(attr.attribute, attr.index);
         }
-        
+
         public AdditionalValue(byte[] bytes) {
             this(ByteBuffer.wrap(bytes));
         }
@@ -630,6 +1219,10 @@ public final class Attribute implements Binary {
             super(bytes);
         }
 
+        AdditionalValue(Attribute attr, int index) {
+            super(attr, index);
+        }
+
     }
 
 }
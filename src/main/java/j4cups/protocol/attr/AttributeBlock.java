@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An AttributeBlock is an immutable sequence of attributes which is encoded
+ * only once, e.g. the capabilities of a printer. If the block is added to
+ * an {@link AttributeGroup} (see {@link AttributeGroup#addAttributes(AttributeBlock)})
+ * the encoded bytes are copied as they are into the encoded group and the
+ * index of the block is used for a lookup. The attributes of a block are
+ * read-only: they reject any modification with an
+ * {@link UnsupportedOperationException}.
+ * {@link AttributeGroup#getMutableAttribute(String)} returns a modifiable copy.
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public final class AttributeBlock {
+
+    private final List<Attribute> attributes;
+    private final Map<String, Attribute> index = new HashMap<>();
+    private final byte[] bytes;
+
+    private AttributeBlock(List<Attribute> attributes) {
+        this.attributes = Collections.unmodifiableList(attributes);
+        for (Attribute attr : attributes) {
+            index.putIfAbsent(attr.getName(), attr);
+        }
+        int length = 0;
+        for (Attribute attr : attributes) {
+            length += attr.encodedLength();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        for (Attribute attr : attributes) {
+            attr.encodeTo(buffer);
+        }
+        this.bytes = buffer.array();
+    }
+
+    /**
+     * Creates a block with the given attributes. The attributes are copied
+     * so that a later modification of them does not change the block.
+     *
+     * @param attributes the attributes
+     * @return the block
+     */
+    public static AttributeBlock of(Attribute... attributes) {
+        return of(Arrays.asList(attributes));
+    }
+
+    /**
+     * Creates a block with the given attributes. The attributes are copied
+     * so that a later modification of them does not change the block. The
+     * copies are read-only.
+     *
+     * @param attributes the attributes
+     * @return the block
+     */
+    public static AttributeBlock of(List<Attribute> attributes) {
+        List<Attribute> copies = new ArrayList<>(attributes.size());
+        for (Attribute attr : attributes) {
+            Attribute copy = attr.copy();
+            copy.freeze();
+            copies.add(copy);
+        }
+        return new AttributeBlock(copies);
+    }
+
+    /**
+     * Gets the attributes of the block.
+     *
+     * @return an unmodifiable list of attributes
+     */
+    public List<Attribute> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Looks for the attribute with the given name.
+     *
+     * @param name of the attribute
+     * @return the attribute or null if it is not part of the block
+     */
+    Attribute lookup(String name) {
+        return index.get(name);
+    }
+
+    /**
+     * Gets the number of attributes.
+     *
+     * @return number of attributes
+     */
+    public int size() {
+        return attributes.size();
+    }
+
+    /**
+     * Gets the length of the encoded attributes.
+     *
+     * @return length in bytes
+     */
+    public int encodedLength() {
+        return bytes.length;
+    }
+
+    /**
+     * Copies the encoded attributes into the given buffer.
+     *
+     * @param buffer buffer with at least {@link #encodedLength()} bytes
+     *               remaining
+     */
+    public void encodeTo(ByteBuffer buffer) {
+        buffer.put(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "AttributeBlock with " + attributes.size() + " attributes (" + bytes.length + " bytes)";
+    }
+
+}
@@ -22,12 +22,10 @@ import j4cups.protocol.tags.DelimiterTags;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 /**
  * Each "attribute-group" field represents a single group of
@@ -45,6 +43,26 @@ import java.util.List;
  * |                   attribute                 |  p bytes |- 0 or more
  * ----------------------------------------------------------
  * </pre>
+ * <p>
+ * The attributes are indexed by their name so that a lookup does not need
+ * to scan all attributes. The order of the attributes is preserved.
+ * </p>
+ * <p>
+ * A group can be frozen by {@link #freeze()}. The attributes of a frozen
+ * group are read-only and a copy of it (see
+ * {@link #AttributeGroup(AttributeGroup)}) shares them with the original
+ * group (copy-on-write). Not before the copy is modified by
+ * {@link #addAttribute(Attribute)} it gets its own list of attributes. A
+ * frozen attribute which is overwritten or which is fetched by
+ * {@link #getMutableAttribute(String)} is replaced by a copy before which
+ * belongs to this group only. A group which is not frozen is copied with
+ * all its attributes.
+ * </p>
+ * <p>
+ * Attributes which never change (e.g. the capabilities of a printer) can
+ * be added as {@link AttributeBlock}. Such a block is encoded only once and
+ * copied as it is into the encoded group.
+ * </p>
  *
  * @author oboehm
  * @since 0.0.2 (10.02.2018)
@@ -52,16 +70,46 @@ import java.util.List;
 public class AttributeGroup implements Binary {
 
     private static final Logger LOG = LoggerFactory.getLogger(AttributeGroup.class);
+    private static final AttributeBlock[] NO_BLOCKS = new AttributeBlock[0];
+    private static final int[] NO_STARTS = new int[0];
     private final DelimiterTags beginTag;
-    private final List<Attribute> attributes;
+    private List<Attribute> attributes;
+    private List<Attribute> unmodifiableAttributes;
+    private Map<String, Attribute> index;
+    private int modificationCount;
+    private boolean frozen;
+    private AttributeBlock[] blocks = NO_BLOCKS;
+    private int[] blockStarts = NO_STARTS;
 
     /**
-     * This is the copy construtor.
+     * This is the copy construtor. If the other group is frozen (see
+     * {@link #freeze()}) the attributes are not copied but shared with the
+     * other group as long as the copy is not modified. Otherwise the
+     * attributes are copied. The other group is not changed.
      * 
      * @param other AttributeGroup which is copied
      */
     public AttributeGroup(AttributeGroup other) {
-        this(ByteBuffer.wrap(other.toByteArray()));
+        this.beginTag = other.beginTag;
+        this.blocks = other.blocks;
+        this.blockStarts = other.blockStarts;
+        if (other.frozen) {
+            this.attributes = other.attributes;
+            this.unmodifiableAttributes = other.unmodifiableAttributes;
+            this.index = other.index;
+            this.frozen = true;
+        } else {
+            this.attributes = new ArrayList<>(other.attributes.size());
+            this.unmodifiableAttributes = Collections.unmodifiableList(this.attributes);
+            this.index = new HashMap<>();
+            for (Attribute attr : other.attributes) {
+                Attribute copy = attr.isModifiable() ? attr.copy() : attr;
+                attributes.add(copy);
+                if (other.index.get(attr.getName()) == attr) {
+                    index.put(copy.getName(), copy);
+                }
+            }
+        }
     }
 
     /**
@@ -70,8 +118,7 @@ public class AttributeGroup implements Binary {
      * @param type e.g. {@link DelimiterTags#OPERATION_ATTRIBUTES_TAG}
      */
     public AttributeGroup(DelimiterTags type) {
-        this.beginTag = type;
-        this.attributes = new ArrayList<>();
+        this(type, new ArrayList<>());
     }
 
     /**
@@ -82,8 +129,26 @@ public class AttributeGroup implements Binary {
      * @param bytes ByteBuffer positioned at the beginning
      */
     public AttributeGroup(ByteBuffer bytes) {
-        this.beginTag = DelimiterTags.of(bytes.get());
-        this.attributes = readAttributes(bytes);
+        this(DelimiterTags.of(bytes.get()), readAttributes(bytes));
+    }
+
+    /**
+     * Instantiates a new attribute group with the given attributes. In
+     * contrast to {@link #addAttribute(Attribute)} attributes with the same
+     * name are not merged.
+     *
+     * @param type       e.g. {@link DelimiterTags#OPERATION_ATTRIBUTES_TAG}
+     * @param attributes the attributes of the group
+     * @since 0.6.2
+     */
+    public AttributeGroup(DelimiterTags type, List<Attribute> attributes) {
+        this.beginTag = type;
+        this.attributes = new ArrayList<>(attributes);
+        this.unmodifiableAttributes = Collections.unmodifiableList(this.attributes);
+        this.index = new HashMap<>();
+        for (Attribute attr : this.attributes) {
+            index.putIfAbsent(attr.getName(), attr);
+        }
     }
 
     private static List<Attribute> readAttributes(ByteBuffer buffer) {
@@ -112,28 +177,74 @@ public class AttributeGroup implements Binary {
 
     /**
      * An "attribute-group" field contains zero or more "attribute" fields.
+     * Use {@link #addAttribute(Attribute)} to add an attribute. Frozen
+     * attributes are read-only. Use {@link #getMutableAttribute(String)}
+     * if you want to modify an attribute.
      * 
-     * @return list of attributes
+     * @return unmodifiable list of attributes
      */
     public List<Attribute> getAttributes() {
-        return attributes;
+        return unmodifiableAttributes;
+    }
+
+    /**
+     * The modification count is incremented each time an attribute is
+     * added. It can be used to find out if the group has changed.
+     *
+     * @return number of added attributes
+     * @since 0.6.2
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Freezes the group and all its attributes. Afterwards the attributes
+     * are read-only and can be shared with copies of this group without
+     * copying them (see {@link #AttributeGroup(AttributeGroup)}). Call it
+     * before the group is shared with other threads.
+     *
+     * @since 0.6.2
+     */
+    public void freeze() {
+        if (!frozen) {
+            for (Attribute attr : attributes) {
+                attr.freeze();
+            }
+            frozen = true;
+        }
     }
 
     /**
      * Looks for the attribute with the given name and returns it. If the 
      * attribute does not exist an {@link IllegalArgumentException} will be
-     * thrown.
+     * thrown. The group is not changed. If the group is frozen the returned
+     * attribute is read-only.
      * 
      * @param name of the attribute
      * @return found attribute
      */
     public Attribute getAttribute(String name) {
-        for (Attribute attr : attributes) {
-            if (name.equals(attr.getName())) {
-                return attr;
-            }
+        Attribute attr = lookup(name);
+        if (attr == null) {
+            throw new IllegalArgumentException("attribute '" + name + "' not found in " + attributes);
         }
-        throw new IllegalArgumentException("attribute '" + name + "' not found in " + attributes);
+        return attr;
+    }
+
+    /**
+     * Looks for the attribute with the given name and returns it for
+     * modification. A frozen attribute is replaced by a copy before which
+     * belongs to this group only. So a copy of this group is not changed
+     * if the returned attribute is modified.
+     *
+     * @param name of the attribute
+     * @return found attribute which can be modified
+     * @since 0.6.2
+     */
+    public Attribute getMutableAttribute(String name) {
+        Attribute attr = getAttribute(name);
+        return attr.isModifiable() ? attr : replaceByCopy(attr);
     }
 
     /**
@@ -144,12 +255,19 @@ public class AttributeGroup implements Binary {
      * @since 0.5
      */
     public boolean hasAttribute(String name) {
-        for (Attribute attr : attributes) {
-            if (name.equals(attr.getName())) {
-                return true;
-            }
+        return lookup(name) != null;
+    }
+
+    /**
+     * The attributes of a block are not put into the index of the group
+     * but are looked up in the index of the block.
+     */
+    private Attribute lookup(String name) {
+        Attribute attr = index.get(name);
+        for (int b = 0; (attr == null) && (b < blocks.length); b++) {
+            attr = blocks[b].lookup(name);
         }
-        return false;
+        return attr;
     }
 
     /**
@@ -158,16 +276,130 @@ public class AttributeGroup implements Binary {
      * @param attr the new attribute
      */
     public void addAttribute(Attribute attr) {
-        if (hasAttribute(attr.getName())) {
-            Attribute existing = getAttribute(attr.getName());
-            LOG.debug("{} is overwritten with {}.", existing, attr);
-            existing.setValue(attr.getValue());
-        } else {
+        Attribute existing = lookup(attr.getName());
+        detach();
+        if (existing == null) {
             attributes.add(attr);
+            index.put(attr.getName(), attr);
+            modificationCount++;
             LOG.debug("{} is added.", attr);
+        } else {
+            LOG.debug("{} is overwritten with {}.", existing, attr);
+            if (!existing.isModifiable()) {
+                existing = replaceByCopy(existing);
+            }
+            existing.setValue(attr.getValue());
+        }
+    }
+
+    /**
+     * Adds all attributes of the other group. Frozen attributes are not
+     * copied but shared with the other group. They are copied not before
+     * they are overwritten (copy-on-write). All other attributes are
+     * copied. The other group is not changed.
+     *
+     * @param other the group with the attributes to be added
+     * @since 0.6.2
+     */
+    public void addAttributes(AttributeGroup other) {
+        detach();
+        dissolveBlocks();
+        for (Attribute attr : other.attributes) {
+            Attribute added = attr.isModifiable() ? attr.copy() : attr;
+            Attribute existing = index.put(added.getName(), added);
+            if (existing == null) {
+                attributes.add(added);
+            } else {
+                attributes.set(attributes.indexOf(existing), added);
+            }
+            modificationCount++;
         }
     }
 
+    /**
+     * Adds the attributes of the given block. As long as they are not
+     * overwritten the encoded block is copied as it is into the encoded
+     * group (see {@link #encodeTo(ByteBuffer)}). If an attribute of the
+     * block is already in the group the attributes are added one by one
+     * as with {@link #addAttribute(Attribute)}.
+     *
+     * @param block the pre-encoded attributes
+     * @since 0.6.2
+     */
+    public void addAttributes(AttributeBlock block) {
+        for (Attribute attr : block.getAttributes()) {
+            if (lookup(attr.getName()) != null) {
+                addAttributes(new AttributeGroup(beginTag, block.getAttributes()));
+                return;
+            }
+        }
+        detach();
+        int n = blocks.length;
+        blocks = Arrays.copyOf(blocks, n + 1);
+        blockStarts = Arrays.copyOf(blockStarts, n + 1);
+        blocks[n] = block;
+        blockStarts[n] = attributes.size();
+        attributes.addAll(block.getAttributes());
+        modificationCount += block.size();
+    }
+
+    /**
+     * Before an attribute is overwritten the attributes of the blocks are
+     * put into the index. Afterwards they are encoded one by one.
+     */
+    private void dissolveBlocks() {
+        for (AttributeBlock block : blocks) {
+            for (Attribute attr : block.getAttributes()) {
+                index.putIfAbsent(attr.getName(), attr);
+            }
+        }
+        blocks = NO_BLOCKS;
+        blockStarts = NO_STARTS;
+    }
+
+    /**
+     * A frozen group gets its own list of attributes before it is modified.
+     * The frozen attributes itself are still shared.
+     */
+    private void detach() {
+        if (frozen) {
+            attributes = new ArrayList<>(attributes);
+            unmodifiableAttributes = Collections.unmodifiableList(attributes);
+            index = new HashMap<>(index);
+            frozen = false;
+        }
+    }
+
+    /**
+     * A frozen attribute is replaced by a copy which belongs to this group
+     * only. If the attribute is part of a block the blocks are dissolved
+     * because the copy may be modified.
+     */
+    private Attribute replaceByCopy(Attribute attr) {
+        detach();
+        int i = attributes.indexOf(attr);
+        for (int b = 0; b < blocks.length; b++) {
+            if ((i >= blockStarts[b]) && (i < blockStarts[b] + blocks[b].size())) {
+                dissolveBlocks();
+                break;
+            }
+        }
+        Attribute copy = attr.copy();
+        attributes.set(i, copy);
+        index.put(copy.getName(), copy);
+        return copy;
+    }
+
+    /**
+     * Looks if the group is frozen. The list of attributes of a frozen
+     * group may be shared with other groups.
+     *
+     * @return true if the group is frozen
+     */
+    boolean isFrozen() {
+        return frozen;
+    }
+
     /**
      * With this toString() implementation we want to provide the most
      * important values which are useful for logging and debugging.
@@ -213,10 +445,68 @@ public class AttributeGroup implements Binary {
      */
     @Override
     public void writeBinaryTo(OutputStream ostream) throws IOException {
-        DataOutputStream dos = new DataOutputStream(ostream);
-        dos.writeByte(getBeginTag().getValue());
-        for (Attribute attr : getAttributes()) {
-            dos.write(attr.toByteArray());
+        ostream.write(toByteArray());
+    }
+
+    /**
+     * Converts the attribute-group to a byte array as described in
+     * RFC-2910.
+     *
+     * @return byte array
+     */
+    @Override
+    public byte[] toByteArray() {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedLength());
+        encodeTo(buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Gets the length of the encoded attribute-group with the
+     * begin-attribute-group-tag and all attributes.
+     *
+     * @return length in bytes
+     * @since 0.6.2
+     */
+    @Override
+    public int encodedLength() {
+        int n = 1;
+        int i = 0;
+        for (int b = 0; b < blocks.length; b++) {
+            for (; i < blockStarts[b]; i++) {
+                n += attributes.get(i).encodedLength();
+            }
+            n += blocks[b].encodedLength();
+            i += blocks[b].size();
+        }
+        for (; i < attributes.size(); i++) {
+            n += attributes.get(i).encodedLength();
+        }
+        return n;
+    }
+
+    /**
+     * Writes the attribute-group directly into the given buffer. Blocks of
+     * pre-encoded attributes (see {@link #addAttributes(AttributeBlock)})
+     * are copied as they are.
+     *
+     * @param buffer buffer with at least {@link #encodedLength()} bytes
+     *               remaining
+     * @since 0.6.2
+     */
+    @Override
+    public void encodeTo(ByteBuffer buffer) {
+        buffer.put(getBeginTag().getValue());
+        int i = 0;
+        for (int b = 0; b < blocks.length; b++) {
+            for (; i < blockStarts[b]; i++) {
+                attributes.get(i).encodeTo(buffer);
+            }
+            blocks[b].encodeTo(buffer);
+            i += blocks[b].size();
+        }
+        for (; i < attributes.size(); i++) {
+            attributes.get(i).encodeTo(buffer);
         }
     }
 
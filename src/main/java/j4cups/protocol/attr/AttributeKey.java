@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import j4cups.protocol.tags.ValueTags;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+
+/**
+ * An AttributeKey is a typed key for a registered attribute. The syntax
+ * and with it the value-tag is resolved once from the
+ * {@link AttributeRegistry} so that it need not be chosen by hand:
+ * <pre>
+ * Attribute.of(AttributeKey.JOB_STATE, JobState.COMPLETED.getValue())
+ * </pre>
+ * The name of a key is the canonical string of the {@link NameDictionary}
+ * so that a lookup by key is mostly an identity check of the name.
+ *
+ * @param <T> the type of the values
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public final class AttributeKey<T> {
+
+    // operation attributes
+    public static final AttributeKey<String> ATTRIBUTES_CHARSET = of("attributes-charset", ValueCodecs.STRING);
+    public static final AttributeKey<String> ATTRIBUTES_NATURAL_LANGUAGE =
+            of("attributes-natural-language", ValueCodecs.STRING);
+    public static final AttributeKey<URI> PRINTER_URI = of("printer-uri", ValueCodecs.URI);
+    public static final AttributeKey<URI> JOB_URI = of("job-uri", ValueCodecs.URI);
+    public static final AttributeKey<Integer> JOB_ID = of("job-id", ValueCodecs.INTEGER);
+    public static final AttributeKey<String> REQUESTING_USER_NAME = of("requesting-user-name", ValueCodecs.STRING);
+    public static final AttributeKey<String> JOB_NAME = of("job-name", ValueCodecs.STRING);
+    public static final AttributeKey<String> DOCUMENT_NAME = of("document-name", ValueCodecs.STRING);
+    public static final AttributeKey<String> DOCUMENT_FORMAT = of("document-format", ValueCodecs.STRING);
+    public static final AttributeKey<Boolean> LAST_DOCUMENT = of("last-document", ValueCodecs.BOOLEAN);
+    public static final AttributeKey<String> REQUESTED_ATTRIBUTES = of("requested-attributes", ValueCodecs.STRING);
+    public static final AttributeKey<String> WHICH_JOBS = of("which-jobs", ValueCodecs.STRING);
+    public static final AttributeKey<Boolean> MY_JOBS = of("my-jobs", ValueCodecs.BOOLEAN);
+    public static final AttributeKey<Integer> LIMIT = of("limit", ValueCodecs.INTEGER);
+    public static final AttributeKey<String> STATUS_MESSAGE = of("status-message", ValueCodecs.STRING);
+    public static final AttributeKey<String> FIRST_PRINTER_NAME = of("first-printer-name", ValueCodecs.STRING);
+
+    // job template attributes
+    public static final AttributeKey<Integer> COPIES = of("copies", ValueCodecs.INTEGER);
+    public static final AttributeKey<String> MEDIA = of("media", ValueCodecs.STRING);
+    public static final AttributeKey<Integer> NUMBER_UP = of("number-up", ValueCodecs.INTEGER);
+    public static final AttributeKey<Integer> ORIENTATION_REQUESTED = of("orientation-requested", ValueCodecs.INTEGER);
+    public static final AttributeKey<String> PRINT_COLOR_MODE = of("print-color-mode", ValueCodecs.STRING);
+    public static final AttributeKey<PrinterResolution> PRINTER_RESOLUTION =
+            of("printer-resolution", ValueCodecs.RESOLUTION);
+    public static final AttributeKey<String> SIDES = of("sides", ValueCodecs.STRING);
+    public static final AttributeKey<String> OUTPUT_MODE = of("output-mode", ValueCodecs.STRING);
+
+    // job status attributes
+    public static final AttributeKey<Integer> JOB_STATE = of("job-state", ValueCodecs.INTEGER);
+    public static final AttributeKey<String> JOB_STATE_REASONS = of("job-state-reasons", ValueCodecs.STRING);
+    public static final AttributeKey<String> JOB_STATE_MESSAGE = of("job-state-message", ValueCodecs.STRING);
+    public static final AttributeKey<URI> JOB_PRINTER_URI = of("job-printer-uri", ValueCodecs.URI);
+    public static final AttributeKey<String> JOB_ORIGINATING_USER_NAME =
+            of("job-originating-user-name", ValueCodecs.STRING);
+    public static final AttributeKey<URI> JOB_UUID = of("job-uuid", ValueCodecs.URI);
+    public static final AttributeKey<Integer> TIME_AT_CREATION = of("time-at-creation", ValueCodecs.INTEGER);
+    public static final AttributeKey<OffsetDateTime> DATE_TIME_AT_CREATION =
+            of("date-time-at-creation", ValueCodecs.DATE_TIME);
+
+    // printer description and status attributes
+    public static final AttributeKey<String> PRINTER_NAME = of("printer-name", ValueCodecs.STRING);
+    public static final AttributeKey<String> PRINTER_INFO = of("printer-info", ValueCodecs.STRING);
+    public static final AttributeKey<String> PRINTER_LOCATION = of("printer-location", ValueCodecs.STRING);
+    public static final AttributeKey<String> PRINTER_MAKE_AND_MODEL =
+            of("printer-make-and-model", ValueCodecs.STRING);
+    public static final AttributeKey<URI> PRINTER_URI_SUPPORTED = of("printer-uri-supported", ValueCodecs.URI);
+    public static final AttributeKey<Integer> PRINTER_STATE = of("printer-state", ValueCodecs.INTEGER);
+    public static final AttributeKey<String> PRINTER_STATE_REASONS = of("printer-state-reasons", ValueCodecs.STRING);
+    public static final AttributeKey<String> PRINTER_STATE_MESSAGE = of("printer-state-message", ValueCodecs.STRING);
+    public static final AttributeKey<Boolean> PRINTER_IS_ACCEPTING_JOBS =
+            of("printer-is-accepting-jobs", ValueCodecs.BOOLEAN);
+    public static final AttributeKey<Integer> PRINTER_UP_TIME = of("printer-up-time", ValueCodecs.INTEGER);
+    public static final AttributeKey<OffsetDateTime> PRINTER_CURRENT_TIME =
+            of("printer-current-time", ValueCodecs.DATE_TIME);
+    public static final AttributeKey<Integer> QUEUED_JOB_COUNT = of("queued-job-count", ValueCodecs.INTEGER);
+    public static final AttributeKey<Integer> OPERATIONS_SUPPORTED = of("operations-supported", ValueCodecs.INTEGER);
+    public static final AttributeKey<RangeOfInteger> COPIES_SUPPORTED =
+            of("copies-supported", ValueCodecs.RANGE_OF_INTEGER);
+    public static final AttributeKey<PrinterResolution> PRINTER_RESOLUTION_DEFAULT =
+            of("printer-resolution-default", ValueCodecs.RESOLUTION);
+
+    private final String name;
+    private final AttributeSyntax syntax;
+    private final ValueCodec<T> codec;
+
+    private AttributeKey(AttributeSyntax syntax, ValueCodec<T> codec) {
+        this.name = syntax.getName();
+        this.syntax = syntax;
+        this.codec = codec;
+    }
+
+    /**
+     * Creates a key for the given registered attribute. If the attribute
+     * is not registered an {@link IllegalArgumentException} will be thrown.
+     *
+     * @param <T>   the type of the values
+     * @param name  e.g. "job-state"
+     * @param codec e.g. {@link ValueCodecs#INTEGER}
+     * @return the key
+     */
+    public static <T> AttributeKey<T> of(String name, ValueCodec<T> codec) {
+        String canonical = NameDictionary.toString(name.getBytes(StandardCharsets.UTF_8));
+        return new AttributeKey<>(AttributeRegistry.getSyntax(canonical), codec);
+    }
+
+    /**
+     * Gets the name of the attribute.
+     *
+     * @return e.g. "job-state"
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the registered syntax of the attribute.
+     *
+     * @return e.g. "type1 enum"
+     */
+    public AttributeSyntax getSyntax() {
+        return syntax;
+    }
+
+    /**
+     * Gets the (default) value-tag of the attribute.
+     *
+     * @return e.g. {@link ValueTags#ENUM}
+     */
+    public ValueTags getValueTag() {
+        return syntax.getValueTag();
+    }
+
+    /**
+     * Gets the codec for the values.
+     *
+     * @return e.g. {@link ValueCodecs#INTEGER}
+     */
+    public ValueCodec<T> getCodec() {
+        return codec;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import j4cups.protocol.tags.DelimiterTags;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The class AttributeRegistry maps the name of an attribute to its
+ * {@link AttributeSyntax}. The registry is read from a checked-in copy of
+ * the IANA IPP registry ("ipp-registrations.txt" beside this class) which
+ * is extended by the CUPS attributes. With the registry the value-tag of
+ * an attribute need not be chosen by hand (see {@link AttributeKey}).
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public final class AttributeRegistry {
+
+    private static final String RESOURCE = "ipp-registrations.txt";
+    private static final Map<String, AttributeSyntax> SYNTAXES = load();
+
+    private AttributeRegistry() {
+    }
+
+    private static Map<String, AttributeSyntax> load() {
+        try (InputStream istream = AttributeRegistry.class.getResourceAsStream(RESOURCE)) {
+            if (istream == null) {
+                throw new IllegalStateException("resource '" + RESOURCE + "' not found");
+            }
+            return load(new BufferedReader(new InputStreamReader(istream, StandardCharsets.UTF_8)));
+        } catch (IOException ioe) {
+            throw new UncheckedIOException("cannot read '" + RESOURCE + "'", ioe);
+        }
+    }
+
+    private static Map<String, AttributeSyntax> load(BufferedReader reader) throws IOException {
+        Map<String, AttributeSyntax> syntaxes = new HashMap<>();
+        DelimiterTags group = null;
+        int lineNumber = 0;
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            lineNumber++;
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#") || trimmed.startsWith("-")) {
+                continue;
+            }
+            int colon = trimmed.indexOf("attributes:");
+            if (colon > 0) {
+                group = toGroup(trimmed.substring(0, colon), lineNumber);
+                continue;
+            }
+            if (trimmed.endsWith("]")) {
+                trimmed = trimmed.substring(0, trimmed.lastIndexOf('[')).trim();
+            }
+            int blank = trimmed.indexOf(' ');
+            if ((blank < 0) || !trimmed.endsWith(")") || (trimmed.charAt(blank + 1) != '(')) {
+                throw new IllegalStateException("invalid line " + lineNumber + " in '" + RESOURCE + "': " + line);
+            }
+            String name = NameDictionary.toString(trimmed.substring(0, blank).getBytes(StandardCharsets.UTF_8));
+            AttributeSyntax syntax = syntaxes.get(name);
+            if (syntax == null) {
+                syntax = AttributeSyntax.parse(name, trimmed.substring(blank + 2, trimmed.length() - 1));
+                syntaxes.put(name, syntax);
+            }
+            // indented member attributes of a collection belong to no attribute-group
+            if (Character.isLetter(line.charAt(0)) && (group != null)) {
+                syntax.addGroup(group);
+            }
+        }
+        return syntaxes;
+    }
+
+    private static DelimiterTags toGroup(String section, int lineNumber) {
+        if (section.contains("Operation")) {
+            return DelimiterTags.OPERATION_ATTRIBUTES_TAG;
+        } else if (section.contains("Job")) {
+            return DelimiterTags.JOB_ATTRIBUTES_TAG;
+        } else if (section.contains("Printer")) {
+            return DelimiterTags.PRINTER_ATTRIBUTES_TAG;
+        } else if (section.contains("Subscription")) {
+            return DelimiterTags.SUBSCRIPTION_ATTRIBUTES_TAG;
+        } else if (section.contains("Event Notification")) {
+            return DelimiterTags.EVENT_NOTIFICATION_ATTRIBUTES_TAG;
+        } else if (section.contains("Document")) {
+            return DelimiterTags.DOCUMENT_ATTRIBUTES_TAG;
+        } else if (section.contains("System")) {
+            return DelimiterTags.SYSTEM_ATTRIBUTES_TAG;
+        }
+        throw new IllegalStateException("unknown section '" + section + "' in line " + lineNumber);
+    }
+
+    /**
+     * Looks if the attribute with the given name is registered.
+     *
+     * @param name e.g. "job-state"
+     * @return true or false
+     */
+    public static boolean isRegistered(String name) {
+        return SYNTAXES.containsKey(name);
+    }
+
+    /**
+     * Gets the syntax of the given attribute. If the attribute is not
+     * registered an {@link IllegalArgumentException} will be thrown.
+     *
+     * @param name e.g. "job-state"
+     * @return the syntax, e.g. "type1 enum"
+     */
+    public static AttributeSyntax getSyntax(String name) {
+        AttributeSyntax syntax = SYNTAXES.get(name);
+        if (syntax == null) {
+            throw new IllegalArgumentException("attribute '" + name + "' is not registered");
+        }
+        return syntax;
+    }
+
+    /**
+     * Gets the syntaxes of all registered attributes.
+     *
+     * @return unmodifiable collection
+     */
+    public static Collection<AttributeSyntax> getSyntaxes() {
+        return Collections.unmodifiableCollection(SYNTAXES.values());
+    }
+
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import j4cups.protocol.tags.DelimiterTags;
+import j4cups.protocol.tags.ValueTags;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The class AttributeSyntax describes the syntax of a registered attribute
+ * as it is listed in the IANA IPP registry, e.g. "1setOf type2 keyword"
+ * for 'job-state-reasons'. It contains the allowed value-tags (the first
+ * one is the default), the multiplicity and the attribute-groups where
+ * the attribute is defined.
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public final class AttributeSyntax {
+
+    private final String name;
+    private final String syntax;
+    private final ValueTags[] valueTags;
+    private final boolean multiValue;
+    private final int maxLength;
+    private DelimiterTags group;
+    private int groups;
+
+    private AttributeSyntax(String name, String syntax, ValueTags[] valueTags, boolean multiValue, int maxLength) {
+        this.name = name;
+        this.syntax = syntax;
+        this.valueTags = valueTags;
+        this.multiValue = multiValue;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Parses the syntax of an attribute as it is written in the IANA IPP
+     * registry.
+     *
+     * @param name   e.g. "media-supported"
+     * @param syntax e.g. "1setOf (type2 keyword | name(MAX))"
+     * @return the parsed syntax
+     */
+    static AttributeSyntax parse(String name, String syntax) {
+        String s = syntax.trim();
+        boolean multiValue = s.startsWith("1setOf ");
+        if (multiValue) {
+            s = s.substring(7).trim();
+            if (s.startsWith("(") && s.endsWith(")")) {
+                s = s.substring(1, s.length() - 1);
+            }
+        }
+        List<ValueTags> tags = new ArrayList<>();
+        int maxLength = -1;
+        for (String token : s.split("\\|")) {
+            String type = token.trim().replaceFirst("^type[123] ", "");
+            String limit = "";
+            int paren = type.indexOf('(');
+            if (paren > 0) {
+                limit = type.substring(paren + 1, type.lastIndexOf(')'));
+                type = type.substring(0, paren);
+            }
+            ValueTags[] mapped = toValueTags(type, syntax);
+            if (maxLength < 0) {
+                maxLength = toMaxLength(mapped[0], limit);
+            }
+            tags.addAll(Arrays.asList(mapped));
+        }
+        return new AttributeSyntax(name, syntax, tags.toArray(new ValueTags[0]), multiValue, maxLength);
+    }
+
+    private static ValueTags[] toValueTags(String type, String syntax) {
+        switch (type) {
+            case "text":
+                return new ValueTags[] { ValueTags.TEXT_WITHOUT_LANGUAGE, ValueTags.TEXT_WITH_LANGUAGE };
+            case "name":
+                return new ValueTags[] { ValueTags.NAME_WITHOUT_LANGUAGE, ValueTags.NAME_WITH_LANGUAGE };
+            case "keyword":
+                return new ValueTags[] { ValueTags.KEYWORD };
+            case "enum":
+                return new ValueTags[] { ValueTags.ENUM };
+            case "uri":
+                return new ValueTags[] { ValueTags.URI };
+            case "uriScheme":
+                return new ValueTags[] { ValueTags.URI_SCHEME };
+            case "charset":
+                return new ValueTags[] { ValueTags.CHARSET };
+            case "naturalLanguage":
+                return new ValueTags[] { ValueTags.NATURAL_LANGUAGE };
+            case "mimeMediaType":
+                return new ValueTags[] { ValueTags.MIME_MEDIA_TYPE };
+            case "octetString":
+                return new ValueTags[] { ValueTags.UNSPECIFIED_OCTET_STRING };
+            case "boolean":
+                return new ValueTags[] { ValueTags.BOOLEAN };
+            case "integer":
+                return new ValueTags[] { ValueTags.INTEGER };
+            case "rangeOfInteger":
+                return new ValueTags[] { ValueTags.RANGE_OF_INTEGER };
+            case "dateTime":
+                return new ValueTags[] { ValueTags.DATE_TIME };
+            case "resolution":
+                return new ValueTags[] { ValueTags.RESOLUTION };
+            case "collection":
+                return new ValueTags[] { ValueTags.BEG_COLLECTION };
+            case "no-value":
+                return new ValueTags[] { ValueTags.NO_VALUE };
+            case "unknown":
+                return new ValueTags[] { ValueTags.UNKNOWN };
+            default:
+                throw new IllegalArgumentException("unknown type '" + type + "' in syntax '" + syntax + "'");
+        }
+    }
+
+    private static int toMaxLength(ValueTags tag, String limit) {
+        if (!limit.isEmpty() && !"MAX".equals(limit) && (limit.indexOf(':') < 0)) {
+            return Integer.parseInt(limit);
+        }
+        switch (tag) {
+            case TEXT_WITHOUT_LANGUAGE:
+            case URI:
+            case UNSPECIFIED_OCTET_STRING:
+                return 1023;
+            case NAME_WITHOUT_LANGUAGE:
+            case KEYWORD:
+            case MIME_MEDIA_TYPE:
+                return 255;
+            case URI_SCHEME:
+            case CHARSET:
+            case NATURAL_LANGUAGE:
+                return 63;
+            case INTEGER:
+            case ENUM:
+                return 4;
+            case BOOLEAN:
+                return 1;
+            case RANGE_OF_INTEGER:
+                return 8;
+            case DATE_TIME:
+                return 11;
+            case RESOLUTION:
+                return 9;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Marks the syntax as defined for the given attribute-group. The first
+     * attribute-group is the default group of the attribute.
+     *
+     * @param tag e.g. {@link DelimiterTags#JOB_ATTRIBUTES_TAG}
+     */
+    void addGroup(DelimiterTags tag) {
+        if (group == null) {
+            group = tag;
+        }
+        groups |= 1 << tag.getValue();
+    }
+
+    /**
+     * Gets the name of the attribute.
+     *
+     * @return e.g. "job-state"
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the default value-tag which is the first one of the syntax.
+     *
+     * @return e.g. {@link ValueTags#KEYWORD} for "type2 keyword | name(MAX)"
+     */
+    public ValueTags getValueTag() {
+        return valueTags[0];
+    }
+
+    /**
+     * Gets all value-tags which are allowed by the syntax.
+     *
+     * @return e.g. KEYWORD, NAME_WITHOUT_LANGUAGE and NAME_WITH_LANGUAGE
+     */
+    public ValueTags[] getValueTags() {
+        return valueTags.clone();
+    }
+
+    /**
+     * Looks if the given value-tag is allowed by the syntax.
+     *
+     * @param tag the value-tag
+     * @return true or false
+     */
+    public boolean isAllowed(ValueTags tag) {
+        for (ValueTags t : valueTags) {
+            if (t == tag) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * An attribute with the syntax "1setOf X" may have several values.
+     *
+     * @return true for a multi-value attribute
+     */
+    public boolean isMultiValue() {
+        return multiValue;
+    }
+
+    /**
+     * Gets the maximal length of a value with the default value-tag. So an
+     * encoder can reserve the needed space.
+     *
+     * @return length in octets (0 for a collection)
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Gets the default attribute-group of the attribute.
+     *
+     * @return e.g. {@link DelimiterTags#OPERATION_ATTRIBUTES_TAG}
+     */
+    public DelimiterTags getGroup() {
+        return group;
+    }
+
+    /**
+     * Looks if the attribute is defined for the given attribute-group.
+     *
+     * @param tag e.g. {@link DelimiterTags#JOB_ATTRIBUTES_TAG}
+     * @return true or false
+     */
+    public boolean isDefinedIn(DelimiterTags tag) {
+        return (groups & (1 << tag.getValue())) != 0;
+    }
+
+    /**
+     * Returns the attribute with its syntax as it is written in the IANA
+     * registry.
+     *
+     * @return e.g. "job-state (type1 enum)"
+     */
+    @Override
+    public String toString() {
+        return name + " (" + syntax + ")";
+    }
+
+}
@@ -0,0 +1,467 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import j4cups.protocol.tags.DelimiterTags;
+import j4cups.protocol.tags.ValueTags;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The class AttributeTable is a read-only, columnar representation of
+ * encoded attribute-groups. The attribute-groups are parsed in one pass
+ * into a few primitive arrays (start of the groups, offsets, value-tags and
+ * name ids of the attributes) over the original bytes. So a large response
+ * (e.g. of 'Get-Jobs' with thousands of jobs) needs no object per group,
+ * attribute or value.
+ * <p>
+ * The attributes are numbered from 0 to {@link #getAttributeCount()} - 1
+ * over all groups. The attributes of a group are iterated like this:
+ * </p>
+ * <pre>
+ * for (int g = 0; g &lt; table.getGroupCount(); g++) {
+ *     for (int i = table.getGroupStart(g); i &lt; table.getGroupEnd(g); i++) {
+ *         ... table.getName(i) ... table.getIntValue(i) ...
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * The typed getters read only the first value of an attribute directly
+ * from the original bytes. If all values or a modifiable attribute are
+ * needed the attribute can be decoded with {@link #getAttribute(int)}.
+ * </p>
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public final class AttributeTable {
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int end;
+    private byte[] groupTags = new byte[4];
+    private int[] groupStarts = new int[5];
+    private int groupCount;
+    private int[] starts = new int[32];
+    private int[] ends = new int[32];
+    private int[] nameIds = new int[32];
+    private int count;
+
+    /**
+     * Parses the attribute-groups up to (and including) the
+     * end-of-attributes-tag. The given bytes are not copied, so they must
+     * not be changed afterwards.
+     *
+     * @param bytes  the encoded message
+     * @param offset the position of the first attribute-group (e.g. 8
+     *               behind the header of an IPP message)
+     */
+    public AttributeTable(byte[] bytes, int offset) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.end = parse(offset);
+        this.groupStarts[groupCount] = count;
+    }
+
+    private int parse(int start) {
+        int pos = start;
+        int depth = 0;
+        while (true) {
+            checkRemaining(pos, 1);
+            int tag = bytes[pos] & 0xff;
+            if (tag == DelimiterTags.END_OF_ATTRIBUTES_TAG.getValue()) {
+                return pos + 1;
+            }
+            if (DelimiterTags.isValid(tag)) {
+                addGroup(tag);
+                pos++;
+                continue;
+            }
+            if (groupCount == 0) {
+                throw new IllegalArgumentException("invalid id: " + tag + " at pos " + pos);
+            }
+            int fieldStart = pos;
+            int nameLength = readLength(pos + 1);
+            int namePos = pos + 3;
+            pos = namePos + nameLength;
+            pos += 2 + readLength(pos);
+            if (depth > 0) {
+                depth += depthChange(tag);
+            } else if (nameLength > 0) {
+                addAttribute(fieldStart, NameDictionary.indexOf(bytes, namePos, nameLength));
+                depth = depthChange(tag);
+            } else if ((count == 0) || (groupStarts[groupCount - 1] == count)) {
+                throw new IllegalArgumentException("additional-value without attribute at pos " + fieldStart);
+            } else {
+                depth = depthChange(tag);
+            }
+            ends[count - 1] = pos;
+        }
+    }
+
+    private static int depthChange(int tag) {
+        if (tag == ValueTags.BEG_COLLECTION.getValue()) {
+            return 1;
+        } else if (tag == ValueTags.END_COLLECTION.getValue()) {
+            return -1;
+        }
+        return 0;
+    }
+
+    private int readLength(int pos) {
+        checkRemaining(pos, 2);
+        int length = ((bytes[pos] & 0xff) << 8) | (bytes[pos + 1] & 0xff);
+        checkRemaining(pos + 2, length);
+        return length;
+    }
+
+    private void checkRemaining(int pos, int n) {
+        if (pos + n > bytes.length) {
+            throw new IllegalArgumentException("truncated attribute-groups: " + n + " bytes expected at pos " + pos);
+        }
+    }
+
+    private void addGroup(int tag) {
+        if (groupCount == groupTags.length) {
+            groupTags = Arrays.copyOf(groupTags, groupCount * 2);
+            groupStarts = Arrays.copyOf(groupStarts, groupCount * 2 + 1);
+        }
+        groupTags[groupCount] = (byte) tag;
+        groupStarts[groupCount] = count;
+        groupCount++;
+    }
+
+    private void addAttribute(int pos, int nameId) {
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+            nameIds = Arrays.copyOf(nameIds, count * 2);
+        }
+        starts[count] = pos;
+        nameIds[count] = nameId;
+        count++;
+    }
+
+    /**
+     * Gets the length of the encoded attribute-groups including the
+     * end-of-attributes-tag.
+     *
+     * @return length in bytes
+     */
+    public int getLength() {
+        return end - offset;
+    }
+
+    /**
+     * Gets the position behind the end-of-attributes-tag. This is the
+     * start of the data part of the message.
+     *
+     * @return position in the original bytes
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * Gets the number of attribute-groups.
+     *
+     * @return number of attribute-groups
+     */
+    public int getGroupCount() {
+        return groupCount;
+    }
+
+    /**
+     * Gets the begin-attribute-group-tag of the given attribute-group.
+     *
+     * @param group the index of the attribute-group
+     * @return e.g. {@link DelimiterTags#JOB_ATTRIBUTES_TAG}
+     */
+    public DelimiterTags getGroupTag(int group) {
+        return DelimiterTags.of(groupTags[checkGroup(group)]);
+    }
+
+    /**
+     * Gets the index of the first attribute of the given attribute-group.
+     *
+     * @param group the index of the attribute-group
+     * @return index of the first attribute
+     */
+    public int getGroupStart(int group) {
+        return groupStarts[checkGroup(group)];
+    }
+
+    /**
+     * Gets the index behind the last attribute of the given
+     * attribute-group.
+     *
+     * @param group the index of the attribute-group
+     * @return index behind the last attribute
+     */
+    public int getGroupEnd(int group) {
+        return groupStarts[checkGroup(group) + 1];
+    }
+
+    private int checkGroup(int group) {
+        if ((group < 0) || (group >= groupCount)) {
+            throw new IndexOutOfBoundsException("group " + group + " not in [0, " + groupCount + ")");
+        }
+        return group;
+    }
+
+    /**
+     * Gets the number of attributes in all attribute-groups.
+     *
+     * @return number of attributes
+     */
+    public int getAttributeCount() {
+        return count;
+    }
+
+    /**
+     * Looks for the first attribute with the given name in all
+     * attribute-groups.
+     *
+     * @param name e.g. "printer-uri"
+     * @return the index of the attribute or -1 if it is not found
+     */
+    public int indexOf(String name) {
+        return indexOf(name, 0, count);
+    }
+
+    /**
+     * Looks for the attribute with the given name in the given
+     * attribute-group. A well-known name is compared by its id, so no
+     * bytes must be compared for it.
+     *
+     * @param group the index of the attribute-group
+     * @param name  e.g. "job-id"
+     * @return the index of the attribute or -1 if it is not found
+     */
+    public int indexOf(int group, String name) {
+        return indexOf(name, getGroupStart(group), getGroupEnd(group));
+    }
+
+    private int indexOf(String name, int from, int to) {
+        byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+        int nameId = NameDictionary.indexOf(encoded, 0, encoded.length);
+        for (int i = from; i < to; i++) {
+            if ((nameIds[i] == nameId) && ((nameId >= 0) || equalsName(i, encoded))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean equalsName(int i, byte[] name) {
+        int pos = starts[i] + 1;
+        if (readLength(pos) != name.length) {
+            return false;
+        }
+        for (int j = 0; j < name.length; j++) {
+            if (bytes[pos + 2 + j] != name[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the name of the given attribute. A well-known name is returned
+     * as shared string.
+     *
+     * @param i the index of the attribute
+     * @return e.g. "job-state"
+     */
+    public String getName(int i) {
+        if (nameIds[checkIndex(i)] >= 0) {
+            return NameDictionary.getName(nameIds[i]);
+        }
+        return new String(bytes, starts[i] + 3, readLength(starts[i] + 1), StandardCharsets.UTF_8);
+    }
+
+    private int checkIndex(int i) {
+        if ((i < 0) || (i >= count)) {
+            throw new IndexOutOfBoundsException("attribute " + i + " not in [0, " + count + ")");
+        }
+        return i;
+    }
+
+    /**
+     * Gets the value-tag of the (first value of the) given attribute.
+     *
+     * @param i the index of the attribute
+     * @return e.g. {@link ValueTags#ENUM}
+     */
+    public ValueTags getValueTag(int i) {
+        return ValueTags.of(bytes[starts[checkIndex(i)]]);
+    }
+
+    private int getValuePos(int i) {
+        int pos = starts[checkIndex(i)] + 1;
+        return pos + 2 + readLength(pos);
+    }
+
+    private int getValueLength(int i) {
+        return readLength(getValuePos(i));
+    }
+
+    /**
+     * Gets the (first) value of the given attribute as bytes.
+     *
+     * @param i the index of the attribute
+     * @return a copy of the value
+     */
+    public byte[] getValue(int i) {
+        int pos = getValuePos(i);
+        return Arrays.copyOfRange(bytes, pos + 2, pos + 2 + readLength(pos));
+    }
+
+    /**
+     * Gets the (first) value of an integer or enum attribute. The value
+     * is read directly from the original bytes.
+     *
+     * @param i the index of the attribute
+     * @return a 32-bit number
+     */
+    public int getIntValue(int i) {
+        int pos = getValuePos(i);
+        return ValueCodecs.toInt(bytes, pos + 2, readLength(pos));
+    }
+
+    /**
+     * Gets the (first) value of a boolean attribute.
+     *
+     * @param i the index of the attribute
+     * @return true (0x01) or false (0x00)
+     */
+    public boolean getBooleanValue(int i) {
+        if (getValueLength(i) != 1) {
+            throw new IllegalStateException("no boolean value stored in " + getName(i));
+        }
+        return ValueCodecs.toBoolean(new byte[] { bytes[getValuePos(i) + 2] });
+    }
+
+    /**
+     * Gets the (first) value of a character-string attribute. Well-known
+     * keywords are returned as shared strings.
+     *
+     * @param i the index of the attribute
+     * @return e.g. "processing-to-stop-point"
+     */
+    public String getStringValue(int i) {
+        int pos = getValuePos(i);
+        return NameDictionary.toString(bytes, pos + 2, readLength(pos));
+    }
+
+    /**
+     * Gets the (first) value of an URI attribute.
+     *
+     * @param i the index of the attribute
+     * @return an URI
+     */
+    public URI getUriValue(int i) {
+        return URI.create(getStringValue(i));
+    }
+
+    /**
+     * Decodes the (first) value of the given attribute with the given
+     * codec.
+     *
+     * @param <T>   the type of the value
+     * @param i     the index of the attribute
+     * @param codec e.g. {@link ValueCodecs#DATE_TIME}
+     * @return the decoded value
+     */
+    public <T> T getValue(int i, ValueCodec<T> codec) {
+        return codec.decode(getValue(i));
+    }
+
+    /**
+     * Gets the number of values of the given attribute. The values are
+     * counted by scanning the encoded attribute.
+     *
+     * @param i the index of the attribute
+     * @return 1 for a single-value attribute
+     */
+    public int getValueCount(int i) {
+        int n = 0;
+        int depth = 0;
+        for (int pos = starts[checkIndex(i)]; pos < ends[i]; ) {
+            int tag = bytes[pos];
+            if (depth == 0) {
+                n++;
+            }
+            depth += depthChange(tag);
+            pos += 3 + readLength(pos + 1);
+            pos += 2 + readLength(pos);
+        }
+        return n;
+    }
+
+    /**
+     * Decodes the given attribute with all its values.
+     *
+     * @param i the index of the attribute
+     * @return the decoded attribute
+     */
+    public Attribute getAttribute(int i) {
+        return new Attribute(ByteBuffer.wrap(bytes, starts[checkIndex(i)], ends[i] - starts[i]));
+    }
+
+    /**
+     * Decodes the first attribute with the given name. If no attribute
+     * with the given name is found an {@link IllegalArgumentException} will
+     * be thrown.
+     *
+     * @param name e.g. "printer-uri"
+     * @return the decoded attribute
+     */
+    public Attribute getAttribute(String name) {
+        int i = indexOf(name);
+        if (i < 0) {
+            throw new IllegalArgumentException("no attribute '" + name + "' found");
+        }
+        return getAttribute(i);
+    }
+
+    /**
+     * Decodes the given attribute-group.
+     *
+     * @param group the index of the attribute-group
+     * @return the decoded attribute-group
+     */
+    public AttributeGroup getAttributeGroup(int group) {
+        List<Attribute> attributes = new ArrayList<>(getGroupEnd(group) - getGroupStart(group));
+        for (int i = getGroupStart(group); i < getGroupEnd(group); i++) {
+            attributes.add(getAttribute(i));
+        }
+        return new AttributeGroup(getGroupTag(group), attributes);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " with " + count + " attributes in " + groupCount + " groups";
+    }
+
+}
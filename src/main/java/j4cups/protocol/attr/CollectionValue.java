@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import j4cups.protocol.tags.ValueTags;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The value of a 'collection' attribute like "media-col". As described in
+ * RFC-8010 (section 3.1.6) a collection starts with a 'begCollection'
+ * value which is followed by the member attributes. Each member attribute
+ * starts with a 'memberAttrName' value with the name of the member,
+ * followed by the value(s) of the member. The collection ends with an
+ * 'endCollection' value.
+ * <pre>
+ * -----------------------------------------------
+ * |     begCollection (value-tag 0x34, name)    |
+ * -----------------------------------------------
+ * |   memberAttrName (value-tag 0x4a, 'name')   |   for each member
+ * |   member-value(s) (without name)            |
+ * -----------------------------------------------
+ * |     endCollection (value-tag 0x37)          |
+ * -----------------------------------------------
+ * </pre>
+ * <p>
+ * Printers return large collections like "media-col-database". So the
+ * member attributes are kept as encoded bytes and are decoded not before
+ * they are accessed. As long as the members are not accessed the
+ * collection is encoded byte by byte from the original bytes.
+ * </p>
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public final class CollectionValue {
+
+    private static final byte[] END_COLLECTION = { ValueTags.END_COLLECTION.getValue(), 0, 0, 0, 0 };
+    private final byte[] bytes;
+    private List<Attribute> members;
+
+    private CollectionValue(byte[] bytes, List<Attribute> members) {
+        this.bytes = bytes;
+        this.members = members;
+    }
+
+    /**
+     * Creates a collection with the given member attributes.
+     *
+     * @param members e.g. "media-size" and "media-type"
+     * @return the collection
+     */
+    public static CollectionValue of(Attribute... members) {
+        return new CollectionValue(null, new ArrayList<>(Arrays.asList(members)));
+    }
+
+    /**
+     * Reads the member attributes up to (and including) the matching
+     * 'endCollection' value. The given {@link ByteBuffer} must be
+     * positioned behind the 'begCollection' value. Nested collections
+     * are only skipped, they are also decoded on demand.
+     *
+     * @param buffer ByteBuffer positioned behind the 'begCollection' value
+     * @return the collection
+     */
+    static CollectionValue read(ByteBuffer buffer) {
+        int start = buffer.position();
+        int depth = 1;
+        while (depth > 0) {
+            if (buffer.remaining() < 5) {
+                throw new IllegalArgumentException("collection without endCollection at pos " + start);
+            }
+            byte tag = buffer.get();
+            skipField(buffer);
+            skipField(buffer);
+            if (tag == ValueTags.BEG_COLLECTION.getValue()) {
+                depth++;
+            } else if (tag == ValueTags.END_COLLECTION.getValue()) {
+                depth--;
+            }
+        }
+        byte[] bytes = new byte[buffer.position() - start];
+        buffer.position(start);
+        buffer.get(bytes);
+        return new CollectionValue(bytes, null);
+    }
+
+    private static void skipField(ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xffff;
+        if (length > buffer.remaining()) {
+            throw new IllegalArgumentException("invalid length " + length + " at pos " + buffer.position());
+        }
+        buffer.position(buffer.position() + length);
+    }
+
+    /**
+     * Gets the member attributes. They are decoded with the first access.
+     *
+     * @return the member attributes
+     */
+    public List<Attribute> getMembers() {
+        if (members == null) {
+            members = decode();
+        }
+        return members;
+    }
+
+    /**
+     * Gets the member attribute with the given name.
+     *
+     * @param name e.g. "media-size"
+     * @return the member attribute or null if it is not found
+     */
+    public Attribute getMember(String name) {
+        for (Attribute member : getMembers()) {
+            if (name.equals(member.getName())) {
+                return member;
+            }
+        }
+        return null;
+    }
+
+    private List<Attribute> decode() {
+        List<Attribute> values = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.get(buffer.position()) != ValueTags.END_COLLECTION.getValue()) {
+            Attribute.AttributeWithOneValue memberName = new Attribute.AttributeWithOneValue(buffer);
+            if (memberName.getValueTag() != ValueTags.MEMBER_ATTR_NAME) {
+                throw new IllegalArgumentException("memberAttrName expected instead of " + memberName.getValueTag());
+            }
+            values.add(Attribute.readMember(memberName.getStringValue(), buffer));
+        }
+        return values;
+    }
+
+    /**
+     * Gets the length of the encoded member attributes including the
+     * 'endCollection' value.
+     *
+     * @return length in bytes
+     */
+    public int encodedLength() {
+        if (members == null) {
+            return bytes.length;
+        }
+        int n = END_COLLECTION.length;
+        for (Attribute member : members) {
+            n += member.encodedMemberLength();
+        }
+        return n;
+    }
+
+    /**
+     * Writes the member attributes and the 'endCollection' value into the
+     * given buffer. If the members were not accessed the original bytes
+     * are written.
+     *
+     * @param buffer buffer with at least {@link #encodedLength()} bytes
+     *               remaining
+     */
+    public void encodeTo(ByteBuffer buffer) {
+        if (members == null) {
+            buffer.put(bytes);
+        } else {
+            for (Attribute member : members) {
+                member.encodeMemberTo(buffer);
+            }
+            buffer.put(END_COLLECTION);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CollectionValue)) {
+            return false;
+        }
+        return Arrays.equals(toByteArray(), ((CollectionValue) obj).toByteArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toByteArray());
+    }
+
+    private byte[] toByteArray() {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedLength());
+        encodeTo(buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Shows the member attributes. If the members were not accessed they
+     * are decoded only temporarily.
+     *
+     * @return e.g. "{media-size={x-dimension=21000,y-dimension=29700},media-type=stationery}"
+     */
+    @Override
+    public String toString() {
+        List<Attribute> values = (members == null) ? decode() : members;
+        StringBuilder buffer = new StringBuilder("{");
+        for (Attribute member : values) {
+            buffer.append(member.isMultiValue() ? member.toLongString() : member.toString()).append(',');
+        }
+        if (!values.isEmpty()) {
+            buffer.deleteCharAt(buffer.length() - 1);
+        }
+        return buffer.append('}').toString();
+    }
+
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The class NameDictionary contains the well-known attribute names of
+ * RFC-8011 and CUPS and the common keyword values (like 'none' or
+ * 'iso_a4_210x297mm'). The encoded bytes of a name or value are looked
+ * up without allocating anything. If they are found the canonical
+ * {@link String} is returned. Because the canonical strings are string
+ * literals they are the same instances as the string literals used in
+ * the code so that a comparison of names is mostly an identity check.
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+final class NameDictionary {
+
+    private static final String[] WORDS = {
+            "",
+            // operation attributes (RFC-8011, section 4)
+            "attributes-charset", "attributes-natural-language", "printer-uri", "job-uri", "job-id",
+            "requesting-user-name", "job-name", "document-name", "document-format", "document-natural-language",
+            "ipp-attribute-fidelity", "last-document", "compression", "job-k-octets", "job-impressions",
+            "job-media-sheets", "limit", "which-jobs", "my-jobs", "requested-attributes", "status-message",
+            "detailed-status-message", "document-access-error", "first-index", "job-ids",
+            // job template attributes (RFC-8011, section 5.2)
+            "copies", "finishings", "job-hold-until", "job-priority", "job-sheets", "media", "media-col",
+            "multiple-document-handling", "number-up", "orientation-requested", "output-bin", "output-mode",
+            "page-ranges", "print-color-mode", "print-quality", "printer-resolution", "sides",
+            // job description and status attributes (RFC-8011, section 5.3)
+            "job-uuid", "job-state", "job-state-reasons", "job-state-message", "job-printer-uri", "job-more-info",
+            "job-originating-user-name", "job-originating-host-name", "job-printer-up-time",
+            "job-k-octets-processed", "job-impressions-completed", "job-media-sheets-completed",
+            "job-detailed-status-messages", "job-document-access-errors", "job-message-from-operator",
+            "time-at-creation", "time-at-processing", "time-at-completed", "date-time-at-creation",
+            "date-time-at-processing", "date-time-at-completed", "number-of-documents",
+            "number-of-intervening-jobs", "output-device-assigned",
+            // printer description and status attributes (RFC-8011, section 5.4)
+            "printer-uri-supported", "uri-security-supported", "uri-authentication-supported", "printer-name",
+            "printer-location", "printer-info", "printer-more-info", "printer-driver-installer",
+            "printer-make-and-model", "printer-more-info-manufacturer", "printer-state", "printer-state-reasons",
+            "printer-state-message", "printer-state-change-time", "printer-state-change-date-time",
+            "ipp-versions-supported", "operations-supported", "multiple-document-jobs-supported",
+            "charset-configured", "charset-supported", "natural-language-configured",
+            "generated-natural-language-supported", "document-format-default", "document-format-supported",
+            "printer-is-accepting-jobs", "queued-job-count", "printer-message-from-operator", "color-supported",
+            "reference-uri-schemes-supported", "pdl-override-supported", "printer-up-time",
+            "printer-current-time", "multiple-operation-time-out", "compression-supported",
+            "job-k-octets-supported", "job-impressions-supported", "job-media-sheets-supported",
+            "pages-per-minute", "pages-per-minute-color", "printer-uuid", "printer-id",
+            "copies-default", "copies-supported", "finishings-default", "finishings-supported",
+            "job-hold-until-default", "job-hold-until-supported", "job-priority-default",
+            "job-priority-supported", "job-sheets-default", "job-sheets-supported", "media-default",
+            "media-supported", "media-ready", "media-col-default", "media-col-supported",
+            "multiple-document-handling-default", "multiple-document-handling-supported",
+            "number-up-default", "number-up-supported", "orientation-requested-default",
+            "orientation-requested-supported", "output-bin-default", "output-bin-supported",
+            "page-ranges-supported", "print-color-mode-default", "print-color-mode-supported",
+            "print-quality-default", "print-quality-supported", "printer-resolution-default",
+            "printer-resolution-supported", "sides-default", "sides-supported",
+            "job-creation-attributes-supported", "printer-alert", "printer-alert-description",
+            "printer-icons", "printer-dns-sd-name", "printer-geo-location", "printer-organization",
+            "printer-organizational-unit",
+            // CUPS attributes
+            "cups-version", "device-uri", "member-names", "member-uris", "printer-type", "printer-type-mask",
+            "printer-commands", "printer-is-shared", "printer-is-temporary", "printer-error-policy",
+            "printer-error-policy-supported", "printer-op-policy", "printer-op-policy-supported",
+            "port-monitor", "port-monitor-supported", "requesting-user-name-allowed",
+            "requesting-user-name-denied", "job-quota-period", "job-k-limit", "job-page-limit",
+            "marker-colors", "marker-high-levels", "marker-levels", "marker-low-levels", "marker-message",
+            "marker-names", "marker-types", "marker-change-time", "first-printer-name",
+            // notifications (RFC-3995)
+            "notify-events", "notify-events-default", "notify-events-supported", "notify-pull-method",
+            "notify-pull-method-supported", "notify-recipient-uri", "notify-schemes-supported",
+            "notify-subscription-id", "notify-lease-duration", "notify-lease-duration-default",
+            "notify-lease-duration-supported", "notify-max-events-supported", "notify-time-interval",
+            // charsets, languages and versions
+            "utf-8", "us-ascii", "en", "en-us", "de", "de-de", "1.0", "1.1", "2.0",
+            // document formats
+            "application/octet-stream", "application/pdf", "application/postscript",
+            "application/vnd.cups-pdf", "application/vnd.cups-postscript", "application/vnd.cups-raster",
+            "application/vnd.cups-raw", "application/vnd.cups-command", "image/gif", "image/jpeg",
+            "image/png", "image/tiff", "image/pwg-raster", "image/urf", "text/plain", "text/html",
+            // keywords
+            "none", "all", "auto", "other", "default", "completed", "not-completed", "one-sided",
+            "two-sided-long-edge", "two-sided-short-edge", "monochrome", "color", "draft", "normal", "high",
+            "no-hold", "indefinite", "deflate", "gzip", "compress", "attempt", "printer", "ipp", "ipps",
+            "http", "https", "separate-documents-uncollated-copies", "separate-documents-collated-copies",
+            "single-document", "single-document-new-sheet", "abort-job", "retry-job", "retry-current-job",
+            "stop-printer", "top", "face-down", "face-up", "toner", "ink", "ink-cartridge",
+            // job-state-reasons and printer-state-reasons
+            "job-incoming", "job-printing", "job-completed-successfully", "job-completed-with-warnings",
+            "job-completed-with-errors", "job-canceled-by-user", "job-canceled-by-operator",
+            "job-hold-until-specified", "job-data-insufficient", "processing-to-stop-point",
+            "printer-stopped", "printer-stopped-partly", "paused", "media-empty", "media-needed",
+            "media-low", "media-jam", "toner-low", "toner-empty", "marker-supply-low", "marker-supply-empty",
+            "cups-waiting-for-job-completed", "idle",
+            // media
+            "iso_a3_297x420mm", "iso_a4_210x297mm", "iso_a5_148x210mm", "iso_a6_105x148mm",
+            "iso_b5_176x250mm", "iso_c5_162x229mm", "iso_c6_114x162mm", "iso_dl_110x220mm",
+            "jis_b5_182x257mm", "jis_b6_128x182mm", "na_letter_8.5x11in", "na_legal_8.5x14in",
+            "na_executive_7.25x10.5in", "na_ledger_11x17in", "na_invoice_5.5x8.5in",
+            "na_monarch_3.875x7.5in", "na_number-10_4.125x9.5in",
+            // collection members (RFC-8011, section 5.2.11 and PWG 5100.7)
+            "media-col-database", "media-col-ready", "media-size", "x-dimension", "y-dimension", "media-key",
+            "media-type", "media-source", "media-color", "media-size-name", "media-top-margin",
+            "media-bottom-margin", "media-left-margin", "media-right-margin", "media-source-properties",
+            "stationery", "photographic", "main", "manual", "tray-1", "tray-2",
+    };
+
+    private static final byte[][] ENCODED = new byte[WORDS.length][];
+    private static final int[] SLOTS = new int[1024];
+    private static final int MAX_LENGTH;
+
+    static {
+        int max = 0;
+        for (int i = 0; i < WORDS.length; i++) {
+            ENCODED[i] = WORDS[i].getBytes(StandardCharsets.UTF_8);
+            max = Math.max(max, ENCODED[i].length);
+            int slot = hash(ENCODED[i], 0, ENCODED[i].length);
+            while (SLOTS[slot] != 0) {
+                if (Arrays.equals(ENCODED[SLOTS[slot] - 1], ENCODED[i])) {
+                    throw new ExceptionInInitializerError("duplicate entry: " + WORDS[i]);
+                }
+                slot = (slot + 1) & (SLOTS.length - 1);
+            }
+            SLOTS[slot] = i + 1;
+        }
+        MAX_LENGTH = max;
+    }
+
+    private NameDictionary() {
+    }
+
+    private static int hash(byte[] bytes, int pos, int length) {
+        int h = 0x811c9dc5;
+        for (int i = pos; i < pos + length; i++) {
+            h = (h ^ bytes[i]) * 0x01000193;
+        }
+        return (h ^ (h >>> 16)) & (SLOTS.length - 1);
+    }
+
+    private static int hash(ByteBuffer buffer, int pos, int length) {
+        int h = 0x811c9dc5;
+        for (int i = pos; i < pos + length; i++) {
+            h = (h ^ buffer.get(i)) * 0x01000193;
+        }
+        return (h ^ (h >>> 16)) & (SLOTS.length - 1);
+    }
+
+    private static boolean equals(byte[] word, byte[] bytes, int pos) {
+        for (int i = 0; i < word.length; i++) {
+            if (word[i] != bytes[pos + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equals(byte[] word, ByteBuffer buffer, int pos) {
+        for (int i = 0; i < word.length; i++) {
+            if (word[i] != buffer.get(pos + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Looks for the encoded name at the given position of the buffer. The
+     * position of the buffer is not changed.
+     *
+     * @param buffer the buffer with the encoded name
+     * @param pos    the (absolute) position of the name in the buffer
+     * @param length the length of the encoded name
+     * @return the index of the name or -1 if it is not found
+     */
+    static int indexOf(ByteBuffer buffer, int pos, int length) {
+        if ((length < 0) || (length > MAX_LENGTH) || (pos + length > buffer.limit())) {
+            return -1;
+        }
+        for (int slot = hash(buffer, pos, length); SLOTS[slot] != 0; slot = (slot + 1) & (SLOTS.length - 1)) {
+            byte[] word = ENCODED[SLOTS[slot] - 1];
+            if ((word.length == length) && equals(word, buffer, pos)) {
+                return SLOTS[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Looks for the encoded name at the given position of the array.
+     *
+     * @param bytes  the array with the encoded name
+     * @param pos    the position of the name in the array
+     * @param length the length of the encoded name
+     * @return the index of the name or -1 if it is not found
+     */
+    static int indexOf(byte[] bytes, int pos, int length) {
+        if (length > MAX_LENGTH) {
+            return -1;
+        }
+        for (int slot = hash(bytes, pos, length); SLOTS[slot] != 0; slot = (slot + 1) & (SLOTS.length - 1)) {
+            byte[] word = ENCODED[SLOTS[slot] - 1];
+            if ((word.length == length) && equals(word, bytes, pos)) {
+                return SLOTS[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the canonical string of the given index.
+     *
+     * @param index the index of the name
+     * @return e.g. "printer-uri"
+     */
+    static String getName(int index) {
+        return WORDS[index];
+    }
+
+    /**
+     * Gets the encoded name of the given index. The returned array is
+     * shared and must not be modified.
+     *
+     * @param index the index of the name
+     * @return the UTF-8 encoded name
+     */
+    static byte[] getBytes(int index) {
+        return ENCODED[index];
+    }
+
+    /**
+     * Converts the given UTF-8 bytes to a string. For a well-known name or
+     * keyword the canonical string is returned so that no new string is
+     * allocated.
+     *
+     * @param bytes UTF-8 bytes
+     * @return e.g. "one-sided"
+     */
+    static String toString(byte[] bytes) {
+        return toString(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Converts the given part of the array to a string. For a well-known
+     * name or keyword the canonical string is returned.
+     *
+     * @param bytes  array with the UTF-8 bytes
+     * @param pos    the position of the string in the array
+     * @param length the number of bytes
+     * @return e.g. "en"
+     */
+    static String toString(byte[] bytes, int pos, int length) {
+        int index = indexOf(bytes, pos, length);
+        return (index < 0) ? new String(bytes, pos, length, StandardCharsets.UTF_8) : WORDS[index];
+    }
+
+}
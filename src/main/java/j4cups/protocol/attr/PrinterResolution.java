@@ -20,6 +20,7 @@ package j4cups.protocol.attr;
 import j4cups.protocol.enums.PrintQuality;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 
 /**
  * This RECOMMENDED attribute identifies the output resolution that the
@@ -58,6 +59,22 @@ public class PrinterResolution {
         return new PrinterResolution(crossFeed, feed, quality);
     }
 
+    /**
+     * Decodes a {@link PrinterResolution} from the 9 octets described in
+     * {@link #toByteArray()}.
+     *
+     * @param octets the encoded resolution
+     * @return the printer resolution
+     * @since 0.6.2
+     */
+    public static PrinterResolution of(byte[] octets) {
+        if (octets.length != 9) {
+            throw new IllegalArgumentException("invalid resolution with " + octets.length + " octets");
+        }
+        return new PrinterResolution(ValueCodecs.toInt(octets, 0), ValueCodecs.toInt(octets, 4),
+                PrintQuality.of(octets[8]));
+    }
+
     /**
      * Gets cross feed direction.
      *
@@ -106,6 +123,24 @@ public class PrinterResolution {
         return octets;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PrinterResolution)) {
+            return false;
+        }
+        PrinterResolution other = (PrinterResolution) obj;
+        return (crossFeedDirection == other.crossFeedDirection) && (feedDirection == other.feedDirection)
+                && (printQuality == other.printQuality);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(crossFeedDirection, feedDirection, printQuality);
+    }
+
     @Override
     public String toString() {
         return getCrossFeedDirection() + "x" + getFeedDirection() + " (" + getPrintQuality() + ")";
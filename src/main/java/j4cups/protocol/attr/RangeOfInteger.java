@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The value of a 'rangeOfInteger' attribute like "copies-supported". It
+ * is encoded as eight octets: the lower bound followed by the upper
+ * bound as SIGNED-INTEGER (RFC-2910, section 3.9).
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public final class RangeOfInteger {
+
+    private final int lowerBound;
+    private final int upperBound;
+
+    private RangeOfInteger(int lowerBound, int upperBound) {
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * Returns a range with the given bounds.
+     *
+     * @param lowerBound e.g. 1
+     * @param upperBound e.g. 9999
+     * @return the range
+     */
+    public static RangeOfInteger of(int lowerBound, int upperBound) {
+        if (lowerBound > upperBound) {
+            throw new IllegalArgumentException("invalid range: " + lowerBound + "-" + upperBound);
+        }
+        return new RangeOfInteger(lowerBound, upperBound);
+    }
+
+    /**
+     * Decodes the eight octets of a range.
+     *
+     * @param octets the binary value
+     * @return the range
+     */
+    public static RangeOfInteger of(byte[] octets) {
+        if (octets.length != 8) {
+            throw new IllegalArgumentException("invalid rangeOfInteger with " + octets.length + " octets");
+        }
+        return new RangeOfInteger(ValueCodecs.toInt(octets, 0), ValueCodecs.toInt(octets, 4));
+    }
+
+    /**
+     * Gets the lower bound.
+     *
+     * @return the lower bound
+     */
+    public int getLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Gets the upper bound.
+     *
+     * @return the upper bound
+     */
+    public int getUpperBound() {
+        return upperBound;
+    }
+
+    /**
+     * Checks if the given value is inside the range.
+     *
+     * @param value the value
+     * @return true if the value is between the lower and upper bound
+     */
+    public boolean contains(int value) {
+        return (lowerBound <= value) && (value <= upperBound);
+    }
+
+    /**
+     * Creates a byte array of 8 bytes with the lower and upper bound.
+     *
+     * @return the binary value
+     */
+    public byte[] toByteArray() {
+        byte[] octets = new byte[8];
+        ByteBuffer buf = ByteBuffer.wrap(octets);
+        buf.putInt(lowerBound);
+        buf.putInt(upperBound);
+        return octets;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof RangeOfInteger)) {
+            return false;
+        }
+        RangeOfInteger other = (RangeOfInteger) obj;
+        return (lowerBound == other.lowerBound) && (upperBound == other.upperBound);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * lowerBound + upperBound;
+    }
+
+    @Override
+    public String toString() {
+        return lowerBound + "-" + upperBound;
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * The value of a 'textWithLanguage' or 'nameWithLanguage' attribute. It
+ * is encoded as language (with a 2 byte length) followed by the text
+ * (with a 2 byte length) as described in RFC-2910 (section 3.9).
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public final class TextWithLanguage {
+
+    private final String language;
+    private final String text;
+
+    private TextWithLanguage(String language, String text) {
+        this.language = language;
+        this.text = text;
+    }
+
+    /**
+     * Returns a text with the given language.
+     *
+     * @param language e.g. "en"
+     * @param text     the text
+     * @return the text with language
+     */
+    public static TextWithLanguage of(String language, String text) {
+        return new TextWithLanguage(Objects.requireNonNull(language), Objects.requireNonNull(text));
+    }
+
+    /**
+     * Decodes the binary value of a 'textWithLanguage' or 'nameWithLanguage'
+     * attribute.
+     *
+     * @param octets the binary value
+     * @return the text with language
+     */
+    public static TextWithLanguage of(byte[] octets) {
+        int n = (octets.length < 2) ? octets.length : ((octets[0] & 0xff) << 8) | (octets[1] & 0xff);
+        if (n + 4 > octets.length) {
+            throw new IllegalArgumentException("invalid textWithLanguage with " + octets.length + " octets");
+        }
+        int m = ((octets[n + 2] & 0xff) << 8) | (octets[n + 3] & 0xff);
+        if (n + m + 4 != octets.length) {
+            throw new IllegalArgumentException("invalid textWithLanguage with " + octets.length + " octets");
+        }
+        String language = NameDictionary.toString(octets, 2, n);
+        String text = new String(octets, n + 4, m, StandardCharsets.UTF_8);
+        return new TextWithLanguage(language, text);
+    }
+
+    /**
+     * Gets the natural language.
+     *
+     * @return e.g. "en"
+     */
+    public String getLanguage() {
+        return language;
+    }
+
+    /**
+     * Gets the text.
+     *
+     * @return the text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Creates the binary value of the text with language.
+     *
+     * @return the binary value
+     */
+    public byte[] toByteArray() {
+        byte[] lang = language.getBytes(StandardCharsets.UTF_8);
+        byte[] txt = text.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buf = ByteBuffer.allocate(4 + lang.length + txt.length);
+        buf.putShort((short) lang.length);
+        buf.put(lang);
+        buf.putShort((short) txt.length);
+        buf.put(txt);
+        return buf.array();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof TextWithLanguage)) {
+            return false;
+        }
+        TextWithLanguage other = (TextWithLanguage) obj;
+        return language.equals(other.language) && text.equals(other.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * language.hashCode() + text.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return text + " (" + language + ")";
+    }
+
+}
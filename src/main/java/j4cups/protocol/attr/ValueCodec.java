@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+/**
+ * A ValueCodec converts the "value" field of an attribute from and to its
+ * binary representation as described in RFC-2910 (section 3.9). The
+ * codecs for the different value-tags are provided by {@link ValueCodecs}.
+ *
+ * @param <T> the type of the decoded value
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * Decodes the given "value" field.
+     *
+     * @param value the binary value
+     * @return the decoded value
+     */
+    T decode(byte[] value);
+
+    /**
+     * Encodes the given value as "value" field.
+     *
+     * @param value the value
+     * @return the binary value
+     */
+    byte[] encode(T value);
+
+}
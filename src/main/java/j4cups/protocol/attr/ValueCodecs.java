@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import j4cups.protocol.tags.ValueTags;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The class ValueCodecs provides the {@link ValueCodec}s for the different
+ * attribute syntaxes of RFC-2910 (section 3.9). For the hot path (e.g.
+ * reading the "job-id" or "job-state" of many jobs) the integer and
+ * boolean values can be read directly as primitives with
+ * {@link #toInt(byte[])} and {@link #toBoolean(byte[])}.
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public final class ValueCodecs {
+
+    /** Codec for 'integer' and 'enum' values (SIGNED-INTEGER). */
+    public static final ValueCodec<Integer> INTEGER = new ValueCodec<Integer>() {
+        @Override
+        public Integer decode(byte[] value) {
+            return toInt(value);
+        }
+
+        @Override
+        public byte[] encode(Integer value) {
+            return toByteArray(value);
+        }
+    };
+
+    /** Codec for 'boolean' values (SIGNED-BYTE). */
+    public static final ValueCodec<Boolean> BOOLEAN = new ValueCodec<Boolean>() {
+        @Override
+        public Boolean decode(byte[] value) {
+            return toBoolean(value);
+        }
+
+        @Override
+        public byte[] encode(Boolean value) {
+            return new byte[] { (byte) (value ? 0x01 : 0x00) };
+        }
+    };
+
+    /** Codec for 'rangeOfInteger' values. */
+    public static final ValueCodec<RangeOfInteger> RANGE_OF_INTEGER = new ValueCodec<RangeOfInteger>() {
+        @Override
+        public RangeOfInteger decode(byte[] value) {
+            return RangeOfInteger.of(value);
+        }
+
+        @Override
+        public byte[] encode(RangeOfInteger value) {
+            return value.toByteArray();
+        }
+    };
+
+    /** Codec for 'resolution' values. */
+    public static final ValueCodec<PrinterResolution> RESOLUTION = new ValueCodec<PrinterResolution>() {
+        @Override
+        public PrinterResolution decode(byte[] value) {
+            return PrinterResolution.of(value);
+        }
+
+        @Override
+        public byte[] encode(PrinterResolution value) {
+            return value.toByteArray();
+        }
+    };
+
+    /** Codec for 'dateTime' values (DateAndTime of RFC-2579). */
+    public static final ValueCodec<OffsetDateTime> DATE_TIME = new ValueCodec<OffsetDateTime>() {
+        @Override
+        public OffsetDateTime decode(byte[] value) {
+            return toDateTime(value);
+        }
+
+        @Override
+        public byte[] encode(OffsetDateTime value) {
+            return toByteArray(value);
+        }
+    };
+
+    /** Codec for 'textWithLanguage' and 'nameWithLanguage' values. */
+    public static final ValueCodec<TextWithLanguage> TEXT_WITH_LANGUAGE = new ValueCodec<TextWithLanguage>() {
+        @Override
+        public TextWithLanguage decode(byte[] value) {
+            return TextWithLanguage.of(value);
+        }
+
+        @Override
+        public byte[] encode(TextWithLanguage value) {
+            return value.toByteArray();
+        }
+    };
+
+    /** Codec for all character-string values (text, name, keyword, uri, ...). */
+    public static final ValueCodec<String> STRING = new ValueCodec<String>() {
+        @Override
+        public String decode(byte[] value) {
+            return NameDictionary.toString(value);
+        }
+
+        @Override
+        public byte[] encode(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+    };
+
+    /** Codec for 'uri' values. */
+    public static final ValueCodec<java.net.URI> URI = new ValueCodec<java.net.URI>() {
+        @Override
+        public java.net.URI decode(byte[] value) {
+            return java.net.URI.create(new String(value, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public byte[] encode(java.net.URI value) {
+            return value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    };
+
+    /** Codec for 'octetString' and all other values which are kept as bytes. */
+    public static final ValueCodec<byte[]> OCTET_STRING = new ValueCodec<byte[]>() {
+        @Override
+        public byte[] decode(byte[] value) {
+            return value.clone();
+        }
+
+        @Override
+        public byte[] encode(byte[] value) {
+            return value.clone();
+        }
+    };
+
+    private static final Map<ValueTags, ValueCodec<?>> CODECS = new EnumMap<>(ValueTags.class);
+
+    static {
+        CODECS.put(ValueTags.INTEGER, INTEGER);
+        CODECS.put(ValueTags.ENUM, INTEGER);
+        CODECS.put(ValueTags.BOOLEAN, BOOLEAN);
+        CODECS.put(ValueTags.RANGE_OF_INTEGER, RANGE_OF_INTEGER);
+        CODECS.put(ValueTags.RESOLUTION, RESOLUTION);
+        CODECS.put(ValueTags.DATE_TIME, DATE_TIME);
+        CODECS.put(ValueTags.TEXT_WITH_LANGUAGE, TEXT_WITH_LANGUAGE);
+        CODECS.put(ValueTags.NAME_WITH_LANGUAGE, TEXT_WITH_LANGUAGE);
+        for (ValueTags tag : ValueTags.values()) {
+            if (tag.isCharacterStringValue()) {
+                CODECS.put(tag, STRING);
+            }
+        }
+    }
+
+    private ValueCodecs() {
+    }
+
+    /**
+     * Gets the codec for the given value-tag. For value-tags without a
+     * special codec (e.g. the out-of-band values) {@link #OCTET_STRING} is
+     * returned.
+     *
+     * @param tag the value-tag
+     * @return the codec, e.g. {@link #INTEGER} for {@link ValueTags#ENUM}
+     */
+    public static ValueCodec<?> of(ValueTags tag) {
+        ValueCodec<?> codec = CODECS.get(tag);
+        return (codec == null) ? OCTET_STRING : codec;
+    }
+
+    /**
+     * Reads a SIGNED-INTEGER from the given value. Shorter values (like a
+     * SIGNED-BYTE) are extended by their sign.
+     *
+     * @param value value with (normally) 4 bytes
+     * @return the integer value
+     */
+    public static int toInt(byte[] value) {
+        return toInt(value, 0, value.length);
+    }
+
+    /**
+     * Reads a SIGNED-INTEGER with the given length at the given position.
+     * Shorter values (like a SIGNED-BYTE) are extended by their sign.
+     *
+     * @param value  the binary value
+     * @param pos    the position of the integer
+     * @param length the number of bytes (normally 4)
+     * @return the integer value
+     */
+    static int toInt(byte[] value, int pos, int length) {
+        if (length == 4) {
+            return toInt(value, pos);
+        }
+        if (length == 0) {
+            throw new IllegalStateException("no integer value stored");
+        }
+        int n = value[pos];
+        for (int i = pos + 1; i < pos + length; i++) {
+            n = (n << 8) | (value[i] & 0xff);
+        }
+        return n;
+    }
+
+    /**
+     * Reads a SIGNED-INTEGER at the given position of the value.
+     *
+     * @param value the binary value
+     * @param pos   the position of the 4 bytes
+     * @return the integer value
+     */
+    static int toInt(byte[] value, int pos) {
+        return (value[pos] << 24) | ((value[pos + 1] & 0xff) << 16) | ((value[pos + 2] & 0xff) << 8)
+                | (value[pos + 3] & 0xff);
+    }
+
+    /**
+     * Converts the given integer to a SIGNED-INTEGER with 4 bytes.
+     *
+     * @param value the integer value
+     * @return the binary value
+     */
+    public static byte[] toByteArray(int value) {
+        return new byte[] { (byte) (value >> 24), (byte) (value >> 16), (byte) (value >> 8), (byte) value };
+    }
+
+    /**
+     * Reads a boolean value which is stored as byte, whereas 0x00 is
+     * 'false' and 0x01 is 'true'.
+     *
+     * @param value the binary value
+     * @return true (0x01) or false (0x00)
+     */
+    public static boolean toBoolean(byte[] value) {
+        if (value.length == 0) {
+            throw new IllegalStateException("no boolean value stored");
+        }
+        byte booleanByte = value[0];
+        switch (booleanByte) {
+            case 0x00:  return false;
+            case 0x01:  return true;
+            default:    throw new IllegalStateException("invalid boolean value stored: 0x" + Integer.toHexString(booleanByte));
+        }
+    }
+
+    /**
+     * Reads a 'dateTime' value. It is encoded as DateAndTime of RFC-2579
+     * with 11 octets:
+     * <pre>
+     *  field  octets  contents                  range
+     *  -----  ------  --------                  -----
+     *    1      1-2   year                      0..65536
+     *    2       3    month                     1..12
+     *    3       4    day                       1..31
+     *    4       5    hour                      0..23
+     *    5       6    minutes                   0..59
+     *    6       7    seconds                   0..60
+     *    7       8    deci-seconds              0..9
+     *    8       9    direction from UTC        '+' / '-'
+     *    9      10    hours from UTC            0..13
+     *   10      11    minutes from UTC          0..59
+     * </pre>
+     *
+     * @param value the binary value with 11 octets
+     * @return the date and time
+     */
+    public static OffsetDateTime toDateTime(byte[] value) {
+        if (value.length != 11) {
+            throw new IllegalArgumentException("invalid dateTime with " + value.length + " octets");
+        }
+        int seconds = ((value[9] & 0xff) * 60 + (value[10] & 0xff)) * 60;
+        ZoneOffset offset = ZoneOffset.ofTotalSeconds((value[8] == '-') ? -seconds : seconds);
+        return OffsetDateTime.of(((value[0] & 0xff) << 8) | (value[1] & 0xff), value[2], value[3], value[4],
+                value[5], Math.min(value[6], 59), value[7] * 100_000_000, offset);
+    }
+
+    /**
+     * Converts the given date and time to a 'dateTime' value with 11
+     * octets (see {@link #toDateTime(byte[])}).
+     *
+     * @param dateTime the date and time
+     * @return the binary value
+     */
+    public static byte[] toByteArray(OffsetDateTime dateTime) {
+        int offset = dateTime.getOffset().getTotalSeconds();
+        int minutes = Math.abs(offset) / 60;
+        ByteBuffer buf = ByteBuffer.allocate(11);
+        buf.putShort((short) dateTime.getYear());
+        buf.put((byte) dateTime.getMonthValue());
+        buf.put((byte) dateTime.getDayOfMonth());
+        buf.put((byte) dateTime.getHour());
+        buf.put((byte) dateTime.getMinute());
+        buf.put((byte) dateTime.getSecond());
+        buf.put((byte) (dateTime.getNano() / 100_000_000));
+        buf.put((byte) ((offset < 0) ? '-' : '+'));
+        buf.put((byte) (minutes / 60));
+        buf.put((byte) (minutes % 60));
+        return buf.array();
+    }
+
+}
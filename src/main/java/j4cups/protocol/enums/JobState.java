@@ -140,10 +140,28 @@ public enum JobState {
      * 'completed-successfully', 'completed-with-warnings', or
      * 'completed-with-errors' values.
      */
-    COMPLETED(9);
+    COMPLETED(9),
 
+    /**
+     * Placeholder for a job-state value which is not defined in RFC-8011
+     * (e.g. a vendor extension).
+     */
+    UNKNOWN(0);
+
+    private static final JobState[] STATES = new JobState[10];
     private final int value;
 
+    static {
+        for (JobState js : values()) {
+            STATES[js.value] = js;
+        }
+        for (int i = 0; i < STATES.length; i++) {
+            if (STATES[i] == null) {
+                STATES[i] = UNKNOWN;
+            }
+        }
+    }
+
     JobState(int value) {
         this.value = value;
     }
@@ -158,18 +176,17 @@ public enum JobState {
     }
 
     /**
-     * Allows you to map a int value to the corresponding value.
+     * Allows you to map a int value to the corresponding value. Unknown
+     * values are mapped to {@link #UNKNOWN}.
      *
      * @param value e.g. 5
      * @return operation, e.g. PROCESSING
      */
     public static JobState of(int value) {
-        for (JobState js : JobState.values()) {
-            if (value == js.getValue()) {
-                return js;
-            }
+        if ((0 <= value) && (value < STATES.length)) {
+            return STATES[value];
         }
-        throw new IllegalArgumentException("invalid value: " + value);
+        return UNKNOWN;
     }
 
 }
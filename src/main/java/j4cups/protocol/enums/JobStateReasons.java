@@ -20,6 +20,10 @@ package j4cups.protocol.enums;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * This REQUIRED attribute provides additional information about the
  * Job's current state. I.e., information that augments the value of the
@@ -55,9 +59,36 @@ public enum JobStateReasons {
      * Document data as a result of a Print-Job, Print-URI,
      * Send-Document, or Send-URI operation.
      */
-    JOB_INCOMING;
+    JOB_INCOMING,
+
+    /**
+     * The Job was canceled by the owner of the Job using the Cancel-Job
+     * request.
+     *
+     * @since 0.6.2
+     */
+    JOB_CANCELED_BY_USER,
+
+    /**
+     * The Job completed successfully.
+     *
+     * @since 0.6.2
+     */
+    JOB_COMPLETED_SUCCESSFULLY;
 
     private static final Logger LOG = LoggerFactory.getLogger(JobStateReasons.class);
+    private static final Map<String, JobStateReasons> KEYWORDS = new HashMap<>();
+    private final String representation;
+
+    static {
+        for (JobStateReasons jsr : values()) {
+            KEYWORDS.put(jsr.representation, jsr);
+        }
+    }
+
+    JobStateReasons() {
+        this.representation = name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
 
     /**
      * This implementation generates the same representation as described in
@@ -67,7 +98,7 @@ public enum JobStateReasons {
      */
     @Override
     public String toString() {
-        return super.toString().toLowerCase().replaceAll("_", "-");
+        return representation;
     }
 
     /**
@@ -78,10 +109,12 @@ public enum JobStateReasons {
      * @return e.g. JOB_INCOMING
      */
     public static JobStateReasons of(String value) {
-        for (JobStateReasons jsr : JobStateReasons.values()) {
-            if (value.equalsIgnoreCase(jsr.toString())) {
-                return jsr;
-            }
+        JobStateReasons jsr = KEYWORDS.get(value);
+        if (jsr == null) {
+            jsr = KEYWORDS.get(value.toLowerCase(Locale.ROOT));
+        }
+        if (jsr != null) {
+            return jsr;
         }
         LOG.warn("'{}' is unknown and will be mapped to 'NONE'", value);
         return NONE;
@@ -45,8 +45,15 @@ public enum PrintQuality {
     /** Highest quality available on the Printer. */
     HIGH(5);
 
+    private static final PrintQuality[] QUALITIES = new PrintQuality[6];
     private final byte value;
 
+    static {
+        for (PrintQuality quality : values()) {
+            QUALITIES[quality.value] = quality;
+        }
+    }
+
     PrintQuality(int value) {
         this.value = (byte) value;
     }
@@ -60,4 +67,18 @@ public enum PrintQuality {
         return value;
     }
 
+    /**
+     * Allows you to map a value to the corresponding print quality.
+     *
+     * @param value e.g. 4
+     * @return e.g. NORMAL
+     * @since 0.6.2
+     */
+    public static PrintQuality of(int value) {
+        if ((0 <= value) && (value < QUALITIES.length) && (QUALITIES[value] != null)) {
+            return QUALITIES[value];
+        }
+        throw new IllegalArgumentException("invalid value: " + value);
+    }
+
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.enums;
+
+/**
+ * The PrinterState is the value of the "printer-state" attribute
+ * (RFC-8011, section 5.4.11).
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public enum PrinterState {
+
+    /**
+     * New jobs can start processing without waiting.
+     */
+    IDLE(3),
+
+    /**
+     * Jobs are processing; new jobs will wait before processing.
+     */
+    PROCESSING(4),
+
+    /**
+     * No jobs can be processed and intervention is required.
+     */
+    STOPPED(5),
+
+    /**
+     * Placeholder for a printer-state value which is not defined in
+     * RFC-8011.
+     */
+    UNKNOWN(0);
+
+    private final int value;
+
+    PrinterState(int value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the represenation of the value as 32 bit integer.
+     *
+     * @return number between 3 and 5
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Allows you to map a int value to the corresponding value. Unknown
+     * values are mapped to {@link #UNKNOWN}.
+     *
+     * @param value e.g. 3
+     * @return printer state, e.g. IDLE
+     */
+    public static PrinterState of(int value) {
+        for (PrinterState state : values()) {
+            if (state.value == value) {
+                return state;
+            }
+        }
+        return UNKNOWN;
+    }
+
+}
@@ -17,6 +17,8 @@
  */
 package j4cups.protocol.tags;
 
+import java.util.Locale;
+
 /**
  * The DelimiterTags delimit major sections of the protocol, namely attributes
  * and data. This is described in RFC-2910 in 
@@ -44,14 +46,49 @@ public enum DelimiterTags {
     
     /** unsupported-attributes-tag. */
     UNSUPPORTED_ATTRIBUTES_TAG(0x05),
+
+    /** subscription-attributes-tag (RFC-3995). */
+    SUBSCRIPTION_ATTRIBUTES_TAG(0x06),
+
+    /** event-notification-attributes-tag (RFC-3995). */
+    EVENT_NOTIFICATION_ATTRIBUTES_TAG(0x07),
+
+    /** resource-attributes-tag (PWG 5100.22). */
+    RESOURCE_ATTRIBUTES_TAG(0x08),
+
+    /** document-attributes-tag (PWG 5100.5). */
+    DOCUMENT_ATTRIBUTES_TAG(0x09),
+
+    /** system-attributes-tag (PWG 5100.22). */
+    SYSTEM_ATTRIBUTES_TAG(0x0a),
     
-    /** Reserved for future delimiters in IETF standards track documents (0x06-0x0f). */
+    /**
+     * Reserved for future delimiters in IETF standards track documents
+     * (0x0b-0x0f). This is also the placeholder for unknown delimiters
+     * in this range.
+     */
     RESERVED_FOR_FUTURE(0x0f);
-    
+
+    private static final DelimiterTags[] TAGS = new DelimiterTags[0x10];
     private final byte value;
-    
+    private final String representation;
+
+    static {
+        for (DelimiterTags tag : values()) {
+            if (TAGS[tag.value] == null) {
+                TAGS[tag.value] = tag;
+            }
+        }
+        for (int i = 0; i < TAGS.length; i++) {
+            if (TAGS[i] == null) {
+                TAGS[i] = RESERVED_FOR_FUTURE;
+            }
+        }
+    }
+
     DelimiterTags(int value) {
         this.value = (byte) value;
+        this.representation = name().toLowerCase(Locale.ROOT).replace('_', '-');
     }
     
     /**
@@ -71,20 +108,19 @@ public enum DelimiterTags {
      */
     @Override
     public String toString() {
-        return super.toString().toLowerCase().replaceAll("_", "-");
+        return representation;
     }
 
     /**
-     * Allows you to map a byte value to the corresponding tag.
+     * Allows you to map a byte value to the corresponding tag. Unknown
+     * delimiters (0x0b-0x0e) are mapped to {@link #RESERVED_FOR_FUTURE}.
      *
      * @param id e.g. 0x04
      * @return operation, e.g. PRINTER_ATTRIBUTES_TAG
      */
     public static DelimiterTags of(int id) {
-        for (DelimiterTags tag : DelimiterTags.values()) {
-            if (id == tag.getValue()) {
-                return tag;
-            }
+        if (isValid(id)) {
+            return TAGS[id];
         }
         throw new IllegalArgumentException("invalid id: " + id);
     }
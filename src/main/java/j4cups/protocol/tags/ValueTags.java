@@ -79,8 +79,8 @@ public enum ValueTags {
     /** rangeOfInteger. */
     RANGE_OF_INTEGER(0x33),
 
-    /** reserved for future definition. */
-    RESERVED_34(0x34),
+    /** begCollection (RFC-8010, section 3.1.6). */
+    BEG_COLLECTION(0x34),
 
     /** textWithLanguage. */
     TEXT_WITH_LANGUAGE(0x35),
@@ -88,8 +88,11 @@ public enum ValueTags {
     /** nameWithLanguage. */
     NAME_WITH_LANGUAGE(0x36),
 
-    /** 0x37-0x3F is reserved for future octetString type definitions. */
-    RESERVED_FOR_OCTET_STRING_TYPE(0x5f),
+    /** endCollection (RFC-8010, section 3.1.6). */
+    END_COLLECTION(0x37),
+
+    /** 0x38-0x3F is reserved for future octetString type definitions. */
+    RESERVED_FOR_OCTET_STRING_TYPE(0x3f),
 
     /** reserved for future definition. */
     RESERVED_40(0x40),
@@ -121,14 +124,44 @@ public enum ValueTags {
     /** mimeMediaType. */
     MIME_MEDIA_TYPE(0x49),
     
-    /** 0x4A-0x5F is reserved for future character string type definitions. */
+    /** memberAttrName (RFC-8010, section 3.1.6). */
+    MEMBER_ATTR_NAME(0x4a),
+
+    /** 0x4B-0x5F is reserved for future character string type definitions. */
     RESERVED_FOR_CHARACTER_STRING_TYPE(0x5f),
     
     /** The values 0x60-0xFF are reserved for future type definitions. */
     RESERVED_FOR_FUTURE_TYPE(0xff);
 
+    private static final ValueTags[] TAGS = new ValueTags[0x100];
     private final byte value;
 
+    static {
+        for (ValueTags tag : values()) {
+            int i = tag.value & 0xff;
+            if (TAGS[i] == null) {
+                TAGS[i] = tag;
+            }
+        }
+        fill(0x14, RESERVED_FOR_OUT_OF_BAND_VALUES);
+        fill(0x24, RESERVED_FOR_INTEGER_TYPE);
+        fill(0x34, RESERVED_FOR_OCTET_STRING_TYPE);
+        fill(0x40, RESERVED_FOR_CHARACTER_STRING_TYPE);
+        fill(0x60, RESERVED_FOR_FUTURE_TYPE);
+    }
+
+    /**
+     * Each range of value tags ends with its "reserved" tag which is used
+     * for the unknown values within this range.
+     */
+    private static void fill(int from, ValueTags reserved) {
+        for (int i = from; i <= (reserved.value & 0xff); i++) {
+            if (TAGS[i] == null) {
+                TAGS[i] = reserved;
+            }
+        }
+    }
+
     ValueTags(int value) {
         this.value = (byte) value;
     }
@@ -163,16 +196,17 @@ public enum ValueTags {
     }
 
     /**
-     * Allows you to map a byte value to the corresponding tag.
+     * Allows you to map a byte value to the corresponding tag. The value
+     * may be given as signed byte (e.g. -1 for 0xff). Unknown tags are
+     * mapped to the reserved tag of its range, e.g. 0x4a to
+     * {@link #RESERVED_FOR_CHARACTER_STRING_TYPE}.
      *
-     * @param id e.g. 0x04
-     * @return operation, e.g. PRINTER_ATTRIBUTES_TAG
+     * @param id e.g. 0x44
+     * @return value tag, e.g. KEYWORD
      */
     public static ValueTags of(int id) {
-        for (ValueTags tag : ValueTags.values()) {
-            if (id == tag.getValue()) {
-                return tag;
-            }
+        if ((-0x80 <= id) && (id <= 0xff) && isValid(id & 0xff)) {
+            return TAGS[id & 0xff];
         }
         throw new IllegalArgumentException("invalid id: " + id);
     }
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.server;
+
+import org.apache.http.ExceptionLogger;
+import org.apache.http.HttpServerConnection;
+import org.apache.http.config.SocketConfig;
+import org.apache.http.impl.DefaultBHttpServerConnectionFactory;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The class BlockingServerEngine is a classic (blocking) HTTP server like
+ * the server of {@link org.apache.http.impl.bootstrap.ServerBootstrap}.
+ * The difference is that the connections are served by the given executor.
+ * So each connection can be served e.g. by a virtual thread (see
+ * {@link WorkerExecutors}).
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+final class BlockingServerEngine implements ServerEngine {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BlockingServerEngine.class);
+    private final int port;
+    private final SocketConfig socketConfig;
+    private final HttpService httpService;
+    private final ExecutorService workers;
+    private final ExceptionLogger exceptionLogger;
+    private final Map<HttpServerConnection, Boolean> connections = new ConcurrentHashMap<>();
+    private ServerSocket serverSocket;
+    private Thread listener;
+
+    /**
+     * Instantiates a new server.
+     *
+     * @param port            the listener port
+     * @param socketConfig    the config for the accepted sockets
+     * @param httpService     the service which handles the requests
+     * @param workers         the executor which serves the connections
+     * @param exceptionLogger the logger for exceptions
+     */
+    BlockingServerEngine(int port, SocketConfig socketConfig, HttpService httpService, ExecutorService workers,
+                         ExceptionLogger exceptionLogger) {
+        this.port = port;
+        this.socketConfig = socketConfig;
+        this.httpService = httpService;
+        this.workers = workers;
+        this.exceptionLogger = exceptionLogger;
+    }
+
+    @Override
+    public synchronized void start() throws IOException {
+        if (serverSocket == null) {
+            serverSocket = new ServerSocket();
+            serverSocket.setReuseAddress(socketConfig.isSoReuseAddress());
+            serverSocket.bind(new InetSocketAddress(port));
+            listener = new Thread(this::listen, "j4cups-listener-" + port);
+            listener.setDaemon(true);
+            listener.start();
+        }
+    }
+
+    private void listen() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Socket socket = serverSocket.accept();
+                socket.setSoTimeout(socketConfig.getSoTimeout());
+                socket.setTcpNoDelay(socketConfig.isTcpNoDelay());
+                socket.setKeepAlive(socketConfig.isSoKeepAlive());
+                HttpServerConnection conn = DefaultBHttpServerConnectionFactory.INSTANCE.createConnection(socket);
+                connections.put(conn, Boolean.TRUE);
+                workers.execute(() -> serve(conn));
+            }
+        } catch (SocketException ex) {
+            LOG.debug("Listener on port {} is stopped ({}).", port, ex.getMessage());
+        } catch (IOException | RuntimeException ex) {
+            exceptionLogger.log(ex);
+        }
+    }
+
+    private void serve(HttpServerConnection conn) {
+        HttpContext context = new BasicHttpContext();
+        try {
+            while (!Thread.currentThread().isInterrupted() && conn.isOpen()) {
+                httpService.handleRequest(conn, context);
+            }
+        } catch (Exception ex) {
+            exceptionLogger.log(ex);
+        } finally {
+            connections.remove(conn);
+            try {
+                conn.shutdown();
+            } catch (IOException ioe) {
+                LOG.debug("Cannot shutdown {}:", conn, ioe);
+            }
+        }
+    }
+
+    @Override
+    public void awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        workers.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public synchronized void shutdown(long gracePeriod, TimeUnit unit) {
+        if (serverSocket != null) {
+            try {
+                serverSocket.close();
+            } catch (IOException ioe) {
+                exceptionLogger.log(ioe);
+            }
+        }
+        if (listener != null) {
+            listener.interrupt();
+        }
+        workers.shutdown();
+        try {
+            workers.awaitTermination(gracePeriod, unit);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        for (HttpServerConnection conn : connections.keySet()) {
+            try {
+                conn.shutdown();
+            } catch (IOException ioe) {
+                LOG.debug("Cannot shutdown {}:", conn, ioe);
+            }
+        }
+        workers.shutdownNow();
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + ":" + port;
+    }
+
+}
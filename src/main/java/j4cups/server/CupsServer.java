@@ -18,29 +18,36 @@
 package j4cups.server;
 
 import j4cups.Config;
-import j4cups.server.http.IppPrinterRequestHandler;
-import j4cups.server.http.IppServerRequestHandler;
-import j4cups.server.http.LogRequestInterceptor;
-import j4cups.server.http.LogResponseInterceptor;
+import j4cups.protocol.BufferPool;
+import j4cups.server.http.*;
 import org.apache.commons.cli.*;
 import org.apache.http.ConnectionClosedException;
 import org.apache.http.ExceptionLogger;
 import org.apache.http.config.SocketConfig;
-import org.apache.http.impl.bootstrap.HttpServer;
 import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.protocol.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.SocketTimeoutException;
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 /**
  * The CupsServer is a little embedded HTTP server based on Apache's HTTP
  * components. It is based on HTTP/1.1 and a classic (blocking) I/O model.
+ * With "j4cups.server.io=nio" a non-blocking I/O model is used where the
+ * connections are served by a few I/O threads. With
+ * "j4cups.server.executor=virtual" the requests are handled by virtual
+ * threads (if the JDK supports it).
  * It can also be used as a proxy to a real CUPS server.
  *
  * @author oboehm
@@ -50,7 +57,9 @@ public class CupsServer implements Runnable {
 
     private static final Logger LOG = LoggerFactory.getLogger(CupsServer.class);
     private final Config config;
-    private final HttpServer server;
+    private final JobStore jobStore;
+    private final PrinterRegistry printerRegistry;
+    private final ServerEngine server;
     private Thread serverThread;
 
     /**
@@ -82,9 +91,28 @@ public class CupsServer implements Runnable {
         this(new Config().withServerPort(port).withProperty("j4cups.server.forwardURI", forwardURI.toString()));
     }
     
-    private CupsServer(Config config) {
+    /**
+     * Instantiates a CUPS server with the given configuration.
+     *
+     * @param config the configuration with port, forward URI and I/O model
+     * @since 0.6.2
+     */
+    public CupsServer(Config config) {
         this.config = config;
-        this.server = createServer(config);
+        this.jobStore = createJobStore(config);
+        this.printerRegistry = new PrinterRegistry(config);
+        this.server = createServer(config, jobStore, printerRegistry);
+    }
+
+    /**
+     * Reloads the printers from the given (changed) configuration. Only
+     * the attributes of changed printers are encoded again.
+     *
+     * @param changed the changed configuration
+     * @since 0.6.2
+     */
+    public void reloadPrinters(Config changed) {
+        printerRegistry.reload(changed);
     }
 
     /**
@@ -109,6 +137,12 @@ public class CupsServer implements Runnable {
             if (line.hasOption("proxy")) {
                 config = config.withServerForwardURI(line.getOptionValue("proxy"));
             }
+            if (line.hasOption("io")) {
+                config = config.withProperty("j4cups.server.io", line.getOptionValue("io"));
+            }
+            if (line.hasOption("jobs")) {
+                config = config.withProperty("j4cups.server.jobsDIR", line.getOptionValue("jobs"));
+            }
             String command = argList.get(0);
             if ("start".equalsIgnoreCase(command.trim())) {
                 CupsServer cs = new CupsServer(config);
@@ -127,6 +161,8 @@ public class CupsServer implements Runnable {
         options.addOption(new Option("help", "print this message"));
         options.addOption(new Option("port", true, "port nummber"));
         options.addOption(new Option("proxy", true, "act like a proxy"));
+        options.addOption(new Option("io", true, "I/O model (blocking or nio)"));
+        options.addOption(new Option("jobs", true, "directory of the persistent job store"));
         return options;
     }
 
@@ -157,6 +193,14 @@ public class CupsServer implements Runnable {
         LOG.info("Shutting down {} on port {} ...", server, getPort());
         server.shutdown(5, TimeUnit.SECONDS);
         LOG.info("Shutting down {} on port {} was successful.", server, getPort());
+        if (jobStore instanceof PersistentJobStore) {
+            try {
+                ((PersistentJobStore) jobStore).close();
+            } catch (IOException ioe) {
+                LOG.warn("Cannot close {}:", jobStore, ioe);
+            }
+        }
+        LOG.debug("Statistics of {}.", BufferPool.getDefault());
     }
     
     /**
@@ -180,11 +224,30 @@ public class CupsServer implements Runnable {
         }
     }
 
-    private static HttpServer createServer(Config cfg) {
+    private static JobStore createJobStore(Config cfg) {
+        Path dir = cfg.getServerJobsDIR();
+        if ((dir == null) || !"file".equalsIgnoreCase(cfg.getServerForwardURI().getScheme())) {
+            return new JobStore();
+        }
+        try {
+            return new PersistentJobStore(dir, cfg.getServerSnapshotInterval(), cfg.isServerJobsSync());
+        } catch (IOException ioe) {
+            throw new UncheckedIOException("cannot open job store in '" + dir + "'", ioe);
+        }
+    }
+
+    private static ServerEngine createServer(Config cfg, JobStore jobStore, PrinterRegistry printerRegistry) {
+        if ("nio".equalsIgnoreCase(cfg.getServerIO())) {
+            return createAsyncServer(cfg, jobStore, printerRegistry);
+        }
         SocketConfig socketConfig = SocketConfig.custom()
                                                 .setSoTimeout(15000)
+                                                .setSoReuseAddress(true)
                                                 .setTcpNoDelay(true)
                                                 .build();
+        if (!WorkerExecutors.isPlatform(cfg.getServerExecutor())) {
+            return createBlockingServer(cfg, socketConfig, jobStore, printerRegistry);
+        }
         ServerBootstrap sb = ServerBootstrap.bootstrap()
                        .setListenerPort(cfg.getServerPort())
                        .setServerInfo(cfg.getServerInfo())
@@ -192,17 +255,63 @@ public class CupsServer implements Runnable {
                        .setExceptionLogger(new StdErrorExceptionLogger())
                        .addInterceptorFirst(new LogRequestInterceptor("S"))
                        .addInterceptorLast(new LogResponseInterceptor("S"));
+        registerHandlers(cfg, jobStore, printerRegistry, sb::registerHandler);
+        return ServerEngine.of(sb.create());
+    }
+
+    private static ServerEngine createBlockingServer(Config cfg, SocketConfig socketConfig, JobStore jobStore,
+                                                     PrinterRegistry printerRegistry) {
+        HttpProcessor processor = HttpProcessorBuilder.create()
+                .add(new ResponseDate())
+                .add(new ResponseServer(cfg.getServerInfo()))
+                .add(new ResponseContent())
+                .add(new ResponseConnControl())
+                .addFirst(new LogRequestInterceptor("S"))
+                .addLast(new LogResponseInterceptor("S"))
+                .build();
+        UriHttpRequestHandlerMapper mapper = new UriHttpRequestHandlerMapper();
+        registerHandlers(cfg, jobStore, printerRegistry, mapper::register);
+        ExecutorService workers = WorkerExecutors.create(cfg.getServerExecutor(), 0);
+        LOG.info("CupsServer uses '{}' executor for the connections.", cfg.getServerExecutor());
+        return new BlockingServerEngine(cfg.getServerPort(), socketConfig, new HttpService(processor, mapper),
+                workers, new StdErrorExceptionLogger());
+    }
+
+    private static ServerEngine createAsyncServer(Config cfg, JobStore jobStore, PrinterRegistry printerRegistry) {
+        IOReactorConfig reactorConfig = IOReactorConfig.custom()
+                                                       .setSoReuseAddress(true)
+                                                       .setSoTimeout(15000)
+                                                       .setTcpNoDelay(true)
+                                                       .build();
+        ExecutorService workers = WorkerExecutors.create(cfg.getServerExecutor(),
+                Math.max(4, 2 * Runtime.getRuntime().availableProcessors()));
+        org.apache.http.impl.nio.bootstrap.ServerBootstrap sb =
+                org.apache.http.impl.nio.bootstrap.ServerBootstrap.bootstrap()
+                       .setListenerPort(cfg.getServerPort())
+                       .setServerInfo(cfg.getServerInfo())
+                       .setIOReactorConfig(reactorConfig)
+                       .setExceptionLogger(new StdErrorExceptionLogger())
+                       .addInterceptorFirst(new LogRequestInterceptor("S"))
+                       .addInterceptorLast(new LogResponseInterceptor("S"));
+        registerHandlers(cfg, jobStore, printerRegistry,
+                (pattern, handler) -> sb.registerHandler(pattern, new AsyncRequestHandler(handler, workers)));
+        LOG.info("CupsServer uses non-blocking I/O and '{}' executor for the requests.", cfg.getServerExecutor());
+        return ServerEngine.of(sb.create(), workers);
+    }
+
+    private static void registerHandlers(Config cfg, JobStore jobStore, PrinterRegistry printerRegistry,
+                                         BiConsumer<String, HttpRequestHandler> registry) {
         URI forwardURI = cfg.getServerForwardURI();
         if ("file".equalsIgnoreCase(forwardURI.getScheme())) {
-            IppHandler ippHandler = new IppHandler(forwardURI);
-            sb.registerHandler("*", new IppServerRequestHandler(new IppHandler(forwardURI), new HttpHandler()))
-              .registerHandler("/printers/*", new IppPrinterRequestHandler());
+            // the ids of forwarded jobs are allocated by CUPS or the printer and would collide with the local ids
+            registry.accept("*", new IppServerRequestHandler(new IppHandler(forwardURI, cfg), new HttpHandler(),
+                    new JobStore(), printerRegistry));
+            registry.accept("/printers/*", new IppPrinterRequestHandler(jobStore, printerRegistry));
             LOG.info("CupsServer will handle requests and record it to {}.", forwardURI);
         } else {
-            sb.registerHandler("*", new IppServerRequestHandler(forwardURI));
+            registry.accept("*", new IppServerRequestHandler(forwardURI, cfg));
             LOG.info("CupsServer will forward requests to {}.", forwardURI);
         }
-        return sb.create();
     }
 
     /**
@@ -17,6 +17,7 @@
  */
 package j4cups.server;
 
+import j4cups.Config;
 import j4cups.client.CupsClient;
 import j4cups.op.CreateJob;
 import j4cups.op.GetJobs;
@@ -45,6 +46,7 @@ public class IppHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(IppHandler.class);
     private final Path recordDir;
+    private final Config config;
 
     /**
      * Instantiates a new IPP handler.
@@ -52,7 +54,19 @@ public class IppHandler {
      * @param forwardURI the forward uri where to store the requests/responses
      */
     public IppHandler(URI forwardURI) {
-        this(Paths.get(forwardURI));
+        this(forwardURI, new Config());
+    }
+
+    /**
+     * Instantiates a new IPP handler. The clients to the printers use the
+     * connection settings ("j4cups.client.*") of the given config.
+     *
+     * @param forwardURI the forward uri where to store the requests/responses
+     * @param config     the config with the client settings
+     * @since 0.6.2
+     */
+    public IppHandler(URI forwardURI, Config config) {
+        this(Paths.get(forwardURI), config);
     }
 
     /**
@@ -61,7 +75,33 @@ public class IppHandler {
      * @param recordDir directory where requests and responses are recorded
      */
     public IppHandler(Path recordDir) {
+        this(recordDir, new Config());
+    }
+
+    /**
+     * Instantiates a new IPP handler. The clients to the printers use the
+     * connection settings ("j4cups.client.*") of the given config.
+     *
+     * @param recordDir directory where requests and responses are recorded
+     * @param config    the config with the client settings
+     * @since 0.6.2
+     */
+    public IppHandler(Path recordDir, Config config) {
         this.recordDir = recordDir;
+        this.config = config;
+    }
+
+    /**
+     * Creates a client for the given printer. It uses the connection pool
+     * for the client settings of this handler. The client should be closed
+     * after use (the connections remain in the pool).
+     *
+     * @param printerURI printer URI
+     * @return the client
+     * @since 0.6.2
+     */
+    public CupsClient createClient(URI printerURI) {
+        return new CupsClient(printerURI, config);
     }
 
     /**
@@ -72,8 +112,9 @@ public class IppHandler {
      * @return answer from CUPS
      */
     public IppResponse printJob(URI printerURI, Path path) {
-        CupsClient printerClient = new CupsClient(printerURI);
-        return printerClient.print(printerURI, path);
+        try (CupsClient printerClient = createClient(printerURI)) {
+            return printerClient.print(printerURI, path);
+        }
     }
 
     /**
@@ -109,8 +150,9 @@ public class IppHandler {
      * @return answer from CUPS
      */
     public IppResponse sendDocument(URI printerURI, Path path, int jobId, boolean lastDocument) {
-        CupsClient printerClient = new CupsClient(printerURI);
-        return printerClient.sendDocument(printerURI, path, jobId, lastDocument);
+        try (CupsClient printerClient = createClient(printerURI)) {
+            return printerClient.sendDocument(printerURI, path, jobId, lastDocument);
+        }
     }
 
     /**
@@ -121,8 +163,9 @@ public class IppHandler {
      * @return answer from CUPS
      */
     public IppResponse cancelJob(URI printerURI, int jobId) {
-        CupsClient printerClient = new CupsClient(printerURI);
-        return printerClient.cancelJob(jobId, printerURI);
+        try (CupsClient printerClient = createClient(printerURI)) {
+            return printerClient.cancelJob(jobId, printerURI);
+        }
     }
 
     /**
@@ -138,8 +181,9 @@ public class IppHandler {
 
     private IppResponse send(Operation op, URI printerURI) {
         op.setPrinterURI(printerURI);
-        CupsClient printerClient = new CupsClient(printerURI);
-        return printerClient.send(op);
+        try (CupsClient printerClient = createClient(printerURI)) {
+            return printerClient.send(op);
+        }
     }
 
     private IppResponse handle(Operation op) {
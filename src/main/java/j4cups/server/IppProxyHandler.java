@@ -17,6 +17,7 @@
  */
 package j4cups.server;
 
+import j4cups.Config;
 import j4cups.client.CupsClient;
 import j4cups.op.GetJobs;
 import j4cups.op.GetPrinterAttributes;
@@ -52,8 +53,20 @@ public class IppProxyHandler extends IppHandler {
      * @param cupsURI the CUPS URI
      */
     public IppProxyHandler(URI cupsURI) {
-        super(Paths.get(SystemUtils.getJavaIoTmpDir().toString(), "IPP"));
-        this.cupsClient = new CupsClient(toIPP(cupsURI));
+        this(cupsURI, new Config());
+    }
+
+    /**
+     * Instantiates a new proxy handler. The connections to CUPS use the
+     * client settings ("j4cups.client.*") of the given config.
+     *
+     * @param cupsURI the CUPS URI
+     * @param config  the config with the client settings
+     * @since 0.6.2
+     */
+    public IppProxyHandler(URI cupsURI, Config config) {
+        super(Paths.get(SystemUtils.getJavaIoTmpDir().toString(), "IPP"), config);
+        this.cupsClient = createClient(toIPP(cupsURI));
     }
 
     private static URI toIPP(URI uri) {
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.server;
+
+import j4cups.protocol.attr.Attribute;
+import j4cups.protocol.attr.AttributeGroup;
+import j4cups.protocol.attr.AttributeKey;
+import j4cups.protocol.enums.JobState;
+import j4cups.protocol.enums.JobStateReasons;
+import j4cups.protocol.tags.DelimiterTags;
+import j4cups.protocol.tags.ValueTags;
+import org.apache.commons.lang3.StringUtils;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collection;
+
+/**
+ * A Job is an immutable snapshot of a print job as it is kept in the
+ * {@link JobStore}. A state transition creates a new snapshot (see
+ * {@link #withState(JobState, JobStateReasons)}) so that a Job can be read
+ * from several threads without any lock.
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public final class Job {
+
+    private static final byte[] NO_VALUE = new byte[0];
+
+    private final int id;
+    private final URI printerURI;
+    private final String printerName;
+    private final String userName;
+    private final String jobName;
+    private final JobState state;
+    private final JobStateReasons stateReasons;
+    private final int timeAtCreation;
+    private final int timeAtProcessing;
+    private final int timeAtCompleted;
+
+    private Job(int id, URI printerURI, String printerName, String userName, String jobName, JobState state,
+                JobStateReasons stateReasons, int timeAtCreation, int timeAtProcessing, int timeAtCompleted) {
+        this.id = id;
+        this.printerURI = printerURI;
+        this.printerName = printerName;
+        this.userName = userName;
+        this.jobName = jobName;
+        this.state = state;
+        this.stateReasons = stateReasons;
+        this.timeAtCreation = timeAtCreation;
+        this.timeAtProcessing = timeAtProcessing;
+        this.timeAtCompleted = timeAtCompleted;
+    }
+
+    /**
+     * Creates a new pending job. The job-uri is derived from the given
+     * printer-uri.
+     *
+     * @param id         the job-id
+     * @param printerURI e.g. "ipp://localhost:631/printers/test-printer"
+     * @param userName   the requesting-user-name
+     * @param jobName    the job-name
+     * @return a job in state {@link JobState#PENDING}
+     */
+    public static Job of(int id, URI printerURI, String userName, String jobName) {
+        return new Job(id, printerURI, toPrinterName(printerURI), StringUtils.defaultIfEmpty(userName, "anonymous"),
+                StringUtils.defaultString(jobName), JobState.PENDING, JobStateReasons.NONE, now(), 0, 0);
+    }
+
+    /**
+     * Restores a job with all its attributes, e.g. from the log of the
+     * {@link PersistentJobStore}.
+     *
+     * @param id               the job-id
+     * @param printerURI       the printer-uri
+     * @param userName         the requesting-user-name
+     * @param jobName          the job-name
+     * @param state            the job-state
+     * @param stateReasons     the job-state-reasons
+     * @param timeAtCreation   the time-at-creation
+     * @param timeAtProcessing the time-at-processing (or 0)
+     * @param timeAtCompleted  the time-at-completed (or 0)
+     * @return the restored job
+     */
+    static Job of(int id, URI printerURI, String userName, String jobName, JobState state,
+                  JobStateReasons stateReasons, int timeAtCreation, int timeAtProcessing, int timeAtCompleted) {
+        return new Job(id, printerURI, toPrinterName(printerURI), userName, jobName, state, stateReasons,
+                timeAtCreation, timeAtProcessing, timeAtCompleted);
+    }
+
+    private static URI toJobURI(URI printerURI, int id) {
+        try {
+            return new URI("ipp", null, printerURI.getHost(), printerURI.getPort(), "/jobs/" + id, null, null);
+        } catch (URISyntaxException ex) {
+            throw new IllegalArgumentException("cannot build job-uri from " + printerURI, ex);
+        }
+    }
+
+    /**
+     * The printer name is the last part of the printer-uri. For a
+     * printer-uri without "/printers/" (e.g. "ipp://localhost:631/")
+     * an empty string is returned.
+     *
+     * @param printerURI e.g. "ipp://localhost:631/printers/test-printer"
+     * @return e.g. "test-printer"
+     */
+    public static String toPrinterName(URI printerURI) {
+        String path = StringUtils.defaultString(printerURI.getPath());
+        if (path.startsWith("/printers/") || path.startsWith("/classes/")) {
+            return StringUtils.substringAfterLast(path, "/");
+        }
+        return "";
+    }
+
+    private static int now() {
+        return (int) (System.currentTimeMillis() / 1000);
+    }
+
+    /**
+     * Returns a new snapshot of this job with the given state. The times
+     * of the processing and completion are set with the transition into
+     * the corresponding state.
+     *
+     * @param newState   the new job-state
+     * @param newReasons the new job-state-reasons
+     * @return the new snapshot
+     */
+    public Job withState(JobState newState, JobStateReasons newReasons) {
+        int processing = timeAtProcessing;
+        int completed = timeAtCompleted;
+        if ((newState == JobState.PROCESSING) && (processing == 0)) {
+            processing = now();
+        }
+        if (isCompleted(newState) && (completed == 0)) {
+            completed = now();
+        }
+        return new Job(id, printerURI, printerName, userName, jobName, newState, newReasons, timeAtCreation,
+                processing, completed);
+    }
+
+    /**
+     * Gets the job-id.
+     *
+     * @return a positive number
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the printer-uri where the job was submitted to.
+     *
+     * @return e.g. "ipp://localhost:631/printers/test-printer"
+     */
+    public URI getPrinterURI() {
+        return printerURI;
+    }
+
+    /**
+     * Gets the name of the printer.
+     *
+     * @return e.g. "test-printer"
+     */
+    public String getPrinterName() {
+        return printerName;
+    }
+
+    /**
+     * Gets the job-uri. It is not stored but derived from the printer-uri
+     * and the job-id.
+     *
+     * @return e.g. "ipp://localhost:631/jobs/42"
+     */
+    public URI getJobURI() {
+        return toJobURI(printerURI, id);
+    }
+
+    /**
+     * Gets the name of the user who submitted the job.
+     *
+     * @return the requesting-user-name (or "anonymous")
+     */
+    public String getUserName() {
+        return userName;
+    }
+
+    /**
+     * Gets the job-name.
+     *
+     * @return the job-name (may be empty)
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Gets the job-state.
+     *
+     * @return e.g. {@link JobState#PENDING}
+     */
+    public JobState getState() {
+        return state;
+    }
+
+    /**
+     * Gets the job-state-reasons.
+     *
+     * @return e.g. {@link JobStateReasons#JOB_INCOMING}
+     */
+    public JobStateReasons getStateReasons() {
+        return stateReasons;
+    }
+
+    /**
+     * A job is completed if it is canceled, aborted or completed.
+     *
+     * @return true or false
+     */
+    public boolean isCompleted() {
+        return isCompleted(state);
+    }
+
+    private static boolean isCompleted(JobState state) {
+        return state.getValue() >= JobState.CANCELED.getValue();
+    }
+
+    /**
+     * Converts the job into a job-attributes group with the requested
+     * attributes. The keywords "all" and "job-description" selects all
+     * attributes of the job.
+     *
+     * @param requested the requested-attributes
+     * @return the attribute-group
+     */
+    public AttributeGroup toAttributeGroup(Collection<String> requested) {
+        boolean all = requested.contains("all") || requested.contains("job-description");
+        AttributeGroup group = new AttributeGroup(DelimiterTags.JOB_ATTRIBUTES_TAG);
+        if (all || requested.contains("job-id")) {
+            group.addAttribute(Attribute.of(AttributeKey.JOB_ID, id));
+        }
+        if (all || requested.contains("job-uri")) {
+            group.addAttribute(Attribute.of(AttributeKey.JOB_URI, getJobURI()));
+        }
+        if (all || requested.contains("job-printer-uri")) {
+            group.addAttribute(Attribute.of(AttributeKey.JOB_PRINTER_URI, printerURI));
+        }
+        if (all || requested.contains("job-name")) {
+            group.addAttribute(Attribute.of(AttributeKey.JOB_NAME, jobName));
+        }
+        if (all || requested.contains("job-originating-user-name")) {
+            group.addAttribute(Attribute.of(AttributeKey.JOB_ORIGINATING_USER_NAME, userName));
+        }
+        if (all || requested.contains("job-state")) {
+            group.addAttribute(Attribute.of(AttributeKey.JOB_STATE, state.getValue()));
+        }
+        if (all || requested.contains("job-state-reasons")) {
+            group.addAttribute(Attribute.of(AttributeKey.JOB_STATE_REASONS, stateReasons.toString()));
+        }
+        if (all || requested.contains("time-at-creation")) {
+            group.addAttribute(Attribute.of(AttributeKey.TIME_AT_CREATION, timeAtCreation));
+        }
+        if (all || requested.contains("time-at-processing")) {
+            group.addAttribute(toTimeAttribute("time-at-processing", timeAtProcessing));
+        }
+        if (all || requested.contains("time-at-completed")) {
+            group.addAttribute(toTimeAttribute("time-at-completed", timeAtCompleted));
+        }
+        return group;
+    }
+
+    private static Attribute toTimeAttribute(String name, int time) {
+        if (time == 0) {
+            return Attribute.of(ValueTags.NO_VALUE, name, NO_VALUE);
+        }
+        return Attribute.of(name, time);
+    }
+
+    @Override
+    public String toString() {
+        return "Job-" + id + " (" + printerName + ", " + state + ")";
+    }
+
+}
@@ -0,0 +1,483 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.server;
+
+import j4cups.protocol.IppRequest;
+import j4cups.protocol.attr.AttributeKey;
+import j4cups.protocol.enums.JobState;
+import j4cups.protocol.enums.JobStateReasons;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+/**
+ * The JobStore keeps the jobs which are created by Create-Job, Print-Job
+ * or Send-Document so that Get-Jobs and Get-Job-Attributes can be answered
+ * locally. The jobs are indexed by job-id, printer, job-state and
+ * requesting-user-name. Each index is sorted by the job-id so that a
+ * query with a 'limit' stops after the first matching jobs.
+ * <p>
+ * The jobs are immutable snapshots (see {@link Job}). A modification
+ * replaces the stored snapshot by a compare-and-set operation (see
+ * {@link #compareAndSet(Job, Job)}) so that no global lock is needed.
+ * Queries read the concurrent indices without any lock.
+ * </p>
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public class JobStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JobStore.class);
+    private static final int STRIPES = 64;
+
+    private final JobIndex jobs = new JobIndex();
+    private final Map<String, JobIndex> byPrinter = new ConcurrentHashMap<>();
+    private final Map<String, JobIndex> byUser = new ConcurrentHashMap<>();
+    private final JobIndex[] byState = new JobIndex[JobState.COMPLETED.getValue() + 1];
+    private final AtomicInteger lastJobId = new AtomicInteger();
+    private final Object[] stripes = new Object[STRIPES];
+
+    /**
+     * Creates an empty job store.
+     */
+    public JobStore() {
+        for (int i = 0; i < byState.length; i++) {
+            byState[i] = new JobIndex();
+        }
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    /**
+     * Creates a new job with the next free job-id and stores it.
+     *
+     * @param printerURI the printer-uri of the request
+     * @param userName   the requesting-user-name
+     * @param jobName    the job-name
+     * @return the new job in state {@link JobState#PENDING}
+     */
+    public Job createJob(URI printerURI, String userName, String jobName) {
+        return createJob(printerURI, userName, jobName, JobState.PENDING, JobStateReasons.NONE);
+    }
+
+    /**
+     * Creates a new job with the next free job-id and the given state and
+     * stores it. The job-id is allocated without any lock so that jobs
+     * can be created from several threads in parallel.
+     *
+     * @param printerURI the printer-uri of the request
+     * @param userName   the requesting-user-name
+     * @param jobName    the job-name
+     * @param state      the initial job-state
+     * @param reasons    the initial job-state-reasons
+     * @return the new job
+     */
+    public Job createJob(URI printerURI, String userName, String jobName, JobState state,
+                         JobStateReasons reasons) {
+        while (true) {
+            Job job = Job.of(lastJobId.incrementAndGet(), printerURI, userName, jobName).withState(state, reasons);
+            if (compareAndSet(null, job)) {
+                return job;
+            }
+        }
+    }
+
+    /**
+     * Stores the given job. A stored job with the same job-id is replaced.
+     *
+     * @param job the job
+     */
+    public void put(Job job) {
+        while (!compareAndSet(getJob(job.getId()), job)) {
+            LOG.trace("{} was changed in the meantime.", job);
+        }
+    }
+
+    /**
+     * Changes the state of the job with the given job-id.
+     *
+     * @param id      the job-id
+     * @param state   the new job-state
+     * @param reasons the new job-state-reasons
+     * @return the changed job or null if no job with the given id is stored
+     */
+    public Job setJobState(int id, JobState state, JobStateReasons reasons) {
+        return updateJob(id, job -> (job == null) ? null : job.withState(state, reasons));
+    }
+
+    /**
+     * Updates the job with the given job-id by the given function. The
+     * function gets the stored job (or null if there is none) and returns
+     * the new job. If the job was changed by another thread in the
+     * meantime the function is called again with the new stored job. If
+     * the function returns null or the stored job nothing is changed.
+     *
+     * @param id       the job-id
+     * @param function the function which gets the stored job (or null)
+     * @return the job returned by the function
+     */
+    public Job updateJob(int id, UnaryOperator<Job> function) {
+        while (true) {
+            Job stored = getJob(id);
+            Job job = function.apply(stored);
+            if ((job == null) || (job == stored) || compareAndSet(stored, job)) {
+                return job;
+            }
+        }
+    }
+
+    /**
+     * Replaces the expected job by the given job (with the same job-id) if
+     * the expected job is still stored. This is the only place where jobs
+     * are changed. The primary index is changed by a compare-and-set
+     * operation. The other indices are adjusted afterwards under a lock
+     * which is striped by the job-id so that changes of different jobs do
+     * not block each other.
+     *
+     * @param expected the stored job (or null if a new job is stored)
+     * @param job      the new job
+     * @return true if the job was changed, false if the stored job was not
+     *         the expected job
+     */
+    public boolean compareAndSet(Job expected, Job job) {
+        int id = job.getId();
+        if ((expected == null) ? !jobs.putIfAbsent(job) : !jobs.replace(expected, job)) {
+            return false;
+        }
+        if (expected == null) {
+            lastJobId.accumulateAndGet(id, Math::max);
+        }
+        synchronized (stripes[id & (STRIPES - 1)]) {
+            Job current = jobs.get(id);
+            if (expected != null) {
+                removeFromIndices(expected, current);
+            }
+            removeFromIndices(job, current);
+            byPrinter.computeIfAbsent(current.getPrinterName(), name -> new JobIndex()).put(current);
+            byUser.computeIfAbsent(current.getUserName(), name -> new JobIndex()).put(current);
+            byState[current.getState().getValue()].put(current);
+        }
+        LOG.debug("{} is stored.", job);
+        return true;
+    }
+
+    /**
+     * Removes the job from the indices where the current job does not
+     * belong to. The current job is the job which is stored now - it may
+     * be changed by another thread in the meantime.
+     */
+    private void removeFromIndices(Job job, Job current) {
+        int id = job.getId();
+        if (job.getState() != current.getState()) {
+            byState[job.getState().getValue()].remove(id);
+        }
+        if (!job.getPrinterName().equals(current.getPrinterName())) {
+            remove(byPrinter.get(job.getPrinterName()), id);
+        }
+        if (!job.getUserName().equals(current.getUserName())) {
+            remove(byUser.get(job.getUserName()), id);
+        }
+    }
+
+    private static void remove(JobIndex index, int id) {
+        if (index != null) {
+            index.remove(id);
+        }
+    }
+
+    /**
+     * Gets the job with the given job-id.
+     *
+     * @param id the job-id
+     * @return the job or null if no job with the given id is stored
+     */
+    public Job getJob(int id) {
+        return jobs.get(id);
+    }
+
+    /**
+     * Iterates over all stored jobs in ascending order of the job-id.
+     *
+     * @return iterator over the stored jobs
+     */
+    Iterator<Job> iterator() {
+        return jobs.iterator(false);
+    }
+
+    /**
+     * Gets the number of stored jobs.
+     *
+     * @return number of jobs
+     */
+    public int size() {
+        return jobs.size();
+    }
+
+    /**
+     * Gets the jobs for the given Get-Jobs request. The request is
+     * evaluated like described in RFC-8011 (section 4.2.6):
+     * <ul>
+     *     <li>"printer-uri" selects the jobs of the printer (or all jobs
+     *     for a printer-uri like "ipp://localhost:631/"),</li>
+     *     <li>"which-jobs" selects the 'not-completed' (default),
+     *     'completed' or 'all' jobs or the jobs of a single job-state
+     *     like 'pending',</li>
+     *     <li>"my-jobs" selects the jobs of the "requesting-user-name"
+     *     and</li>
+     *     <li>"limit" limits the number of returned jobs.</li>
+     * </ul>
+     *
+     * @param request the Get-Jobs request
+     * @return the selected jobs
+     */
+    public List<Job> getJobs(IppRequest request) {
+        String printerName = request.hasAttribute("printer-uri") ? Job.toPrinterName(request.getPrinterURI()) : "";
+        String whichJobs = request.hasAttribute("which-jobs") ? request.getValue(AttributeKey.WHICH_JOBS) : "";
+        String userName = null;
+        if (request.hasAttribute("my-jobs") && request.getValue(AttributeKey.MY_JOBS)
+                && request.hasAttribute("requesting-user-name")) {
+            userName = request.getValue(AttributeKey.REQUESTING_USER_NAME);
+        }
+        int limit = request.hasAttribute("limit") ? request.getValue(AttributeKey.LIMIT) : Integer.MAX_VALUE;
+        return getJobs(printerName, whichJobs, userName, limit);
+    }
+
+    /**
+     * Gets the jobs which matches the given criteria. The smallest index
+     * of the given criteria is used to find the candidates. Completed jobs
+     * are returned in descending order (the last completed jobs first),
+     * the other jobs in ascending order of the job-id.
+     *
+     * @param printerName the printer (or an empty string for all printers)
+     * @param whichJobs   e.g. "not-completed", "completed", "all" or a
+     *                    job-state like "pending"
+     * @param userName    the user (or null for all users)
+     * @param limit       the maximal number of returned jobs
+     * @return the selected jobs
+     */
+    public List<Job> getJobs(String printerName, String whichJobs, String userName, int limit) {
+        boolean[] states = toStates(whichJobs);
+        boolean descending = "completed".equals(whichJobs);
+        List<JobIndex> candidates = new ArrayList<>();
+        int size = 0;
+        for (int i = 0; i < states.length; i++) {
+            if (states[i]) {
+                candidates.add(byState[i]);
+                size += byState[i].size();
+            }
+        }
+        JobIndex index = null;
+        if (!printerName.isEmpty()) {
+            index = byPrinter.get(printerName);
+            if (index == null) {
+                return Collections.emptyList();
+            }
+        }
+        if (userName != null) {
+            JobIndex userIndex = byUser.get(userName);
+            if (userIndex == null) {
+                return Collections.emptyList();
+            }
+            if ((index == null) || (userIndex.size() < index.size())) {
+                index = userIndex;
+            }
+        }
+        if ((index != null) && (index.size() < size)) {
+            candidates = Collections.singletonList(index);
+        }
+        List<Job> selected = new ArrayList<>(Math.min(limit, 100));
+        JobIterator iterator = new JobIterator(candidates, descending);
+        while (iterator.hasNext() && (selected.size() < limit)) {
+            Job job = iterator.next();
+            if (states[job.getState().getValue()] && (printerName.isEmpty() || printerName.equals(job.getPrinterName()))
+                    && ((userName == null) || userName.equals(job.getUserName()))) {
+                selected.add(job);
+            }
+        }
+        return selected;
+    }
+
+    private static boolean[] toStates(String whichJobs) {
+        boolean[] states = new boolean[JobState.COMPLETED.getValue() + 1];
+        switch (whichJobs) {
+            case "all":
+                for (int i = JobState.PENDING.getValue(); i < states.length; i++) {
+                    states[i] = true;
+                }
+                break;
+            case "completed":
+                for (int i = JobState.CANCELED.getValue(); i < states.length; i++) {
+                    states[i] = true;
+                }
+                break;
+            case "":
+            case "not-completed":
+                for (int i = JobState.PENDING.getValue(); i < JobState.CANCELED.getValue(); i++) {
+                    states[i] = true;
+                }
+                break;
+            default:
+                JobState state = toJobState(whichJobs);
+                if (state == JobState.UNKNOWN) {
+                    LOG.info("Unsupported which-jobs '{}' is treated as 'not-completed'.", whichJobs);
+                    return toStates("not-completed");
+                }
+                states[state.getValue()] = true;
+                break;
+        }
+        return states;
+    }
+
+    private static JobState toJobState(String keyword) {
+        for (JobState state : JobState.values()) {
+            if (state.name().replace('_', '-').equalsIgnoreCase(keyword)) {
+                return state;
+            }
+        }
+        return JobState.UNKNOWN;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " with " + size() + " jobs";
+    }
+
+
+
+    /**
+     * A JobIndex is a set of jobs sorted by the job-id. The size is
+     * counted separately because {@link ConcurrentSkipListMap#size()} must
+     * traverse all elements.
+     */
+    private static final class JobIndex {
+
+        private final ConcurrentSkipListMap<Integer, Job> jobs = new ConcurrentSkipListMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        void put(Job job) {
+            if (jobs.put(job.getId(), job) == null) {
+                size.incrementAndGet();
+            }
+        }
+
+        boolean putIfAbsent(Job job) {
+            if (jobs.putIfAbsent(job.getId(), job) == null) {
+                size.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        boolean replace(Job expected, Job job) {
+            return jobs.replace(job.getId(), expected, job);
+        }
+
+        void remove(int id) {
+            if (jobs.remove(id) != null) {
+                size.decrementAndGet();
+            }
+        }
+
+        Job get(int id) {
+            return jobs.get(id);
+        }
+
+        int size() {
+            return size.get();
+        }
+
+        Iterator<Job> iterator(boolean descending) {
+            NavigableMap<Integer, Job> map = descending ? jobs.descendingMap() : jobs;
+            return map.values().iterator();
+        }
+
+    }
+
+    /**
+     * The JobIterator merges the (sorted) jobs of several indices. If a
+     * job is found in more than one index (because its state is changed
+     * in the meantime) it is returned only once.
+     */
+    private static final class JobIterator implements Iterator<Job> {
+
+        private final List<Iterator<Job>> iterators = new ArrayList<>();
+        private final Job[] heads;
+        private final boolean descending;
+
+        JobIterator(List<JobIndex> indices, boolean descending) {
+            this.descending = descending;
+            this.heads = new Job[indices.size()];
+            for (int i = 0; i < heads.length; i++) {
+                Iterator<Job> iterator = indices.get(i).iterator(descending);
+                iterators.add(iterator);
+                heads[i] = iterator.hasNext() ? iterator.next() : null;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            for (Job head : heads) {
+                if (head != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Job next() {
+            int next = -1;
+            for (int i = 0; i < heads.length; i++) {
+                if ((heads[i] != null) && ((next < 0) || isBefore(heads[i], heads[next]))) {
+                    next = i;
+                }
+            }
+            if (next < 0) {
+                throw new NoSuchElementException("no more jobs");
+            }
+            Job job = heads[next];
+            for (int i = 0; i < heads.length; i++) {
+                if ((heads[i] != null) && (heads[i].getId() == job.getId())) {
+                    Iterator<Job> iterator = iterators.get(i);
+                    heads[i] = iterator.hasNext() ? iterator.next() : null;
+                }
+            }
+            return job;
+        }
+
+        private boolean isBefore(Job a, Job b) {
+            return descending ? (a.getId() > b.getId()) : (a.getId() < b.getId());
+        }
+
+    }
+
+}
@@ -0,0 +1,527 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.server;
+
+import j4cups.protocol.IppOperations;
+import j4cups.protocol.attr.AttributeGroup;
+import j4cups.protocol.enums.JobState;
+import j4cups.protocol.enums.JobStateReasons;
+import j4cups.protocol.tags.DelimiterTags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * The PersistentJobStore is a {@link JobStore} which survives a restart.
+ * Each change of a job is appended to a write-ahead log ("jobs.wal") before
+ * it is applied. After a configurable number of changes all jobs are
+ * written into a snapshot ("jobs.snapshot") and the log is cleared.
+ * <p>
+ * Each entry of the log and the snapshot is an IPP message (a 'Create-Job'
+ * for a new job, a 'Set-Job-Attributes' for a changed job) with the
+ * job-attributes of the job. The request-id of the message is the sequence
+ * number of the change. An entry is preceded by its length and a CRC32
+ * checksum:
+ * </p>
+ * <pre>
+ *  -----------------------------------------------
+ *  |                   length n                  |   4 bytes
+ *  -----------------------------------------------
+ *  |                    CRC32                    |   4 bytes
+ *  -----------------------------------------------
+ *  |    IPP message (job-attributes-tag only)    |   n bytes
+ *  -----------------------------------------------
+ * </pre>
+ * <p>
+ * On startup the snapshot is loaded, then only the changes of the log
+ * after the snapshot are replayed. A torn entry at the end of the log
+ * (e.g. after a crash during a write) is cut off. The files are read with
+ * {@link FileChannel#read(ByteBuffer, long)} and not memory-mapped because
+ * a mapped file cannot be truncated or replaced on some platforms (e.g.
+ * Windows) as long as the mapping is not garbage collected.
+ * </p>
+ * <p>
+ * A snapshot is written without blocking the changes of other threads.
+ * Changes which are appended to the log while the snapshot is written are
+ * kept in the log.
+ * </p>
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public class PersistentJobStore extends JobStore implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PersistentJobStore.class);
+    private static final String LOG_FILE = "jobs.wal";
+    private static final String SNAPSHOT_FILE = "jobs.snapshot";
+    private static final int SNAPSHOT_MAGIC = 0x4a344a53;
+    private static final int HEADER_LENGTH = 8;
+    private static final List<String> ALL = Collections.singletonList("all");
+
+    private final Path dir;
+    private final int snapshotInterval;
+    private final boolean sync;
+    private final FileChannel wal;
+    private final FileLock lock;
+    private final Map<String, URI> printerURIs = new HashMap<>();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private int sequenceNumber;
+    private int changes;
+
+    /**
+     * Opens the job store in the given directory. A new snapshot is
+     * written after 100,000 changes.
+     *
+     * @param dir the directory for the log and the snapshot
+     * @throws IOException if the store cannot be opened or recovered
+     */
+    public PersistentJobStore(Path dir) throws IOException {
+        this(dir, 100_000, false);
+    }
+
+    /**
+     * Opens the job store in the given directory and restores the jobs
+     * from the last snapshot and the log.
+     *
+     * @param dir              the directory for the log and the snapshot
+     * @param snapshotInterval number of changes after which a new snapshot
+     *                         is written
+     * @param sync             true if each change should be forced to the
+     *                         disk (and not only to the operating system)
+     * @throws IOException if the store cannot be opened or recovered
+     */
+    public PersistentJobStore(Path dir, int snapshotInterval, boolean sync) throws IOException {
+        this.dir = Files.createDirectories(dir);
+        this.snapshotInterval = snapshotInterval;
+        this.sync = sync;
+        this.wal = FileChannel.open(dir.resolve(LOG_FILE), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.lock = tryLock(wal, dir);
+        recover();
+    }
+
+    private static FileLock tryLock(FileChannel channel, Path dir) throws IOException {
+        FileLock lock = null;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException ex) {
+            LOG.debug("'{}' is already locked by this JVM:", dir, ex);
+        }
+        if (lock == null) {
+            channel.close();
+            throw new IOException("job store in '" + dir + "' is already in use");
+        }
+        return lock;
+    }
+
+    private void recover() throws IOException {
+        long t0 = System.nanoTime();
+        Path snapshotFile = dir.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshotFile)) {
+            loadSnapshot(snapshotFile);
+        }
+        int snapshotSequenceNumber = sequenceNumber;
+        ByteBuffer buffer = read(wal, 0);
+        while (buffer.hasRemaining()) {
+            ByteBuffer message = nextEntry(buffer);
+            if (message == null) {
+                LOG.warn("Torn entry at the end of '{}' is cut off ({} bytes).", dir.resolve(LOG_FILE),
+                        buffer.remaining());
+                wal.truncate(buffer.position());
+                break;
+            }
+            int n = message.getInt(4);
+            if (n > snapshotSequenceNumber) {
+                restore(decode(message));
+                sequenceNumber = n;
+                changes++;
+            }
+        }
+        wal.position(wal.size());
+        printerURIs.clear();
+        LOG.info("{} jobs are restored from '{}' in {} ms ({} changes replayed).", size(), dir,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0), changes);
+    }
+
+    private void loadSnapshot(Path snapshotFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            ByteBuffer buffer = read(channel, 0);
+            if ((buffer.remaining() < HEADER_LENGTH) || (buffer.getInt() != SNAPSHOT_MAGIC)) {
+                throw new IOException("'" + snapshotFile + "' is not a snapshot of jobs");
+            }
+            sequenceNumber = buffer.getInt();
+            while (buffer.hasRemaining()) {
+                ByteBuffer message = nextEntry(buffer);
+                if (message == null) {
+                    throw new IOException("'" + snapshotFile + "' is corrupt at position " + buffer.position());
+                }
+                restore(decode(message));
+            }
+        }
+    }
+
+    private void restore(Job job) {
+        super.compareAndSet(getJob(job.getId()), job);
+    }
+
+    /**
+     * Reads the content of the given channel from the given position up
+     * to the end.
+     */
+    private static ByteBuffer read(FileChannel channel, long position) throws IOException {
+        long size = channel.size() - position;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("file with " + size + " bytes is too large to be read");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.max(0, size));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("channel ends after " + (position + buffer.position()) + " bytes");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Gets the IPP message of the next entry. If the entry is torn or its
+     * checksum is wrong null is returned and the position of the given
+     * buffer is not changed.
+     *
+     * @param buffer the buffer positioned at the beginning of an entry
+     * @return the IPP message of the entry or null
+     */
+    private static ByteBuffer nextEntry(ByteBuffer buffer) {
+        int pos = buffer.position();
+        if (buffer.remaining() < HEADER_LENGTH) {
+            return null;
+        }
+        int length = buffer.getInt(pos);
+        if ((length < 9) || (length > buffer.remaining() - HEADER_LENGTH)) {
+            return null;
+        }
+        ByteBuffer message = buffer.duplicate();
+        message.position(pos + HEADER_LENGTH);
+        message.limit(pos + HEADER_LENGTH + length);
+        message = message.slice();
+        CRC32 crc = new CRC32();
+        crc.update(message.duplicate());
+        if ((int) crc.getValue() != buffer.getInt(pos + 4)) {
+            return null;
+        }
+        buffer.position(pos + HEADER_LENGTH + length);
+        return message;
+    }
+
+    /**
+     * Decodes the job-attributes of the given IPP message. Because this is
+     * done for each job at startup the attributes are read directly from
+     * the buffer without creating an {@link AttributeGroup}. The job-uri
+     * is skipped because it is derived from the printer-uri and the
+     * job-id. The printer-uris are shared between the jobs of a printer.
+     *
+     * @param message the IPP message of an entry
+     * @return the job
+     */
+    private Job decode(ByteBuffer message) {
+        int id = 0;
+        URI printerURI = null;
+        String userName = "";
+        String jobName = "";
+        JobState state = JobState.UNKNOWN;
+        JobStateReasons reasons = JobStateReasons.NONE;
+        int[] times = new int[3];
+        // skip version-number, operation-id, request-id and job-attributes-tag
+        int pos = 9;
+        while (pos < message.limit() - 1) {
+            int nameLength = message.getShort(pos + 1) & 0xffff;
+            String name = readString(message, pos + 3, nameLength);
+            pos += 3 + nameLength;
+            int valueLength = message.getShort(pos) & 0xffff;
+            pos += 2;
+            switch (name) {
+                case "job-id":
+                    id = message.getInt(pos);
+                    break;
+                case "job-printer-uri":
+                    printerURI = printerURIs.computeIfAbsent(readString(message, pos, valueLength), URI::create);
+                    break;
+                case "job-name":
+                    jobName = readString(message, pos, valueLength);
+                    break;
+                case "job-originating-user-name":
+                    userName = readString(message, pos, valueLength);
+                    break;
+                case "job-state":
+                    state = JobState.of(message.getInt(pos));
+                    break;
+                case "job-state-reasons":
+                    reasons = JobStateReasons.of(readString(message, pos, valueLength));
+                    break;
+                case "time-at-creation":
+                    times[0] = message.getInt(pos);
+                    break;
+                case "time-at-processing":
+                    times[1] = (valueLength == 0) ? 0 : message.getInt(pos);
+                    break;
+                case "time-at-completed":
+                    times[2] = (valueLength == 0) ? 0 : message.getInt(pos);
+                    break;
+                default:
+                    break;
+            }
+            pos += valueLength;
+        }
+        return Job.of(id, printerURI, userName, jobName, state, reasons, times[0], times[1], times[2]);
+    }
+
+    private static String readString(ByteBuffer buffer, int pos, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(pos + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer encode(Job job, IppOperations op, int n) {
+        AttributeGroup group = job.toAttributeGroup(ALL);
+        int length = 8 + group.encodedLength() + 1;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + length);
+        buffer.putInt(length);
+        buffer.putInt(0);
+        buffer.put((byte) 2);
+        buffer.put((byte) 0);
+        buffer.putShort(op.getCode());
+        buffer.putInt(n);
+        group.encodeTo(buffer);
+        buffer.put(DelimiterTags.END_OF_ATTRIBUTES_TAG.getValue());
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_LENGTH, length);
+        buffer.putInt(4, (int) crc.getValue());
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Replaces the expected job by the given job. The change is appended to
+     * the log before it is applied. Because the log is written sequentially
+     * the changes of a persistent store are serialized. If the change
+     * cannot be logged an {@link UncheckedIOException} is thrown and the job
+     * is not stored. A snapshot which is due is written after the change
+     * outside of the lock.
+     *
+     * @param expected the stored job (or null if a new job is stored)
+     * @param job      the new job
+     * @return true if the job was changed, false if the stored job was not
+     *         the expected job
+     */
+    @Override
+    public boolean compareAndSet(Job expected, Job job) {
+        synchronized (this) {
+            if (getJob(job.getId()) != expected) {
+                return false;
+            }
+            IppOperations op = (expected == null) ? IppOperations.CREATE_JOB : IppOperations.SET_JOB_ATTRIBUTES;
+            append(encode(job, op, sequenceNumber + 1));
+            sequenceNumber++;
+            super.compareAndSet(expected, job);
+            changes++;
+        }
+        if (isSnapshotDue() && snapshotLock.tryLock()) {
+            try {
+                if (isSnapshotDue()) {
+                    snapshot();
+                }
+            } catch (IOException ioe) {
+                LOG.warn("Cannot write snapshot into '{}' (will be tried again with the next change):", dir, ioe);
+            } finally {
+                snapshotLock.unlock();
+            }
+        }
+        return true;
+    }
+
+    private synchronized boolean isSnapshotDue() {
+        return changes >= snapshotInterval;
+    }
+
+    private void append(ByteBuffer entry) {
+        try {
+            long pos = wal.position();
+            try {
+                while (entry.hasRemaining()) {
+                    wal.write(entry);
+                }
+                if (sync) {
+                    wal.force(false);
+                }
+            } catch (IOException ioe) {
+                wal.truncate(pos);
+                throw ioe;
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException("cannot append job change to '" + dir.resolve(LOG_FILE) + "'", ioe);
+        }
+    }
+
+    /**
+     * Writes all jobs into a new snapshot and removes the changes of the
+     * snapshot from the log. The snapshot is written into a temporary file
+     * which replaces the old snapshot only if it is complete.
+     * <p>
+     * The jobs may be changed by other threads while the snapshot is
+     * written. Such a change is part of the log after the snapshot and is
+     * replayed on recovery (even if the snapshot contains it already).
+     * </p>
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void snapshot() throws IOException {
+        snapshotLock.lock();
+        try {
+            long t0 = System.nanoTime();
+            int snapshotSequenceNumber;
+            int snapshotChanges;
+            long logPosition;
+            synchronized (this) {
+                snapshotSequenceNumber = sequenceNumber;
+                snapshotChanges = changes;
+                logPosition = wal.position();
+            }
+            Path tmpFile = dir.resolve(SNAPSHOT_FILE + ".tmp");
+            try (FileChannel channel = FileChannel.open(tmpFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer out = ByteBuffer.allocate(1 << 16);
+                out.putInt(SNAPSHOT_MAGIC);
+                out.putInt(snapshotSequenceNumber);
+                for (Iterator<Job> iterator = iterator(); iterator.hasNext(); ) {
+                    ByteBuffer entry = encode(iterator.next(), IppOperations.CREATE_JOB, snapshotSequenceNumber);
+                    if (entry.remaining() > out.remaining()) {
+                        flush(channel, out);
+                    }
+                    if (entry.remaining() > out.capacity()) {
+                        write(channel, entry);
+                    } else {
+                        out.put(entry);
+                    }
+                }
+                flush(channel, out);
+                channel.force(true);
+            }
+            Files.move(tmpFile, dir.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            synchronized (this) {
+                cutLog(logPosition);
+                changes -= snapshotChanges;
+            }
+            LOG.info("Snapshot of {} jobs is written into '{}' in {} ms.", size(), dir,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0));
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the changes up to the given position from the log because
+     * they are part of the snapshot. The changes which were appended while
+     * the snapshot was written are moved to the beginning of the log.
+     */
+    private void cutLog(long position) throws IOException {
+        ByteBuffer tail = read(wal, position);
+        int length = tail.remaining();
+        for (long pos = 0; tail.hasRemaining(); ) {
+            pos += wal.write(tail, pos);
+        }
+        wal.truncate(length);
+        wal.position(length);
+        wal.force(true);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer out) throws IOException {
+        out.flip();
+        write(channel, out);
+        out.clear();
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Writes a last snapshot (if there are unsaved changes) and closes the
+     * log.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        snapshotLock.lock();
+        try {
+            if (!wal.isOpen()) {
+                return;
+            }
+            try {
+                if (hasChanges()) {
+                    snapshot();
+                }
+            } finally {
+                synchronized (this) {
+                    lock.release();
+                    wal.close();
+                }
+            }
+        } finally {
+            snapshotLock.unlock();
+        }
+        LOG.debug("{} is closed.", this);
+    }
+
+    private synchronized boolean hasChanges() {
+        return changes > 0;
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + " in '" + dir + "'";
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.server;
+
+import j4cups.op.Operation;
+import j4cups.protocol.attr.Attribute;
+import j4cups.protocol.attr.AttributeBlock;
+import j4cups.protocol.attr.AttributeGroup;
+import j4cups.protocol.attr.AttributeKey;
+import j4cups.protocol.enums.PrinterState;
+import j4cups.protocol.tags.DelimiterTags;
+
+import java.net.URI;
+import java.util.Objects;
+
+/**
+ * A Printer is a virtual printer of the {@link PrinterRegistry}. It is
+ * immutable and holds only the attributes which differ from printer to
+ * printer (name, uri, location, info and state). These attributes are
+ * encoded only once into an {@link AttributeBlock}. The capabilities (e.g.
+ * the supported media) are the same for all printers and are shared as
+ * block of {@link Operation#getPrinterCapabilities()}. A change of the
+ * configuration results in a new Printer with a new block.
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public final class Printer {
+
+    private final String name;
+    private final URI uri;
+    private final String location;
+    private final String info;
+    private final PrinterState state;
+    private final AttributeBlock overlay;
+    private volatile SupportedURI supported;
+
+    private Printer(String name, URI uri, String location, String info, PrinterState state) {
+        this.name = name;
+        this.uri = uri;
+        this.location = location;
+        this.info = info;
+        this.state = state;
+        this.overlay = AttributeBlock.of(
+                Attribute.of(AttributeKey.PRINTER_NAME, name),
+                Attribute.of(AttributeKey.PRINTER_LOCATION, location),
+                Attribute.of(AttributeKey.PRINTER_INFO, info),
+                Attribute.of(AttributeKey.PRINTER_STATE, state.getValue()),
+                Attribute.of(AttributeKey.PRINTER_STATE_REASONS, (state == PrinterState.STOPPED) ? "paused" : "none"),
+                Attribute.of(AttributeKey.PRINTER_IS_ACCEPTING_JOBS, Boolean.TRUE));
+    }
+
+    /**
+     * Creates an idle printer with the given name. The printer-info is
+     * the name and the printer-location is empty.
+     *
+     * @param name e.g. "test-printer"
+     * @return the printer
+     */
+    public static Printer of(String name) {
+        return of(name, null, "", name, PrinterState.IDLE);
+    }
+
+    /**
+     * Creates a printer with the given attributes.
+     *
+     * @param name     e.g. "test-printer"
+     * @param uri      the printer-uri-supported or null if it should be
+     *                 derived from the host of the request
+     * @param location the printer-location
+     * @param info     the printer-info
+     * @param state    the printer-state
+     * @return the printer
+     */
+    public static Printer of(String name, URI uri, String location, String info, PrinterState state) {
+        return new Printer(name, uri, location, info, state);
+    }
+
+    /**
+     * Gets the name of the printer.
+     *
+     * @return e.g. "test-printer"
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the printer-uri-supported. If no URI is configured for the
+     * printer it is derived from the given host.
+     *
+     * @param host the host (and port) of the request, e.g. "localhost:631"
+     * @return e.g. "http://localhost:631/printers/test-printer"
+     */
+    public URI getURI(String host) {
+        return (uri == null) ? URI.create("http://" + host + "/printers/" + name) : uri;
+    }
+
+    /**
+     * Gets the printer-location.
+     *
+     * @return the location (may be empty)
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * Gets the printer-info.
+     *
+     * @return the info
+     */
+    public String getInfo() {
+        return info;
+    }
+
+    /**
+     * Gets the printer-state.
+     *
+     * @return e.g. {@link PrinterState#IDLE}
+     */
+    public PrinterState getState() {
+        return state;
+    }
+
+    /**
+     * Converts the printer into a printer-attributes group. The attributes
+     * are added as pre-encoded blocks which are copied as they are into
+     * the response. Only the printer-uri-supported is encoded again if the
+     * host differs from the last request.
+     *
+     * @param host the host (and port) of the request, e.g. "localhost:631"
+     * @return the attribute-group
+     */
+    public AttributeGroup toAttributeGroup(String host) {
+        SupportedURI last = supported;
+        if ((last == null) || !last.host.equals(host)) {
+            last = new SupportedURI(host, getURI(host));
+            supported = last;
+        }
+        AttributeGroup group = new AttributeGroup(DelimiterTags.PRINTER_ATTRIBUTES_TAG);
+        group.addAttributes(last.block);
+        group.addAttributes(overlay);
+        group.addAttributes(Operation.getPrinterCapabilities());
+        return group;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Printer)) {
+            return false;
+        }
+        Printer other = (Printer) obj;
+        return name.equals(other.name) && Objects.equals(uri, other.uri) && location.equals(other.location)
+                && info.equals(other.info) && (state == other.state);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Printer-" + name + " (" + state + ")";
+    }
+
+    /**
+     * The encoded printer-uri-supported for the host of a request.
+     */
+    private static final class SupportedURI {
+
+        private final String host;
+        private final AttributeBlock block;
+
+        SupportedURI(String host, URI uri) {
+            this.host = host;
+            this.block = AttributeBlock.of(Attribute.of(AttributeKey.PRINTER_URI_SUPPORTED, uri));
+        }
+
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.server;
+
+import j4cups.Config;
+import j4cups.protocol.enums.PrinterState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * The PrinterRegistry holds the virtual printers of the server. The
+ * printers are loaded from the {@link Config} and are kept sorted by their
+ * name (ignoring the case as CUPS does) so that Get-Printers can be
+ * answered page by page ("first-printer-name" and "limit").
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public class PrinterRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PrinterRegistry.class);
+    private final ConcurrentNavigableMap<String, Printer> printers =
+            new ConcurrentSkipListMap<>(String.CASE_INSENSITIVE_ORDER);
+    private volatile String defaultPrinterName;
+
+    /**
+     * Creates a registry with the printers of the standalone configuration.
+     */
+    public PrinterRegistry() {
+        this(new Config());
+    }
+
+    /**
+     * Creates a registry with the printers of the given configuration.
+     *
+     * @param config the configuration with the printer definitions
+     */
+    public PrinterRegistry(Config config) {
+        reload(config);
+    }
+
+    /**
+     * Applies the (changed) configuration. Unchanged printers are kept
+     * together with their encoded attributes. Changed printers are
+     * replaced and printers which are no longer configured are removed.
+     *
+     * @param config the configuration with the printer definitions
+     */
+    public void reload(Config config) {
+        Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        names.addAll(config.getPrinterNames());
+        int changed = 0;
+        for (String name : names) {
+            Printer printer = toPrinter(name, config);
+            if (!printer.equals(printers.get(name))) {
+                addPrinter(printer);
+                changed++;
+            }
+        }
+        printers.keySet().retainAll(names);
+        this.defaultPrinterName = config.getServerDefaultPrinter();
+        LOG.info("{} printer(s) are registered ({} changed).", printers.size(), changed);
+    }
+
+    private static Printer toPrinter(String name, Config config) {
+        String uri = config.getPrinterProperty(name, "uri", "");
+        String state = config.getPrinterProperty(name, "state", "idle");
+        return Printer.of(name, uri.isEmpty() ? null : URI.create(uri),
+                config.getPrinterProperty(name, "location", ""), config.getPrinterProperty(name, "info", name),
+                PrinterState.valueOf(state.toUpperCase(Locale.ENGLISH)));
+    }
+
+    /**
+     * Adds a printer to the registry. A printer with the same name is
+     * replaced.
+     *
+     * @param printer the printer
+     */
+    public void addPrinter(Printer printer) {
+        printers.put(printer.getName(), printer);
+    }
+
+    /**
+     * Gets the printer with the given name.
+     *
+     * @param name e.g. "test-printer"
+     * @return the printer or null if it is not registered
+     */
+    public Printer getPrinter(String name) {
+        return printers.get(name);
+    }
+
+    /**
+     * Gets the default printer. If no default printer is configured (or
+     * it is not registered) the first printer is the default printer.
+     *
+     * @return the default printer or null if no printer is registered
+     */
+    public Printer getDefaultPrinter() {
+        Printer printer = printers.get(defaultPrinterName);
+        if (printer == null) {
+            Map.Entry<String, Printer> first = printers.firstEntry();
+            return (first == null) ? null : first.getValue();
+        }
+        return printer;
+    }
+
+    /**
+     * Gets a page of printers in the order of their names.
+     *
+     * @param firstPrinterName the name of the first printer (or null to
+     *                         start with the first registered printer)
+     * @param limit            the maximal number of printers
+     * @return the printers
+     */
+    public List<Printer> getPrinters(String firstPrinterName, int limit) {
+        NavigableMap<String, Printer> page =
+                (firstPrinterName == null) ? printers : printers.tailMap(firstPrinterName, true);
+        List<Printer> list = new ArrayList<>();
+        for (Printer printer : page.values()) {
+            if (list.size() >= limit) {
+                break;
+            }
+            list.add(printer);
+        }
+        return list;
+    }
+
+    /**
+     * Gets the number of registered printers.
+     *
+     * @return number of printers
+     */
+    public int size() {
+        return printers.size();
+    }
+
+    @Override
+    public String toString() {
+        return "PrinterRegistry with " + printers.size() + " printer(s)";
+    }
+
+}
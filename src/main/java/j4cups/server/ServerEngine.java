@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.server;
+
+import org.apache.http.impl.bootstrap.HttpServer;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The interface ServerEngine is the common view of the different HTTP
+ * servers which can be used by the {@link CupsServer}: the classic
+ * (blocking) server and the non-blocking (NIO) server of Apache's HTTP
+ * components.
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+interface ServerEngine {
+
+    /**
+     * Starts the server.
+     *
+     * @throws IOException e.g. if the port is already in use
+     */
+    void start() throws IOException;
+
+    /**
+     * Waits until the server is terminated.
+     *
+     * @param timeout the maximal time to wait
+     * @param unit    the unit of the timeout
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    void awaitTermination(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Shuts down the server.
+     *
+     * @param gracePeriod the time to finish the running requests
+     * @param unit        the unit of the grace period
+     */
+    void shutdown(long gracePeriod, TimeUnit unit);
+
+    /**
+     * Wraps the classic (blocking) server.
+     *
+     * @param server the classic server
+     * @return the server as engine
+     */
+    static ServerEngine of(HttpServer server) {
+        return new ServerEngine() {
+            @Override
+            public void start() throws IOException {
+                server.start();
+            }
+
+            @Override
+            public void awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+                server.awaitTermination(timeout, unit);
+            }
+
+            @Override
+            public void shutdown(long gracePeriod, TimeUnit unit) {
+                server.shutdown(gracePeriod, unit);
+            }
+
+            @Override
+            public String toString() {
+                return server.toString();
+            }
+        };
+    }
+
+    /**
+     * Wraps the non-blocking server. The given workers are shut down
+     * together with the server.
+     *
+     * @param server  the non-blocking server
+     * @param workers the workers which handle the requests
+     * @return the server as engine
+     */
+    static ServerEngine of(org.apache.http.impl.nio.bootstrap.HttpServer server, ExecutorService workers) {
+        return new ServerEngine() {
+            @Override
+            public void start() throws IOException {
+                server.start();
+            }
+
+            @Override
+            public void awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+                server.awaitTermination(timeout, unit);
+            }
+
+            @Override
+            public void shutdown(long gracePeriod, TimeUnit unit) {
+                server.shutdown(gracePeriod, unit);
+                workers.shutdownNow();
+            }
+
+            @Override
+            public String toString() {
+                return server.toString();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.server;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The class WorkerExecutors creates the executor for the workers of the
+ * {@link CupsServer}. The kind of executor is given by the property
+ * "j4cups.server.executor":
+ * <ul>
+ *     <li>"platform": a pool of platform threads (the default)</li>
+ *     <li>"fixed:N": a pool with N platform threads</li>
+ *     <li>"virtual": a virtual thread per task</li>
+ * </ul>
+ * Virtual threads are available since Java 21. Because the code must still
+ * run on Java 8 the executor is created by reflection. On older JDKs a
+ * pool of platform threads is used instead.
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+final class WorkerExecutors {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkerExecutors.class);
+
+    /** Utility class - no need to instantiate it. */
+    private WorkerExecutors() {
+    }
+
+    /**
+     * Looks if the given executor specification means the platform
+     * threads.
+     *
+     * @param spec e.g. "platform", "virtual" or "fixed:20"
+     * @return true for "platform"
+     */
+    static boolean isPlatform(String spec) {
+        return "platform".equalsIgnoreCase(spec.trim());
+    }
+
+    /**
+     * Creates the executor for the given specification.
+     *
+     * @param spec            e.g. "platform", "virtual" or "fixed:20"
+     * @param platformThreads number of platform threads (if the spec is
+     *                        "platform"), 0 for an unbounded pool
+     * @return the executor
+     */
+    static ExecutorService create(String spec, int platformThreads) {
+        String s = spec.trim().toLowerCase();
+        if ("virtual".equals(s)) {
+            return newVirtualThreadPerTaskExecutor();
+        } else if (s.startsWith("fixed:")) {
+            String n = s.substring(6).trim();
+            if (!StringUtils.isNumeric(n) || (Integer.parseInt(n) < 1)) {
+                throw new IllegalArgumentException("invalid number of threads in '" + spec + "'");
+            }
+            return newPlatformExecutor(Integer.parseInt(n));
+        } else if ("platform".equals(s)) {
+            return newPlatformExecutor(platformThreads);
+        } else {
+            throw new IllegalArgumentException(
+                    "invalid executor '" + spec + "' (must be 'platform', 'virtual' or 'fixed:N')");
+        }
+    }
+
+    private static ExecutorService newPlatformExecutor(int nThreads) {
+        BasicThreadFactory factory =
+                new BasicThreadFactory.Builder().namingPattern("j4cups-worker-%d").daemon(true).build();
+        if (nThreads > 0) {
+            return Executors.newFixedThreadPool(nThreads, factory);
+        } else {
+            return Executors.newCachedThreadPool(factory);
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            ExecutorService executor = (ExecutorService) method.invoke(null);
+            LOG.debug("Virtual threads are used for the workers.");
+            return executor;
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+            LOG.warn("Virtual threads are not supported by Java {} - platform threads are used ({}).",
+                    System.getProperty("java.version"), ex.toString());
+            return newPlatformExecutor(0);
+        }
+    }
+
+}
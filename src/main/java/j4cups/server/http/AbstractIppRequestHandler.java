@@ -17,9 +17,15 @@
  */
 package j4cups.server.http;
 
+import j4cups.op.GetJobs;
 import j4cups.protocol.IppRequest;
 import j4cups.protocol.IppResponse;
 import j4cups.protocol.StatusCode;
+import j4cups.protocol.attr.AttributeKey;
+import j4cups.server.Job;
+import j4cups.server.JobStore;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.http.*;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
@@ -30,6 +36,8 @@ import org.slf4j.LoggerFactory;
 
 import javax.validation.ValidationException;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -80,6 +88,91 @@ public abstract class AbstractIppRequestHandler implements HttpRequestHandler {
      */
     protected abstract void handle(HttpEntityEnclosingRequest request, HttpResponse response) throws IOException;
 
+    /**
+     * Answers a Get-Jobs request from the given job store.
+     *
+     * @param ippRequest the Get-Jobs request
+     * @param jobStore   the stored jobs
+     * @return the response with a job-attributes group for each job
+     * @since 0.6.2
+     */
+    protected static IppResponse handleGetJobs(IppRequest ippRequest, JobStore jobStore) {
+        GetJobs op = new GetJobs(ippRequest);
+        List<String> requested = getRequestedAttributes(ippRequest, "job-uri", "job-id");
+        for (Job job : jobStore.getJobs(ippRequest)) {
+            op.addJob(job.toAttributeGroup(requested));
+        }
+        return op.getIppResponse();
+    }
+
+    /**
+     * Answers a Get-Job-Attributes request with the given job.
+     *
+     * @param ippRequest the Get-Job-Attributes request
+     * @param job        the requested job (or null if it is unknown)
+     * @return the response with the job-attributes group of the job
+     * @since 0.6.2
+     */
+    protected static IppResponse handleGetJobAttributes(IppRequest ippRequest, Job job) {
+        IppResponse ippResponse = new IppResponse(ippRequest);
+        if (job == null) {
+            ippResponse.setStatusCode(StatusCode.CLIENT_ERROR_NOT_FOUND);
+            ippResponse.setStatusMessage("job " + getJobId(ippRequest) + " not found");
+        } else {
+            ippResponse.addAttributeGroup(job.toAttributeGroup(getRequestedAttributes(ippRequest, "all")));
+        }
+        return ippResponse;
+    }
+
+    private static List<String> getRequestedAttributes(IppRequest ippRequest, String... defaults) {
+        if (ippRequest.hasAttribute("requested-attributes")) {
+            return ippRequest.getAttribute(AttributeKey.REQUESTED_ATTRIBUTES)
+                             .getValues(AttributeKey.REQUESTED_ATTRIBUTES);
+        }
+        return Arrays.asList(defaults);
+    }
+
+    /**
+     * Gets the job-id of the given request. If the request has no
+     * 'job-id' it is taken from the 'job-uri'.
+     *
+     * @param ippRequest e.g. a Cancel-Job request
+     * @return the job-id (or 0 if the request has no job-id)
+     * @since 0.6.2
+     */
+    protected static int getJobId(IppRequest ippRequest) {
+        if (ippRequest.hasAttribute("job-id")) {
+            return ippRequest.getJobId();
+        } else if (ippRequest.hasAttribute("job-uri")) {
+            String path = ippRequest.getValue(AttributeKey.JOB_URI).getPath();
+            return NumberUtils.toInt(StringUtils.substringAfterLast(path, "/"));
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the 'requesting-user-name' of the given request.
+     *
+     * @param ippRequest the IPP request
+     * @return the user name (or null)
+     * @since 0.6.2
+     */
+    protected static String getUserName(IppRequest ippRequest) {
+        return ippRequest.hasAttribute("requesting-user-name")
+                ? ippRequest.getValue(AttributeKey.REQUESTING_USER_NAME) : null;
+    }
+
+    /**
+     * Gets the 'job-name' of the given request.
+     *
+     * @param ippRequest the IPP request
+     * @return the job name (or null)
+     * @since 0.6.2
+     */
+    protected static String getJobName(IppRequest ippRequest) {
+        return ippRequest.hasAttribute("job-name") ? ippRequest.getValue(AttributeKey.JOB_NAME) : null;
+    }
+
     /**
      * If a {@link ValidationException} happens the response is filled with
      * the error message.
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.server.http;
+
+import org.apache.http.*;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.nio.protocol.*;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * The class AsyncRequestHandler allows to use the (blocking)
+ * {@link HttpRequestHandler}s of this package with a non-blocking server.
+ * The content of the request is collected by the I/O threads (see
+ * {@link SpoolingRequestConsumer}). Only the handling itself is done by a
+ * worker thread of the given executor. So idle connections do not occupy
+ * any worker thread.
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public class AsyncRequestHandler implements HttpAsyncRequestHandler<HttpRequest> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncRequestHandler.class);
+    private final HttpRequestHandler handler;
+    private final Executor executor;
+
+    /**
+     * Instantiates a new handler which delegates the handling of the
+     * requests to the given handler.
+     *
+     * @param handler  the (blocking) request handler
+     * @param executor the executor where the handler is called
+     */
+    public AsyncRequestHandler(HttpRequestHandler handler, Executor executor) {
+        this.handler = handler;
+        this.executor = executor;
+    }
+
+    @Override
+    public HttpAsyncRequestConsumer<HttpRequest> processRequest(HttpRequest request, HttpContext context) {
+        return new SpoolingRequestConsumer();
+    }
+
+    /**
+     * The request is handled by the executor. If the client closes the
+     * connection before the response is submitted the handling is
+     * cancelled.
+     *
+     * @param request  the request
+     * @param exchange the exchange of request and response
+     * @param context  the context
+     */
+    @Override
+    public void handle(HttpRequest request, HttpAsyncExchange exchange, HttpContext context) {
+        FutureTask<Void> task = new FutureTask<>(() -> execute(request, exchange, context), null);
+        exchange.setCallback(() -> task.cancel(true));
+        executor.execute(task);
+    }
+
+    private void execute(HttpRequest request, HttpAsyncExchange exchange, HttpContext context) {
+        HttpResponse response = exchange.getResponse();
+        try {
+            handler.handle(request, response, context);
+        } catch (HttpException ex) {
+            handleException(ex, response);
+        } catch (IOException | RuntimeException ex) {
+            LOG.warn("Cannot handle {}:", request, ex);
+            setStatus(response, HttpStatus.SC_INTERNAL_SERVER_ERROR, ex);
+        } finally {
+            deleteSpoolFile(context);
+        }
+        if (exchange.isCompleted()) {
+            LOG.debug("{} is already completed (or cancelled).", request);
+        } else {
+            exchange.submitResponse(new BasicAsyncResponseProducer(response));
+        }
+    }
+
+    private static void handleException(HttpException ex, HttpResponse response) {
+        LOG.info("Request failed with {}.", ex.toString());
+        if (ex instanceof MethodNotSupportedException) {
+            setStatus(response, HttpStatus.SC_NOT_IMPLEMENTED, ex);
+        } else if (ex instanceof UnsupportedHttpVersionException) {
+            setStatus(response, HttpStatus.SC_HTTP_VERSION_NOT_SUPPORTED, ex);
+        } else if (ex instanceof ProtocolException) {
+            setStatus(response, HttpStatus.SC_BAD_REQUEST, ex);
+        } else {
+            setStatus(response, HttpStatus.SC_INTERNAL_SERVER_ERROR, ex);
+        }
+    }
+
+    private static void setStatus(HttpResponse response, int status, Exception ex) {
+        response.setStatusCode(status);
+        response.setEntity(new StringEntity(String.valueOf(ex.getMessage()), ContentType.TEXT_PLAIN));
+    }
+
+    private static void deleteSpoolFile(HttpContext context) {
+        Path spoolFile = (Path) context.removeAttribute(SpoolingRequestConsumer.SPOOL_FILE);
+        if (spoolFile != null) {
+            try {
+                Files.deleteIfExists(spoolFile);
+            } catch (IOException ioe) {
+                LOG.warn("Cannot delete spool file '{}':", spoolFile, ioe);
+            }
+        }
+    }
+
+}
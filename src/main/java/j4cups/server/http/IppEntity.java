@@ -25,19 +25,40 @@ import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.HttpResponse;
-import org.apache.http.entity.ByteArrayEntity;
-import org.apache.http.util.EntityUtils;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
 
 /**
- * Class IppEntity.
+ * Class IppEntity. The entity is not buffered: the IPP request or response
+ * is written directly to the output stream of the connection. The data part
+ * (the document) is streamed from its origin (a byte array, a file or the
+ * stream of a received request). If its length is unknown chunked encoding
+ * is used.
+ * <p>
+ * The length is not captured when the entity is created but computed once
+ * from the IPP message when it is requested first (i.e. when the header is
+ * sent). So the message may still be changed after the entity was created
+ * (e.g. by an interceptor) but not after its length was requested.
+ * </p>
  *
  * @author oliver
  * @since 0.5
  */
-public class IppEntity extends ByteArrayEntity {
+public class IppEntity extends AbstractHttpEntity {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IppEntity.class);
+    private static final long NOT_COMPUTED = Long.MIN_VALUE;
+    private final AbstractIpp ipp;
+    private final byte[] content;
+    private long length = NOT_COMPUTED;
 
     /**
      * Instantiates a new entity.
@@ -45,7 +66,7 @@ public class IppEntity extends ByteArrayEntity {
      * @param ippRequest IPP request or response
      */
     public IppEntity(AbstractIpp ippRequest) {
-        this(ippRequest.toByteArray());
+        this(ippRequest, null);
     }
 
     /**
@@ -54,13 +75,99 @@ public class IppEntity extends ByteArrayEntity {
      * @param content IPP request or response
      */
     public IppEntity(byte[] content) {
-        super(content);
+        this(null, content);
+    }
+
+    private IppEntity(AbstractIpp ipp, byte[] content) {
+        this.ipp = ipp;
+        this.content = content;
         setContentType("application/ipp");
     }
 
+    /**
+     * The entity is repeatable if the data part of the IPP request or
+     * response is not streamed from a received request.
+     *
+     * @return true if entity can be written several times
+     */
+    @Override
+    public boolean isRepeatable() {
+        return (ipp == null) || ipp.isRepeatable();
+    }
+
+    /**
+     * Returns the length of the content. It is computed only once from the
+     * IPP request or response because this needs to walk over all
+     * attributes.
+     *
+     * @return number of bytes or -1 if the length is unknown
+     */
+    @Override
+    public long getContentLength() {
+        if (length == NOT_COMPUTED) {
+            length = (ipp == null) ? content.length : ipp.getLength();
+        }
+        return length;
+    }
+
+    /**
+     * Chunked encoding is used if the length of the content is unknown.
+     *
+     * @return true if the length is unknown
+     */
+    @Override
+    public boolean isChunked() {
+        return getContentLength() < 0;
+    }
+
+    /**
+     * Returns the content as stream. The data part is not read into
+     * memory for it.
+     *
+     * @return content stream
+     */
+    @Override
+    public InputStream getContent() {
+        if (ipp == null) {
+            return new ByteArrayInputStream(content);
+        } else {
+            return ipp.toInputStream();
+        }
+    }
+
+    /**
+     * Writes the IPP request or response to the given stream. The data part
+     * is streamed without buffering it in memory.
+     *
+     * @param ostream the stream to write to
+     * @throws IOException if the content cannot be written
+     */
+    @Override
+    public void writeTo(OutputStream ostream) throws IOException {
+        if (ipp == null) {
+            ostream.write(content);
+            ostream.flush();
+        } else {
+            ipp.writeTo(ostream);
+        }
+    }
+
+    /**
+     * Returns true if the content is streamed from a received request.
+     *
+     * @return true if entity is not repeatable
+     */
+    @Override
+    public boolean isStreaming() {
+        return !isRepeatable();
+    }
+
     /**
      * This is a utility method to convert an {@link HttpEntityEnclosingRequest} to an
-     * {@link IppRequest}.
+     * {@link IppRequest}. Only the header and the attributes are read from
+     * the request. The data part (the document) is streamed and must be
+     * consumed (via {@link IppRequest#getDataStream()}) as long as the
+     * request is handled.
      *
      * @param request the {@link HttpEntityEnclosingRequest}
      * @return the {@link IppRequest} inside
@@ -68,8 +175,10 @@ public class IppEntity extends ByteArrayEntity {
     public static IppRequest toIppRequest(HttpEntityEnclosingRequest request) {
         HttpEntity entity = request.getEntity();
         try {
-            byte[] entityContent = EntityUtils.toByteArray(entity);
-            return new IppRequest(entityContent);
+            return new IppRequest(entity.getContent(), entity.getContentLength());
+        } catch (EOFException ex) {
+            LOG.debug("Content of {} is truncated:", request, ex);
+            throw (BufferUnderflowException) new BufferUnderflowException().initCause(ex);
         } catch (IOException ioe) {
             throw new IllegalStateException("cannot read content from " + request, ioe);
         }
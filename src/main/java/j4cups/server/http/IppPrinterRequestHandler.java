@@ -23,9 +23,15 @@ import j4cups.protocol.AbstractIpp;
 import j4cups.protocol.IppOperations;
 import j4cups.protocol.IppRequest;
 import j4cups.protocol.IppResponse;
+import j4cups.protocol.StatusCode;
 import j4cups.protocol.attr.Attribute;
+import j4cups.protocol.attr.AttributeKey;
 import j4cups.protocol.enums.JobState;
 import j4cups.protocol.enums.JobStateReasons;
+import j4cups.server.Job;
+import j4cups.server.JobStore;
+import j4cups.server.Printer;
+import j4cups.server.PrinterRegistry;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.SystemUtils;
@@ -35,8 +41,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.validation.ValidationException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -51,14 +58,41 @@ public final class IppPrinterRequestHandler extends AbstractIppRequestHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(IppPrinterRequestHandler.class);
     private final Path recordDir;
-    private int jobId;
+    private final JobStore jobStore;
+    private final PrinterRegistry printerRegistry;
 
     /**
      * Instantiates the request handler for the printer emulation. The requests
      * will be recorded to "/tmp/IPP/printer" (on Unix).
      */
     public IppPrinterRequestHandler() {
-        this(Paths.get(SystemUtils.getJavaIoTmpDir().toString(), "IPP", "printer"));
+        this(new JobStore());
+    }
+
+    /**
+     * Instantiates the request handler for the printer emulation which
+     * keeps the jobs in the given job store. The requests will be recorded
+     * to "/tmp/IPP/printer" (on Unix).
+     *
+     * @param jobStore the store for the jobs
+     * @since 0.6.2
+     */
+    public IppPrinterRequestHandler(JobStore jobStore) {
+        this(jobStore, new PrinterRegistry());
+    }
+
+    /**
+     * Instantiates the request handler for the printer emulation which
+     * keeps the jobs in the given job store and knows the printers of the
+     * given registry. The requests will be recorded to "/tmp/IPP/printer"
+     * (on Unix).
+     *
+     * @param jobStore        the store for the jobs
+     * @param printerRegistry the registry with the printers
+     * @since 0.6.2
+     */
+    public IppPrinterRequestHandler(JobStore jobStore, PrinterRegistry printerRegistry) {
+        this(Paths.get(SystemUtils.getJavaIoTmpDir().toString(), "IPP", "printer"), jobStore, printerRegistry);
     }
 
     /**
@@ -67,7 +101,35 @@ public final class IppPrinterRequestHandler extends AbstractIppRequestHandler {
      * @param recordDir directory, where the requests are logged
      */
     public IppPrinterRequestHandler(Path recordDir) {
+        this(recordDir, new JobStore());
+    }
+
+    /**
+     * Instantiates the request handler for the printer emulation. The
+     * created jobs are kept in the given job store.
+     *
+     * @param recordDir directory, where the requests are logged
+     * @param jobStore  the store for the jobs
+     * @since 0.6.2
+     */
+    public IppPrinterRequestHandler(Path recordDir, JobStore jobStore) {
+        this(recordDir, jobStore, new PrinterRegistry());
+    }
+
+    /**
+     * Instantiates the request handler for the printer emulation. The
+     * created jobs are kept in the given job store, Get-Printer-Attributes
+     * is answered with the printers of the given registry.
+     *
+     * @param recordDir       directory, where the requests are logged
+     * @param jobStore        the store for the jobs
+     * @param printerRegistry the registry with the printers
+     * @since 0.6.2
+     */
+    public IppPrinterRequestHandler(Path recordDir, JobStore jobStore, PrinterRegistry printerRegistry) {
         this.recordDir = recordDir;
+        this.jobStore = jobStore;
+        this.printerRegistry = printerRegistry;
     }
 
     /**
@@ -78,14 +140,14 @@ public final class IppPrinterRequestHandler extends AbstractIppRequestHandler {
      * @param response the HTTP response.
      */
     @Override
-    public void handle(HttpEntityEnclosingRequest request, HttpResponse response) {
+    public void handle(HttpEntityEnclosingRequest request, HttpResponse response) throws IOException {
         IppRequest ippRequest = IppEntity.toIppRequest(request);
         LOG.info("{} received.", ippRequest.toShortString());
         try {
             ippRequest.validate();
+            IppOperations ippOperation = ippRequest.getOperation();
             ippRequest.recordTo(recordDir);
             IppResponse ippResponse = new IppResponse(ippRequest);
-            IppOperations ippOperation = ippRequest.getOperation();
             switch (ippOperation) {
                 case GET_PRINTER_ATTRIBUTES:
                     ippResponse = handleGetPrinterAttributes(ippRequest);
@@ -99,6 +161,15 @@ public final class IppPrinterRequestHandler extends AbstractIppRequestHandler {
                 case SEND_DOCUMENT:
                     ippResponse = handleSendDocument(ippRequest);
                     break;
+                case CANCEL_JOB:
+                    handleCancelJob(ippRequest, ippResponse);
+                    break;
+                case GET_JOBS:
+                    ippResponse = handleGetJobs(ippRequest, jobStore);
+                    break;
+                case GET_JOB_ATTRIBUTES:
+                    ippResponse = handleGetJobAttributes(ippRequest, jobStore.getJob(getJobId(ippRequest)));
+                    break;
                 default:
                     LOG.info("No special handling for {} is foreseen.", ippOperation);
                     break;
@@ -113,57 +184,117 @@ public final class IppPrinterRequestHandler extends AbstractIppRequestHandler {
         }
     }
 
+    /**
+     * A registered printer is answered with its pre-encoded attributes.
+     * Other printers are described as virtual printer.
+     */
     private IppResponse handleGetPrinterAttributes(IppRequest ippRequest) {
-        Operation op = new GetPrinterAttributes(ippRequest);
+        GetPrinterAttributes op = new GetPrinterAttributes(ippRequest);
+        URI printerURI = ippRequest.getPrinterURI();
+        Printer printer = printerRegistry.getPrinter(Job.toPrinterName(printerURI));
+        if (printer != null) {
+            String host = StringUtils.defaultString(printerURI.getAuthority(), "localhost:631");
+            op.setPrinter(printer.toAttributeGroup(host));
+        }
         return op.getIppResponse();
     }
 
     private IppResponse handleCreateJob(IppRequest ippRequest) {
         CreateJob op = new CreateJob(ippRequest);
-        setJobId(op);
-        op.setJobState(JobState.PENDING_HELD);
-        op.setJobStateReasons(JobStateReasons.JOB_INCOMING);
+        Job job = createJob(ippRequest, JobState.PENDING_HELD, JobStateReasons.JOB_INCOMING);
+        op.setJobId(job.getId());
+        op.setJobState(job.getState());
+        op.setJobStateReasons(job.getStateReasons());
         return op.getIppResponse();
     }
 
-    private IppResponse handlePrintJob(IppRequest ippRequest) {
-        return handle(new PrintJob(), ippRequest);
+    private IppResponse handlePrintJob(IppRequest ippRequest) throws IOException {
+        Job job = createJob(ippRequest, JobState.COMPLETED, JobStateReasons.JOB_COMPLETED_SUCCESSFULLY);
+        recordData(ippRequest);
+        return handle(new PrintJob(), job);
     }
 
-    private IppResponse handleSendDocument(IppRequest ippRequest) {
-        return handle(new SendDocument(), ippRequest);
+    /**
+     * A Send-Document request for an unknown job (e.g. after a restart) is
+     * accepted. The virtual printer adopts the job with the given job-id.
+     * A job which is already completed (or canceled or aborted) does not
+     * accept any more documents (RFC 8011, section 4.3.1). Because the job
+     * could be completed by another thread in the meantime the state is
+     * changed by compare-and-set. The document is recorded not before the
+     * job has accepted it.
+     */
+    private IppResponse handleSendDocument(IppRequest ippRequest) throws IOException {
+        int id = getJobId(ippRequest);
+        boolean lastDocument =
+                !ippRequest.hasAttribute("last-document") || ippRequest.getValue(AttributeKey.LAST_DOCUMENT);
+        Job stored = jobStore.getJob(id);
+        while ((stored == null) || !stored.isCompleted()) {
+            Job job = (stored == null)
+                    ? Job.of(id, ippRequest.getPrinterURI(), getUserName(ippRequest), getJobName(ippRequest))
+                    : stored;
+            job = lastDocument ? job.withState(JobState.COMPLETED, JobStateReasons.JOB_COMPLETED_SUCCESSFULLY)
+                    : job.withState(JobState.PROCESSING, JobStateReasons.JOB_INCOMING);
+            if (jobStore.compareAndSet(stored, job)) {
+                recordData(ippRequest);
+                return handle(new SendDocument(), job);
+            }
+            stored = jobStore.getJob(id);
+        }
+        IppResponse ippResponse = new IppResponse(ippRequest);
+        ippResponse.setStatusCode(StatusCode.CLIENT_ERROR_NOT_POSSIBLE);
+        ippResponse.setStatusMessage("job " + id + " is already " + stored.getState());
+        return ippResponse;
     }
 
-    private IppResponse handle(Operation op, IppRequest ippRequest) {
-        recordData(ippRequest);
-        setJobId(op);
-        URI printerURI = ippRequest.getPrinterURI();
-        op.setPrinterURI(printerURI);
-        URI jobURI = getJobUriFrom(printerURI);
-        op.setJobAttribute(Attribute.of("job-uri", jobURI));
-        return op.getIppResponse();
+    /**
+     * A job is only canceled if it is not completed. Because the job could
+     * be completed by another thread in the meantime the state is changed
+     * by compare-and-set.
+     */
+    private void handleCancelJob(IppRequest ippRequest, IppResponse ippResponse) {
+        int id = getJobId(ippRequest);
+        Job job = jobStore.getJob(id);
+        while ((job != null) && !job.isCompleted()
+                && !jobStore.compareAndSet(job, job.withState(JobState.CANCELED, JobStateReasons.JOB_CANCELED_BY_USER))) {
+            job = jobStore.getJob(id);
+        }
+        if (job == null) {
+            ippResponse.setStatusCode(StatusCode.CLIENT_ERROR_NOT_FOUND);
+            ippResponse.setStatusMessage("job " + id + " not found");
+        } else if (job.isCompleted()) {
+            ippResponse.setStatusCode(StatusCode.CLIENT_ERROR_NOT_POSSIBLE);
+            ippResponse.setStatusMessage("job " + id + " is already " + job.getState());
+        }
     }
 
-    private URI getJobUriFrom(URI printerURI) {
-        try {
-            return new URI("ipp", null, printerURI.getHost(), printerURI.getPort(),  "/jobs/" + jobId, null, null);
-        } catch (URISyntaxException ex) {
-            LOG.warn("Cannot build job-URI from {}:", printerURI, ex);
-            return printerURI;
-        }
+    private Job createJob(IppRequest ippRequest, JobState state, JobStateReasons reasons) {
+        return jobStore.createJob(ippRequest.getPrinterURI(), getUserName(ippRequest), getJobName(ippRequest), state,
+                reasons);
     }
 
-    private void setJobId(Operation op) {
-        jobId++;
-        op.setJobId(jobId);
+    private static IppResponse handle(Operation op, Job job) {
+        op.setJobId(job.getId());
+        op.setPrinterURI(job.getPrinterURI());
+        op.setJobAttribute(Attribute.of(AttributeKey.JOB_URI, job.getJobURI()));
+        op.setJobState(job.getState());
+        op.setJobStateReasons(job.getStateReasons());
+        return op.getIppResponse();
     }
 
-    private void recordData(IppRequest ippRequest) {
+    /**
+     * The data of the request is streamed directly into the data directory.
+     * Afterwards the request uses the recorded file as data so that the
+     * document is never held completely in memory.
+     */
+    private void recordData(IppRequest ippRequest) throws IOException {
         URI printerURI = ippRequest.getPrinterURI();
         Path dataDir = Paths.get(recordDir.toString(), "data", StringUtils.substringAfterLast(printerURI.getPath(), "/"));
         String filename = FilenameUtils.normalize(ippRequest.getAttribute("job-name").getStringValue() + ".data", true);
         filename = StringUtils.removeAll(filename, "/");
-        AbstractIpp.recordTo(dataDir, ippRequest.getData(), filename);
+        try (InputStream data = ippRequest.getDataStream()) {
+            Path dataFile = AbstractIpp.recordTo(dataDir, data, filename);
+            ippRequest.setData(dataFile);
+        }
     }
 
 }
@@ -17,16 +17,24 @@
  */
 package j4cups.server.http;
 
+import j4cups.Config;
 import j4cups.client.CupsClient;
 import j4cups.op.GetDefault;
 import j4cups.op.GetPrinters;
-import j4cups.op.SendDocument;
 import j4cups.protocol.IppRequest;
 import j4cups.protocol.IppResponse;
+import j4cups.protocol.StatusCode;
+import j4cups.protocol.attr.AttributeKey;
+import j4cups.protocol.enums.JobState;
+import j4cups.protocol.enums.JobStateReasons;
 import j4cups.server.HttpHandler;
 import j4cups.server.HttpProxyHandler;
 import j4cups.server.IppHandler;
 import j4cups.server.IppProxyHandler;
+import j4cups.server.Job;
+import j4cups.server.JobStore;
+import j4cups.server.Printer;
+import j4cups.server.PrinterRegistry;
 import org.apache.http.*;
 import org.apache.http.message.BasicHttpEntityEnclosingRequest;
 import org.apache.http.protocol.HttpContext;
@@ -49,6 +57,8 @@ public class IppServerRequestHandler extends AbstractIppRequestHandler {
     private static final Logger LOG = LoggerFactory.getLogger(IppServerRequestHandler.class);
     private final IppHandler ippHandler;
     private final HttpHandler httpHandler;
+    private final JobStore jobStore;
+    private final PrinterRegistry printerRegistry;
 
     /**
      * The default ctor is mainly intented for testing.
@@ -64,7 +74,23 @@ public class IppServerRequestHandler extends AbstractIppRequestHandler {
      * @param forwardURI CUPS URI where the request should be forwarded to
      */
     public IppServerRequestHandler(URI forwardURI) {
-        this(new IppProxyHandler(forwardURI), new HttpProxyHandler(forwardURI));
+        this(forwardURI, new Config());
+    }
+
+    /**
+     * If the request handler acts as a proxy we need to know the URI where
+     * the request should be forwarded. The connections to CUPS and to the
+     * printers use the client settings ("j4cups.client.*") of the given
+     * config. The jobs are kept by CUPS, so Get-Jobs and
+     * Get-Job-Attributes are forwarded too.
+     *
+     * @param forwardURI CUPS URI where the request should be forwarded to
+     * @param config     the config with the client settings
+     * @since 0.6.2
+     */
+    public IppServerRequestHandler(URI forwardURI, Config config) {
+        this(new IppProxyHandler(forwardURI, config), new HttpProxyHandler(forwardURI), null,
+                new PrinterRegistry(config));
     }
 
     /**
@@ -76,8 +102,46 @@ public class IppServerRequestHandler extends AbstractIppRequestHandler {
      * @param httpHandler the http handler
      */
     public IppServerRequestHandler(IppHandler ippHandler, HttpHandler httpHandler) {
+        this(ippHandler, httpHandler, new JobStore());
+    }
+
+    /**
+     * The jobs which are created by this request handler are kept in the
+     * given job store. So Get-Jobs can be answered without CUPS.
+     *
+     * @param ippHandler  the handler used for IPP communication
+     * @param httpHandler the http handler
+     * @param jobStore    the store for the jobs
+     * @since 0.6.2
+     */
+    public IppServerRequestHandler(IppHandler ippHandler, HttpHandler httpHandler, JobStore jobStore) {
+        this(ippHandler, httpHandler, jobStore, new PrinterRegistry());
+    }
+
+    /**
+     * The jobs which are created by this request handler are kept in the
+     * given job store. Get-Printers and Get-Default are answered with the
+     * printers of the given registry. Without a job store (as proxy) the
+     * jobs are kept only by CUPS and all job operations are forwarded.
+     * <p>
+     * The jobs are stored with the job-id of CUPS or the printer. So the
+     * job store must not be shared with an {@link IppPrinterRequestHandler}
+     * which allocates its own job-ids.
+     * </p>
+     *
+     * @param ippHandler      the handler used for IPP communication
+     * @param httpHandler     the http handler
+     * @param jobStore        the store for the jobs (or null if the jobs
+     *                        are kept by CUPS)
+     * @param printerRegistry the registry with the printers
+     * @since 0.6.2
+     */
+    public IppServerRequestHandler(IppHandler ippHandler, HttpHandler httpHandler, JobStore jobStore,
+                                   PrinterRegistry printerRegistry) {
         this.ippHandler = ippHandler;
         this.httpHandler = httpHandler;
+        this.jobStore = jobStore;
+        this.printerRegistry = printerRegistry;
     }
 
     /**
@@ -125,19 +189,24 @@ public class IppServerRequestHandler extends AbstractIppRequestHandler {
                 ippRequest.validate();
                 switch (ippRequest.getOperation()) {
                     case GET_JOBS:
-                        LOG.info("{} received, but jobs are not (yet) stored.", ippRequest.toShortString());
+                        handleGetJobs(ippRequest, response);
+                        break;
+                    case GET_JOB_ATTRIBUTES:
+                        handleGetJobAttributes(ippRequest, response);
                         break;
                     case SEND_DOCUMENT:
-                        new SendDocument().validateRequest(ippRequest);
                     case CREATE_JOB:
                     case PRINT_JOB:
-                        sendToPrinter(ippRequest, response);
+                        recordJob(ippRequest, sendToPrinter(ippRequest, response));
+                        break;
+                    case CANCEL_JOB:
+                        cancelJob(ippRequest, send(ippRequest, response));
                         break;
                     case GET_DEFAULT:
-                        handleGetDefault(response, ippRequest.getRequestId());
+                        handleGetDefault(ippRequest, request, response);
                         break;
                     case GET_PRINTERS:
-                        handleGetPrinters(request, response, ippRequest.getRequestId());
+                        handleGetPrinters(ippRequest, request, response);
                         break;
                     default:
                         send(ippRequest, response);
@@ -153,31 +222,99 @@ public class IppServerRequestHandler extends AbstractIppRequestHandler {
         }
     }
 
-    private void handleGetDefault(HttpResponse response, int requestId) {
+    private void handleGetDefault(IppRequest ippRequest, HttpRequest request, HttpResponse response) {
         GetDefault op = new GetDefault();
-        op.setIppRequestId(requestId);
-        op.setPrinterName("test-printer");
+        op.setIppRequestId(ippRequest.getRequestId());
+        Printer printer = printerRegistry.getDefaultPrinter();
+        if (printer == null) {
+            op.getIppResponse().setStatusCode(StatusCode.CLIENT_ERROR_NOT_FOUND);
+        } else {
+            op.setPrinter(printer.toAttributeGroup(getHost(request)));
+        }
         response.setEntity(new IppEntity(op.getIppResponse()));
     }
 
-    private void handleGetPrinters(HttpEntityEnclosingRequest request, HttpResponse response, int requestId) {
+    /**
+     * The printers are sorted by their name. With "first-printer-name" and
+     * "limit" a client can page through the printers.
+     */
+    private void handleGetPrinters(IppRequest ippRequest, HttpRequest request, HttpResponse response) {
         GetPrinters op = new GetPrinters();
-        op.setIppRequestId(requestId);
-        Header[] hosts = request.getHeaders("Host");
-        URI printerSupported = URI.create("http://" + hosts[0].getValue() + "/printers/test-printer");
-        op.addPrinter(printerSupported);
+        op.setIppRequestId(ippRequest.getRequestId());
+        String first = ippRequest.hasAttribute("first-printer-name") ?
+                ippRequest.getValue(AttributeKey.FIRST_PRINTER_NAME) : null;
+        int limit = ippRequest.hasAttribute("limit") ? ippRequest.getValue(AttributeKey.LIMIT) : Integer.MAX_VALUE;
+        String host = getHost(request);
+        for (Printer printer : printerRegistry.getPrinters(first, limit)) {
+            op.addPrinter(printer.toAttributeGroup(host));
+        }
         response.setEntity(new IppEntity(op.getIppResponse()));
     }
 
-    private void send(IppRequest ippRequest, HttpResponse response) {
+    private static String getHost(HttpRequest request) {
+        Header host = request.getFirstHeader("Host");
+        return (host == null) ? "localhost:631" : host.getValue();
+    }
+
+    /**
+     * As proxy the jobs are kept by CUPS. So the request is forwarded.
+     */
+    private void handleGetJobs(IppRequest ippRequest, HttpResponse response) {
+        if (jobStore == null) {
+            send(ippRequest, response);
+        } else {
+            response.setEntity(new IppEntity(handleGetJobs(ippRequest, jobStore)));
+        }
+    }
+
+    /**
+     * A job which is not created by this request handler is not known. In
+     * this case (and as proxy) the request is forwarded to CUPS.
+     */
+    private void handleGetJobAttributes(IppRequest ippRequest, HttpResponse response) {
+        Job job = (jobStore == null) ? null : jobStore.getJob(getJobId(ippRequest));
+        if (job == null) {
+            send(ippRequest, response);
+        } else {
+            response.setEntity(new IppEntity(handleGetJobAttributes(ippRequest, job)));
+        }
+    }
+
+    private void recordJob(IppRequest ippRequest, IppResponse cupsResponse) {
+        if ((jobStore == null) || !cupsResponse.getStatusCode().isSuccessful()
+                || !cupsResponse.hasAttribute("job-id")) {
+            return;
+        }
+        int id = cupsResponse.getJobId();
+        jobStore.updateJob(id, stored -> {
+            Job job = (stored == null)
+                    ? Job.of(id, ippRequest.getPrinterURI(), getUserName(ippRequest), getJobName(ippRequest))
+                    : stored;
+            JobState state = cupsResponse.hasAttribute("job-state") ? cupsResponse.getJobState() : job.getState();
+            JobStateReasons reasons = cupsResponse.hasAttribute("job-state-reasons")
+                    ? cupsResponse.getJobStateReasons() : job.getStateReasons();
+            return job.withState(state, reasons);
+        });
+    }
+
+    private void cancelJob(IppRequest ippRequest, IppResponse cupsResponse) {
+        if ((jobStore != null) && cupsResponse.getStatusCode().isSuccessful()) {
+            jobStore.setJobState(getJobId(ippRequest), JobState.CANCELED, JobStateReasons.JOB_CANCELED_BY_USER);
+        }
+    }
+
+    private IppResponse send(IppRequest ippRequest, HttpResponse response) {
         IppResponse cupsResponse = ippHandler.send(ippRequest);
         response.setEntity(new IppEntity(cupsResponse));
+        return cupsResponse;
     }
 
-    private void sendToPrinter(IppRequest ippRequest, HttpResponse response) {
-        CupsClient printerClient = new CupsClient(ippRequest.getPrinterURI());
-        IppResponse cupsResponse = printerClient.send(ippRequest);
-        response.setEntity(new IppEntity(cupsResponse));
+    private IppResponse sendToPrinter(IppRequest ippRequest, HttpResponse response) {
+        try (CupsClient printerClient = ippHandler.createClient(ippRequest.getPrinterURI())) {
+            IppResponse cupsResponse = printerClient.send(ippRequest);
+            response.setEntity(new IppEntity(cupsResponse));
+            return cupsResponse;
+        }
     }
 
 }
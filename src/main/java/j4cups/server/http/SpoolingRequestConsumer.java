@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.server.http;
+
+import j4cups.protocol.BufferPool;
+import org.apache.commons.io.output.DeferredFileOutputStream;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpRequest;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.FileEntity;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.protocol.AbstractAsyncRequestConsumer;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+/**
+ * The class SpoolingRequestConsumer collects the content of an incoming
+ * request without blocking the I/O thread. Small requests are kept in
+ * memory, big requests (e.g. a print-job with a big document) are spooled
+ * into a temporary file. The name of this file is stored in the context
+ * (see {@link #SPOOL_FILE}) so that it can be deleted after the request is
+ * handled. The read buffer is borrowed from the {@link BufferPool} as
+ * long as the content is received.
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public class SpoolingRequestConsumer extends AbstractAsyncRequestConsumer<HttpRequest> {
+
+    /** Context attribute with the spool file (if the content was spooled). */
+    public static final String SPOOL_FILE = "j4cups.spool.file";
+    private static final Logger LOG = LoggerFactory.getLogger(SpoolingRequestConsumer.class);
+    private static final int THRESHOLD = 1024 * 1024;
+
+    private final BufferPool pool = BufferPool.getDefault();
+    private ByteBuffer buffer;
+    private HttpRequest request;
+    private ContentType contentType;
+    private DeferredFileOutputStream spool;
+
+    @Override
+    protected void onRequestReceived(HttpRequest httpRequest) {
+        this.request = httpRequest;
+    }
+
+    @Override
+    protected void onEntityEnclosed(HttpEntity entity, ContentType type) {
+        this.contentType = type;
+        this.spool = new DeferredFileOutputStream(THRESHOLD, "j4cups-", ".spool", null);
+        this.buffer = pool.acquire(8192);
+    }
+
+    @Override
+    protected void onContentReceived(ContentDecoder decoder, IOControl ioctrl) throws IOException {
+        int n = decoder.read(buffer);
+        while (n > 0) {
+            spool.write(buffer.array(), 0, n);
+            buffer.clear();
+            n = decoder.read(buffer);
+        }
+    }
+
+    @Override
+    protected HttpRequest buildResult(HttpContext context) throws IOException {
+        if (spool != null) {
+            spool.close();
+            AbstractHttpEntity entity;
+            if (spool.isInMemory()) {
+                entity = new ByteArrayEntity(spool.getData());
+            } else {
+                File file = spool.getFile();
+                entity = new FileEntity(file);
+                context.setAttribute(SPOOL_FILE, file.toPath());
+                LOG.debug("Content of {} is spooled to '{}'.", request, file);
+            }
+            if (contentType != null) {
+                entity.setContentType(contentType.toString());
+            }
+            ((HttpEntityEnclosingRequest) request).setEntity(entity);
+            spool = null;
+        }
+        return request;
+    }
+
+    /**
+     * If the request was not completely received the spool file is
+     * deleted here. The read buffer is given back to the pool.
+     */
+    @Override
+    protected void releaseResources() {
+        if (buffer != null) {
+            pool.release(buffer);
+            buffer = null;
+        }
+        if (spool != null) {
+            try {
+                spool.close();
+            } catch (IOException ioe) {
+                LOG.warn("Cannot close spool '{}':", spool, ioe);
+            }
+            if (!spool.isInMemory()) {
+                try {
+                    Files.deleteIfExists(spool.getFile().toPath());
+                } catch (IOException ioe) {
+                    LOG.warn("Cannot delete spool file '{}':", spool.getFile(), ioe);
+                }
+            }
+            spool = null;
+        }
+        request = null;
+    }
+
+}
@@ -60,4 +60,19 @@ class ConfigTest {
         LOG.info("info={}", info);
     }
 
+    @Test
+    void getServerExecutor() {
+        assertEquals("platform", config.getServerExecutor());
+        assertEquals("blocking", config.getServerIO());
+    }
+
+    @Test
+    void getClientSettings() {
+        assertEquals(200, config.getClientMaxTotal());
+        assertEquals(100, config.getClientMaxPerRoute());
+        assertEquals(10000, config.getClientTimeout());
+        config = config.withProperty("j4cups.client.maxPerRoute", "8");
+        assertEquals(8, config.getClientMaxPerRoute());
+    }
+
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.client;
+
+import j4cups.Config;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ConnectionPool}.
+ */
+class ConnectionPoolTest {
+
+    private final ConnectionPool pool = ConnectionPool.getDefault();
+
+    @Test
+    void testGetDefault() {
+        assertSame(pool, ConnectionPool.getDefault());
+        assertSame(pool, ConnectionPool.of(new Config()));
+        assertEquals(200, pool.getConnectionManager().getMaxTotal());
+        assertEquals(100, pool.getConnectionManager().getDefaultMaxPerRoute());
+    }
+
+    @Test
+    void testOf() {
+        ConnectionPool other = ConnectionPool.of(new Config().withProperty("j4cups.client.maxTotal", "7"));
+        assertNotSame(pool, other);
+        assertEquals(7, other.getConnectionManager().getMaxTotal());
+    }
+
+    @Test
+    void testGetKeepAliveDuration() {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        assertEquals(30000, pool.getKeepAliveDuration(response, new BasicHttpContext()));
+        response.setHeader("Keep-Alive", "timeout=5");
+        assertEquals(5000, pool.getKeepAliveDuration(response, new BasicHttpContext()));
+        response.setHeader("Keep-Alive", "timeout=300");
+        assertEquals(30000, pool.getKeepAliveDuration(response, new BasicHttpContext()));
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.client;
+
+import j4cups.protocol.IppResponse;
+import j4cups.server.AbstractServerTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CupsClientAsync}. For the tests a local
+ * {@link j4cups.server.CupsServer} is started.
+ */
+class CupsClientAsyncTest extends AbstractServerTest {
+
+    private static final Path TEST_FILE = Paths.get("src", "test", "resources", "j4cups", "test.txt");
+    private static URI printerURI;
+    private static CupsClientAsync client;
+
+    @BeforeAll
+    static void setUpClient() {
+        startServer();
+        printerURI = URI.create("http://localhost:" + cupsServer.getPort() + "/printers/test");
+        client = new CupsClientAsync(printerURI);
+    }
+
+    @AfterAll
+    static void closeClient() throws IOException {
+        client.close();
+    }
+
+    @Test
+    void testCreateJob() throws Exception {
+        IppResponse response = client.createJob(printerURI).get(10, TimeUnit.SECONDS);
+        assertThat(response.getJobId(), greaterThan(0));
+    }
+
+    @Test
+    void testPrint() throws Exception {
+        IppResponse response = client.print(printerURI, TEST_FILE).get(10, TimeUnit.SECONDS);
+        assertTrue(response.getStatusCode().isSuccessful());
+    }
+
+    @Test
+    void testPrintFiles() throws Exception {
+        CompletableFuture<IppResponse> future = client.print(printerURI, TEST_FILE, TEST_FILE, TEST_FILE);
+        IppResponse response = future.get(10, TimeUnit.SECONDS);
+        assertTrue(response.getStatusCode().isSuccessful());
+    }
+
+    @Test
+    void testTimeout() throws IOException {
+        try (ServerSocket silent = new ServerSocket(0);
+             CupsClientAsync silentClient = new CupsClientAsync(URI.create("http://localhost:" + silent.getLocalPort()))) {
+            CompletableFuture<IppResponse> future = silentClient.send(
+                    new j4cups.op.GetPrinters().getIppRequest(), 200, TimeUnit.MILLISECONDS);
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+            assertThat(ex.getCause(), instanceOf(TimeoutException.class));
+        }
+    }
+
+    @Test
+    void testCancel() throws IOException {
+        try (ServerSocket silent = new ServerSocket(0);
+             CupsClientAsync silentClient = new CupsClientAsync(URI.create("http://localhost:" + silent.getLocalPort()))) {
+            CompletableFuture<IppResponse> future = silentClient.createJob(printerURI);
+            assertTrue(future.cancel(true));
+            assertThrows(CancellationException.class, future::join);
+        }
+    }
+
+}
@@ -19,6 +19,8 @@ package j4cups.op;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 /**
  * Unit tests for {@link GetDefault}.
  */
@@ -47,4 +49,11 @@ class GetDefaultTest extends OperationTest {
         checkIppResponse(op.getIppResponse(), "Get-Default.ipp");
     }
 
+    @Test
+    void testSetPrinterName() {
+        op.setPrinterName("test-printer");
+        assertEquals(1, GetPrinterAttributesTest.countPrinterGroups(op.getIppResponse()));
+        assertEquals("test-printer", op.getIppResponse().getAttribute("printer-name").getStringValue());
+    }
+
 }
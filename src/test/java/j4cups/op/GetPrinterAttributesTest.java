@@ -17,11 +17,20 @@
  */
 package j4cups.op;
 
+import j4cups.protocol.IppOperations;
+import j4cups.protocol.IppRequest;
+import j4cups.protocol.IppResponse;
+import j4cups.protocol.attr.Attribute;
+import j4cups.protocol.attr.AttributeGroup;
+import j4cups.protocol.tags.DelimiterTags;
+import j4cups.protocol.tags.ValueTags;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * Unit tests for {@link GetPrinterAttributes}.
  */
@@ -45,4 +54,38 @@ class GetPrinterAttributesTest extends OperationTest {
         checkIppResponse(op.getIppResponse(), "Get-Printer-Attributes.bin");
     }
 
+    @Test
+    void testSetPrinter() {
+        AttributeGroup printerGroup = new AttributeGroup(DelimiterTags.PRINTER_ATTRIBUTES_TAG);
+        printerGroup.addAttribute(Attribute.of(ValueTags.NAME_WITHOUT_LANGUAGE, "printer-name", "test"));
+        op.setPrinter(printerGroup);
+        assertEquals(1, countPrinterGroups(op.getIppResponse()));
+        assertSame(printerGroup, op.getIppResponse().getAttributeGroup(DelimiterTags.PRINTER_ATTRIBUTES_TAG));
+    }
+
+    static long countPrinterGroups(IppResponse response) {
+        return response.getAttributeGroups().stream()
+                .filter(g -> g.getBeginTag() == DelimiterTags.PRINTER_ATTRIBUTES_TAG).count();
+    }
+
+    /**
+     * The requested-attributes which are set by
+     * {@link GetPrinterAttributes#getIppRequest()} must not be echoed back
+     * in the response. Only the operation attributes of the request as it
+     * was created are part of it.
+     */
+    @Test
+    void testGetIppResponseAfterGetIppRequest() {
+        GetPrinterAttributes operation = new GetPrinterAttributes();
+        operation.setPrinterURI(URI.create("http://localhost:631/printers/test"));
+        IppRequest request = operation.getIppRequest();
+        assertTrue(request.hasAttribute("requested-attributes"));
+        IppResponse response = operation.getIppResponse();
+        IppResponse baseline = new IppResponse(Operation.createIppRequest(IppOperations.GET_PRINTER_ATTRIBUTES));
+        assertFalse(response.hasAttribute("requested-attributes"));
+        assertEquals(baseline.getRequestId(), response.getRequestId());
+        assertArrayEquals(baseline.getAttributeGroup(DelimiterTags.OPERATION_ATTRIBUTES_TAG).toByteArray(),
+                response.getAttributeGroup(DelimiterTags.OPERATION_ATTRIBUTES_TAG).toByteArray());
+    }
+
 }
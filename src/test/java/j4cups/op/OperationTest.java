@@ -50,6 +50,12 @@ public class OperationTest {
         return new Operation(IppOperations.GET_JOBS);
     }
 
+    @Test
+    void testSetIppRequestId() {
+        operation.setIppRequestId(4711);
+        assertEquals(4711, operation.getIppResponse().getRequestId());
+    }
+
     @Test
     void testSetJobId() {
         operation.setCupsURI(URI.create("http://localhost:4711"));
@@ -19,6 +19,7 @@ package j4cups.protocol;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import patterntesting.runtime.junit.ObjectTester;
@@ -42,6 +43,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  * @author oboehm
  * @since 0.1 (15.02.2018)
  */
+@ExtendWith(BufferLeakDetector.class)
 public abstract class AbstractIppTest {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractIppTest.class);
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * The BufferLeakDetector is a JUnit extension which checks after each test
+ * that all buffers which the test has borrowed from the
+ * {@link BufferPool} are released again. It needs the system property
+ * "j4cups.buffer.leakDetection=true" (which is set for surefire in the
+ * pom.xml).
+ *
+ * @author oboehm
+ * @since 0.6.2 (16.10.2026)
+ */
+public final class BufferLeakDetector implements AfterEachCallback {
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        BufferPool.getDefault().checkLeaks(Thread.currentThread());
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BufferPool}.
+ */
+class BufferPoolTest {
+
+    private final BufferPool pool = new BufferPool(1 << 16, true);
+
+    @Test
+    void testAcquire() {
+        ByteBuffer buffer = pool.acquire(1000);
+        assertEquals(1024, buffer.capacity());
+        assertEquals(0, buffer.position());
+        assertEquals(0, buffer.arrayOffset());
+        assertFalse(buffer.isDirect());
+        pool.release(buffer);
+    }
+
+    @Test
+    void testReuse() {
+        ByteBuffer buffer = pool.acquire(100);
+        buffer.put((byte) 1);
+        pool.release(buffer);
+        ByteBuffer reused = pool.acquire(512);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position());
+        pool.release(reused);
+        assertEquals(1, pool.getAllocationCount());
+        assertEquals(2, pool.getAcquireCount());
+        assertEquals(0, pool.getOutstandingCount());
+    }
+
+    @Test
+    void testDirect() {
+        ByteBuffer heap = pool.acquire(2048);
+        pool.release(heap);
+        ByteBuffer direct = pool.acquireDirect(2048);
+        assertTrue(direct.isDirect());
+        assertNotSame(heap, direct);
+        pool.release(direct);
+        assertEquals(2, pool.getPooledCount());
+    }
+
+    @Test
+    void testHugeBufferIsNotPooled() {
+        ByteBuffer buffer = pool.acquire(2_000_000);
+        assertEquals(2_000_000, buffer.capacity());
+        pool.release(buffer);
+        assertEquals(0, pool.getPooledCount());
+    }
+
+    @Test
+    void testLimitPerSizeClass() {
+        List<ByteBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            buffers.add(pool.acquire(1 << 15));
+        }
+        buffers.forEach(pool::release);
+        assertEquals(2, pool.getPooledCount());
+    }
+
+    @Test
+    void testReleaseTwice() {
+        ByteBuffer buffer = pool.acquire(100);
+        pool.release(buffer);
+        assertThrows(IllegalStateException.class, () -> pool.release(buffer));
+    }
+
+    @Test
+    void testCheckLeaks() {
+        ByteBuffer buffer = pool.acquire(100);
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> pool.checkLeaks(Thread.currentThread()));
+        assertThat(ex.getCause().getMessage(), containsString(Thread.currentThread().getName()));
+        pool.checkLeaks(Thread.currentThread());
+        assertNotNull(buffer);
+    }
+
+    @Test
+    void testConcurrentAccess() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 1000; i++) {
+            int size = 100 * i;
+            executor.execute(() -> pool.release(pool.acquire(size)));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(1000, pool.getReleaseCount());
+        assertEquals(0, pool.getOutstandingCount());
+        assertThat(pool.getAllocationCount(), lessThan(1000L));
+    }
+
+    @Test
+    void testToString() {
+        assertThat(pool.toString(), containsString("acquired"));
+    }
+
+}
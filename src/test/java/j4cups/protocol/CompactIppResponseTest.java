@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol;
+
+import j4cups.protocol.attr.AttributeTable;
+import j4cups.protocol.tags.DelimiterTags;
+import org.junit.jupiter.api.Test;
+import patterntesting.runtime.junit.ArrayTester;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CompactIppResponse}.
+ */
+class CompactIppResponseTest {
+
+    private static byte[] readResponse(String name) throws IOException {
+        return Files.readAllBytes(Paths.get("src", "test", "resources", "j4cups", "response", name));
+    }
+
+    @Test
+    void testHeader() throws IOException {
+        byte[] bytes = readResponse("Get-Jobs.bin");
+        CompactIppResponse compact = new CompactIppResponse(new ByteArrayInputStream(bytes));
+        IppResponse expected = new IppResponse(bytes);
+        assertEquals(expected.getVersion(), compact.getVersion());
+        assertEquals(expected.getStatusCode(), compact.getStatusCode());
+        assertEquals(expected.getRequestId(), compact.getRequestId());
+        ArrayTester.assertEquals(expected.getData(), compact.getData());
+    }
+
+    @Test
+    void testScanJobs() throws IOException {
+        byte[] bytes = readResponse("Get-Jobs.bin");
+        CompactIppResponse compact = new CompactIppResponse(bytes);
+        IppResponse expected = new IppResponse(bytes);
+        AttributeTable table = compact.getAttributeTable();
+        int jobs = 0;
+        for (int g = 0; g < table.getGroupCount(); g++) {
+            if (table.getGroupTag(g) == DelimiterTags.JOB_ATTRIBUTES_TAG) {
+                int jobId = table.indexOf(g, "job-id");
+                if (jobId >= 0) {
+                    assertTrue(table.getIntValue(jobId) > 0);
+                }
+                jobs++;
+            }
+        }
+        assertEquals(jobs, compact.countAttributeGroups(DelimiterTags.JOB_ATTRIBUTES_TAG));
+        assertEquals(expected.getAttributes().size(), table.getAttributeCount());
+        assertEquals(expected.getAttribute("attributes-charset").getStringValue(),
+                compact.getAttribute("attributes-charset").getStringValue());
+        ArrayTester.assertEquals(expected.toByteArray(), compact.toIppResponse().toByteArray());
+    }
+
+    @Test
+    void testTooShort() {
+        assertThrows(IllegalArgumentException.class, () -> new CompactIppResponse(new byte[] { 2, 0, 0, 0 }));
+    }
+
+}
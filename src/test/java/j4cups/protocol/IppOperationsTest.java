@@ -54,4 +54,24 @@ public class IppOperationsTest {
         assertEquals(IppOperations.RESERVED_FOR_VENDOR_EXTENSIONS, IppOperations.of(0x4444));
     }
 
+
+    @Test
+    public void testOfAll() {
+        for (IppOperations op : IppOperations.values()) {
+            assertEquals(op, IppOperations.of(op.getCode()));
+        }
+    }
+
+    @Test
+    public void testOfReleaseJob() {
+        assertEquals(IppOperations.RELEASE_JOB, IppOperations.of(0x000d));
+    }
+
+    @Test
+    public void testOfReserved() {
+        assertEquals(IppOperations.RESERVED_1, IppOperations.of(0x0001));
+        assertEquals(IppOperations.RESERVED_FOR_FUTURE, IppOperations.of(0x000f));
+        assertEquals(IppOperations.RESERVED_FOR_FUTURE, IppOperations.of(-1));
+    }
+
 }
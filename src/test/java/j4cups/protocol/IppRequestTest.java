@@ -20,6 +20,7 @@ package j4cups.protocol;
 import j4cups.protocol.attr.Attribute;
 import j4cups.protocol.attr.AttributeGroup;
 import j4cups.protocol.tags.DelimiterTags;
+import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,11 +29,17 @@ import org.slf4j.LoggerFactory;
 import patterntesting.runtime.junit.ArrayTester;
 
 import javax.validation.ValidationException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Unit tests for {@link IppRequest}. The used data are recorded from a
@@ -119,6 +126,32 @@ public final class IppRequestTest extends AbstractIppTest {
         Attribute attribute = request.getAttribute("attributes-natural-language");
         assertEquals("de", attribute.getStringValue());
     }
+
+    @Test
+    @DisplayName("attribute index")
+    public void getAttributeOfAddedGroup() {
+        IppRequest copy = new IppRequest(data);
+        assertFalse(copy.hasAttribute("job-id"));
+        AttributeGroup group = new AttributeGroup(DelimiterTags.JOB_ATTRIBUTES_TAG);
+        copy.addAttributeGroup(group);
+        assertFalse(copy.hasAttribute("job-id"));
+        group.addAttribute(Attribute.of("job-id", 42));
+        assertEquals(42, copy.getAttribute("job-id").getIntValue());
+        assertThrows(UnsupportedOperationException.class, () -> copy.getAttributeGroups().add(group));
+    }
+
+    @Test
+    @DisplayName("attribute index with several groups")
+    public void getAttributeOfFirstGroup() {
+        IppRequest copy = new IppRequest(data);
+        AttributeGroup operationGroup = copy.getAttributeGroup(DelimiterTags.OPERATION_ATTRIBUTES_TAG);
+        String name = operationGroup.getAttributes().get(0).getName();
+        assertSame(operationGroup.getAttribute(name), copy.getAttribute(name));
+        copy.setAttribute(Attribute.of(name, 42), DelimiterTags.JOB_ATTRIBUTES_TAG);
+        assertSame(operationGroup.getAttribute(name), copy.getAttribute(name));
+        copy.setAttribute(Attribute.of("job-id", 42), DelimiterTags.JOB_ATTRIBUTES_TAG);
+        assertEquals(42, copy.getAttribute("job-id").getIntValue());
+    }
     
     @Test
     @DisplayName("empty-data")
@@ -142,6 +175,39 @@ public final class IppRequestTest extends AbstractIppTest {
         ArrayTester.assertEquals(data, bytes);
     }
 
+    @Test
+    public void testStreamedRequest() throws IOException {
+        IppRequest streamed = new IppRequest(new ByteArrayInputStream(data));
+        assertFalse(streamed.hasData());
+        ArrayTester.assertEquals(data, streamed.toByteArray());
+    }
+
+    @Test
+    public void testStreamedPrintJob() throws IOException {
+        Path file = Paths.get("src", "test", "resources", "j4cups", "request", "Print-Job.bin");
+        try (InputStream istream = Files.newInputStream(file)) {
+            IppRequest streamed = new IppRequest(istream);
+            assertEquals(REQUEST_PRINT_JOB.getAttributes().size(), streamed.getAttributes().size());
+            assertTrue(streamed.hasData());
+            assertThat(streamed.toString(), containsString("streamed"));
+            try (InputStream data = streamed.getDataStream()) {
+                assertEquals(40429, IOUtils.toByteArray(data).length);
+            }
+        }
+    }
+
+    @Test
+    public void testRecordStreamedPrintJob() throws IOException {
+        Path file = Paths.get("src", "test", "resources", "j4cups", "request", "Print-Job.bin");
+        Path recordDir = Paths.get("target", "IPP", "record");
+        try (InputStream istream = Files.newInputStream(file)) {
+            IppRequest streamed = new IppRequest(istream);
+            streamed.recordTo(recordDir);
+            assertTrue(streamed.hasData());
+            assertArrayEquals(Files.readAllBytes(file), streamed.toByteArray());
+        }
+    }
+
     @Test
     public void testGetPrintersRequest() {
         IppRequest getPrintersRequest = readIppRequest("request", "Get-Printers.ipp");
@@ -166,6 +232,16 @@ public final class IppRequestTest extends AbstractIppTest {
         checkValidationException("Create-Job-401.ipp");
     }
 
+    @Test
+    public void testEncodedLength() {
+        IppRequest request = readIppRequest("request", "Send-Document.ipp");
+        request.getAttributeGroup(DelimiterTags.OPERATION_ATTRIBUTES_TAG)
+               .addAttribute(Attribute.of("job-id", 42));
+        byte[] bytes = request.toByteArray();
+        assertEquals(bytes.length, request.getLength());
+        assertEquals(bytes.length - request.getData().length, request.encodedLength());
+    }
+
     private void checkValidationException(String name) {
         IppRequest invalid = readIppRequest("request", name);
         Assertions.assertThrows(ValidationException.class, invalid::validate);
@@ -30,6 +30,7 @@ import java.util.List;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -48,6 +49,35 @@ public final class IppResponseTest extends AbstractIppTest {
         return new IppResponse(REQUEST_PRINT_JOB);
     }
 
+    /**
+     * The response shares the attributes of the request. A modification of
+     * the response must not change the request.
+     */
+    @Test
+    void testCopyOnWrite() {
+        IppRequest request = new IppRequest(REQUEST_PRINT_JOB.toByteArray());
+        IppResponse response = new IppResponse(request);
+        response.setAttribute("job-name", "changed".getBytes());
+        assertEquals("changed", response.getAttribute("job-name").getStringValue());
+        assertEquals(REQUEST_PRINT_JOB.getAttribute("job-name").getStringValue(),
+                request.getAttribute("job-name").getStringValue());
+        request.setAttribute("requesting-user-name", "other".getBytes());
+        assertEquals(REQUEST_PRINT_JOB.getAttribute("requesting-user-name").getStringValue(),
+                response.getAttribute("requesting-user-name").getStringValue());
+    }
+
+    @Test
+    void testCopyOnWriteOfAttribute() {
+        IppRequest request = new IppRequest(REQUEST_PRINT_JOB.toByteArray());
+        IppResponse response = new IppResponse(request);
+        assertThrows(UnsupportedOperationException.class,
+                () -> response.getAttribute("requesting-user-name").setValue("other".getBytes()));
+        response.getAttributeGroup(DelimiterTags.OPERATION_ATTRIBUTES_TAG)
+                .getMutableAttribute("requesting-user-name").setValue("other".getBytes());
+        assertEquals("other", response.getAttribute("requesting-user-name").getStringValue());
+        assertArrayEquals(REQUEST_PRINT_JOB.toByteArray(), request.toByteArray());
+    }
+
     /**
      * A very basic test to check the toByteArray functionality.
      */
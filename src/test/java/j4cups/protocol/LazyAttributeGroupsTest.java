@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol;
+
+import j4cups.protocol.attr.Attribute;
+import j4cups.protocol.attr.AttributeGroup;
+import j4cups.protocol.attr.CollectionValue;
+import j4cups.protocol.tags.ValueTags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import patterntesting.runtime.junit.ArrayTester;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link LazyAttributeGroups}.
+ */
+@ExtendWith(BufferLeakDetector.class)
+class LazyAttributeGroupsTest {
+
+    private static byte[] readBytes(String dir, String name) throws IOException {
+        Path recorded = Paths.get("src", "test", "resources", "j4cups", dir, name);
+        return Files.readAllBytes(recorded);
+    }
+
+    private static LazyAttributeGroups readGroups(byte[] bytes) throws IOException {
+        DataInputStream istream = new DataInputStream(new ByteArrayInputStream(bytes));
+        istream.skipBytes(8);
+        return new LazyAttributeGroups(istream);
+    }
+
+    @Test
+    void testGetAttribute() throws IOException {
+        byte[] bytes = readBytes("request", "Get-Jobs.bin");
+        LazyAttributeGroups groups = readGroups(bytes);
+        IppRequest expected = new IppRequest(bytes);
+        assertEquals(expected.getAttributes().size(), groups.getCount());
+        for (Attribute attr : expected.getAttributes()) {
+            Attribute lazy = groups.getAttribute(attr.getName());
+            assertNotNull(lazy, attr.getName());
+            ArrayTester.assertEquals(attr.toByteArray(), lazy.toByteArray());
+        }
+        assertNull(groups.getAttribute("no-such-attribute"));
+        assertFalse(groups.isModified());
+    }
+
+    @Test
+    void testGetMultiValueAttribute() throws IOException {
+        byte[] bytes = readBytes("response", "Get-Printer-Attributes.bin");
+        LazyAttributeGroups groups = readGroups(bytes);
+        IppResponse expected = new IppResponse(bytes);
+        int n = 0;
+        for (Attribute attr : expected.getAttributes()) {
+            if (attr.isMultiValue()) {
+                Attribute lazy = groups.getAttribute(attr.getName());
+                assertEquals(attr.getAdditionalValues().size(), lazy.getAdditionalValues().size());
+                n++;
+            }
+        }
+        assertThat(n, greaterThan(0));
+    }
+
+    @Test
+    void testToAttributeGroups() throws IOException {
+        byte[] bytes = readBytes("request", "Print-Job.bin");
+        LazyAttributeGroups groups = readGroups(bytes);
+        Attribute printerURI = groups.getAttribute("printer-uri");
+        List<AttributeGroup> attributeGroups = groups.toAttributeGroups();
+        assertEquals(groups.getGroupCount(), attributeGroups.size());
+        assertSame(printerURI, attributeGroups.get(0).getAttribute("printer-uri"));
+    }
+
+    @Test
+    void testWriteUnmodified() throws IOException {
+        byte[] bytes = readBytes("request", "Get-Printer-Attributes.bin");
+        IppRequest request = new IppRequest(new ByteArrayInputStream(bytes), bytes.length);
+        assertThat(request.getPrinterURI().toString(), not(emptyString()));
+        request.validate();
+        assertEquals(bytes.length, request.getLength());
+        ArrayTester.assertEquals(bytes, request.toByteArray());
+    }
+
+    @Test
+    void testWriteEmptyGroup() throws IOException {
+        byte[] header = readBytes("request", "Get-Jobs.bin");
+        int end = header.length - 1;
+        while (header[end] != 3) {
+            end--;
+        }
+        byte[] bytes = Arrays.copyOf(header, end + 2);
+        bytes[end] = 2;
+        bytes[end + 1] = 3;
+        IppRequest request = new IppRequest(new ByteArrayInputStream(bytes));
+        ArrayTester.assertEquals(bytes, request.toByteArray());
+    }
+
+    @Test
+    void testWriteModified() throws IOException {
+        byte[] bytes = readBytes("request", "Get-Jobs.bin");
+        IppRequest request = new IppRequest(new ByteArrayInputStream(bytes));
+        IppRequest expected = new IppRequest(bytes);
+        URI printerURI = URI.create("ipp://localhost:631/printers/modified");
+        request.getAttribute("printer-uri").setValue(printerURI.toString().getBytes());
+        expected.getAttribute("printer-uri").setValue(printerURI.toString().getBytes());
+        assertEquals(printerURI, request.getPrinterURI());
+        ArrayTester.assertEquals(expected.toByteArray(), request.toByteArray());
+    }
+
+    @Test
+    void testIsModified() throws IOException {
+        LazyAttributeGroups groups = readGroups(readBytes("request", "Get-Jobs.bin"));
+        Attribute attr = groups.getAttribute("requesting-user-name");
+        assertFalse(groups.isModified());
+        attr.setValue("tester".getBytes());
+        assertTrue(groups.isModified());
+    }
+
+    @Test
+    void testModifiedAfterDecoding() throws IOException {
+        byte[] bytes = readBytes("request", "Get-Jobs.bin");
+        IppRequest request = new IppRequest(new ByteArrayInputStream(bytes));
+        Attribute attr = request.getAttribute("requesting-user-name");
+        request.setJobId(42);
+        attr.setValue("tester".getBytes());
+        assertEquals("tester", request.getAttribute("requesting-user-name").getStringValue());
+        assertEquals(42, new IppRequest(request.toByteArray()).getJobId());
+    }
+
+    @Test
+    void testCollection() throws IOException {
+        CollectionValue a4 = CollectionValue.of(Attribute.of(ValueTags.KEYWORD, "media-size-name", "iso_a4_210x297mm"));
+        CollectionValue letter = CollectionValue.of(Attribute.of(ValueTags.KEYWORD, "media-size-name", "na_letter_8.5x11in"));
+        Attribute mediaColDatabase = Attribute.of("media-col-database", a4, letter);
+        Attribute printerName = Attribute.of(ValueTags.NAME_WITHOUT_LANGUAGE, "printer-name", "test");
+        ByteBuffer buffer = ByteBuffer.allocate(10 + mediaColDatabase.encodedLength() + printerName.encodedLength());
+        buffer.put(new byte[] { 2, 0, 0, 0, 0, 0, 0, 1, 4 });
+        mediaColDatabase.encodeTo(buffer);
+        printerName.encodeTo(buffer);
+        buffer.put((byte) 3);
+        byte[] bytes = buffer.array();
+        LazyAttributeGroups groups = readGroups(bytes);
+        assertEquals(2, groups.getCount());
+        assertEquals("test", groups.getAttribute("printer-name").getStringValue());
+        assertFalse(groups.hasEmptyValue(0));
+        Attribute decoded = groups.getAttribute("media-col-database");
+        assertEquals(2, decoded.getAdditionalValues().size());
+        assertFalse(groups.isModified());
+        IppResponse response = new IppResponse(new ByteArrayInputStream(bytes));
+        ArrayTester.assertEquals(bytes, response.toByteArray());
+    }
+
+    @Test
+    void testPooledReadBuffer() throws IOException {
+        BufferPool pool = new BufferPool(1 << 20, true);
+        byte[] bytes = readBytes("response", "Get-Printer-Attributes.bin");
+        for (int i = 0; i < 3; i++) {
+            DataInputStream istream = new DataInputStream(new ByteArrayInputStream(bytes));
+            istream.skipBytes(8);
+            new LazyAttributeGroups(istream, pool);
+        }
+        long allocations = pool.getAllocationCount();
+        assertThat(allocations, lessThan(pool.getAcquireCount()));
+        assertEquals(0, pool.getOutstandingCount());
+    }
+
+    @Test
+    void testTruncatedReleasesBuffer() throws IOException {
+        BufferPool pool = new BufferPool(1 << 20, true);
+        byte[] bytes = readBytes("request", "Get-Jobs.bin");
+        DataInputStream istream = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length / 2));
+        istream.skipBytes(8);
+        assertThrows(EOFException.class, () -> new LazyAttributeGroups(istream, pool));
+        assertEquals(0, pool.getOutstandingCount());
+    }
+
+}
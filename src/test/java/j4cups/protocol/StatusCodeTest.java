@@ -46,4 +46,34 @@ class StatusCodeTest {
         assertFalse(StatusCode.CLIENT_ERROR_BAD_REQUEST.isSuccessful());
     }
 
+
+    @Test
+    void testOfAll() {
+        for (StatusCode statusCode : StatusCode.values()) {
+            assertEquals(statusCode, StatusCode.of(statusCode.getCode()));
+        }
+    }
+
+    @Test
+    void testOfUnknown() {
+        assertEquals(StatusCode.SUCCESSFUL_UNKNOWN, StatusCode.of(0x0080));
+        assertEquals(StatusCode.CLIENT_ERROR_UNKNOWN, StatusCode.of(0x0499));
+        assertEquals(StatusCode.RESERVED_FOR_FUTURE, StatusCode.of(0x0200));
+        assertEquals(StatusCode.RESERVED_FOR_FUTURE, StatusCode.of(0x1234));
+        assertEquals(StatusCode.RESERVED_FOR_FUTURE, StatusCode.of(-1));
+    }
+
+    @Test
+    void testIsSuccessfulUnknown() {
+        assertTrue(StatusCode.of(0x0080).isSuccessful());
+        assertFalse(StatusCode.of(0x0580).isSuccessful());
+    }
+
+    @Test
+    void testIsClientError() {
+        assertTrue(StatusCode.CLIENT_ERROR_NOT_FOUND.isClientError());
+        assertFalse(StatusCode.CLIENT_ERROR_NOT_FOUND.isServerError());
+        assertTrue(StatusCode.SERVER_ERROR_BUSY.isServerError());
+    }
+
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol;
+
+import j4cups.protocol.attr.Attribute;
+import j4cups.protocol.tags.ValueTags;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ValidationException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ValidationSchema}.
+ */
+class ValidationSchemaTest {
+
+    private static byte[] readBytes(String name) throws IOException {
+        return Files.readAllBytes(Paths.get("src", "test", "resources", "j4cups", "request", name));
+    }
+
+    @Test
+    void testValidRequests() throws IOException {
+        for (String name : new String[] { "Print-Job.bin", "Create-Job.ipp", "Send-Document.ipp", "Cancel-Job.ipp",
+                "Get-Jobs.bin", "Get-Printer-Attributes.bin", "Get-Default.ipp", "Get-Printers.ipp" }) {
+            byte[] bytes = readBytes(name);
+            new IppRequest(bytes).validate();
+            new IppRequest(new ByteArrayInputStream(bytes), bytes.length).validate();
+        }
+    }
+
+    @Test
+    void testInvalidRequests() throws IOException {
+        for (String name : new String[] { "Send-Document-400.ipp", "Send-Document-401.ipp", "Create-Job-401.ipp" }) {
+            byte[] bytes = readBytes(name);
+            IppRequest request = new IppRequest(bytes);
+            IppRequest lazy = new IppRequest(new ByteArrayInputStream(bytes), bytes.length);
+            ValidationException ex = assertThrows(ValidationException.class, request::validate);
+            ValidationException lazyEx = assertThrows(ValidationException.class, lazy::validate);
+            assertEquals(ex.getMessage(), lazyEx.getMessage());
+        }
+    }
+
+    @Test
+    void testMissingTarget() throws IOException {
+        IppRequest request = new IppRequest(readBytes("Create-Job.ipp"));
+        request.validate();
+        request.setOpCode(IppOperations.CANCEL_JOB.getCode());
+        ValidationException ex = assertThrows(ValidationException.class, request::validate);
+        assertThat(ex.getMessage(), containsString("job-uri"));
+    }
+
+    @Test
+    void testForbiddenAttribute() throws IOException {
+        IppRequest request = new IppRequest(readBytes("Create-Job.ipp"));
+        request.setOperationAttribute(Attribute.of("job-uri", URI.create("ipp://localhost/jobs/42")));
+        ValidationException ex = assertThrows(ValidationException.class, request::validate);
+        assertThat(ex.getMessage(), containsString("job-uri"));
+    }
+
+    @Test
+    void testInvalidValueTag() throws IOException {
+        IppRequest request = new IppRequest(readBytes("Print-Job.bin"));
+        request.setOperationAttribute(Attribute.of(ValueTags.KEYWORD, "document-format", "application/pdf"));
+        ValidationException ex = assertThrows(ValidationException.class, request::validate);
+        assertThat(ex.getMessage(), containsString("document-format"));
+    }
+
+    @Test
+    void testTooLongValue() throws IOException {
+        IppRequest request = new IppRequest(readBytes("Print-Job.bin"));
+        request.setOperationAttribute(
+                Attribute.of(ValueTags.NAME_WITHOUT_LANGUAGE, "job-name", StringUtils.repeat('x', 256)));
+        ValidationException ex = assertThrows(ValidationException.class, request::validate);
+        assertThat(ex.getMessage(), containsString("job-name"));
+    }
+
+    @Test
+    void testOf() {
+        assertEquals(ValidationSchema.DEFAULT, ValidationSchema.of(IppOperations.ENABLE_PRINTER));
+        assertEquals(ValidationSchema.LENIENT, ValidationSchema.of(IppOperations.GET_DEFAULT));
+        assertThat(ValidationSchema.of(IppOperations.PRINT_JOB).toString(), containsString("Print-Job"));
+    }
+
+}
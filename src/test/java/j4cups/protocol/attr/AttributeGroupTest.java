@@ -23,13 +23,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import patterntesting.runtime.junit.ArrayTester;
 
+import java.net.URI;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Unit tests for {@link AttributeGroup} class. The data for this tests are
@@ -82,7 +83,153 @@ public final class AttributeGroupTest {
         assertThat(attributes, not(empty()));
         assertThat(attributes.size(), greaterThan(1));
     }
+
+    @Test
+    void getAttributesIsUnmodifiable() {
+        List<Attribute> attributes = attributeGroup.getAttributes();
+        assertThrows(UnsupportedOperationException.class, () -> attributes.add(Attribute.of("copies", 1)));
+    }
+
+    @Test
+    void getAttribute() {
+        for (Attribute attr : attributeGroup.getAttributes()) {
+            assertSame(attr, attributeGroup.getAttribute(attr.getName()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> attributeGroup.getAttribute("no-such-attribute"));
+    }
+
+    @Test
+    void addAttribute() {
+        AttributeGroup group = new AttributeGroup(DelimiterTags.JOB_ATTRIBUTES_TAG);
+        group.addAttribute(Attribute.of("job-id", 1));
+        group.addAttribute(Attribute.of("copies", 2));
+        group.addAttribute(Attribute.of("job-id", 3));
+        assertEquals(2, group.getAttributes().size());
+        assertEquals(2, group.getModificationCount());
+        assertEquals("job-id", group.getAttributes().get(0).getName());
+        assertEquals(3, group.getAttribute("job-id").getIntValue());
+        assertTrue(group.hasAttribute("copies"));
+    }
+
+    @Test
+    void copyOnWrite() {
+        attributeGroup.freeze();
+        AttributeGroup copy = new AttributeGroup(attributeGroup);
+        assertTrue(copy.isFrozen());
+        assertSame(attributeGroup.getAttributes(), copy.getAttributes());
+        copy.addAttribute(Attribute.of("copies", 2));
+        copy.addAttribute(Attribute.of("printer-uri", URI.create("ipp://copy")));
+        assertFalse(copy.isFrozen());
+        assertFalse(attributeGroup.hasAttribute("copies"));
+        assertEquals("ipp://copy", copy.getAttribute("printer-uri").getStringValue());
+        assertThat(attributeGroup.getAttribute("printer-uri").getStringValue(), not("ipp://copy"));
+    }
+
+    @Test
+    void copyOnWriteOfAttribute() {
+        AttributeGroup original = new AttributeGroup(ByteBuffer.wrap(data));
+        original.freeze();
+        AttributeGroup copy = new AttributeGroup(original);
+        Attribute shared = original.getAttributes().get(0);
+        assertThrows(UnsupportedOperationException.class, () -> shared.setValue("shared".getBytes()));
+        assertSame(shared, copy.getAttribute(shared.getName()));
+        copy.getMutableAttribute(shared.getName()).setValue("copy".getBytes());
+        assertEquals("copy", copy.getAttribute(shared.getName()).getStringValue());
+        assertThat(original.getAttribute(shared.getName()).getStringValue(), not("copy"));
+        ArrayTester.assertEquals(attributeGroup.toByteArray(), original.toByteArray());
+    }
+
+    @Test
+    void copyOnWriteOfOriginal() {
+        AttributeGroup original = new AttributeGroup(ByteBuffer.wrap(data));
+        original.freeze();
+        AttributeGroup copy = new AttributeGroup(original);
+        original.addAttribute(Attribute.of("copies", 2));
+        assertTrue(copy.isFrozen());
+        assertFalse(copy.hasAttribute("copies"));
+        ArrayTester.assertEquals(attributeGroup.toByteArray(), copy.toByteArray());
+    }
+
+    @Test
+    void copyDoesNotChangeOriginal() {
+        AttributeGroup original = new AttributeGroup(ByteBuffer.wrap(data));
+        AttributeGroup copy = new AttributeGroup(original);
+        assertFalse(original.isFrozen());
+        assertFalse(copy.isFrozen());
+        Attribute attr = original.getAttributes().get(0);
+        assertNotSame(attr, copy.getAttributes().get(0));
+        attr.setValue("original".getBytes());
+        assertEquals("original", original.getAttribute(attr.getName()).getStringValue());
+        ArrayTester.assertEquals(attributeGroup.toByteArray(), copy.toByteArray());
+    }
+
+    @Test
+    void getAttributeDoesNotChangeGroup() {
+        attributeGroup.freeze();
+        AttributeGroup copy = new AttributeGroup(attributeGroup);
+        Attribute attr = attributeGroup.getAttributes().get(0);
+        assertSame(attr, copy.getAttribute(attr.getName()));
+        assertTrue(copy.isFrozen());
+        assertSame(attributeGroup.getAttributes(), copy.getAttributes());
+        assertEquals(0, copy.getModificationCount());
+    }
     
+    @Test
+    void copyOnWriteOfAddedAttributes() {
+        attributeGroup.freeze();
+        AttributeGroup group = new AttributeGroup(DelimiterTags.PRINTER_ATTRIBUTES_TAG);
+        group.addAttribute(Attribute.of("copies", 1));
+        group.addAttributes(attributeGroup);
+        assertSame(attributeGroup.getAttributes().get(0), group.getAttributes().get(1));
+        group.addAttribute(Attribute.of("printer-uri", URI.create("ipp://group")));
+        assertEquals("ipp://group", group.getAttribute("printer-uri").getStringValue());
+        assertThat(attributeGroup.getAttribute("printer-uri").getStringValue(), not("ipp://group"));
+        assertEquals(attributeGroup.getAttributes().size() + 1, group.getAttributes().size());
+    }
+
+    @Test
+    void addAttributeBlock() {
+        AttributeGroup expected = new AttributeGroup(DelimiterTags.PRINTER_ATTRIBUTES_TAG);
+        expected.addAttribute(Attribute.of("copies", 1));
+        AttributeGroup group = new AttributeGroup(expected);
+        AttributeBlock block = AttributeBlock.of(attributeGroup.getAttributes());
+        for (Attribute attr : attributeGroup.getAttributes()) {
+            expected.addAttribute(attr);
+        }
+        group.addAttributes(block);
+        group.addAttribute(Attribute.of("number-up", 2));
+        expected.addAttribute(Attribute.of("number-up", 2));
+        assertSame(block.getAttributes().get(0), group.getAttributes().get(1));
+        assertTrue(group.hasAttribute("printer-uri"));
+        assertEquals(expected.encodedLength(), group.encodedLength());
+        ArrayTester.assertEquals(expected.toByteArray(), group.toByteArray());
+    }
+
+    @Test
+    void overwriteAttributeOfBlock() {
+        AttributeBlock block = AttributeBlock.of(attributeGroup.getAttributes());
+        AttributeGroup group = new AttributeGroup(DelimiterTags.OPERATION_ATTRIBUTES_TAG);
+        group.addAttributes(block);
+        group.addAttribute(Attribute.of("printer-uri", URI.create("ipp://group")));
+        assertEquals("ipp://group", group.getAttribute("printer-uri").getStringValue());
+        assertThat(block.getAttributes().get(2).getStringValue(), not("ipp://group"));
+        AttributeGroup decoded = new AttributeGroup(ByteBuffer.wrap(group.toByteArray()));
+        assertEquals("ipp://group", decoded.getAttribute("printer-uri").getStringValue());
+        assertEquals(group.getAttributes().size(), decoded.getAttributes().size());
+    }
+
+    @Test
+    void attributeOfBlockIsReadOnly() {
+        AttributeBlock block = AttributeBlock.of(attributeGroup.getAttributes());
+        Attribute attr = block.getAttributes().get(2);
+        assertThrows(UnsupportedOperationException.class, () -> attr.setValue("ipp://block".getBytes()));
+        AttributeGroup group = new AttributeGroup(DelimiterTags.OPERATION_ATTRIBUTES_TAG);
+        group.addAttributes(block);
+        group.getMutableAttribute(attr.getName()).setValue("ipp://group".getBytes());
+        assertEquals("ipp://group", group.getAttribute(attr.getName()).getStringValue());
+        assertThat(attr.getStringValue(), not("ipp://group"));
+    }
+
     @Test
     public void testToString() {
         String s = attributeGroup.toString();
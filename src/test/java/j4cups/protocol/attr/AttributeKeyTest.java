@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import j4cups.protocol.IppRequest;
+import j4cups.protocol.enums.JobState;
+import j4cups.protocol.tags.DelimiterTags;
+import j4cups.protocol.tags.ValueTags;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link AttributeKey}.
+ */
+class AttributeKeyTest {
+
+    @Test
+    void testConstants() throws IllegalAccessException {
+        for (Field field : AttributeKey.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                AttributeKey<?> key = (AttributeKey<?>) field.get(null);
+                assertEquals(field.getName(), key.getName().toUpperCase().replace('-', '_'));
+                assertSame(AttributeRegistry.getSyntax(key.getName()), key.getSyntax());
+                assertNotNull(key.getSyntax().getGroup(), key + " has no group");
+            }
+        }
+    }
+
+    @Test
+    void testOfUnregistered() {
+        assertThrows(IllegalArgumentException.class, () -> AttributeKey.of("no-such-attribute", ValueCodecs.STRING));
+    }
+
+    @Test
+    void testAttributeOf() {
+        Attribute attr = Attribute.of(AttributeKey.JOB_STATE, JobState.COMPLETED.getValue());
+        assertEquals(ValueTags.ENUM, attr.getValueTag());
+        assertEquals("job-state", attr.getName());
+        assertEquals(JobState.COMPLETED.getValue(), attr.getValue(AttributeKey.JOB_STATE).intValue());
+    }
+
+    @Test
+    void testAttributeOfMultiValue() {
+        Attribute attr = Attribute.of(AttributeKey.JOB_STATE_REASONS, "none", "job-printing");
+        assertEquals(ValueTags.KEYWORD, attr.getValueTag(1));
+        assertEquals(Arrays.asList("none", "job-printing"), attr.getValues(AttributeKey.JOB_STATE_REASONS));
+    }
+
+    @Test
+    void testSetAttribute() throws IOException {
+        IppRequest request = new IppRequest(
+                Files.readAllBytes(Paths.get("src", "test", "resources", "j4cups", "request", "Create-Job.ipp")));
+        URI printerURI = request.getPrinterURI();
+        assertEquals(printerURI, request.getValue(AttributeKey.PRINTER_URI));
+        request.setAttribute(AttributeKey.COPIES, 2);
+        assertEquals(Integer.valueOf(2), request.getValue(AttributeKey.COPIES));
+        assertTrue(request.getAttributeGroup(DelimiterTags.JOB_ATTRIBUTES_TAG).getAttributes()
+                .contains(request.getAttribute(AttributeKey.COPIES)));
+    }
+
+}
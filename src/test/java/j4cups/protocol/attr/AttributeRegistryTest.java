@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import j4cups.protocol.tags.DelimiterTags;
+import j4cups.protocol.tags.ValueTags;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link AttributeRegistry}.
+ */
+class AttributeRegistryTest {
+
+    @Test
+    void testGetSyntax() {
+        AttributeSyntax syntax = AttributeRegistry.getSyntax("job-state");
+        assertEquals(ValueTags.ENUM, syntax.getValueTag());
+        assertFalse(syntax.isMultiValue());
+        assertEquals(4, syntax.getMaxLength());
+        assertEquals(DelimiterTags.JOB_ATTRIBUTES_TAG, syntax.getGroup());
+        assertEquals("job-state (type1 enum)", syntax.toString());
+    }
+
+    @Test
+    void testGetSyntaxMultiValue() {
+        AttributeSyntax syntax = AttributeRegistry.getSyntax("media-supported");
+        assertTrue(syntax.isMultiValue());
+        assertEquals(ValueTags.KEYWORD, syntax.getValueTag());
+        assertTrue(syntax.isAllowed(ValueTags.NAME_WITHOUT_LANGUAGE));
+        assertFalse(syntax.isAllowed(ValueTags.INTEGER));
+        assertEquals(DelimiterTags.PRINTER_ATTRIBUTES_TAG, syntax.getGroup());
+    }
+
+    @Test
+    void testGetSyntaxSeveralGroups() {
+        AttributeSyntax syntax = AttributeRegistry.getSyntax("job-name");
+        assertEquals(DelimiterTags.OPERATION_ATTRIBUTES_TAG, syntax.getGroup());
+        assertTrue(syntax.isDefinedIn(DelimiterTags.JOB_ATTRIBUTES_TAG));
+        assertFalse(syntax.isDefinedIn(DelimiterTags.PRINTER_ATTRIBUTES_TAG));
+    }
+
+    @Test
+    void testGetSyntaxUnregistered() {
+        assertFalse(AttributeRegistry.isRegistered("no-such-attribute"));
+        assertThrows(IllegalArgumentException.class, () -> AttributeRegistry.getSyntax("no-such-attribute"));
+    }
+
+    @Test
+    void testGetSyntaxes() {
+        assertThat(AttributeRegistry.getSyntaxes().size(), greaterThan(100));
+        for (AttributeSyntax syntax : AttributeRegistry.getSyntaxes()) {
+            assertTrue(AttributeRegistry.isRegistered(syntax.getName()));
+        }
+    }
+
+    @Test
+    void testParse() {
+        AttributeSyntax syntax = AttributeSyntax.parse("printer-name", "name(127)");
+        assertEquals(ValueTags.NAME_WITHOUT_LANGUAGE, syntax.getValueTag());
+        assertTrue(syntax.isAllowed(ValueTags.NAME_WITH_LANGUAGE));
+        assertEquals(127, syntax.getMaxLength());
+        assertNull(syntax.getGroup());
+        assertThrows(IllegalArgumentException.class, () -> AttributeSyntax.parse("x", "1setOf unicorn"));
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import j4cups.protocol.IppResponse;
+import j4cups.protocol.tags.DelimiterTags;
+import j4cups.protocol.tags.ValueTags;
+import org.junit.jupiter.api.Test;
+import patterntesting.runtime.junit.ArrayTester;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link AttributeTable}.
+ */
+class AttributeTableTest {
+
+    private static byte[] readResponse(String name) throws IOException {
+        return Files.readAllBytes(Paths.get("src", "test", "resources", "j4cups", "response", name));
+    }
+
+    @Test
+    void testGroups() throws IOException {
+        byte[] bytes = readResponse("Get-Printers.ipp");
+        AttributeTable table = new AttributeTable(bytes, 8);
+        List<AttributeGroup> expected = new IppResponse(bytes).getAttributeGroups();
+        for (AttributeGroup group : expected.subList(table.getGroupCount(), expected.size())) {
+            assertTrue(group.getAttributes().isEmpty(), "default group " + group.getBeginTag() + " not empty");
+        }
+        for (int g = 0; g < table.getGroupCount(); g++) {
+            assertEquals(expected.get(g).getBeginTag(), table.getGroupTag(g));
+            List<Attribute> attributes = expected.get(g).getAttributes();
+            assertEquals(attributes.size(), table.getGroupEnd(g) - table.getGroupStart(g));
+            for (int i = table.getGroupStart(g); i < table.getGroupEnd(g); i++) {
+                Attribute attr = attributes.get(i - table.getGroupStart(g));
+                assertEquals(attr.getName(), table.getName(i));
+                assertEquals(attr.getValueTag(), table.getValueTag(i));
+                assertEquals(attr.getAdditionalValues().size(), table.getValueCount(i));
+                ArrayTester.assertEquals(attr.toByteArray(), table.getAttribute(i).toByteArray());
+            }
+        }
+    }
+
+    @Test
+    void testTypedGetters() throws IOException {
+        byte[] bytes = readResponse("Get-Printers.ipp");
+        AttributeTable table = new AttributeTable(bytes, 8);
+        int g = 1;
+        assertEquals(DelimiterTags.PRINTER_ATTRIBUTES_TAG, table.getGroupTag(g));
+        int state = table.indexOf(g, "number-up-default");
+        assertThat(state, greaterThan(0));
+        assertEquals(ValueTags.INTEGER, table.getValueTag(state));
+        assertEquals(table.getAttribute(state).getIntValue(), table.getIntValue(state));
+        int name = table.indexOf(g, "printer-name");
+        assertEquals(table.getAttribute(name).getStringValue(), table.getStringValue(name));
+        assertEquals(table.getIntValue(state), (int) table.getValue(state, ValueCodecs.INTEGER));
+        assertEquals("utf-8", table.getStringValue(table.indexOf("attributes-charset")));
+        assertEquals(-1, table.indexOf("no-such-attribute"));
+        assertThrows(IllegalArgumentException.class, () -> table.getAttribute("no-such-attribute"));
+    }
+
+    @Test
+    void testUnknownName() {
+        Attribute attr = Attribute.of(ValueTags.KEYWORD, "x-unknown-name", "a", "b");
+        ByteBuffer buffer = ByteBuffer.allocate(attr.encodedLength() + 2);
+        buffer.put((byte) 4);
+        attr.encodeTo(buffer);
+        buffer.put((byte) 3);
+        AttributeTable table = new AttributeTable(buffer.array(), 0);
+        assertEquals(0, table.indexOf("x-unknown-name"));
+        assertEquals("x-unknown-name", table.getName(0));
+        assertEquals(2, table.getValueCount(0));
+        assertEquals(buffer.array().length, table.getEnd());
+    }
+
+    @Test
+    void testCollection() {
+        CollectionValue a4 = CollectionValue.of(Attribute.of(ValueTags.KEYWORD, "media-size-name", "iso_a4_210x297mm"));
+        CollectionValue letter = CollectionValue.of(Attribute.of(ValueTags.KEYWORD, "media-size-name", "na_letter_8.5x11in"));
+        Attribute database = Attribute.of("media-col-database", a4, letter);
+        Attribute printerName = Attribute.of(ValueTags.NAME_WITHOUT_LANGUAGE, "printer-name", "test");
+        ByteBuffer buffer = ByteBuffer.allocate(database.encodedLength() + printerName.encodedLength() + 2);
+        buffer.put((byte) 4);
+        database.encodeTo(buffer);
+        printerName.encodeTo(buffer);
+        buffer.put((byte) 3);
+        AttributeTable table = new AttributeTable(buffer.array(), 0);
+        assertEquals(2, table.getAttributeCount());
+        assertEquals(2, table.getValueCount(0));
+        assertEquals("test", table.getStringValue(1));
+        assertEquals(database.toLongString(), table.getAttribute(0).toLongString());
+    }
+
+    @Test
+    void testTruncated() throws IOException {
+        byte[] bytes = readResponse("Get-Printers.ipp");
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+        assertThrows(IllegalArgumentException.class, () -> new AttributeTable(truncated, 8));
+    }
+
+}
@@ -24,6 +24,9 @@ import org.slf4j.LoggerFactory;
 import patterntesting.runtime.junit.ArrayTester;
 
 import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -57,6 +60,30 @@ final class AttributeTest {
         assertEquals("utf-8", ATTRIBUTE.getStringValue());
     }
 
+    @Test
+    void valuesAreCopiedOnTheWayInAndOut() {
+        byte[] value = "one".getBytes();
+        Attribute attr = Attribute.of(ValueTags.KEYWORD, "sides", value);
+        value[0] = 'x';
+        assertEquals("one", attr.getStringValue());
+        attr.getValue()[0] = 'x';
+        assertEquals("one", attr.getStringValue());
+        byte[] two = "two".getBytes();
+        attr.setValue(two);
+        two[0] = 'x';
+        assertEquals("two", attr.getStringValue());
+    }
+
+    @Test
+    void copyIsNotChangedByOriginal() {
+        Attribute attr = Attribute.of(ValueTags.KEYWORD, "sides", "one".getBytes());
+        Attribute copy = attr.copy();
+        copy.getValue()[0] = 'x';
+        attr.setValue("two".getBytes());
+        assertEquals("one", copy.getStringValue());
+        assertEquals("two", attr.getStringValue());
+    }
+
     @Test
     void testToString() {
         LOG.info("ATTRIBUTE = {}", ATTRIBUTE);
@@ -153,10 +180,95 @@ final class AttributeTest {
         assertEquals(2, multiValue.getAdditionalValues().size());
     }
     
+    @Test
+    void testOfMultiValue() {
+        Attribute attr = Attribute.of(ValueTags.KEYWORD, "sides-supported", "one-sided", "two-sided-long-edge");
+        List<Attribute.AdditionalValue> values = attr.getAdditionalValues();
+        assertEquals(2, values.size());
+        assertEquals("sides-supported", values.get(0).getName());
+        assertEquals("", values.get(1).getName());
+        assertEquals("two-sided-long-edge", values.get(1).getStringValue());
+        Attribute decoded = new Attribute(ByteBuffer.wrap(attr.toByteArray()));
+        assertEquals(attr.toLongString(), decoded.toLongString());
+        ArrayTester.assertEquals(attr.toByteArray(), decoded.toByteArray());
+    }
+
+    @Test
+    void testSetValueOfAdditionalValue() {
+        Attribute attr = Attribute.of(ValueTags.KEYWORD, "sides-supported", "one-sided", "two-sided-long-edge", "x");
+        attr.getAdditionalValues().get(1).setValue("two-sided-short-edge".getBytes());
+        assertEquals("sides-supported=one-sided,two-sided-short-edge,x", attr.toLongString());
+        assertEquals(attr.encodedLength(), attr.toByteArray().length);
+    }
+
+    @Test
+    void testAddWithoutName() {
+        Attribute attr = Attribute.of(ValueTags.ENUM, "operations-supported", 2);
+        attr.add(Attribute.of(ValueTags.ENUM, "ignored", 0x0b));
+        Attribute decoded = new Attribute(ByteBuffer.wrap(attr.toByteArray()));
+        assertEquals(2, decoded.getAdditionalValues().size());
+        assertEquals(0x0b, decoded.getAdditionalValues().get(1).getIntValue());
+        assertEquals("", decoded.getAdditionalValues().get(1).getName());
+    }
+
+    @Test
+    void testCopy() {
+        Attribute attr = Attribute.of(ValueTags.KEYWORD, "sides-supported", "one-sided", "two-sided-long-edge");
+        Attribute copy = attr.copy();
+        copy.setValue("changed".getBytes());
+        copy.add(Attribute.of(ValueTags.KEYWORD, "", "two-sided-short-edge"));
+        assertEquals("sides-supported=one-sided,two-sided-long-edge", attr.toLongString());
+        assertEquals("sides-supported=changed,two-sided-long-edge,two-sided-short-edge", copy.toLongString());
+    }
+
     @Test
     void testToByteArray() {
         byte[] bytes = ATTRIBUTE.toByteArray();
         ArrayTester.assertEquals(DATA, bytes);
     }
 
+    @Test
+    void testEncodeTo() {
+        Attribute attr = Attribute.of(ValueTags.KEYWORD, "requested-attributes", "copies-supported", "sides");
+        byte[] expected = attr.toByteArray();
+        assertEquals(expected.length, attr.encodedLength());
+        ByteBuffer buffer = ByteBuffer.allocateDirect(attr.encodedLength());
+        attr.encodeTo(buffer);
+        assertEquals(0, buffer.remaining());
+        byte[] encoded = new byte[expected.length];
+        buffer.flip();
+        buffer.get(encoded);
+        ArrayTester.assertEquals(expected, encoded);
+    }
+
+
+    @Test
+    void testUnknownValueTag() {
+        byte[] data = { 0x4b, 0, 4, 'n', 'a', 'm', 'e', 0, 1, 'x' };
+        Attribute attr = new Attribute(ByteBuffer.wrap(data));
+        assertEquals(ValueTags.RESERVED_FOR_CHARACTER_STRING_TYPE, attr.getValueTag());
+        ArrayTester.assertEquals(data, attr.toByteArray());
+    }
+
+    @Test
+    void testGetDateTimeValue() {
+        OffsetDateTime now = OffsetDateTime.of(2026, 10, 16, 8, 15, 0, 0, ZoneOffset.ofHours(2));
+        Attribute attr = Attribute.of("printer-current-time", now);
+        assertEquals(ValueTags.DATE_TIME, attr.getValueTag());
+        assertEquals(now, attr.getDateTimeValue());
+        assertThat(attr.toString(), containsString("2026-10-16T08:15+02:00"));
+    }
+
+    @Test
+    void testGetIntValueOfAdditionalValues() {
+        Attribute attr = Attribute.of(ValueTags.ENUM, "operations-supported", 2);
+        attr.add(Attribute.of(ValueTags.ENUM, "", 0x0b));
+        int sum = 0;
+        for (int i = 0; i < attr.getAdditionalValues().size(); i++) {
+            sum += attr.getAdditionalValues().get(i).getIntValue();
+        }
+        assertEquals(0x0d, sum);
+        assertEquals(Integer.valueOf(2), attr.getAdditionalValues().get(0).getValue(ValueCodecs.INTEGER));
+    }
+
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import j4cups.protocol.tags.ValueTags;
+import org.junit.jupiter.api.Test;
+import patterntesting.runtime.junit.ArrayTester;
+
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CollectionValue}.
+ */
+class CollectionValueTest {
+
+    private static CollectionValue createMediaCol(int x, int y) {
+        CollectionValue mediaSize = CollectionValue.of(Attribute.of("x-dimension", x), Attribute.of("y-dimension", y));
+        return CollectionValue.of(Attribute.of("media-size", mediaSize),
+                Attribute.of(ValueTags.KEYWORD, "media-type", "stationery"));
+    }
+
+    @Test
+    void testEncoding() {
+        Attribute attr = Attribute.of("media-col", CollectionValue.of(Attribute.of("x-dimension", 21000)));
+        byte[] expected = {
+                0x34, 0, 9, 'm', 'e', 'd', 'i', 'a', '-', 'c', 'o', 'l', 0, 0,
+                0x4a, 0, 0, 0, 11, 'x', '-', 'd', 'i', 'm', 'e', 'n', 's', 'i', 'o', 'n',
+                0x21, 0, 0, 0, 4, 0, 0, 0x52, 0x08,
+                0x37, 0, 0, 0, 0
+        };
+        ArrayTester.assertEquals(expected, attr.toByteArray());
+        assertEquals(expected.length, attr.encodedLength());
+    }
+
+    @Test
+    void testDecoding() {
+        Attribute attr = Attribute.of("media-col", createMediaCol(21000, 29700));
+        byte[] bytes = attr.toByteArray();
+        Attribute decoded = new Attribute(ByteBuffer.wrap(bytes));
+        assertEquals("media-col", decoded.getName());
+        assertEquals(ValueTags.BEG_COLLECTION, decoded.getValueTag());
+        CollectionValue mediaCol = decoded.getCollectionValue();
+        assertEquals("stationery", mediaCol.getMember("media-type").getStringValue());
+        CollectionValue mediaSize = mediaCol.getMember("media-size").getCollectionValue();
+        assertEquals(29700, mediaSize.getMember("y-dimension").getIntValue());
+        assertNull(mediaCol.getMember("media-source"));
+        ArrayTester.assertEquals(bytes, decoded.toByteArray());
+    }
+
+    @Test
+    void testMultiValue() {
+        Attribute attr = Attribute.of("media-col-database", createMediaCol(21000, 29700), createMediaCol(21590, 27940));
+        ByteBuffer buffer = ByteBuffer.allocate(attr.encodedLength() + 1);
+        attr.encodeTo(buffer);
+        buffer.put((byte) 0x03);
+        buffer.flip();
+        Attribute decoded = new Attribute(buffer);
+        assertTrue(decoded.isMultiValue());
+        assertEquals(2, decoded.getAdditionalValues().size());
+        CollectionValue letter = decoded.getAdditionalValues().get(1).getCollectionValue();
+        assertEquals(21590, letter.getMember("media-size").getCollectionValue().getMember("x-dimension").getIntValue());
+        assertEquals(0x03, buffer.get());
+    }
+
+    @Test
+    void testModifiedMember() {
+        Attribute attr = Attribute.of("media-col", createMediaCol(21000, 29700));
+        Attribute decoded = new Attribute(ByteBuffer.wrap(attr.toByteArray()));
+        decoded.getCollectionValue().getMember("media-type").setValue("photographic".getBytes());
+        Attribute reread = new Attribute(ByteBuffer.wrap(decoded.toByteArray()));
+        assertEquals("photographic", reread.getCollectionValue().getMember("media-type").getStringValue());
+        assertEquals(decoded.getCollectionValue(), reread.getCollectionValue());
+    }
+
+    @Test
+    void testSharedMemberNames() {
+        Attribute attr = Attribute.of("media-col", createMediaCol(21000, 29700));
+        Attribute decoded = new Attribute(ByteBuffer.wrap(attr.toByteArray()));
+        assertSame("media-size", decoded.getCollectionValue().getMembers().get(0).getName());
+    }
+
+    @Test
+    void testMissingEndCollection() {
+        byte[] attr = Attribute.of("media-col", createMediaCol(21000, 29700)).toByteArray();
+        ByteBuffer truncated = ByteBuffer.wrap(attr, 0, attr.length - 5);
+        assertThrows(IllegalArgumentException.class, () -> new Attribute(truncated));
+    }
+
+    @Test
+    void testToString() {
+        Attribute attr = Attribute.of("media-col", createMediaCol(21000, 29700));
+        assertEquals("media-col={media-size={x-dimension=21000,y-dimension=29700},media-type=stationery}",
+                attr.toString());
+        assertThat(attr.toLongString(), containsString("media-type=stationery"));
+    }
+
+}
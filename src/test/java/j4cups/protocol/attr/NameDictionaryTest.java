@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import j4cups.protocol.AbstractIppTest;
+import j4cups.protocol.IppResponse;
+import j4cups.protocol.tags.ValueTags;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link NameDictionary}.
+ */
+class NameDictionaryTest {
+
+    @Test
+    void testToString() {
+        String name = new String("printer-uri".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        assertNotSame("printer-uri", name);
+        assertSame("printer-uri", NameDictionary.toString(name.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testToStringUnknown() {
+        assertEquals("no-such-name", NameDictionary.toString("no-such-name".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testIndexOf() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        buffer.put((byte) 0x44).put("job-state-reasons".getBytes(StandardCharsets.UTF_8));
+        int index = NameDictionary.indexOf(buffer, 1, "job-state-reasons".length());
+        assertSame("job-state-reasons", NameDictionary.getName(index));
+        assertEquals(-1, NameDictionary.indexOf(buffer, 1, 3));
+        assertEquals(-1, NameDictionary.indexOf(buffer, 30, 10));
+    }
+
+    @Test
+    void testDecodedAttribute() {
+        Attribute attr = new Attribute(ByteBuffer.wrap(Attribute.of(ValueTags.KEYWORD, "sides", "one-sided").toByteArray()));
+        assertSame("sides", attr.getName());
+        assertSame("one-sided", attr.getStringValue());
+    }
+
+    @Test
+    void testDecodedResponse() {
+        IppResponse response = AbstractIppTest.readIppResponse("response", "Get-Printer-Attributes.bin");
+        Attribute attr = response.getAttribute("media-default");
+        assertSame("media-default", attr.getName());
+        assertSame("iso_a4_210x297mm", attr.getStringValue());
+    }
+
+}
@@ -36,4 +36,12 @@ class PrinterResolutionTest {
         ArrayTester.assertEquals(expected, printerResolution.toByteArray());
     }
 
+    @Test
+    void testOfByteArray() {
+        PrinterResolution decoded = PrinterResolution.of(printerResolution.toByteArray());
+        assertEquals(printerResolution, decoded);
+        assertEquals(printerResolution.hashCode(), decoded.hashCode());
+        assertThrows(IllegalArgumentException.class, () -> PrinterResolution.of(new byte[8]));
+    }
+
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import org.junit.jupiter.api.Test;
+import patterntesting.runtime.junit.ArrayTester;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RangeOfInteger}.
+ */
+class RangeOfIntegerTest {
+
+    private final RangeOfInteger range = RangeOfInteger.of(1, 9999);
+
+    @Test
+    void testToByteArray() {
+        byte[] expected = { 0, 0, 0, 1, 0, 0, 0x27, 0x0f };
+        ArrayTester.assertEquals(expected, range.toByteArray());
+        assertEquals(range, RangeOfInteger.of(expected));
+    }
+
+    @Test
+    void testContains() {
+        assertTrue(range.contains(1));
+        assertTrue(range.contains(9999));
+        assertFalse(range.contains(0));
+        assertFalse(range.contains(10000));
+    }
+
+    @Test
+    void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> RangeOfInteger.of(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> RangeOfInteger.of(new byte[4]));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("1-9999", range.toString());
+    }
+
+    @Test
+    void testAttribute() {
+        Attribute attr = Attribute.of("copies-supported", 1, 9999);
+        assertEquals(range, attr.getRangeOfIntegerValue());
+        assertEquals(range, attr.getValue(ValueCodecs.RANGE_OF_INTEGER));
+        assertEquals("copies-supported=1-9999", attr.toString());
+    }
+
+}
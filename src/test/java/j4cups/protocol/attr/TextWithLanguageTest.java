@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import j4cups.protocol.tags.ValueTags;
+import org.junit.jupiter.api.Test;
+import patterntesting.runtime.junit.ArrayTester;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TextWithLanguage}.
+ */
+class TextWithLanguageTest {
+
+    private final TextWithLanguage text = TextWithLanguage.of("en", "hello");
+
+    @Test
+    void testToByteArray() {
+        byte[] expected = { 0, 2, 'e', 'n', 0, 5, 'h', 'e', 'l', 'l', 'o' };
+        ArrayTester.assertEquals(expected, text.toByteArray());
+        assertEquals(text, TextWithLanguage.of(expected));
+    }
+
+    @Test
+    void testSharedLanguage() {
+        assertSame("en", TextWithLanguage.of(text.toByteArray()).getLanguage());
+    }
+
+    @Test
+    void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> TextWithLanguage.of(new byte[] { 0, 2, 'e', 'n', 0 }));
+        assertThrows(IllegalArgumentException.class, () -> TextWithLanguage.of(new byte[] { 0, 2, 'e', 'n', 0, 6, 'x' }));
+        assertThrows(IllegalArgumentException.class, () -> TextWithLanguage.of(new byte[1]));
+    }
+
+    @Test
+    void testAttribute() {
+        Attribute attr = Attribute.of(ValueTags.TEXT_WITH_LANGUAGE, "printer-info", text.toByteArray());
+        assertEquals(text, attr.getTextWithLanguageValue());
+        assertEquals("hello (en)", text.toString());
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.attr;
+
+import j4cups.protocol.enums.PrintQuality;
+import j4cups.protocol.tags.ValueTags;
+import org.junit.jupiter.api.Test;
+import patterntesting.runtime.junit.ArrayTester;
+
+import java.math.BigInteger;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ValueCodecs}.
+ */
+class ValueCodecsTest {
+
+    @Test
+    void testToInt() {
+        for (int n : new int[] { 0, 1, -1, 42, 0x7fffffff, 0x80000000, 65536 }) {
+            assertEquals(n, ValueCodecs.toInt(ValueCodecs.toByteArray(n)));
+        }
+    }
+
+    @Test
+    void testToIntShortValues() {
+        byte[][] values = { { 1 }, { -1 }, { 0x7f, -1 }, { -128, 0, 1 } };
+        for (byte[] value : values) {
+            assertEquals(new BigInteger(value).intValue(), ValueCodecs.toInt(value));
+        }
+        assertThrows(IllegalStateException.class, () -> ValueCodecs.toInt(new byte[0]));
+    }
+
+    @Test
+    void testToBoolean() {
+        assertTrue(ValueCodecs.toBoolean(ValueCodecs.BOOLEAN.encode(true)));
+        assertFalse(ValueCodecs.toBoolean(ValueCodecs.BOOLEAN.encode(false)));
+        assertThrows(IllegalStateException.class, () -> ValueCodecs.toBoolean(new byte[] { 2 }));
+        assertThrows(IllegalStateException.class, () -> ValueCodecs.toBoolean(new byte[0]));
+    }
+
+    @Test
+    void testDateTime() {
+        OffsetDateTime dateTime = OffsetDateTime.of(2026, 10, 16, 13, 45, 30, 700_000_000, ZoneOffset.ofHoursMinutes(-5, -30));
+        byte[] value = ValueCodecs.toByteArray(dateTime);
+        ArrayTester.assertEquals(new byte[] { 0x07, (byte) 0xea, 10, 16, 13, 45, 30, 7, '-', 5, 30 }, value);
+        assertEquals(dateTime, ValueCodecs.DATE_TIME.decode(value));
+        assertThrows(IllegalArgumentException.class, () -> ValueCodecs.toDateTime(new byte[10]));
+    }
+
+    @Test
+    void testDateTimeUTC() {
+        OffsetDateTime dateTime = OffsetDateTime.of(2026, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+        assertEquals(dateTime, ValueCodecs.toDateTime(ValueCodecs.toByteArray(dateTime)));
+    }
+
+    @Test
+    void testOf() {
+        assertSame(ValueCodecs.INTEGER, ValueCodecs.of(ValueTags.ENUM));
+        assertSame(ValueCodecs.STRING, ValueCodecs.of(ValueTags.KEYWORD));
+        assertSame(ValueCodecs.TEXT_WITH_LANGUAGE, ValueCodecs.of(ValueTags.NAME_WITH_LANGUAGE));
+        assertSame(ValueCodecs.OCTET_STRING, ValueCodecs.of(ValueTags.NO_VALUE));
+    }
+
+    @Test
+    void testRoundTrip() {
+        PrinterResolution resolution = PrinterResolution.of(300, 600, PrintQuality.NORMAL);
+        assertEquals(resolution, ValueCodecs.RESOLUTION.decode(ValueCodecs.RESOLUTION.encode(resolution)));
+        RangeOfInteger range = RangeOfInteger.of(1, 9999);
+        assertEquals(range, ValueCodecs.RANGE_OF_INTEGER.decode(ValueCodecs.RANGE_OF_INTEGER.encode(range)));
+        assertEquals("one-sided", ValueCodecs.STRING.decode(ValueCodecs.STRING.encode("one-sided")));
+    }
+
+}
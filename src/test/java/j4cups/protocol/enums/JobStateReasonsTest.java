@@ -36,4 +36,11 @@ class JobStateReasonsTest {
         assertEquals("job-incoming", JobStateReasons.JOB_INCOMING.toString());
     }
 
+
+    @Test
+    void testOfIgnoreCase() {
+        assertEquals(JobStateReasons.JOB_INCOMING, JobStateReasons.of("Job-Incoming"));
+        assertEquals(JobStateReasons.NONE, JobStateReasons.of("job-unknown"));
+    }
+
 }
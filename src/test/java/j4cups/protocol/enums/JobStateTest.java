@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.protocol.enums;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link JobState}.
+ */
+class JobStateTest {
+
+    @Test
+    void testOf() {
+        assertEquals(JobState.PROCESSING, JobState.of(5));
+    }
+
+    @Test
+    void testOfUnknown() {
+        assertEquals(JobState.UNKNOWN, JobState.of(2));
+        assertEquals(JobState.UNKNOWN, JobState.of(42));
+    }
+
+}
@@ -19,7 +19,7 @@ package j4cups.protocol.tags;
 
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Unit tests for {@link DelimiterTags}.
@@ -36,4 +36,22 @@ class DelimiterTagsTest {
         assertEquals("end-of-attributes-tag", DelimiterTags.END_OF_ATTRIBUTES_TAG.toString());
     }
 
+
+    @Test
+    void testOfAll() {
+        for (DelimiterTags tag : DelimiterTags.values()) {
+            assertEquals(tag, DelimiterTags.of(tag.getValue()));
+        }
+    }
+
+    @Test
+    void testOfUnknown() {
+        assertEquals(DelimiterTags.RESERVED_FOR_FUTURE, DelimiterTags.of(0x0c));
+    }
+
+    @Test
+    void testOfInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> DelimiterTags.of(0x44));
+    }
+
 }
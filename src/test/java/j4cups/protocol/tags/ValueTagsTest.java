@@ -31,4 +31,39 @@ public final class ValueTagsTest {
         assertEquals(ValueTags.ENUM, ValueTags.of(0x23));
     }
 
+
+    @Test
+    void testOfAll() {
+        for (ValueTags tag : ValueTags.values()) {
+            assertEquals(tag, ValueTags.of(tag.getValue() & 0xff));
+        }
+    }
+
+    @Test
+    void testOfSignedByte() {
+        assertEquals(ValueTags.RESERVED_FOR_FUTURE_TYPE, ValueTags.of((byte) 0xff));
+        assertEquals(ValueTags.RESERVED_FOR_FUTURE_TYPE, ValueTags.of(0xff));
+    }
+
+    @Test
+    void testOfUnknown() {
+        assertEquals(ValueTags.RESERVED_FOR_OUT_OF_BAND_VALUES, ValueTags.of(0x15));
+        assertEquals(ValueTags.RESERVED_FOR_INTEGER_TYPE, ValueTags.of(0x24));
+        assertEquals(ValueTags.RESERVED_FOR_OCTET_STRING_TYPE, ValueTags.of(0x38));
+        assertEquals(ValueTags.RESERVED_FOR_CHARACTER_STRING_TYPE, ValueTags.of(0x4b));
+        assertEquals(ValueTags.RESERVED_FOR_FUTURE_TYPE, ValueTags.of(0x7f));
+    }
+
+    @Test
+    void testOfCollectionTags() {
+        assertEquals(ValueTags.BEG_COLLECTION, ValueTags.of(0x34));
+        assertEquals(ValueTags.END_COLLECTION, ValueTags.of(0x37));
+        assertEquals(ValueTags.MEMBER_ATTR_NAME, ValueTags.of(0x4a));
+    }
+
+    @Test
+    void testOfInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> ValueTags.of(0x03));
+    }
+
 }
@@ -18,6 +18,7 @@
 
 package j4cups.server;
 
+import j4cups.Config;
 import j4cups.protocol.AbstractIppTest;
 import j4cups.protocol.IppRequest;
 import org.junit.jupiter.api.AfterAll;
@@ -50,13 +51,33 @@ public abstract class AbstractServerTest {
      * For the unit tests we can start the server here.
      */
     public static CupsServer startServer() {
+        return startServer(new Config());
+    }
+
+    /**
+     * For the unit tests we can start the server with the given
+     * configuration here. Only the port is set to a free port.
+     *
+     * @param config the configuration of the server
+     * @return the started server
+     */
+    public static CupsServer startServer(Config config) {
         int port = 1024 + (int) (System.currentTimeMillis() % 8000);
         while (isOnline("localhost", port)) {
             port++;
         }
-        cupsServer = new CupsServer(port);
+        cupsServer = new CupsServer(config.withServerPort(port));
         assertFalse(cupsServer.isStarted());
         cupsServer.start();
+        for (int i = 0; (i < 50) && !isOnline("localhost", port); i++) {
+            LOG.debug("Waiting for {}...", cupsServer);
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
         LOG.info("{} is started.", cupsServer);
         return cupsServer;
     }
@@ -141,6 +162,15 @@ public abstract class AbstractServerTest {
         if (cupsServer != null) {
             cupsServer.shutdown();
             LOG.info("{} is shut down.", cupsServer);
+            for (int i = 0; (i < 50) && isOnline("localhost", cupsServer.getPort()); i++) {
+                LOG.debug("Waiting for shutdown of {}...", cupsServer);
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
             assertFalse(isOnline("localhost", cupsServer.getPort()));
             LOG.info("{} is offline (as expected).", cupsServer);
         }
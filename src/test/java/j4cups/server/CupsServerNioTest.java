@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.server;
+
+import j4cups.Config;
+import j4cups.protocol.AbstractIppTest;
+import j4cups.protocol.IppRequest;
+import j4cups.protocol.IppResponse;
+import j4cups.server.http.IppEntity;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Integration tests for {@link CupsServer} with the non-blocking I/O
+ * model.
+ */
+class CupsServerNioTest extends AbstractServerTest {
+
+    private static URI serverURI;
+
+    @BeforeAll
+    static void setUpServer() {
+        startServer(new Config().withProperty("j4cups.server.io", "nio"));
+        serverURI = URI.create("http://localhost:" + cupsServer.getPort());
+    }
+
+    @Test
+    void testSendInvalidRequest() throws IOException {
+        HttpPost httpPost = new HttpPost(serverURI);
+        httpPost.setEntity(new StringEntity("hello"));
+        try (CloseableHttpClient client = HttpClients.createDefault();
+             CloseableHttpResponse response = client.execute(httpPost)) {
+            assertThat(response.getStatusLine().getStatusCode(), greaterThan(399));
+        }
+    }
+
+    @Test
+    void testSendGetPrinters() throws IOException {
+        IppRequest request = AbstractIppTest.readIppRequest("request", "Get-Printers.ipp");
+        HttpPost httpPost = new HttpPost(serverURI);
+        httpPost.setEntity(new IppEntity(request));
+        try (CloseableHttpClient client = HttpClients.createDefault();
+             CloseableHttpResponse response = client.execute(httpPost)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+            byte[] content = IOUtils.toByteArray(response.getEntity().getContent());
+            IppResponse ippResponse = new IppResponse(content);
+            assertThat(ippResponse.getAttributes().size(), greaterThan(0));
+        }
+    }
+
+    @Test
+    void testSendBigPrintJob() throws IOException {
+        IppRequest request = new IppRequest(AbstractIppTest.REQUEST_PRINT_JOB.toByteArray());
+        request.setPrinterURI(URI.create(serverURI + "/printers/test"));
+        request.setData(new byte[3 * 1024 * 1024]);
+        HttpPost httpPost = new HttpPost(request.getPrinterURI());
+        httpPost.setEntity(new IppEntity(request));
+        try (CloseableHttpClient client = HttpClients.createDefault();
+             CloseableHttpResponse response = client.execute(httpPost)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+            IppResponse ippResponse = new IppResponse(IOUtils.toByteArray(response.getEntity().getContent()));
+            assertThat(ippResponse.getJobId(), greaterThan(0));
+        }
+    }
+
+}
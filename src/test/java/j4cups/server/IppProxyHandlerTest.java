@@ -18,6 +18,8 @@
 
 package j4cups.server;
 
+import j4cups.Config;
+import j4cups.client.CupsClient;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
@@ -36,4 +38,15 @@ final class IppProxyHandlerTest {
         assertEquals("ipp", forwardURI.getScheme());
     }
 
+    @Test
+    void createClient() {
+        Config config = new Config().withProperty("j4cups.client.maxPerRoute", "3");
+        IppProxyHandler handler = new IppProxyHandler(URI.create("http://localhost:631"), config);
+        URI printerURI = URI.create("ipp://printer.local:631/printers/test-printer");
+        try (CupsClient client = handler.createClient(printerURI)) {
+            assertEquals(printerURI, client.getCupsURI());
+        }
+        assertEquals("ipp://localhost:631", handler.getForwardURI().toString());
+    }
+
 }
\ No newline at end of file
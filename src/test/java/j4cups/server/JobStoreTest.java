@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.server;
+
+import j4cups.protocol.AbstractIppTest;
+import j4cups.protocol.IppRequest;
+import j4cups.protocol.attr.Attribute;
+import j4cups.protocol.attr.AttributeGroup;
+import j4cups.protocol.attr.AttributeKey;
+import j4cups.protocol.enums.JobState;
+import j4cups.protocol.enums.JobStateReasons;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link JobStore}.
+ */
+class JobStoreTest {
+
+    private static final URI PRINTER_URI = URI.create("ipp://localhost:631/printers/test-printer");
+    private final JobStore jobStore = new JobStore();
+
+    @Test
+    void testCreateJob() {
+        Job one = jobStore.createJob(PRINTER_URI, "otto", "one");
+        Job two = jobStore.createJob(PRINTER_URI, "otto", "two");
+        assertEquals(one.getId() + 1, two.getId());
+        assertEquals(URI.create("ipp://localhost:631/jobs/" + two.getId()), two.getJobURI());
+        assertEquals("test-printer", two.getPrinterName());
+        assertSame(two, jobStore.getJob(two.getId()));
+        assertEquals(2, jobStore.size());
+    }
+
+    @Test
+    void testPut() {
+        jobStore.put(Job.of(42, PRINTER_URI, "otto", "answer"));
+        assertEquals(43, jobStore.createJob(PRINTER_URI, "otto", "next").getId());
+    }
+
+    @Test
+    void testSetJobState() {
+        Job job = jobStore.createJob(PRINTER_URI, "otto", "test");
+        Job completed = jobStore.setJobState(job.getId(), JobState.COMPLETED, JobStateReasons.JOB_COMPLETED_SUCCESSFULLY);
+        assertEquals(JobState.PENDING, job.getState());
+        assertTrue(completed.isCompleted());
+        assertSame(completed, jobStore.getJob(job.getId()));
+        assertNull(jobStore.setJobState(4711, JobState.CANCELED, JobStateReasons.JOB_CANCELED_BY_USER));
+    }
+
+    @Test
+    void testCompareAndSet() {
+        Job job = jobStore.createJob(PRINTER_URI, "otto", "test");
+        Job processing = job.withState(JobState.PROCESSING, JobStateReasons.NONE);
+        assertTrue(jobStore.compareAndSet(job, processing));
+        assertFalse(jobStore.compareAndSet(job, job.withState(JobState.CANCELED, JobStateReasons.NONE)));
+        assertFalse(jobStore.compareAndSet(null, job));
+        assertSame(processing, jobStore.getJob(job.getId()));
+        assertEquals(Collections.singletonList(job.getId()), toIds(jobStore.getJobs("", "processing", null, 10)));
+        assertTrue(jobStore.getJobs("", "pending", null, 10).isEmpty());
+    }
+
+    @Test
+    void testCreateJobsInParallel() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 10_000; i++) {
+            String user = "user" + (i % 10);
+            executor.execute(() -> jobStore.createJob(PRINTER_URI, user, "parallel"));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(10_000, jobStore.size());
+        assertNotNull(jobStore.getJob(10_000));
+        assertEquals(10_000, jobStore.getJobs("test-printer", "pending", null, Integer.MAX_VALUE).size());
+        assertEquals(1_000, jobStore.getJobs("", "all", "user3", Integer.MAX_VALUE).size());
+    }
+
+    @Test
+    void testSetJobStateInParallel() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            jobStore.createJob(PRINTER_URI, "otto", "job-" + i);
+        }
+        JobState[] states = {JobState.PENDING, JobState.PROCESSING, JobState.PROCESSING_STOPPED, JobState.COMPLETED};
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 10_000; i++) {
+            int id = 1 + i % 100;
+            JobState state = states[i % states.length];
+            executor.execute(() -> jobStore.setJobState(id, state, JobStateReasons.NONE));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        int n = 0;
+        for (JobState state : states) {
+            String whichJobs = state.name().toLowerCase().replace('_', '-');
+            for (Job job : jobStore.getJobs("", whichJobs, null, Integer.MAX_VALUE)) {
+                assertEquals(state, jobStore.getJob(job.getId()).getState());
+                n++;
+            }
+        }
+        assertEquals(100, n);
+    }
+
+    @Test
+    void testGetJobsWhichJobs() {
+        Job pending = jobStore.createJob(PRINTER_URI, "otto", "pending");
+        Job completed = jobStore.createJob(PRINTER_URI, "otto", "completed");
+        Job canceled = jobStore.createJob(PRINTER_URI, "otto", "canceled");
+        jobStore.setJobState(completed.getId(), JobState.COMPLETED, JobStateReasons.JOB_COMPLETED_SUCCESSFULLY);
+        jobStore.setJobState(canceled.getId(), JobState.CANCELED, JobStateReasons.JOB_CANCELED_BY_USER);
+        assertEquals(Collections.singletonList(pending.getId()), toIds(jobStore.getJobs("", "", null, 10)));
+        assertEquals(Arrays.asList(canceled.getId(), completed.getId()),
+                toIds(jobStore.getJobs("", "completed", null, 10)));
+        assertEquals(Arrays.asList(pending.getId(), completed.getId(), canceled.getId()),
+                toIds(jobStore.getJobs("test-printer", "all", null, 10)));
+        assertEquals(Collections.singletonList(canceled.getId()),
+                toIds(jobStore.getJobs("", "canceled", null, 10)));
+    }
+
+    @Test
+    void testGetJobsOfUserAndPrinter() {
+        jobStore.createJob(PRINTER_URI, "otto", "one");
+        Job two = jobStore.createJob(PRINTER_URI, "emil", "two");
+        jobStore.createJob(URI.create("ipp://localhost:631/printers/other"), "emil", "three");
+        assertEquals(Collections.singletonList(two.getId()),
+                toIds(jobStore.getJobs("test-printer", "all", "emil", 10)));
+        assertEquals(2, jobStore.getJobs("", "all", "emil", 10).size());
+        assertTrue(jobStore.getJobs("unknown", "all", null, 10).isEmpty());
+        assertTrue(jobStore.getJobs("", "all", "nobody", 10).isEmpty());
+    }
+
+    @Test
+    void testGetJobsWithLimit() {
+        for (int i = 0; i < 100_000; i++) {
+            Job job = jobStore.createJob(PRINTER_URI, "user" + (i % 100), "job-" + i);
+            if (i % 10 != 0) {
+                jobStore.setJobState(job.getId(), JobState.COMPLETED, JobStateReasons.JOB_COMPLETED_SUCCESSFULLY);
+            }
+        }
+        List<Job> jobs = jobStore.getJobs("test-printer", "not-completed", "user0", 5);
+        assertEquals(5, jobs.size());
+        for (Job job : jobs) {
+            assertEquals("user0", job.getUserName());
+            assertFalse(job.isCompleted());
+        }
+        assertEquals(100_000, jobStore.getJobs("", "all", null, Integer.MAX_VALUE).size());
+    }
+
+    @Test
+    void testGetJobsRequest() {
+        IppRequest request = AbstractIppTest.readIppRequest("request", "Get-Jobs.bin");
+        Job job = jobStore.createJob(request.getPrinterURI(), "otto", "test");
+        assertEquals(Collections.singletonList(job), jobStore.getJobs(request));
+        request.setOperationAttribute(Attribute.of(AttributeKey.WHICH_JOBS, "completed"));
+        assertTrue(jobStore.getJobs(request).isEmpty());
+    }
+
+    @Test
+    void testToAttributeGroup() {
+        Job job = jobStore.createJob(PRINTER_URI, "otto", "test");
+        AttributeGroup group = job.toAttributeGroup(Arrays.asList("job-id", "job-state"));
+        assertEquals(2, group.getAttributes().size());
+        assertEquals(job.getId(), group.getAttribute("job-id").getIntValue());
+        group = job.toAttributeGroup(Collections.singletonList("all"));
+        assertEquals("otto", group.getAttribute("job-originating-user-name").getStringValue());
+    }
+
+    private static List<Integer> toIds(List<Job> jobs) {
+        Integer[] ids = new Integer[jobs.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = jobs.get(i).getId();
+        }
+        return Arrays.asList(ids);
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.server;
+
+import j4cups.protocol.enums.JobState;
+import j4cups.protocol.enums.JobStateReasons;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link PersistentJobStore}. A crash is simulated by
+ * copying the files of an open store into another directory.
+ */
+class PersistentJobStoreTest {
+
+    private static final URI PRINTER_URI = URI.create("ipp://localhost:631/printers/test-printer");
+    private Path dir;
+
+    @BeforeEach
+    void createDir() throws IOException {
+        dir = Files.createTempDirectory("jobs");
+    }
+
+    @AfterEach
+    void deleteDir() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void testRestoreAfterClose() throws IOException {
+        Job job;
+        try (PersistentJobStore store = new PersistentJobStore(dir.resolve("a"))) {
+            store.createJob(PRINTER_URI, "otto", "one");
+            job = store.createJob(PRINTER_URI, "otto", "two");
+            job = store.setJobState(job.getId(), JobState.COMPLETED, JobStateReasons.JOB_COMPLETED_SUCCESSFULLY);
+        }
+        try (PersistentJobStore store = new PersistentJobStore(dir.resolve("a"))) {
+            assertEquals(2, store.size());
+            assertSameJob(job, store.getJob(job.getId()));
+            assertEquals(job.getId() + 1, store.createJob(PRINTER_URI, "otto", "three").getId());
+        }
+    }
+
+    @Test
+    void testRecoverAfterCrash() throws IOException {
+        try (PersistentJobStore store = new PersistentJobStore(dir.resolve("a"), 10, false)) {
+            for (int i = 1; i <= 15; i++) {
+                Job job = store.createJob(PRINTER_URI, "otto", "job-" + i);
+                store.setJobState(job.getId(), JobState.PROCESSING, JobStateReasons.NONE);
+            }
+            store.createJob(PRINTER_URI, "otto", "tail");
+            copyFiles(dir.resolve("a"), dir.resolve("b"));
+            try (PersistentJobStore recovered = new PersistentJobStore(dir.resolve("b"), 10, false)) {
+                assertEquals(16, recovered.size());
+                for (int i = 1; i <= 16; i++) {
+                    assertSameJob(store.getJob(i), recovered.getJob(i));
+                }
+                assertEquals(15, recovered.getJobs("", "processing", null, 100).size());
+            }
+        }
+    }
+
+    @Test
+    void testRecoverWithConcurrentSnapshots() throws IOException, InterruptedException {
+        try (PersistentJobStore store = new PersistentJobStore(dir.resolve("a"), 10, false)) {
+            Thread[] threads = new Thread[4];
+            for (int t = 0; t < threads.length; t++) {
+                threads[t] = new Thread(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        Job job = store.createJob(PRINTER_URI, "otto", "job-" + i);
+                        store.setJobState(job.getId(), JobState.PROCESSING, JobStateReasons.NONE);
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            copyFiles(dir.resolve("a"), dir.resolve("b"));
+            try (PersistentJobStore recovered = new PersistentJobStore(dir.resolve("b"), 10, false)) {
+                assertEquals(200, recovered.size());
+                for (int i = 1; i <= 200; i++) {
+                    assertSameJob(store.getJob(i), recovered.getJob(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testTornEntryIsCutOff() throws IOException {
+        try (PersistentJobStore store = new PersistentJobStore(dir.resolve("a"))) {
+            store.createJob(PRINTER_URI, "otto", "one");
+            store.createJob(PRINTER_URI, "otto", "two");
+            copyFiles(dir.resolve("a"), dir.resolve("b"));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(dir.resolve("b").resolve("jobs.wal").toFile(), "rw")) {
+            file.setLength(file.length() - 3);
+        }
+        try (PersistentJobStore store = new PersistentJobStore(dir.resolve("b"))) {
+            assertEquals(1, store.size());
+            assertEquals(2, store.createJob(PRINTER_URI, "otto", "again").getId());
+            copyFiles(dir.resolve("b"), dir.resolve("c"));
+        }
+        try (PersistentJobStore store = new PersistentJobStore(dir.resolve("c"))) {
+            assertEquals("again", store.getJob(2).getJobName());
+        }
+    }
+
+    @Test
+    void testAlreadyInUse() throws IOException {
+        try (PersistentJobStore store = new PersistentJobStore(dir)) {
+            assertThrows(IOException.class, () -> new PersistentJobStore(dir));
+            assertEquals(0, store.size());
+        }
+    }
+
+    private static void copyFiles(Path from, Path to) throws IOException {
+        Files.createDirectories(to);
+        try (Stream<Path> files = Files.list(from)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.copy(file, to.resolve(file.getFileName()));
+            }
+        }
+    }
+
+    private static void assertSameJob(Job expected, Job actual) {
+        assertArrayEquals(expected.toAttributeGroup(Collections.singletonList("all")).toByteArray(),
+                actual.toAttributeGroup(Collections.singletonList("all")).toByteArray());
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.server;
+
+import j4cups.Config;
+import j4cups.protocol.attr.AttributeGroup;
+import j4cups.protocol.enums.PrinterState;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link PrinterRegistry}.
+ */
+class PrinterRegistryTest {
+
+    @Test
+    void testStandalone() {
+        PrinterRegistry registry = new PrinterRegistry();
+        Printer printer = registry.getDefaultPrinter();
+        assertEquals("test-printer", printer.getName());
+        assertEquals("virtual printer", printer.getInfo());
+        assertEquals(PrinterState.IDLE, printer.getState());
+        assertSame(printer, registry.getPrinter("test-printer"));
+    }
+
+    @Test
+    void testLoadFromConfig() {
+        Config config = new Config().withProperty("j4cups.server.defaultPrinter", "p2")
+                                    .withProperty("j4cups.printer.p2.uri", "ipp://host/printers/p2")
+                                    .withProperty("j4cups.printer.p2.state", "stopped")
+                                    .withProperty("j4cups.printer.lab.3.location", "lab 3");
+        PrinterRegistry registry = new PrinterRegistry(config);
+        assertEquals(3, registry.size());
+        Printer p2 = registry.getDefaultPrinter();
+        assertEquals("p2", p2.getName());
+        assertEquals("ipp://host/printers/p2", p2.getURI("localhost:631").toString());
+        assertEquals(PrinterState.STOPPED, p2.getState());
+        assertEquals("lab 3", registry.getPrinter("lab.3").getLocation());
+        assertEquals("http://localhost:631/printers/lab.3", registry.getPrinter("lab.3").getURI("localhost:631")
+                                                                    .toString());
+    }
+
+    @Test
+    void testGetPrinters() {
+        Config config = new Config();
+        for (int i = 1000; i < 3000; i++) {
+            config.withProperty("j4cups.printer.printer" + i + ".state", "idle");
+        }
+        PrinterRegistry registry = new PrinterRegistry(config);
+        assertEquals(2001, registry.size());
+        List<Printer> page = registry.getPrinters(null, 3);
+        assertEquals("[printer1000, printer1001, printer1002]", toNames(page));
+        page = registry.getPrinters("PRINTER2998", 3);
+        assertEquals("[printer2998, printer2999, test-printer]", toNames(page));
+        assertEquals(2001, registry.getPrinters(null, Integer.MAX_VALUE).size());
+        assertTrue(registry.getPrinters("x", 10).isEmpty());
+    }
+
+    @Test
+    void testToAttributeGroup() {
+        Printer printer = Printer.of("hello");
+        AttributeGroup one = printer.toAttributeGroup("localhost:631");
+        AttributeGroup two = printer.toAttributeGroup("localhost:631");
+        for (int i = 0; i < one.getAttributes().size(); i++) {
+            assertSame(one.getAttributes().get(i), two.getAttributes().get(i));
+        }
+        assertEquals("hello", one.getAttribute("printer-name").getStringValue());
+        assertEquals(3, one.getAttribute("printer-state").getIntValue());
+        assertArrayEquals(one.toByteArray(), two.toByteArray());
+    }
+
+    @Test
+    void testModifyAttributeOfPrinter() {
+        Printer p1 = Printer.of("p1");
+        Printer p2 = Printer.of("p2");
+        AttributeGroup group = p1.toAttributeGroup("localhost:631");
+        assertThrows(UnsupportedOperationException.class,
+                () -> group.getAttributes().get(0).setValue("modified".getBytes(StandardCharsets.UTF_8)));
+        String name = group.getAttributes().get(0).getName();
+        group.getMutableAttribute(name).setValue("modified".getBytes(StandardCharsets.UTF_8));
+        assertEquals("modified", group.getAttribute(name).getStringValue());
+        assertNotEquals("modified", p1.toAttributeGroup("localhost:631").getAttribute(name).getStringValue());
+        assertNotEquals("modified", p2.toAttributeGroup("localhost:631").getAttribute(name).getStringValue());
+    }
+
+    @Test
+    void testReload() {
+        Config config = new Config().withProperty("j4cups.printer.p2.info", "two");
+        PrinterRegistry registry = new PrinterRegistry(config);
+        Printer testPrinter = registry.getPrinter("test-printer");
+        registry.reload(new Config().withProperty("j4cups.printer.p3.info", "three")
+                                    .withProperty("j4cups.printer.test-printer.state", "stopped"));
+        assertNull(registry.getPrinter("p2"));
+        assertEquals("three", registry.getPrinter("p3").getInfo());
+        assertEquals(PrinterState.STOPPED, registry.getPrinter("test-printer").getState());
+        registry.reload(new Config());
+        assertEquals(testPrinter, registry.getPrinter("test-printer"));
+        Printer unchanged = registry.getPrinter("test-printer");
+        registry.reload(new Config());
+        assertSame(unchanged, registry.getPrinter("test-printer"));
+    }
+
+    private static String toNames(List<Printer> printers) {
+        return printers.stream().map(Printer::getName).collect(Collectors.toList()).toString();
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 16.10.2026 by oboehm (ob@oasd.de)
+ */
+package j4cups.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link WorkerExecutors}.
+ */
+class WorkerExecutorsTest {
+
+    @Test
+    void testIsPlatform() {
+        assertTrue(WorkerExecutors.isPlatform(" platform"));
+        assertFalse(WorkerExecutors.isPlatform("virtual"));
+        assertFalse(WorkerExecutors.isPlatform("fixed:4"));
+    }
+
+    @Test
+    void testCreateFixed() {
+        ExecutorService executor = WorkerExecutors.create("fixed:3", 0);
+        try {
+            assertEquals(3, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testCreateVirtual() throws ExecutionException, InterruptedException {
+        ExecutorService executor = WorkerExecutors.create("virtual", 0);
+        try {
+            assertEquals("done", executor.submit(() -> "done").get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testCreateInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> WorkerExecutors.create("fixed:x", 0));
+        assertThrows(IllegalArgumentException.class, () -> WorkerExecutors.create("green", 0));
+    }
+
+}
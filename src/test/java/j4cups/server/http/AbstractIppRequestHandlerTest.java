@@ -18,6 +18,7 @@
 package j4cups.server.http;
 
 import j4cups.protocol.AbstractIppTest;
+import j4cups.protocol.BufferLeakDetector;
 import j4cups.protocol.IppRequest;
 import j4cups.protocol.IppResponse;
 import j4cups.protocol.StatusCode;
@@ -26,6 +27,7 @@ import org.apache.http.client.methods.HttpPost;
 import org.apache.http.message.BasicHttpResponse;
 import org.apache.http.message.BasicStatusLine;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +43,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  * @author oliver
  * @since 01.05.18
  */
+@ExtendWith(BufferLeakDetector.class)
 public abstract class AbstractIppRequestHandlerTest {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractIppRequestHandlerTest.class);
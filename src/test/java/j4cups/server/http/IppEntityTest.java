@@ -18,14 +18,25 @@
 package j4cups.server.http;
 
 import j4cups.protocol.AbstractIppTest;
+import j4cups.protocol.BufferLeakDetector;
 import j4cups.protocol.IppRequest;
+import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Unit tests for {@link IppEntity}.
  */
+@ExtendWith(BufferLeakDetector.class)
 class IppEntityTest {
 
     @Test
@@ -35,4 +46,61 @@ class IppEntityTest {
         assertEquals(request.getLength(), entity.getContentLength());
     }
 
+    @Test
+    void testIppEntityChangedAfterCreation() throws IOException {
+        IppRequest request = new IppRequest(AbstractIppTest.REQUEST_GET_JOBS.toByteArray());
+        IppEntity entity = new IppEntity(request);
+        request.setRequestingUserName("a-much-longer-user-name-than-before");
+        ByteArrayOutputStream ostream = new ByteArrayOutputStream();
+        entity.writeTo(ostream);
+        assertEquals(ostream.size(), entity.getContentLength());
+    }
+
+    @Test
+    void testContentLengthIsComputedOnce() {
+        IppRequest request = new IppRequest(AbstractIppTest.REQUEST_GET_JOBS.toByteArray());
+        IppEntity entity = new IppEntity(request);
+        long length = entity.getContentLength();
+        request.setRequestingUserName("a-much-longer-user-name-than-before");
+        assertEquals(length, entity.getContentLength());
+        assertFalse(entity.isChunked());
+    }
+
+    @Test
+    void testIppEntityWithFile() throws IOException {
+        Path file = Paths.get("src", "test", "resources", "j4cups", "test.txt");
+        IppRequest request = new IppRequest(AbstractIppTest.REQUEST_PRINT_JOB.toByteArray());
+        request.setData(file);
+        IppEntity entity = new IppEntity(request);
+        assertTrue(entity.isRepeatable());
+        assertFalse(entity.isChunked());
+        ByteArrayOutputStream ostream = new ByteArrayOutputStream();
+        entity.writeTo(ostream);
+        assertEquals(entity.getContentLength(), ostream.size());
+        try (InputStream istream = entity.getContent()) {
+            assertArrayEquals(ostream.toByteArray(), IOUtils.toByteArray(istream));
+        }
+    }
+
+    @Test
+    void testIppEntityStreamed() throws IOException {
+        byte[] bytes = AbstractIppTest.REQUEST_PRINT_JOB.toByteArray();
+        IppRequest request = new IppRequest(new ByteArrayInputStream(bytes));
+        IppEntity entity = new IppEntity(request);
+        assertFalse(entity.isRepeatable());
+        assertTrue(entity.isChunked());
+        ByteArrayOutputStream ostream = new ByteArrayOutputStream();
+        entity.writeTo(ostream);
+        assertArrayEquals(bytes, ostream.toByteArray());
+    }
+
+    @Test
+    void testIppEntityStreamedWithLength() throws IOException {
+        byte[] bytes = AbstractIppTest.REQUEST_PRINT_JOB.toByteArray();
+        IppRequest request = new IppRequest(new ByteArrayInputStream(bytes), bytes.length);
+        IppEntity entity = new IppEntity(request);
+        assertEquals(bytes.length, entity.getContentLength());
+        assertFalse(entity.isChunked());
+    }
+
 }
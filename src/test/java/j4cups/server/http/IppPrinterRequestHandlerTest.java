@@ -20,21 +20,36 @@ package j4cups.server.http;
 import j4cups.op.OperationTest;
 import j4cups.protocol.AbstractIppTest;
 import j4cups.protocol.IppRequest;
+import j4cups.protocol.IppResponse;
+import j4cups.protocol.StatusCode;
+import j4cups.protocol.attr.Attribute;
+import j4cups.protocol.attr.AttributeGroup;
+import j4cups.protocol.attr.AttributeKey;
+import j4cups.protocol.tags.DelimiterTags;
+import j4cups.server.PrinterRegistry;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpResponse;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 /**
  * Unit tests for {@link IppPrinterRequestHandler}.
  */
 final class IppPrinterRequestHandlerTest extends AbstractIppRequestHandlerTest {
 
     private static final Logger LOG = LoggerFactory.getLogger(IppPrinterRequestHandlerTest.class);
-    private static final IppPrinterRequestHandler handler = new IppPrinterRequestHandler(
+    private final IppPrinterRequestHandler handler = new IppPrinterRequestHandler(
             Paths.get("target", "IPP", "printer"));
 
     @Override
@@ -47,6 +62,26 @@ final class IppPrinterRequestHandlerTest extends AbstractIppRequestHandlerTest {
         checkHandle("Get-Printer-Attributes.bin");
     }
 
+    @Test
+    void testHandleGetPrinterAttributesOfRegisteredPrinter() {
+        IppRequest request = AbstractIppTest.readIppRequest("request", "Get-Printer-Attributes.bin");
+        request.setPrinterURI(URI.create("ipp://localhost:631/printers/test-printer"));
+        IppResponse response = IppEntity.toIppResponse(handleRequest(request, handler));
+        assertEquals(StatusCode.SUCCESSFUL_OK, response.getStatusCode());
+        AttributeGroup printer = response.getAttributeGroup(DelimiterTags.PRINTER_ATTRIBUTES_TAG);
+        assertEquals("test-printer", printer.getAttribute("printer-name").getStringValue());
+        assertEquals(3, printer.getAttribute("printer-state").getIntValue());
+        assertTrue(printer.getAttribute("document-format-supported").getValues(AttributeKey.DOCUMENT_FORMAT)
+                .contains("application/pdf"));
+        // the pre-encoded blocks must match the attributes encoded one by one
+        AttributeGroup encoded = new AttributeGroup(DelimiterTags.PRINTER_ATTRIBUTES_TAG);
+        for (Attribute attr : new PrinterRegistry().getPrinter("test-printer").toAttributeGroup("localhost:631")
+                .getAttributes()) {
+            encoded.addAttribute(attr);
+        }
+        assertArrayEquals(encoded.toByteArray(), printer.toByteArray());
+    }
+
     @Test
     void testHandlePrintJob() {
         checkHandle("Print-Job.bin");
@@ -67,6 +102,45 @@ final class IppPrinterRequestHandlerTest extends AbstractIppRequestHandlerTest {
         checkHandle("Cancel-Job.ipp");
     }
 
+    @Test
+    void testHandleGetJobs() {
+        IppResponse created = IppEntity.toIppResponse(handleRequest("Create-Job.ipp", handler));
+        IppRequest getJobs = AbstractIppTest.readIppRequest("request", "Get-Jobs.bin");
+        getJobs.setPrinterURI(AbstractIppTest.readIppRequest("request", "Create-Job.ipp").getPrinterURI());
+        IppResponse response = IppEntity.toIppResponse(handleRequest(getJobs, handler));
+        assertEquals(StatusCode.SUCCESSFUL_OK, response.getStatusCode());
+        assertTrue(response.getAttributeGroups().stream().anyMatch(
+                g -> g.hasAttribute("job-id") && (g.getAttribute("job-id").getIntValue() == created.getJobId())));
+    }
+
+    @Test
+    void testHandleCancelCreatedJob() {
+        IppResponse created = IppEntity.toIppResponse(handleRequest("Create-Job.ipp", handler));
+        IppRequest cancelJob = AbstractIppTest.readIppRequest("request", "Cancel-Job.ipp");
+        cancelJob.setJobId(created.getJobId());
+        assertEquals(StatusCode.SUCCESSFUL_OK, IppEntity.toIppResponse(handleRequest(cancelJob, handler)).getStatusCode());
+        assertEquals(StatusCode.CLIENT_ERROR_NOT_POSSIBLE,
+                IppEntity.toIppResponse(handleRequest(cancelJob, handler)).getStatusCode());
+    }
+
+    @Test
+    void testHandleSendDocumentToCanceledJob() {
+        IppResponse created = IppEntity.toIppResponse(handleRequest("Create-Job.ipp", handler));
+        IppRequest cancelJob = AbstractIppTest.readIppRequest("request", "Cancel-Job.ipp");
+        cancelJob.setJobId(created.getJobId());
+        handleRequest(cancelJob, handler);
+        IppRequest sendDocument = AbstractIppTest.readIppRequest("request", "Send-Document.ipp");
+        sendDocument.setJobId(created.getJobId());
+        String jobName = "rejected-" + System.nanoTime();
+        sendDocument.setAttribute("job-name", jobName.getBytes(StandardCharsets.UTF_8));
+        assertEquals(StatusCode.CLIENT_ERROR_NOT_POSSIBLE,
+                IppEntity.toIppResponse(handleRequest(sendDocument, handler)).getStatusCode());
+        Path dataDir = Paths.get("target", "IPP", "printer", "data",
+                StringUtils.substringAfterLast(sendDocument.getPrinterURI().getPath(), "/"));
+        File[] spooled = dataDir.toFile().listFiles((dir, name) -> name.endsWith("-" + jobName + ".data"));
+        assertTrue((spooled == null) || (spooled.length == 0), "rejected document is spooled");
+    }
+
     private void checkHandle(String filename) {
         HttpResponse response = handleRequest(filename, handler);
         OperationTest.checkIppResponse(IppEntity.toIppResponse(response), filename);
@@ -17,9 +17,20 @@
  */
 package j4cups.server.http;
 
+import j4cups.Config;
+import j4cups.op.GetPrinters;
 import j4cups.op.OperationTest;
+import j4cups.protocol.AbstractIppTest;
+import j4cups.protocol.IppRequest;
 import j4cups.protocol.IppResponse;
 import j4cups.protocol.attr.Attribute;
+import j4cups.protocol.attr.AttributeGroup;
+import j4cups.protocol.attr.AttributeKey;
+import j4cups.protocol.tags.DelimiterTags;
+import j4cups.server.HttpHandler;
+import j4cups.server.IppHandler;
+import j4cups.server.JobStore;
+import j4cups.server.PrinterRegistry;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpException;
 import org.apache.http.HttpResponse;
@@ -34,10 +45,14 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Unit tests for {@link IppServerRequestHandler}.
@@ -95,4 +110,52 @@ class IppServerRequestHandlerTest extends AbstractIppRequestHandlerTest {
         assertEquals("test-printer", printername.getStringValue());
     }
 
+    @Test
+    void testHandleGetPrintersWithLimit() {
+        Config config = new Config().withProperty("j4cups.printer.alpha.info", "a")
+                                    .withProperty("j4cups.printer.beta.info", "b");
+        IppServerRequestHandler handler = new IppServerRequestHandler(new IppHandler(Paths.get("target").toUri()),
+                new HttpHandler(), new JobStore(), new PrinterRegistry(config));
+        GetPrinters op = new GetPrinters();
+        op.setOperationAttribute(Attribute.of(AttributeKey.FIRST_PRINTER_NAME, "beta"));
+        op.setOperationAttribute(Attribute.of(AttributeKey.LIMIT, 2));
+        IppResponse ippResponse = IppEntity.toIppResponse(handleRequest(op.getIppRequest(), handler));
+        List<AttributeGroup> printers = ippResponse.getAttributeGroups().stream()
+                .filter(group -> group.getBeginTag() == DelimiterTags.PRINTER_ATTRIBUTES_TAG)
+                .collect(Collectors.toList());
+        assertEquals(2, printers.size());
+        assertEquals("beta", printers.get(0).getAttribute("printer-name").getStringValue());
+        assertEquals("http://localhost:4711/printers/test-printer",
+                printers.get(1).getAttribute("printer-uri-supported").getStringValue());
+    }
+
+    /**
+     * As proxy the jobs are kept by CUPS. So Get-Jobs must be forwarded and
+     * not answered from an (empty) local job store.
+     */
+    @Test
+    void testHandleGetJobsAsProxy() {
+        AtomicInteger forwarded = new AtomicInteger();
+        IppHandler cups = new IppHandler(Paths.get("target").toUri()) {
+            @Override
+            public IppResponse send(IppRequest ippRequest) {
+                forwarded.incrementAndGet();
+                return super.send(ippRequest);
+            }
+        };
+        IppServerRequestHandler handler = new IppServerRequestHandler(cups, new HttpHandler(), null,
+                new PrinterRegistry());
+        handleRequest(AbstractIppTest.readIppRequest("request", "Get-Jobs.bin"), handler);
+        assertEquals(1, forwarded.get());
+    }
+
+    @Test
+    void testHandleGetJobsLocally() {
+        IppServerRequestHandler handler = new IppServerRequestHandler(new IppHandler(Paths.get("target").toUri()),
+                new HttpHandler(), new JobStore(), new PrinterRegistry());
+        IppRequest getJobs = AbstractIppTest.readIppRequest("request", "Get-Jobs.bin");
+        IppResponse response = IppEntity.toIppResponse(handleRequest(getJobs, handler));
+        assertTrue(response.getStatusCode().isSuccessful());
+    }
+
 }